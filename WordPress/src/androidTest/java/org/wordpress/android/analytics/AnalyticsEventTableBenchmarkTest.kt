@@ -0,0 +1,45 @@
+package org.wordpress.android.analytics
+
+import org.junit.Assert.assertNotNull
+import org.junit.Test
+import org.wordpress.android.analytics.AnalyticsTracker.Stat
+import org.wordpress.android.util.Benchmark
+
+/**
+ * Times looking up the event name and predefined properties of every stat in the generated event table, which is
+ * done for each event passed to the Tracks tracker
+ */
+class AnalyticsEventTableBenchmarkTest {
+    @Test
+    fun benchmarkLookups() {
+        val stats = Stat.values()
+        // every stat is tracked under an event name, so a missing one means the table is out of step with Stat
+        stats.forEach { assertNotNull(it.name, AnalyticsEventTable.getEventName(it)) }
+        var found = 0
+
+        val roundNanos = Benchmark.measure(RUNS, WARMUP_RUNS) { found += lookUp(stats) }
+        Benchmark.log(TAG, "looking up all ${stats.size} stats (found $found)", roundNanos)
+    }
+
+    /*
+     * looks up every stat the way AnalyticsTrackerNosara does, returning a count so the lookups can't be skipped
+     */
+    private fun lookUp(stats: Array<Stat>): Int {
+        var found = 0
+        for (stat in stats) {
+            if (AnalyticsEventTable.getEventName(stat) != null) {
+                found++
+            }
+            if (AnalyticsEventTable.getPredefinedProperties(stat) != null) {
+                found++
+            }
+        }
+        return found
+    }
+
+    companion object {
+        private const val TAG = "AnalyticsEventTableBenchmark"
+        private const val WARMUP_RUNS = 100
+        private const val RUNS = 1000
+    }
+}
@@ -0,0 +1,106 @@
+package org.wordpress.android.datasets
+
+import androidx.test.platform.app.InstrumentationRegistry
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import org.wordpress.android.models.ReaderPost
+import org.wordpress.android.models.ReaderPostList
+import org.wordpress.android.models.ReaderTag
+import org.wordpress.android.models.ReaderTagType
+import org.wordpress.android.util.Benchmark
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Measures how long loading a page of posts takes while the writer thread keeps storing batches of synced posts,
+ * compared with loading the same page while nothing is being written
+ */
+class ReaderDatabaseConcurrencyBenchmarkTest {
+    private val tag = ReaderTag(TAG_SLUG, TAG_SLUG, TAG_SLUG, "", ReaderTagType.FOLLOWED)
+
+    @Before
+    fun setUp() {
+        ReaderDatabase.initForTesting(InstrumentationRegistry.getInstrumentation().targetContext)
+        ReaderPostTable.addOrUpdatePosts(tag, createPosts(0))
+    }
+
+    @After
+    fun tearDown() {
+        ReaderPostTable.deletePostsWithTag(tag)
+    }
+
+    @Test
+    fun benchmarkReadsDuringSync() {
+        val idleNanos = measureReads()
+
+        val syncing = AtomicBoolean(true)
+        val batchesWritten = AtomicInteger()
+        val writerStopped = CountDownLatch(1)
+        syncBatches(syncing, batchesWritten, writerStopped, batch = 1)
+        val syncingNanos = measureReads()
+        syncing.set(false)
+        assertTrue(writerStopped.await(WRITER_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+        assertEquals(POSTS_PER_BATCH * (batchesWritten.get() + 1), ReaderPostTable.getNumPostsWithTag(tag))
+
+        Benchmark.log(TAG, "idle reads", idleNanos)
+        Benchmark.log(TAG, "reads during sync of ${batchesWritten.get()} batches", syncingNanos)
+    }
+
+    /*
+     * keeps queueing one batch at a time on the writer until told to stop, the way consecutive syncs would
+     */
+    private fun syncBatches(
+        syncing: AtomicBoolean,
+        batchesWritten: AtomicInteger,
+        stopped: CountDownLatch,
+        batch: Int
+    ) {
+        ReaderDatabase.executeWrite {
+            ReaderPostTable.addOrUpdatePosts(tag, createPosts(batch))
+            batchesWritten.incrementAndGet()
+            if (syncing.get()) {
+                syncBatches(syncing, batchesWritten, stopped, batch + 1)
+            } else {
+                stopped.countDown()
+            }
+        }
+    }
+
+    /*
+     * times reading the first page of posts, checking each read gets a whole page - a read made while a batch is
+     * being written sees the posts committed before it rather than waiting for the batch or seeing part of it
+     */
+    private fun measureReads() = Benchmark.measure(READS, WARMUP_READS) {
+        assertEquals(PAGE_SIZE, ReaderPostTable.getPostsWithTag(tag, PAGE_SIZE, false).size)
+    }
+
+    private fun createPosts(batch: Int) = ReaderPostList().apply {
+        for (i in 0 until POSTS_PER_BATCH) {
+            add(ReaderPost().apply {
+                blogId = BLOG_ID
+                postId = batch.toLong() * POSTS_PER_BATCH + i
+                pseudoId = "$TAG_SLUG-$postId"
+                setTitle("Post $batch-$i")
+                setText("<p>${"Synthetic post content. ".repeat(TEXT_REPEAT)}</p>")
+                setDatePublished("2024-01-01T00:00:00+00:00")
+            })
+        }
+    }
+
+    companion object {
+        private const val TAG = "ReaderDbBenchmark"
+        private const val TAG_SLUG = "reader-db-benchmark"
+        private const val BLOG_ID = 1L
+        private const val POSTS_PER_BATCH = 200
+        private const val TEXT_REPEAT = 200
+        private const val PAGE_SIZE = 50
+        private const val WARMUP_READS = 20
+        private const val READS = 200
+        private const val WRITER_TIMEOUT_SECONDS = 60L
+    }
+}
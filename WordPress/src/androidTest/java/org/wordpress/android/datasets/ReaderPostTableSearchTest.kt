@@ -0,0 +1,73 @@
+package org.wordpress.android.datasets
+
+import androidx.test.platform.app.InstrumentationRegistry
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Before
+import org.junit.Test
+import org.wordpress.android.models.ReaderPost
+import org.wordpress.android.models.ReaderPostList
+import org.wordpress.android.models.ReaderTag
+import org.wordpress.android.models.ReaderTagType
+
+class ReaderPostTableSearchTest {
+    private val tag = ReaderTag(TAG_SLUG, TAG_SLUG, TAG_SLUG, "", ReaderTagType.FOLLOWED)
+    private val searchTag = ReaderTag(SEARCH_SLUG, SEARCH_SLUG, SEARCH_SLUG, "", ReaderTagType.SEARCH)
+
+    @Before
+    fun setUp() {
+        ReaderDatabase.initForTesting(InstrumentationRegistry.getInstrumentation().targetContext)
+    }
+
+    @After
+    fun tearDown() {
+        ReaderPostTable.deletePostsWithTag(searchTag)
+        ReaderPostTable.deletePostsWithTag(tag)
+    }
+
+    @Test
+    fun findsPostsWhichWereUnchangedWhenTheirPageWasSyncedAgain() {
+        sync(createPosts())
+        sync(createPosts())
+
+        assertEquals(NUM_POSTS, ReaderPostTable.addLocalSearchResults(searchTag, SEARCH_TERM))
+        assertEquals(NUM_POSTS, ReaderPostTable.getNumPostsWithTag(searchTag))
+    }
+
+    @Test
+    fun findsChangedPostsByTheirNewContentOnly() {
+        sync(createPosts())
+        sync(createPosts().onEach { it.title = "$CHANGED_TERM ${it.postId}" })
+
+        assertEquals(0, ReaderPostTable.addLocalSearchResults(searchTag, SEARCH_TERM))
+        assertEquals(NUM_POSTS, ReaderPostTable.addLocalSearchResults(searchTag, CHANGED_TERM))
+    }
+
+    /*
+     * stores a page of posts the way ReaderPostLogic does when a stream is synced
+     */
+    private fun sync(posts: ReaderPostList) {
+        ReaderPostTable.addOrUpdatePosts(tag, posts, ReaderPostTable.getPostChanges(posts, tag))
+    }
+
+    private fun createPosts() = ReaderPostList().apply {
+        for (i in 0 until NUM_POSTS) {
+            add(ReaderPost().apply {
+                blogId = BLOG_ID
+                postId = i.toLong()
+                pseudoId = "reader-search-test-$i"
+                title = "$SEARCH_TERM $i"
+                setDatePublished("2024-01-01T00:00:00+00:00")
+            })
+        }
+    }
+
+    companion object {
+        private const val TAG_SLUG = "reader-search-test"
+        private const val SEARCH_SLUG = "reader-search-test-results"
+        private const val SEARCH_TERM = "quokkaphotography"
+        private const val CHANGED_TERM = "wombatwatching"
+        private const val BLOG_ID = 1L
+        private const val NUM_POSTS = 5
+    }
+}
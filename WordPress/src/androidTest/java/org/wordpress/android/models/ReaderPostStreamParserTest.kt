@@ -0,0 +1,109 @@
+package org.wordpress.android.models
+
+import androidx.test.platform.app.InstrumentationRegistry
+import org.json.JSONArray
+import org.json.JSONObject
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.wordpress.android.ui.reader.ReaderConstants
+import org.wordpress.android.util.Benchmark
+
+/**
+ * Compares the org.json and streaming parsers on the recorded reader responses used by the UI tests, and
+ * logs how long each takes to parse a full page of posts
+ */
+class ReaderPostStreamParserTest {
+    @Test
+    fun streamingParserMatchesJsonParser() {
+        RECORDED_RESPONSES.forEach { fileName ->
+            val body = readRecordedResponse(fileName)
+            val expected = ReaderPostList.fromJson(JSONObject(body))
+            val actual = ReaderPostStreamParser.parse(body.byteInputStream())
+
+            assertEquals(fileName, expected.size, actual.size)
+            expected.forEachIndexed { index, post ->
+                assertSamePost(fileName, post, actual[index])
+            }
+        }
+    }
+
+    @Test
+    fun streamingParserSkipsUnknownKeys() {
+        val body = "{\"found\":1,\"meta\":{\"next_page\":\"abc\"},\"posts\":[{\"ID\":1,\"site_ID\":2," +
+                "\"title\":\"Title\",\"tags\":{\"a\":{\"slug\":\"a\"}},\"is_following\":true}],\"date_range\":null}"
+
+        val posts = ReaderPostStreamParser.parse(body.byteInputStream())
+
+        assertEquals(1, posts.size)
+        assertEquals(1L, posts[0].postId)
+        assertEquals(2L, posts[0].blogId)
+        assertEquals("Title", posts[0].title)
+        assertTrue(posts[0].isFollowedByCurrentUser)
+    }
+
+    @Test
+    fun benchmarkFullPage() {
+        val body = buildFullPage()
+
+        val jsonNanos = Benchmark.measure(RUNS) {
+            // what the old Volley path did - the body as a String, then a JSONObject tree, then the posts
+            ReaderPostList.fromJson(JSONObject(String(body.toByteArray())))
+        }
+        val streamNanos = Benchmark.measure(RUNS) {
+            ReaderPostStreamParser.parse(body.toByteArray().inputStream())
+        }
+
+        val label = "${ReaderConstants.READER_MAX_POSTS_TO_REQUEST} posts (${body.length} chars)"
+        Benchmark.log(TAG, "org.json parse of $label", jsonNanos)
+        Benchmark.log(TAG, "streaming parse of $label", streamNanos)
+    }
+
+    private fun assertSamePost(fileName: String, expected: ReaderPost, actual: ReaderPost) {
+        val message = "$fileName post ${expected.postId}"
+        assertEquals(message, expected.pseudoId, actual.pseudoId)
+        assertEquals(message, expected.blogId, actual.blogId)
+        assertEquals(message, expected.feedId, actual.feedId)
+        assertEquals(message, expected.title, actual.title)
+        assertEquals(message, expected.text, actual.text)
+        assertEquals(message, expected.excerpt, actual.excerpt)
+        assertEquals(message, expected.datePublished, actual.datePublished)
+        assertEquals(message, expected.featuredImage, actual.featuredImage)
+        assertEquals(message, expected.tags, actual.tags)
+        assertEquals(message, expected.attachmentsJson, actual.attachmentsJson)
+        assertEquals(message, expected.fingerprint, actual.fingerprint)
+        assertTrue(message, expected.isSamePost(actual))
+    }
+
+    /*
+     * repeats the posts from the recorded responses until there are as many as a single request returns
+     */
+    private fun buildFullPage(): String {
+        val recordedPosts = RECORDED_RESPONSES.flatMap { fileName ->
+            val posts = JSONObject(readRecordedResponse(fileName)).optJSONArray("posts") ?: JSONArray()
+            (0 until posts.length()).map { posts.getJSONObject(it) }
+        }
+        val page = JSONArray()
+        for (i in 0 until ReaderConstants.READER_MAX_POSTS_TO_REQUEST) {
+            page.put(recordedPosts[i % recordedPosts.size])
+        }
+        return JSONObject().put("found", page.length()).put("posts", page).toString()
+    }
+
+    private fun readRecordedResponse(fileName: String): String {
+        val context = InstrumentationRegistry.getInstrumentation().context
+        val mapping = context.assets.open("$MAPPINGS_PATH/$fileName").bufferedReader().use { it.readText() }
+        return JSONObject(mapping).getJSONObject("response").getJSONObject("jsonBody").toString()
+    }
+
+    companion object {
+        private const val TAG = "ReaderPostStreamParser"
+        private const val MAPPINGS_PATH = "mocks/mappings/wpcom/reader"
+        private const val RUNS = 50
+        private val RECORDED_RESPONSES = listOf(
+                "rest_v12_read_following.json",
+                "rest_v12_read_sites_70135762_posts.json",
+                "rest_v12_read_sites_discover_posts.json"
+        )
+    }
+}
@@ -0,0 +1,70 @@
+package org.wordpress.android.ui.posts.mediauploadcompletionprocessors
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.mockito.kotlin.any
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.wordpress.android.util.Benchmark
+import org.wordpress.android.util.helpers.MediaFile
+
+/**
+ * Times replacing the media of a synthetic post with hundreds of image blocks in a single pass against processing
+ * the whole post once per uploaded media item, as happened before the batch processor existed
+ */
+class MediaUploadCompletionProcessorBenchmarkTest {
+    @Test
+    fun benchmarkSyntheticPost() {
+        val content = (0 until BLOCK_COUNT).joinToString(separator = "") { imageBlock(localId(it)) + PARAGRAPH_BLOCK }
+        val mediaFiles = (0 until BLOCK_COUNT step 2).associateTo(LinkedHashMap()) { localId(it) to mediaFile(it) }
+
+        val perMediaResult = processPerMedia(content, mediaFiles)
+        assertEquals(perMediaResult, processBatch(content, mediaFiles))
+        mediaFiles.forEach { (localId, mediaFile) ->
+            assertFalse(perMediaResult.contains("file://image-$localId.jpg"))
+            assertTrue(perMediaResult.contains(mediaFile.optimalFileURL))
+        }
+
+        val label = "${mediaFiles.size} media in $BLOCK_COUNT blocks (${content.length} chars)"
+        val perMediaNanos = Benchmark.measure(RUNS, WARMUP_RUNS) { processPerMedia(content, mediaFiles) }
+        val batchNanos = Benchmark.measure(RUNS, WARMUP_RUNS) { processBatch(content, mediaFiles) }
+        Benchmark.log(TAG, "per media replacement of $label", perMediaNanos)
+        Benchmark.log(TAG, "single pass replacement of $label", batchNanos)
+    }
+
+    private fun processPerMedia(content: String, mediaFiles: Map<String, MediaFile>) =
+            mediaFiles.entries.fold(content) { processed, (localId, mediaFile) ->
+                MediaUploadCompletionProcessor(localId, mediaFile, SITE_URL).processContent(processed)
+            }
+
+    private fun processBatch(content: String, mediaFiles: Map<String, MediaFile>) =
+            MediaUploadCompletionProcessor(mediaFiles, SITE_URL).processContent(content)
+
+    private fun localId(index: Int) = (FIRST_LOCAL_ID + index).toString()
+
+    private fun mediaFile(index: Int): MediaFile = mock {
+        on { mediaId } doReturn (FIRST_REMOTE_ID + index).toString()
+        on { optimalFileURL } doReturn "https://example.files.wordpress.com/image-$index.jpg"
+        on { getAttachmentPageURL(any()) } doReturn "$SITE_URL?p=${FIRST_REMOTE_ID + index}"
+    }
+
+    private fun imageBlock(localId: String) = """<!-- wp:image {"id":$localId,"sizeSlug":"large"} -->
+<figure class="wp-block-image size-large">
+  <img src="file://image-$localId.jpg" alt="" class="wp-image-$localId"/>
+</figure>
+<!-- /wp:image -->
+"""
+
+    companion object {
+        private const val TAG = "MediaUploadCompletion"
+        private const val SITE_URL = "https://example.wordpress.com"
+        private const val BLOCK_COUNT = 300
+        private const val FIRST_LOCAL_ID = 1000
+        private const val FIRST_REMOTE_ID = 5000
+        private const val WARMUP_RUNS = 2
+        private const val RUNS = 5
+        private const val PARAGRAPH_BLOCK = "<!-- wp:paragraph -->\n<p>Some text</p>\n<!-- /wp:paragraph -->\n"
+    }
+}
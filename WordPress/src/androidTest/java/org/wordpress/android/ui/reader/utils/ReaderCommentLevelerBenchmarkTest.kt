@@ -0,0 +1,99 @@
+package org.wordpress.android.ui.reader.utils
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import org.wordpress.android.models.ReaderComment
+import org.wordpress.android.models.ReaderCommentList
+import org.wordpress.android.util.Benchmark
+import kotlin.random.Random
+
+/**
+ * Times leveling synthetic deep and wide comment threads against the level-by-level passes the leveler used to make,
+ * along with adding a second page of comments to an already leveled thread
+ */
+class ReaderCommentLevelerBenchmarkTest {
+    @Test
+    fun benchmarkDeepThread() {
+        benchmark("deep", commentList((1..THREAD_SIZE).map { comment(it.toLong(), it - 1L) }))
+    }
+
+    @Test
+    fun benchmarkWideThread() {
+        val random = Random(1)
+        benchmark("wide", commentList((1..THREAD_SIZE).map { id ->
+            val parentId = if (id <= ROOT_COMMENTS) 0L else random.nextLong(1, ROOT_COMMENTS + 1L)
+            comment(id.toLong(), parentId)
+        }))
+    }
+
+    private fun benchmark(name: String, comments: ReaderCommentList) {
+        assertEquals(
+                levelWithRepeatedPasses(comments).map { it.commentId to it.level },
+                ReaderCommentLeveler(comments).createLevelList().map { it.commentId to it.level }
+        )
+
+        val firstPage = commentList(comments.take(comments.size / 2))
+        assertEquals(
+                ReaderCommentLeveler(comments).createLevelList().map { it.commentId to it.level },
+                addSecondPage(firstPage, comments).map { it.commentId to it.level }
+        )
+
+        val label = "$name thread of ${comments.size} comments"
+        val repeatedPassesNanos = Benchmark.measure(RUNS, WARMUP_RUNS) { levelWithRepeatedPasses(comments) }
+        val levelerNanos = Benchmark.measure(RUNS, WARMUP_RUNS) { ReaderCommentLeveler(comments).createLevelList() }
+        val addPageNanos = Benchmark.measure(RUNS, WARMUP_RUNS) { addSecondPage(firstPage, comments) }
+        Benchmark.log(TAG, "repeated passes over $label", repeatedPassesNanos)
+        Benchmark.log(TAG, "single walk over $label", levelerNanos)
+        Benchmark.log(TAG, "first page plus second page of $label", addPageNanos)
+    }
+
+    /*
+     * levels the first page of a thread, then adds the whole thread to it the way the next page is added
+     */
+    private fun addSecondPage(firstPage: ReaderCommentList, comments: ReaderCommentList): ReaderCommentList {
+        val leveler = ReaderCommentLeveler(firstPage)
+        leveler.createLevelList()
+        return leveler.addComments(comments)
+    }
+
+    /*
+     * the leveling previously done by ReaderCommentLeveler, which adds the replies for one level at a time
+     */
+    private fun levelWithRepeatedPasses(comments: ReaderCommentList): List<ReaderComment> {
+        comments.forEach { it.level = 0 }
+        val result = comments.filter { it.parentId == 0L }.toMutableList()
+        var level = 0
+        do {
+            var hasChanges = false
+            var index = 0
+            while (index < result.size) {
+                val parent = result[index]
+                if (parent.level == level && comments.any { it.parentId == parent.commentId }) {
+                    val children = comments.filter { it.parentId == parent.commentId }
+                    children.forEach { it.level = level + 1 }
+                    result.addAll(index + 1, children)
+                    hasChanges = true
+                    index += children.size
+                }
+                index++
+            }
+            level++
+        } while (hasChanges)
+        return result
+    }
+
+    private fun commentList(comments: List<ReaderComment>) = ReaderCommentList().apply { addAll(comments) }
+
+    private fun comment(id: Long, parentId: Long) = ReaderComment().apply {
+        commentId = id
+        this.parentId = parentId
+    }
+
+    companion object {
+        private const val TAG = "ReaderCommentLevelerBenchmark"
+        private const val THREAD_SIZE = 3000
+        private const val ROOT_COMMENTS = 100
+        private const val WARMUP_RUNS = 2
+        private const val RUNS = 5
+    }
+}
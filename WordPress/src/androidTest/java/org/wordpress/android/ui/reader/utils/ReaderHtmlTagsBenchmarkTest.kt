@@ -0,0 +1,83 @@
+package org.wordpress.android.ui.reader.utils
+
+import androidx.test.platform.app.InstrumentationRegistry
+import org.json.JSONObject
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import org.wordpress.android.util.Benchmark
+import java.util.regex.Pattern
+
+/**
+ * Times the single-pass tag scan against the separate regex passes it replaced, using the content of the
+ * posts in the recorded reader responses used by the UI tests
+ */
+class ReaderHtmlTagsBenchmarkTest {
+    @Test
+    fun benchmarkRecordedPosts() {
+        val corpus = readRecordedPostContent()
+
+        corpus.forEach { content ->
+            val tags = ReaderHtmlTags.scan(content)
+            assertEquals(findAll(IMG_TAG_PATTERN, content), tags.images.map { it.tag })
+            assertEquals(findAll(IFRAME_TAG_PATTERN, content), tags.iframes.map { it.tag })
+            assertEquals(TILED_GALLERY_PATTERN.matcher(content).find(), tags.hasTiledGallery())
+        }
+
+        val label = "${corpus.size} posts (${corpus.sumOf { it.length }} chars)"
+        val regexNanos = Benchmark.measure(RUNS) { corpus.forEach { scanWithRegexes(it) } }
+        val scanNanos = Benchmark.measure(RUNS) { corpus.forEach { ReaderHtmlTags.scan(it) } }
+        Benchmark.log(TAG, "regexes over $label", regexNanos)
+        Benchmark.log(TAG, "single pass over $label", scanNanos)
+    }
+
+    /*
+     * the image, iframe, embed and tiled gallery passes the scanners and renderer used to make
+     */
+    private fun scanWithRegexes(content: String) {
+        findAll(IMG_TAG_PATTERN, content)
+        findAll(IFRAME_TAG_PATTERN, content)
+        EMBED_PATTERNS.forEach { it.matcher(content).find() }
+        TILED_GALLERY_PATTERN.matcher(content).find()
+    }
+
+    private fun findAll(pattern: Pattern, content: String): List<String> {
+        val matcher = pattern.matcher(content)
+        val matches = mutableListOf<String>()
+        while (matcher.find()) {
+            matches.add(matcher.group(0).orEmpty())
+        }
+        return matches
+    }
+
+    /*
+     * returns the content of every recorded post, plus all of them joined together as one long post
+     */
+    private fun readRecordedPostContent(): List<String> {
+        val context = InstrumentationRegistry.getInstrumentation().context
+        val contents = RECORDED_RESPONSES.flatMap { fileName ->
+            val mapping = context.assets.open("$MAPPINGS_PATH/$fileName").bufferedReader().use { it.readText() }
+            val posts = JSONObject(mapping).getJSONObject("response").getJSONObject("jsonBody").optJSONArray("posts")
+            (0 until (posts?.length() ?: 0)).map { posts!!.getJSONObject(it).optString("content") }
+        }
+        return contents + contents.joinToString(separator = "")
+    }
+
+    companion object {
+        private const val TAG = "ReaderHtmlTags"
+        private const val MAPPINGS_PATH = "mocks/mappings/wpcom/reader"
+        private const val RUNS = 50
+        private val RECORDED_RESPONSES = listOf(
+                "rest_v12_read_following.json",
+                "rest_v12_read_sites_70135762_posts.json",
+                "rest_v12_read_sites_discover_posts.json"
+        )
+
+        private val IMG_TAG_PATTERN = Pattern.compile("<img[^>]* src=\\\"([^\\\"]*)\\\"[^>]*>", Pattern.CASE_INSENSITIVE)
+        private val IFRAME_TAG_PATTERN = Pattern.compile("<iframe[^>]* src=\\'([^\\']*)\\'[^>]*>", Pattern.CASE_INSENSITIVE)
+        private val TILED_GALLERY_PATTERN = Pattern.compile("tiled-gallery[\\s\"']")
+        private val EMBED_PATTERNS = listOf(
+                Pattern.compile("<blockquote[^<>]class=\"instagram-", Pattern.CASE_INSENSITIVE),
+                Pattern.compile("<fb:post", Pattern.CASE_INSENSITIVE)
+        )
+    }
+}
@@ -0,0 +1,66 @@
+package org.wordpress.android.ui.suggestion.util
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import org.wordpress.android.ui.suggestion.Suggestion
+import org.wordpress.android.util.Benchmark
+import java.util.Locale
+import kotlin.random.Random
+
+/**
+ * Times matching each keystroke of a few typed names against tens of thousands of user suggestions, with the index
+ * and with the pass over the whole list which SuggestionAdapter used to make
+ */
+class SuggestionIndexBenchmarkTest {
+    @Test
+    fun benchmarkKeystrokes() {
+        val random = Random(1)
+        val suggestions = (1..NUM_SUGGESTIONS).map {
+            val login = "user" + random.nextInt(Int.MAX_VALUE).toString(radix = 36)
+            Suggestion("", login, "First${random.nextInt(1000)} Last${random.nextInt(5000)}")
+        }
+        val keystrokes = TYPED_TEXT.flatMap { text -> (1..text.length).map { text.substring(0, it) } }
+
+        val index = SuggestionIndex.build(suggestions)
+        keystrokes.forEach { keystroke ->
+            assertEquals(
+                    keystroke,
+                    filterWholeList(suggestions, keystroke).toSet(),
+                    index.find(keystroke, Int.MAX_VALUE).toSet()
+            )
+        }
+
+        // each run matches one keystroke, after warming up on every keystroke a couple of times
+        val warmupRuns = keystrokes.size * WARMUP_PASSES
+        val buildNanos = Benchmark.measure(BUILD_RUNS) { SuggestionIndex.build(suggestions) }
+        val indexNanos = Benchmark.measure(keystrokes.size, warmupRuns) {
+            index.find(keystrokes[it], SuggestionIndex.MAX_RESULTS)
+        }
+        val fullPassNanos = Benchmark.measure(keystrokes.size, warmupRuns) {
+            filterWholeList(suggestions, keystrokes[it])
+        }
+        Benchmark.log(TAG, "building the index of ${suggestions.size} suggestions", buildNanos)
+        Benchmark.log(TAG, "index per keystroke", indexNanos)
+        Benchmark.log(TAG, "whole list per keystroke", fullPassNanos)
+    }
+
+    /*
+     * the filtering previously done by SuggestionAdapter for each keystroke
+     */
+    private fun filterWholeList(suggestions: List<Suggestion>, constraint: String): List<Suggestion> {
+        return suggestions.filter { suggestion ->
+            val lowerCaseConstraint = constraint.lowercase(Locale.getDefault())
+            suggestion.value.lowercase(Locale.ROOT).startsWith(lowerCaseConstraint) ||
+                    suggestion.displayValue.lowercase(Locale.getDefault()).startsWith(lowerCaseConstraint) ||
+                    suggestion.displayValue.lowercase(Locale.getDefault()).contains(" $lowerCaseConstraint")
+        }
+    }
+
+    companion object {
+        private const val TAG = "SuggestionIndexBenchmark"
+        private const val NUM_SUGGESTIONS = 50_000
+        private const val WARMUP_PASSES = 2
+        private const val BUILD_RUNS = 5
+        private val TYPED_TEXT = listOf("user1a", "first12", "last123", "zzz")
+    }
+}
@@ -0,0 +1,35 @@
+package org.wordpress.android.util
+
+import android.util.Log
+
+/**
+ * Timing shared by the benchmark tests, which check the optimized code behaves like the code it replaced and then
+ * log how long each takes
+ */
+object Benchmark {
+    const val DEFAULT_WARMUP_RUNS = 5
+    private const val NANOS_PER_MICRO = 1000L
+
+    /**
+     * Runs [block] [warmupRuns] times to let the JIT settle, then returns how long each of [runs] further calls took
+     * in nanoseconds. The block is passed the index of the run so it can vary its input between runs.
+     */
+    fun measure(runs: Int, warmupRuns: Int = DEFAULT_WARMUP_RUNS, block: (run: Int) -> Unit): LongArray {
+        repeat(warmupRuns) { block(it % runs) }
+        return LongArray(runs) { run ->
+            val start = System.nanoTime()
+            block(run)
+            System.nanoTime() - start
+        }
+    }
+
+    fun log(tag: String, label: String, nanos: LongArray) {
+        Log.i(tag, "$label: ${summarize(nanos)}")
+    }
+
+    fun summarize(nanos: LongArray): String {
+        val sorted = nanos.sorted()
+        fun percentile(p: Int) = sorted[(sorted.size - 1) * p / 100] / NANOS_PER_MICRO
+        return "${sorted.size} runs, p50 ${percentile(50)}us, p90 ${percentile(90)}us, max ${percentile(100)}us"
+    }
+}
@@ -28,6 +28,7 @@ import android.webkit.WebSettings
 import android.webkit.WebView
 import androidx.annotation.RequiresApi
 import androidx.appcompat.app.AppCompatDelegate
+import androidx.core.content.ContextCompat
 import androidx.lifecycle.DefaultLifecycleObserver
 import androidx.lifecycle.LifecycleOwner
 import androidx.lifecycle.ProcessLifecycleOwner
@@ -45,7 +46,9 @@ import com.wordpress.stories.compose.frame.StoryNotificationType.STORY_FRAME_SAV
 import com.wordpress.stories.compose.frame.StoryNotificationType.STORY_FRAME_SAVE_SUCCESS
 import com.wordpress.stories.compose.frame.StoryNotificationType.STORY_SAVE_ERROR
 import com.wordpress.stories.compose.frame.StoryNotificationType.STORY_SAVE_SUCCESS
+import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.asExecutor
 import org.greenrobot.eventbus.EventBus
 import org.greenrobot.eventbus.Subscribe
 import org.greenrobot.eventbus.ThreadMode
@@ -72,11 +75,15 @@ import org.wordpress.android.fluxc.store.StatsStore
 import org.wordpress.android.fluxc.tools.FluxCImageLoader
 import org.wordpress.android.fluxc.utils.ErrorUtils.OnUnexpectedError
 import org.wordpress.android.modules.APPLICATION_SCOPE
+import org.wordpress.android.modules.BG_THREAD
 import org.wordpress.android.networking.ConnectionChangeReceiver
 import org.wordpress.android.networking.OAuthAuthenticator
 import org.wordpress.android.networking.RestClientUtils
 import org.wordpress.android.push.GCMRegistrationScheduler
 import org.wordpress.android.push.NotificationType
+import org.wordpress.android.startup.FirstFrameScheduler
+import org.wordpress.android.startup.StartupEngine
+import org.wordpress.android.startup.StartupStep
 import org.wordpress.android.support.ZendeskHelper
 import org.wordpress.android.ui.ActivityId
 import org.wordpress.android.ui.debug.cookies.DebugCookieManager
@@ -100,7 +107,8 @@ import org.wordpress.android.util.AppLog
 import org.wordpress.android.util.AppLog.T
 import org.wordpress.android.util.AppLog.T.MAIN
 import org.wordpress.android.util.AppThemeUtils
-import org.wordpress.android.util.BitmapLruCache
+import org.wordpress.android.util.BitmapCache
+import org.wordpress.android.util.BitmapReusePool
 import org.wordpress.android.util.DateTimeUtils
 import org.wordpress.android.util.EncryptedLogging
 import org.wordpress.android.util.FluxCUtils
@@ -111,6 +119,7 @@ import org.wordpress.android.util.ProfilingUtils
 import org.wordpress.android.util.QuickStartUtils
 import org.wordpress.android.util.RateLimitedTask
 import org.wordpress.android.util.SiteUtils
+import org.wordpress.android.util.ThumbnailDiskCache
 import org.wordpress.android.util.VolleyUtils
 import org.wordpress.android.util.analytics.AnalyticsUtils
 import org.wordpress.android.util.config.AppConfig
@@ -205,6 +214,10 @@ class AppInitializer @Inject constructor(
     @Inject
     lateinit var selectedSiteRepository: SelectedSiteRepository
 
+    @Inject
+    @Named(BG_THREAD)
+    lateinit var bgDispatcher: CoroutineDispatcher
+
     // For development and production `AnalyticsTrackerNosara`, for testing a mocked `Tracker` will be injected.
     @Inject
     lateinit var tracker: Tracker
@@ -303,85 +316,123 @@ class AppInitializer @Inject constructor(
         AppLog.i(T.UTILS, "AppInitializer.init")
 
         WordPress.versionName = PackageUtils.getVersionName(application)
-        initWpDb()
-        context?.let { enableHttpResponseCache(it) }
-
-        AppRatingDialog.init(application)
 
-        if (!initialized) {
-            // EventBus setup
-            EventBus.TAG = "WordPress-EVENT"
-            EventBus.builder()
-                .logNoSubscriberMessages(false)
-                .sendNoSubscriberEvent(false)
-                .throwSubscriberException(true)
-                .installDefaultEventBus()
-        }
+        val startupEngine = StartupEngine(
+            getStartupSteps(isFirstInit = !initialized),
+            ContextCompat.getMainExecutor(application),
+            bgDispatcher.asExecutor()
+        )
+        startupEngine.run()
+        AppLog.i(T.UTILS, "Startup steps: ${startupEngine.trace.describe(startupEngine.criticalSteps)}")
+        ProfilingUtils.split("AppInitializer.init")
 
-        RestClientUtils.setUserAgent(userAgent)
+        initialized = true
 
-        if (!initialized) {
-            zendeskHelper.setupZendesk(
-                application,
-                BuildConfig.ZENDESK_DOMAIN,
-                BuildConfig.ZENDESK_APP_ID,
-                BuildConfig.ZENDESK_OAUTH_CLIENT_ID
-            )
+        FirstFrameScheduler(application).runAfterFirstFrame {
+            startupEngine.runDeferred { trace ->
+                AppLog.i(T.UTILS, "Deferred startup steps: ${trace.describe(startupEngine.deferredSteps)}")
+            }
         }
+    }
 
-        val memoryAndConfigChangeMonitor = MemoryAndConfigChangeMonitor()
-        application.registerComponentCallbacks(memoryAndConfigChangeMonitor)
-
-        // initialize our ApplicationLifecycleMonitor, which is the App's LifecycleObserver implementation
-        applicationLifecycleMonitor = ApplicationLifecycleMonitor()
-        ProcessLifecycleOwner.get().lifecycle.addObserver(this)
-
-        // Make the UploadStarter observe the app process so it can auto-start uploads
-        uploadStarter.activateAutoUploading(ProcessLifecycleOwner.get() as ProcessLifecycleOwner)
-
-        initAnalytics(SystemClock.elapsedRealtime() - startDate)
-
-        updateNotificationSettings()
-        // Allows vector drawable from resources (in selectors for instance) on Android < 21 (can cause issues with
-        // memory usage and the use of Configuration). More information: http://bit.ly/2H1KTQo
-        // Note: if removed, this will cause crashes on Android < 21
-        AppCompatDelegate.setCompatVectorFromResourcesEnabled(true)
-        AppThemeUtils.setAppTheme(application)
+    /**
+     * The steps of the app's startup. The steps which aren't deferred have all finished when init() returns, while the
+     * deferred ones only start once the first frame has been drawn. Steps which don't touch the UI or the main looper
+     * run in the background.
+     */
+    @Suppress("LongMethod")
+    private fun getStartupSteps(isFirstInit: Boolean) = listOf(
+        StartupStep("wpDb", runsOnMainThread = false) { initWpDb() },
+        StartupStep("httpResponseCache", runsOnMainThread = false) { enableHttpResponseCache(application) },
+        StartupStep("appRatingDialog") { AppRatingDialog.init(application) },
+        StartupStep(EVENT_BUS) {
+            if (isFirstInit) {
+                // EventBus setup
+                EventBus.TAG = "WordPress-EVENT"
+                EventBus.builder()
+                    .logNoSubscriberMessages(false)
+                    .sendNoSubscriberEvent(false)
+                    .throwSubscriberException(true)
+                    .installDefaultEventBus()
+            }
+        },
+        StartupStep("userAgent") { RestClientUtils.setUserAgent(userAgent) },
+        StartupStep("zendesk", runsOnMainThread = false) {
+            if (isFirstInit) {
+                zendeskHelper.setupZendesk(
+                    application,
+                    BuildConfig.ZENDESK_DOMAIN,
+                    BuildConfig.ZENDESK_APP_ID,
+                    BuildConfig.ZENDESK_OAUTH_CLIENT_ID
+                )
+            }
+        },
+        StartupStep("lifecycleMonitors", dependencies = listOf(EVENT_BUS)) {
+            val memoryAndConfigChangeMonitor = MemoryAndConfigChangeMonitor()
+            application.registerComponentCallbacks(memoryAndConfigChangeMonitor)
+
+            // initialize our ApplicationLifecycleMonitor, which is the App's LifecycleObserver implementation
+            applicationLifecycleMonitor = ApplicationLifecycleMonitor()
+            ProcessLifecycleOwner.get().lifecycle.addObserver(this)
+
+            // Make the UploadStarter observe the app process so it can auto-start uploads
+            uploadStarter.activateAutoUploading(ProcessLifecycleOwner.get() as ProcessLifecycleOwner)
+        },
+        StartupStep(ANALYTICS, runsOnMainThread = false) { initAnalytics(SystemClock.elapsedRealtime() - startDate) },
+        StartupStep("notificationSettings", runsOnMainThread = false) { updateNotificationSettings() },
+        StartupStep("appTheme") {
+            // Allows vector drawable from resources (in selectors for instance) on Android < 21 (can cause issues
+            // with memory usage and the use of Configuration). More information: http://bit.ly/2H1KTQo
+            // Note: if removed, this will cause crashes on Android < 21
+            AppCompatDelegate.setCompatVectorFromResourcesEnabled(true)
+            AppThemeUtils.setAppTheme(application)
+        },
+        StartupStep(WORK_MANAGER) {
+            if (isFirstInit) {
+                initWorkManager()
+            }
+        },
+        StartupStep("stories", dependencies = listOf(EVENT_BUS)) {
+            storyNotificationTrackerProvider = StoryNotificationTrackerProvider()
+            storyMediaSaveUploadBridge.init(application)
+            ProcessLifecycleOwner.get().lifecycle.addObserver(storyMediaSaveUploadBridge)
+        },
 
         // verify media is sanitized
-        sanitizeMediaUploadStateForSite()
-
+        StartupStep("sanitizeMediaUploads", runsOnMainThread = false, isDeferred = true) {
+            sanitizeMediaUploadStateForSite()
+        },
         // remove expired lists
-        dispatcher.dispatch(ListActionBuilder.newRemoveExpiredListsAction(RemoveExpiredListsPayload()))
-
+        StartupStep("expiredLists", runsOnMainThread = false, isDeferred = true) {
+            dispatcher.dispatch(ListActionBuilder.newRemoveExpiredListsAction(RemoveExpiredListsPayload()))
+        },
         // setup the Credentials Client so we can clean it up on wpcom logout
-        setupCredentialsClient()
-
-        if (!initialized) {
-            initWorkManager()
-        }
-
+        StartupStep("credentialsClient", isDeferred = true) { setupCredentialsClient() },
         // Enqueue our periodic upload work request. The UploadWorkRequest will be called even if the app is closed.
         // It will upload local draft or published posts with local changes to the server.
-        enqueuePeriodicUploadWorkRequestForAllSites()
-
-        systemNotificationsTracker.checkSystemNotificationsState()
-        ImageEditorInitializer.init(imageManager, imageEditorTracker, imageEditorFileUtils, appScope)
-
-        storyNotificationTrackerProvider = StoryNotificationTrackerProvider()
-        storyMediaSaveUploadBridge.init(application)
-        ProcessLifecycleOwner.get().lifecycle.addObserver(storyMediaSaveUploadBridge)
-
-        exPlat.forceRefresh()
-
-        debugCookieManager.sync()
-
-        if (!initialized && BuildConfig.DEBUG && Build.VERSION.SDK_INT >= VERSION_CODES.R) {
-            initAppOpsManager()
+        StartupStep(
+            "periodicUploadWork",
+            dependencies = listOf(WORK_MANAGER),
+            runsOnMainThread = false,
+            isDeferred = true
+        ) { enqueuePeriodicUploadWorkRequestForAllSites() },
+        StartupStep(
+            "systemNotificationsState",
+            dependencies = listOf(ANALYTICS),
+            runsOnMainThread = false,
+            isDeferred = true
+        ) { systemNotificationsTracker.checkSystemNotificationsState() },
+        StartupStep("imageEditor", isDeferred = true) {
+            ImageEditorInitializer.init(imageManager, imageEditorTracker, imageEditorFileUtils, appScope)
+        },
+        StartupStep("exPlat", runsOnMainThread = false, isDeferred = true) { exPlat.forceRefresh() },
+        StartupStep("debugCookies", isDeferred = true) { debugCookieManager.sync() },
+        StartupStep("appOpsManager", isDeferred = true) {
+            if (isFirstInit && BuildConfig.DEBUG && Build.VERSION.SDK_INT >= VERSION_CODES.R) {
+                initAppOpsManager()
+            }
         }
-
-        initialized = true
-    }
+    )
 
     /**
      * Data access auditing
@@ -527,6 +578,7 @@ class AppInitializer @Inject constructor(
     }
 
     private fun initAnalytics(elapsedTimeOnCreate: Long) {
+        AnalyticsTracker.enableAsyncTracking()
         AnalyticsTracker.registerTracker(tracker)
         AnalyticsTracker.init(context)
         AnalyticsUtils.refreshMetadata(accountStore, siteStore)
@@ -599,7 +651,8 @@ class AppInitializer @Inject constructor(
 
         removeWpComUserRelatedData(application.applicationContext)
 
-        if (credentialsClient.isConnected) {
+        // the client is set up once the first frame has been drawn
+        if (::credentialsClient.isInitialized && credentialsClient.isConnected) {
             Auth.CredentialsApi.disableAutoSignIn(credentialsClient)
         }
 
@@ -949,9 +1002,14 @@ class AppInitializer @Inject constructor(
                 ComponentCallbacks2.TRIM_MEMORY_BACKGROUND, ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN -> {}
                 else -> {}
             }
-            if (evictBitmaps && bitmapCache != null) {
-                // getBitmapCache
-                WordPress.getBitmapCache().evictAll()
+            bitmapCache?.takeIf { evictBitmaps }?.let { cache ->
+                AppLog.d(
+                    T.UTILS,
+                    "Evicting bitmap cache: ${cache.hitCount} hits, ${cache.missCount} misses, " +
+                            "${cache.evictionCount} evictions, ${cache.diskHitCount} disk hits, " +
+                            "${cache.diskMissCount} disk misses, ${cache.reuseCount} reused bitmaps"
+                )
+                cache.evictAll()
             }
         }
     }
@@ -990,9 +1048,14 @@ class AppInitializer @Inject constructor(
         private const val SECONDS_BETWEEN_SITE_UPDATE = 60 * 60 // 1 hour
         private const val SECONDS_BETWEEN_BLOGLIST_UPDATE = 15 * 60 // 15 minutes
         private const val MAX_LOG_COUNT = 5
+        private const val EVENT_BUS = "eventBus"
+        private const val ANALYTICS = "analytics"
+        private const val WORK_MANAGER = "workManager"
         private const val HTTP_CACHE_SIZE: Long = 5 * 1024 * 1024 // 5 MB
-        private const val KILOBYTES_IN_BYTES = 1024
         private const val MEMORY_CACHE_RATIO = 0.25 // Use 1/4th of the available memory for memory cache.
+        private const val BITMAP_REUSE_POOL_RATIO = 0.03 // Keep up to 3% of the available memory for reuse.
+        private const val THUMBNAIL_DISK_CACHE_SIZE: Long = 20 * 1024 * 1024 // 20 MB
+        private const val THUMBNAIL_DISK_CACHE_DIRECTORY = "thumbnails"
         private const val DEFAULT_TIMEOUT = 2 * 60 // 2 minutes
 
         // Use service ids near the int max to avoid collisions with existing JobService ids
@@ -1008,7 +1071,7 @@ class AppInitializer @Inject constructor(
         // prevents some static functions from being initialized twice and exceptions.
         private var initialized = false
 
-        private var bitmapCache: BitmapLruCache? = null
+        private var bitmapCache: BitmapCache? = null
         private var sOAuthAuthenticator: OAuthAuthenticator? = null
 
         val restClientUtils: RestClientUtils by lazy {
@@ -1119,15 +1182,22 @@ class AppInitializer @Inject constructor(
             }
         }
 
-        fun getBitmapCache(): BitmapLruCache {
+        fun getBitmapCache(): BitmapCache {
             if (bitmapCache == null) {
-                // The cache size will be measured in kilobytes rather than number of items.
+                // The cache size is measured in bytes held by the bitmaps rather than number of items.
                 // See http://developer.android.com/training/displaying-bitmaps/cache-bitmap.html
-                val maxMemory = (Runtime.getRuntime().maxMemory() / KILOBYTES_IN_BYTES).toInt()
-                val cacheSize = (maxMemory * MEMORY_CACHE_RATIO).toInt()
-                bitmapCache = BitmapLruCache(cacheSize)
+                val maxMemory = Runtime.getRuntime().maxMemory()
+                val reusePool = BitmapReusePool((maxMemory * BITMAP_REUSE_POOL_RATIO).toInt())
+                val diskCache = context?.let {
+                    ThumbnailDiskCache(
+                        File(it.cacheDir, THUMBNAIL_DISK_CACHE_DIRECTORY),
+                        THUMBNAIL_DISK_CACHE_SIZE,
+                        reusePool
+                    )
+                }
+                bitmapCache = BitmapCache((maxMemory * MEMORY_CACHE_RATIO).toInt(), reusePool, diskCache)
             }
-            return bitmapCache as BitmapLruCache
+            return bitmapCache as BitmapCache
         }
 
         /**
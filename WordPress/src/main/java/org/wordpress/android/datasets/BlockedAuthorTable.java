@@ -1,8 +1,11 @@
 package org.wordpress.android.datasets;
 
+import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteStatement;
 
+import androidx.annotation.NonNull;
+
 import org.wordpress.android.models.ReaderPost;
 import org.wordpress.android.util.SqlUtils;
 
@@ -34,18 +37,33 @@ public class BlockedAuthorTable {
 
             stmt.bindString(1, Long.toString(authorId));
             stmt.execute();
+            ReaderBlocklistCache.onAuthorBlocked(authorId);
         } finally {
             SqlUtils.closeStatement(stmt);
         }
     }
 
     public static boolean isBlockedAuthor(long authorId) {
-        if (authorId == 0) {
-            return false;
+        return ReaderBlocklistCache.isBlockedAuthor(authorId);
+    }
+
+    /*
+     * returns all blocked author ids - used to populate ReaderBlocklistCache
+     */
+    @NonNull
+    static long[] getBlockedAuthorIds() {
+        Cursor c = ReaderDatabase.getReadableDb().rawQuery(
+                "SELECT " + AUTHOR_ID + " FROM " + BLOCKED_AUTHORS_TABLE, null);
+        try {
+            long[] ids = new long[c.getCount()];
+            int i = 0;
+            while (c.moveToNext()) {
+                ids[i++] = c.getLong(0);
+            }
+            return ids;
+        } finally {
+            SqlUtils.closeCursor(c);
         }
-        return SqlUtils.intForQuery(ReaderDatabase.getReadableDb(),
-                "SELECT count(*) FROM " + BLOCKED_AUTHORS_TABLE + " WHERE " + AUTHOR_ID + "=?",
-                new String[]{Long.toString(authorId)}) > 0;
     }
 
     public static void removeBlockedAuthor(long authorId) {
@@ -54,6 +72,7 @@ public class BlockedAuthorTable {
         }
         String[] args = new String[]{Long.toString(authorId)};
         ReaderDatabase.getWritableDb().delete(BLOCKED_AUTHORS_TABLE, AUTHOR_ID + "=?", args);
+        ReaderBlocklistCache.onAuthorUnblocked(authorId);
     }
 
     public static void blacklistAuthorLocally(long authorId) {
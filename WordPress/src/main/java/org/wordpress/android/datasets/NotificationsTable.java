@@ -11,12 +11,17 @@ import androidx.annotation.Nullable;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.wordpress.android.WordPress;
+import org.wordpress.android.fluxc.model.CommentStatus;
 import org.wordpress.android.models.Note;
 import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.SqlUtils;
+import org.wordpress.android.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -28,6 +33,9 @@ public class NotificationsTable {
     }
 
     public static final int NOTES_TO_RETRIEVE = 200;
+    public static final int NOTES_PAGE_SIZE = 50;
+
+    private static final String LIST_ORDER_BY = "timestamp DESC, note_id DESC";
 
     private static final Pattern STAT_ATTR_PATTERN = Pattern.compile(
             "\"type\":\"stat\"",
@@ -46,36 +54,97 @@ public class NotificationsTable {
                    + "type TEXT,"
                    + "raw_note_data TEXT,"
                    + "timestamp INTEGER,"
+                   + "timestamp_string TEXT,"
+                   + "is_unread INTEGER DEFAULT 0,"
+                   + "subject TEXT,"
+                   + "comment_subject TEXT,"
+                   + "comment_subject_noticon TEXT,"
+                   + "icon_url TEXT,"
+                   + "noticon TEXT,"
+                   + "comment_id INTEGER DEFAULT 0,"
+                   + "parent_comment_id INTEGER DEFAULT 0,"
+                   + "comment_status TEXT,"
+                   + "note_hash TEXT,"
                    + " UNIQUE (note_id) ON CONFLICT REPLACE"
                    + ")");
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_notifications_timestamp ON " + NOTIFICATIONS_TABLE
+                   + "(timestamp DESC, note_id DESC)");
     }
 
     private static void dropTables(SQLiteDatabase db) {
         db.execSQL("DROP TABLE IF EXISTS " + NOTIFICATIONS_TABLE);
     }
 
+    /*
+     * the columns holding the fields shown in the notifications list, which are extracted from the raw note data
+     * when a note is saved so the list can be loaded without parsing the JSON of every note
+     */
+    private static final String[] LIST_COLUMNS = {
+            "note_id",
+            "raw_note_data",
+            "type",
+            "timestamp",
+            "timestamp_string",
+            "is_unread",
+            "subject",
+            "comment_subject",
+            "comment_subject_noticon",
+            "icon_url",
+            "noticon",
+            "comment_id",
+            "parent_comment_id",
+            "comment_status",
+            "note_hash"
+    };
+
     public static ArrayList<Note> getLatestNotes() {
         return getLatestNotes(NOTES_TO_RETRIEVE);
     }
 
     public static ArrayList<Note> getLatestNotes(int limit) {
-        Cursor cursor = getDb().query(NOTIFICATIONS_TABLE, new String[]{"note_id", "raw_note_data"},
-                                      null, null, null, null, "timestamp DESC", "" + limit);
+        return getLatestNotes(limit, 0);
+    }
+
+    /*
+     * returns a page of notes, newest first, skipping the passed number of newer notes
+     */
+    public static ArrayList<Note> getLatestNotes(int limit, int offset) {
+        Cursor cursor = getDb().query(NOTIFICATIONS_TABLE, LIST_COLUMNS,
+                                      null, null, null, null, LIST_ORDER_BY, offset + "," + limit);
         ArrayList<Note> notes = new ArrayList<Note>();
-        while (cursor.moveToNext()) {
-            String noteId = cursor.getString(0);
-            String rawNoteData = cursor.getString(1);
-            try {
-                Note note = new Note(noteId, new JSONObject(rawNoteData));
-                notes.add(note);
-            } catch (JSONException e) {
-                AppLog.e(AppLog.T.DB, "Can't parse notification with noteId:" + noteId + ", exception:" + e);
+        try {
+            while (cursor.moveToNext()) {
+                String noteId = cursor.getString(0);
+                String rawNoteData = cursor.getString(1);
+                if (rawNoteData == null) {
+                    AppLog.e(AppLog.T.DB, "Missing data for notification with noteId:" + noteId);
+                    continue;
+                }
+                notes.add(new Note(noteId, rawNoteData, getListProjectionFromCursor(cursor)));
             }
+        } finally {
+            cursor.close();
         }
-        cursor.close();
         return notes;
     }
 
+    private static Note.ListProjection getListProjectionFromCursor(Cursor c) {
+        return new Note.ListProjection(
+                c.getString(2),
+                c.getLong(3),
+                c.getString(4),
+                c.getInt(5) != 0,
+                c.getString(6),
+                c.getString(7),
+                c.getString(8),
+                c.getString(9),
+                c.getString(10),
+                c.getLong(11),
+                c.getLong(12),
+                c.isNull(13) ? CommentStatus.ALL : CommentStatus.fromString(c.getString(13)),
+                c.getString(14));
+    }
+
     private static boolean putNote(Note note, boolean checkBeforeInsert) {
         String rawNote = prepareNote(note.getId(), note.getJSON().toString());
 
@@ -83,6 +152,7 @@ public class NotificationsTable {
         values.put("type", note.getType());
         values.put("timestamp", note.getTimestamp());
         values.put("raw_note_data", rawNote);
+        putListProjection(note, values);
 
         long result;
         if (checkBeforeInsert && isNoteAvailable(note.getId())) {
@@ -105,6 +175,62 @@ public class NotificationsTable {
         }
     }
 
+    private static void putListProjection(Note note, ContentValues values) {
+        JSONObject subject = note.getSubject();
+        values.put("timestamp_string", note.getTimestampString());
+        values.put("is_unread", SqlUtils.boolToSql(note.isUnread()));
+        values.put("subject", subject != null ? subject.toString() : null);
+        values.put("comment_subject", note.getCommentSubject());
+        values.put("comment_subject_noticon", note.getCommentSubjectNoticon());
+        values.put("icon_url", note.getIconURL());
+        values.put("noticon", note.getNoticonCharacter());
+        values.put("comment_id", note.getCommentId());
+        values.put("parent_comment_id", note.getParentCommentId());
+        values.put("comment_status", note.getCommentStatus().toString());
+        values.put("note_hash", note.getNoteHash());
+    }
+
+    /*
+     * returns the server hash of each stored note keyed by note id, so a sync can tell which notes have changed
+     * without reading their data
+     */
+    public static Map<String, String> getNoteHashes() {
+        Map<String, String> noteHashes = new HashMap<>();
+        Cursor cursor = getDb().rawQuery("SELECT note_id, note_hash FROM " + NOTIFICATIONS_TABLE, null);
+        try {
+            while (cursor.moveToNext()) {
+                noteHashes.put(cursor.getString(0), StringUtils.notNullStr(cursor.getString(1)));
+            }
+        } finally {
+            SqlUtils.closeCursor(cursor);
+        }
+        return noteHashes;
+    }
+
+    /*
+     * brings the table in line with the server's list of notes: saves the passed notes, which are those the server
+     * has changed since they were last saved, and deletes stored notes which are no longer in the server's list
+     */
+    public static void applyNoteChanges(List<Note> changedNotes, Collection<String> serverNoteIds) {
+        SQLiteDatabase db = getDb();
+        db.beginTransaction();
+        try {
+            for (Note note : changedNotes) {
+                putNote(note, true);
+            }
+
+            for (String noteId : getNoteHashes().keySet()) {
+                if (!serverNoteIds.contains(noteId)) {
+                    db.delete(NOTIFICATIONS_TABLE, "note_id=?", new String[]{noteId});
+                }
+            }
+
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
     /***
      * PrepareNote is used as a stop gap for handling rewind_download_ready notifications. As of this comment,
      * rewind download ready notifications have a deep link to stats and until the API changes, we are going to
@@ -218,7 +344,10 @@ public class NotificationsTable {
      * drop & recreate notifications table
      */
     public static void reset() {
-        SQLiteDatabase db = getDb();
+        reset(getDb());
+    }
+
+    public static void reset(SQLiteDatabase db) {
         db.beginTransaction();
         try {
             dropTables(db);
@@ -1,8 +1,11 @@
 package org.wordpress.android.datasets;
 
+import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteStatement;
 
+import androidx.annotation.NonNull;
+
 import org.wordpress.android.models.ReaderPost;
 import org.wordpress.android.util.SqlUtils;
 
@@ -34,18 +37,33 @@ public class ReaderBlockedBlogTable {
 
             stmt.bindString(1, Long.toString(blogId));
             stmt.execute();
+            ReaderBlocklistCache.onBlogBlocked(blogId);
         } finally {
             SqlUtils.closeStatement(stmt);
         }
     }
 
     public static boolean isBlockedBlog(long blogId) {
-        if (blogId == 0) {
-            return false;
+        return ReaderBlocklistCache.isBlockedBlog(blogId);
+    }
+
+    /*
+     * returns all blocked blog ids - used to populate ReaderBlocklistCache
+     */
+    @NonNull
+    static long[] getBlockedBlogIds() {
+        Cursor c = ReaderDatabase.getReadableDb().rawQuery(
+                "SELECT " + BLOG_ID + " FROM " + BLOCKED_BLOGS_TABLE, null);
+        try {
+            long[] ids = new long[c.getCount()];
+            int i = 0;
+            while (c.moveToNext()) {
+                ids[i++] = c.getLong(0);
+            }
+            return ids;
+        } finally {
+            SqlUtils.closeCursor(c);
         }
-        return SqlUtils.intForQuery(ReaderDatabase.getReadableDb(),
-                "SELECT count(*) FROM " + BLOCKED_BLOGS_TABLE + " WHERE " + BLOG_ID + "=?",
-                new String[]{Long.toString(blogId)}) > 0;
     }
 
     public static void removeBlockedBlog(long blogId) {
@@ -54,6 +72,7 @@ public class ReaderBlockedBlogTable {
         }
         String[] args = new String[]{Long.toString(blogId)};
         ReaderDatabase.getWritableDb().delete(BLOCKED_BLOGS_TABLE, BLOG_ID + "=?", args);
+        ReaderBlocklistCache.onBlogUnblocked(blogId);
     }
 
     public static void blacklistBlogLocally(long blogId) {
@@ -0,0 +1,129 @@
+package org.wordpress.android.datasets;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.Arrays;
+
+/**
+ * process-wide snapshot of blocked author and blog ids so the reader can skip blocked content
+ * without running a query per post - each set is loaded lazily from its table, kept as a sorted
+ * primitive array and updated in place by the block/unblock calls in the table classes
+ */
+public class ReaderBlocklistCache {
+    private static final BlockedIdSet BLOCKED_AUTHORS = new BlockedIdSet(BlockedAuthorTable::getBlockedAuthorIds);
+    private static final BlockedIdSet BLOCKED_BLOGS = new BlockedIdSet(ReaderBlockedBlogTable::getBlockedBlogIds);
+
+    private ReaderBlocklistCache() {
+        throw new AssertionError();
+    }
+
+    public static boolean isBlockedAuthor(long authorId) {
+        return authorId != 0 && BLOCKED_AUTHORS.contains(authorId);
+    }
+
+    public static boolean isBlockedBlog(long blogId) {
+        return blogId != 0 && BLOCKED_BLOGS.contains(blogId);
+    }
+
+    static void onAuthorBlocked(long authorId) {
+        BLOCKED_AUTHORS.add(authorId);
+    }
+
+    static void onAuthorUnblocked(long authorId) {
+        BLOCKED_AUTHORS.remove(authorId);
+    }
+
+    static void onBlogBlocked(long blogId) {
+        BLOCKED_BLOGS.add(blogId);
+    }
+
+    static void onBlogUnblocked(long blogId) {
+        BLOCKED_BLOGS.remove(blogId);
+    }
+
+    /*
+     * forget the snapshot so it's reloaded the next time it's needed - called when the tables
+     * are dropped or recreated
+     */
+    static void invalidate() {
+        BLOCKED_AUTHORS.invalidate();
+        BLOCKED_BLOGS.invalidate();
+    }
+
+    interface IdLoader {
+        @NonNull long[] loadIds();
+    }
+
+    /*
+     * copy-on-write set of ids - reads are lock-free against an immutable sorted array, while
+     * the (rare) writes replace the array under a lock
+     */
+    @VisibleForTesting
+    static class BlockedIdSet {
+        private final IdLoader mLoader;
+        private final Object mLock = new Object();
+        @Nullable private volatile long[] mIds;
+
+        BlockedIdSet(@NonNull IdLoader loader) {
+            mLoader = loader;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(getIds(), id) >= 0;
+        }
+
+        void add(long id) {
+            synchronized (mLock) {
+                long[] ids = getIds();
+                int index = Arrays.binarySearch(ids, id);
+                if (index >= 0) {
+                    return;
+                }
+                int insertAt = -(index + 1);
+                long[] newIds = new long[ids.length + 1];
+                System.arraycopy(ids, 0, newIds, 0, insertAt);
+                newIds[insertAt] = id;
+                System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+                mIds = newIds;
+            }
+        }
+
+        void remove(long id) {
+            synchronized (mLock) {
+                long[] ids = getIds();
+                int index = Arrays.binarySearch(ids, id);
+                if (index < 0) {
+                    return;
+                }
+                long[] newIds = new long[ids.length - 1];
+                System.arraycopy(ids, 0, newIds, 0, index);
+                System.arraycopy(ids, index + 1, newIds, index, ids.length - index - 1);
+                mIds = newIds;
+            }
+        }
+
+        void invalidate() {
+            synchronized (mLock) {
+                mIds = null;
+            }
+        }
+
+        @NonNull
+        private long[] getIds() {
+            long[] ids = mIds;
+            if (ids == null) {
+                synchronized (mLock) {
+                    ids = mIds;
+                    if (ids == null) {
+                        ids = mLoader.loadIds().clone();
+                        Arrays.sort(ids);
+                        mIds = ids;
+                    }
+                }
+            }
+            return ids;
+        }
+    }
+}
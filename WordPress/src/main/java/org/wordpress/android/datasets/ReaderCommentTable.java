@@ -71,14 +71,10 @@ public class ReaderCommentTable {
         createTables(db);
     }
 
-    protected static int purge(SQLiteDatabase db) {
-        // purge comments attached to posts that no longer exist
-        int numDeleted = db.delete("tbl_comments", "post_id NOT IN (SELECT DISTINCT post_id FROM tbl_posts)", null);
-
-        // purge all but the first page of comments
-        numDeleted += db.delete("tbl_comments", "page_number != 1", null);
-
-        return numDeleted;
+    protected static int purge(SQLiteDatabase db, int limit) {
+        // purge comments attached to posts that no longer exist, and all but the first page of comments
+        return ReaderDatabase.deleteInBatch(db, "tbl_comments",
+                "post_id NOT IN (SELECT DISTINCT post_id FROM tbl_posts) OR page_number != 1", null, limit);
     }
 
     public static boolean isEmpty() {
@@ -4,13 +4,14 @@ import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 
-import org.greenrobot.eventbus.EventBus;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
 import org.wordpress.android.WordPress;
 import org.wordpress.android.models.ReaderPostList;
 import org.wordpress.android.models.ReaderTag;
 import org.wordpress.android.models.ReaderTagList;
 import org.wordpress.android.models.ReaderTagType;
-import org.wordpress.android.ui.reader.repository.ReaderRepositoryEvent.ReaderPostTableActionEnded;
 import org.wordpress.android.ui.reader.utils.ReaderUtils;
 import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.AppLog.T;
@@ -22,14 +23,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.sql.Date;
-import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * database for all reader information
  */
 public class ReaderDatabase extends SQLiteOpenHelper {
     protected static final String DB_NAME = "wpreader.db";
-    private static final int DB_VERSION = 155;
+    private static final int DB_VERSION = 159;
     private static final int DB_LAST_VERSION_WITHOUT_MIGRATION_SCRIPT = 136; // do not change this value
 
     /*
@@ -118,6 +122,10 @@ public class ReaderDatabase extends SQLiteOpenHelper {
      * 153 - added author_email to tbl_comments
      * 154 - added tbl_blocked_authors table
      * 155 - added tbl_blocked_blogs table
+     * 156 - normalized post storage, added tbl_post_tags
+     * 157 - added tbl_posts.date_modified and tbl_posts.fingerprint
+     * 158 - added tbl_post_access
+     * 159 - added tbl_posts_fts full-text index
      */
 
     /*
@@ -140,6 +148,19 @@ public class ReaderDatabase extends SQLiteOpenHelper {
         return mReaderDb;
     }
 
+    /*
+     * lets instrumentation tests open the database with their target context without initializing the app
+     */
+    @VisibleForTesting
+    static void initForTesting(@NonNull Context context) {
+        synchronized (DB_LOCK) {
+            if (mReaderDb == null) {
+                mReaderDb = new ReaderDatabase(context);
+                mReaderDb.getWritableDatabase();
+            }
+        }
+    }
+
     public static SQLiteDatabase getReadableDb() {
         return getDatabase().getReadableDatabase();
     }
@@ -148,6 +169,42 @@ public class ReaderDatabase extends SQLiteOpenHelper {
         return getDatabase().getWritableDatabase();
     }
 
+    /*
+     * background writes (syncing posts, tags, blogs and comments, purging) all run on this single thread so they
+     * queue behind each other instead of contending for the database lock. since the database uses write-ahead
+     * logging, reads made on other threads while a write is underway use their own pooled connections and see
+     * the last committed data rather than waiting for the write to finish
+     */
+    private static final ExecutorService WRITE_EXECUTOR =
+            Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "ReaderDatabaseWriter"));
+
+    public static void executeWrite(@NonNull Runnable task) {
+        WRITE_EXECUTOR.execute(task);
+    }
+
+    /*
+     * runs the passed task on the writer thread and waits for its result, which lets a long job be split into
+     * batches that queue alongside other writes - must not be called from a task already running on the writer
+     */
+    static <T> T runWrite(@NonNull Callable<T> task) throws InterruptedException {
+        try {
+            return WRITE_EXECUTOR.submit(task).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /*
+     * deletes at most the passed number of rows matching the passed where clause
+     */
+    protected static int deleteInBatch(SQLiteDatabase db, String table, String where, String[] args, int limit) {
+        return db.delete(table,
+                "rowid IN (SELECT rowid FROM " + table + " WHERE " + where + " LIMIT " + limit + ")", args);
+    }
+
     @Override
     public void onOpen(SQLiteDatabase db) {
         super.onOpen(db);
@@ -184,6 +241,7 @@ public class ReaderDatabase extends SQLiteOpenHelper {
 
     public ReaderDatabase(Context context) {
         super(context, DB_NAME, null, DB_VERSION);
+        setWriteAheadLoggingEnabled(true);
     }
 
     @Override
@@ -273,6 +331,18 @@ public class ReaderDatabase extends SQLiteOpenHelper {
             case 154:
                 ReaderBlockedBlogTable.createTables(db);
                 currentVersion++;
+            case 155:
+                ReaderPostTable.migrateToNormalizedStorage(db);
+                currentVersion++;
+            case 156:
+                ReaderPostTable.addFingerprintColumns(db);
+                currentVersion++;
+            case 157:
+                ReaderPostTable.createAccessTable(db);
+                currentVersion++;
+            case 158:
+                ReaderPostTable.createSearchIndex(db);
+                currentVersion++;
         }
         if (currentVersion != newVersion) {
             throw new RuntimeException(
@@ -328,58 +398,10 @@ public class ReaderDatabase extends SQLiteOpenHelper {
             db.setTransactionSuccessful();
         } finally {
             db.endTransaction();
+            ReaderBlocklistCache.invalidate();
         }
     }
 
-    /*
-     * purge older/unattached data - use purgeAsync() to do this in the background
-     */
-    private static void purge() {
-        SQLiteDatabase db = getWritableDb();
-        db.beginTransaction();
-        try {
-            int numPostsDeleted = ReaderPostTable.purge(db);
-
-            // don't bother purging other data unless posts were purged
-            if (numPostsDeleted > 0) {
-                AppLog.i(T.READER, String.format(Locale.ENGLISH, "%d total posts purged", numPostsDeleted));
-
-                // purge unattached comments
-                int numCommentsDeleted = ReaderCommentTable.purge(db);
-                if (numCommentsDeleted > 0) {
-                    AppLog.i(T.READER, String.format(Locale.ENGLISH, "%d comments purged", numCommentsDeleted));
-                }
-
-                // purge unattached likes
-                int numLikesDeleted = ReaderLikeTable.purge(db);
-                if (numLikesDeleted > 0) {
-                    AppLog.i(T.READER, String.format(Locale.ENGLISH, "%d likes purged", numLikesDeleted));
-                }
-
-                // purge unattached thumbnails
-                int numThumbsPurged = ReaderThumbnailTable.purge(db);
-                if (numThumbsPurged > 0) {
-                    AppLog.i(T.READER, String.format(Locale.ENGLISH, "%d thumbnails purged", numThumbsPurged));
-                }
-            }
-            db.setTransactionSuccessful();
-            if (numPostsDeleted > 0) {
-                EventBus.getDefault().post(ReaderPostTableActionEnded.INSTANCE);
-            }
-        } finally {
-            db.endTransaction();
-        }
-    }
-
-    public static void purgeAsync() {
-        new Thread() {
-            @Override
-            public void run() {
-                purge();
-            }
-        }.start();
-    }
-
     /*
      * used during development to copy database to external storage so we can access it via DDMS
      */
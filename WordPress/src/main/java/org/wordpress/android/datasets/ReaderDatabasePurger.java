@@ -0,0 +1,312 @@
+package org.wordpress.android.datasets;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import org.greenrobot.eventbus.EventBus;
+import org.wordpress.android.models.ReaderTag;
+import org.wordpress.android.models.ReaderTagList;
+import org.wordpress.android.ui.reader.repository.ReaderRepositoryEvent.ReaderPostTableActionEnded;
+import org.wordpress.android.util.AppLog;
+import org.wordpress.android.util.AppLog.T;
+import org.wordpress.android.util.SqlUtils;
+
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Purges the reader database a little at a time. Each batch deletes a bounded number of rows in its own short
+ * transaction on the database's writer thread, so syncing carries on between batches, and purging stops once its
+ * time budget is spent - whatever is left over is picked up by the next purge.
+ * <p>
+ * Besides trimming each stream to its maximum number of posts and deleting data which no longer belongs to a post,
+ * the least recently viewed posts are evicted while the database is larger than {@link #TARGET_DB_SIZE_BYTES}, and
+ * once enough space has been freed it's handed back to the file system with an incremental vacuum.
+ */
+public class ReaderDatabasePurger {
+    public static final long QUICK_PURGE_BUDGET_MS = 500;
+    public static final long FULL_PURGE_BUDGET_MS = 60 * 1000;
+
+    static final long TARGET_DB_SIZE_BYTES = 40L * 1024 * 1024;
+
+    @VisibleForTesting static final int BATCH_SIZE = 250;
+    @VisibleForTesting static final long MIN_VACUUM_BYTES = 1024 * 1024;
+    @VisibleForTesting static final int VACUUM_PAGES_PER_BATCH = 256;
+    @VisibleForTesting static final int AUTO_VACUUM_INCREMENTAL = 2;
+
+    public static class Result {
+        public final int numRowsDeleted;
+        public final long bytesReclaimed;
+        public final long bytesVacuumed;
+        public final boolean isComplete;
+
+        Result(int numRowsDeleted, long bytesReclaimed, long bytesVacuumed, boolean isComplete) {
+            this.numRowsDeleted = numRowsDeleted;
+            this.bytesReclaimed = bytesReclaimed;
+            this.bytesVacuumed = bytesVacuumed;
+            this.isComplete = isComplete;
+        }
+    }
+
+    interface Batch {
+        /*
+         * deletes at most limit rows and returns the number deleted
+         */
+        int run(SQLiteDatabase db, int limit);
+    }
+
+    // the batches which delete up to a limit of rows at a time
+    static final Batch PURGE_POSTS_IN_DELETED_TAGS = ReaderPostTable::purgePostsInDeletedTags;
+    static final Batch PURGE_SEARCH_RESULTS = ReaderPostTable::purgeSearchResults;
+    static final Batch PURGE_ORPHANED_POSTS = ReaderPostTable::purgeOrphanedPosts;
+    static final Batch PURGE_LEAST_RECENTLY_ACCESSED_POSTS = ReaderPostTable::purgeLeastRecentlyAccessedPosts;
+    static final Batch PURGE_COMMENTS = ReaderCommentTable::purge;
+    static final Batch PURGE_LIKES = ReaderLikeTable::purge;
+    static final Batch PURGE_THUMBNAILS = ReaderThumbnailTable::purge;
+
+    /*
+     * the database work the purger hands off, so the order and extent of purging can be tested
+     * without a database
+     */
+    @VisibleForTesting
+    interface Database {
+        /*
+         * runs the passed batch in a transaction on the writer thread, returning the number of rows deleted
+         */
+        int runBatch(@NonNull Batch batch, int limit) throws InterruptedException;
+
+        void runIncrementalVacuum(int pages) throws InterruptedException;
+
+        /*
+         * enables incremental vacuuming, which takes a full vacuum
+         */
+        void runFullVacuum() throws InterruptedException;
+
+        long pragmaForLong(@NonNull String pragma);
+
+        @NonNull ReaderTagList getAllTags();
+    }
+
+    private final Database mDatabase;
+    private final LongSupplier mClock;
+    private final long mDeadline;
+    private int mNumRowsDeleted;
+    private boolean mHasDeletedPosts;
+
+    @VisibleForTesting
+    ReaderDatabasePurger(@NonNull Database database, @NonNull LongSupplier clock, long budgetMillis) {
+        mDatabase = database;
+        mClock = clock;
+        mDeadline = clock.getAsLong() + budgetMillis;
+    }
+
+    /**
+     * Purges for at most the passed amount of time. Must not be called on the main thread or the database's writer
+     * thread.
+     *
+     * @param allowFullVacuum Whether a full vacuum may be run when incremental vacuuming hasn't been enabled for the
+     *                        database yet, which rewrites the whole file so should only be allowed when idle
+     */
+    @NonNull
+    public static Result purge(long budgetMillis, boolean allowFullVacuum) {
+        ReaderDatabasePurger purger =
+                new ReaderDatabasePurger(new ReaderDatabaseAccess(), SystemClock::elapsedRealtime, budgetMillis);
+        Result result = purger.purge(allowFullVacuum);
+        AppLog.i(T.READER, String.format(Locale.ENGLISH,
+                "reader database purge %s > %d rows deleted, %d bytes reclaimed, %d bytes vacuumed",
+                result.isComplete ? "complete" : "out of time", result.numRowsDeleted, result.bytesReclaimed,
+                result.bytesVacuumed));
+
+        if (purger.mHasDeletedPosts) {
+            EventBus.getDefault().post(ReaderPostTableActionEnded.INSTANCE);
+        }
+        return result;
+    }
+
+    @VisibleForTesting
+    @NonNull
+    Result purge(boolean allowFullVacuum) {
+        long usedBytesBefore = getUsedBytes();
+        long fileBytesBefore = getFileBytes();
+
+        boolean isComplete;
+        try {
+            isComplete = purgeRows() && vacuum(allowFullVacuum);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            isComplete = false;
+        }
+
+        return new Result(mNumRowsDeleted, Math.max(0, usedBytesBefore - getUsedBytes()),
+                Math.max(0, fileBytesBefore - getFileBytes()), isComplete);
+    }
+
+    /*
+     * returns false if time ran out before everything was purged
+     */
+    private boolean purgeRows() throws InterruptedException {
+        if (!runUntilDone(PURGE_POSTS_IN_DELETED_TAGS, true)) {
+            return false;
+        }
+
+        // trimming a stream is bounded by the number of posts it holds over its maximum, so it's done in one batch
+        for (ReaderTag tag : mDatabase.getAllTags()) {
+            if (isOutOfTime()) {
+                return false;
+            }
+            runBatch((db, limit) -> ReaderPostTable.purgePostsForTag(db, tag), true);
+        }
+        if (isOutOfTime()) {
+            return false;
+        }
+        runBatch((db, limit) -> ReaderPostTable.purgeUnbookmarkedPostsWithBookmarkTag(), true);
+
+        if (!runUntilDone(PURGE_SEARCH_RESULTS, true)
+            || !runUntilDone(PURGE_ORPHANED_POSTS, true)) {
+            return false;
+        }
+
+        while (getUsedBytes() > TARGET_DB_SIZE_BYTES) {
+            if (isOutOfTime()) {
+                return false;
+            }
+            if (runBatch(PURGE_LEAST_RECENTLY_ACCESSED_POSTS, true) == 0) {
+                break;
+            }
+        }
+
+        // comments are purged before likes so the likes of purged comments go with them
+        return runUntilDone(PURGE_COMMENTS, false)
+               && runUntilDone(PURGE_LIKES, false)
+               && runUntilDone(PURGE_THUMBNAILS, false);
+    }
+
+    /*
+     * returns false if time ran out before the free pages were returned to the file system
+     */
+    private boolean vacuum(boolean allowFullVacuum) throws InterruptedException {
+        if (getFreeBytes() < MIN_VACUUM_BYTES) {
+            return true;
+        }
+
+        if (getAutoVacuumMode() != AUTO_VACUUM_INCREMENTAL) {
+            // incremental vacuuming only works once it's been enabled, and enabling it takes a full vacuum
+            if (allowFullVacuum) {
+                mDatabase.runFullVacuum();
+            }
+            return true;
+        }
+
+        long freeBytes = getFreeBytes();
+        while (freeBytes > 0) {
+            if (isOutOfTime()) {
+                return false;
+            }
+            mDatabase.runIncrementalVacuum(VACUUM_PAGES_PER_BATCH);
+            long freeBytesAfter = getFreeBytes();
+            if (freeBytesAfter >= freeBytes) {
+                break;
+            }
+            freeBytes = freeBytesAfter;
+        }
+        return true;
+    }
+
+    /*
+     * runs the passed batch until there's nothing left for it to delete - returns false if time ran out first
+     */
+    private boolean runUntilDone(@NonNull Batch batch, boolean deletesPosts) throws InterruptedException {
+        do {
+            if (isOutOfTime()) {
+                return false;
+            }
+        } while (runBatch(batch, deletesPosts) > 0);
+        return true;
+    }
+
+    private int runBatch(@NonNull Batch batch, boolean deletesPosts) throws InterruptedException {
+        int numDeleted = mDatabase.runBatch(batch, BATCH_SIZE);
+        mNumRowsDeleted += numDeleted;
+        if (deletesPosts && numDeleted > 0) {
+            mHasDeletedPosts = true;
+        }
+        return numDeleted;
+    }
+
+    private boolean isOutOfTime() {
+        return mClock.getAsLong() >= mDeadline;
+    }
+
+    private long getFileBytes() {
+        return mDatabase.pragmaForLong("page_count") * mDatabase.pragmaForLong("page_size");
+    }
+
+    private long getFreeBytes() {
+        return mDatabase.pragmaForLong("freelist_count") * mDatabase.pragmaForLong("page_size");
+    }
+
+    private long getUsedBytes() {
+        return getFileBytes() - getFreeBytes();
+    }
+
+    private int getAutoVacuumMode() {
+        return (int) mDatabase.pragmaForLong("auto_vacuum");
+    }
+
+    private static class ReaderDatabaseAccess implements Database {
+        @Override
+        public int runBatch(@NonNull Batch batch, int limit) throws InterruptedException {
+            return ReaderDatabase.runWrite(() -> {
+                SQLiteDatabase db = ReaderDatabase.getWritableDb();
+                db.beginTransaction();
+                try {
+                    int numBatchDeleted = batch.run(db, limit);
+                    db.setTransactionSuccessful();
+                    return numBatchDeleted;
+                } finally {
+                    db.endTransaction();
+                }
+            });
+        }
+
+        @Override
+        public void runIncrementalVacuum(int pages) throws InterruptedException {
+            ReaderDatabase.runWrite(() -> {
+                // the pragma returns a row for each page it frees, so it only runs to completion when they're read
+                Cursor c = ReaderDatabase.getWritableDb().rawQuery("PRAGMA incremental_vacuum(" + pages + ")", null);
+                try {
+                    c.getCount();
+                } finally {
+                    SqlUtils.closeCursor(c);
+                }
+                return null;
+            });
+        }
+
+        @Override
+        public void runFullVacuum() throws InterruptedException {
+            ReaderDatabase.runWrite(() -> {
+                SQLiteDatabase db = ReaderDatabase.getWritableDb();
+                db.execSQL("PRAGMA auto_vacuum = INCREMENTAL");
+                db.execSQL("VACUUM");
+                ReaderPostTable.rebuildSearchIndex(db);
+                return null;
+            });
+        }
+
+        @Override
+        public long pragmaForLong(@NonNull String pragma) {
+            return SqlUtils.longForQuery(ReaderDatabase.getReadableDb(), "PRAGMA " + pragma, null);
+        }
+
+        @NonNull
+        @Override
+        public ReaderTagList getAllTags() {
+            return ReaderTagTable.getAllTags();
+        }
+    }
+}
@@ -20,27 +20,40 @@ import org.wordpress.android.models.ReaderTag;
 import org.wordpress.android.models.ReaderTagList;
 import org.wordpress.android.models.ReaderTagType;
 import org.wordpress.android.ui.reader.ReaderConstants;
-import org.wordpress.android.ui.reader.actions.ReaderActions;
 import org.wordpress.android.ui.reader.models.ReaderBlogIdPostId;
 import org.wordpress.android.ui.reader.models.ReaderBlogIdPostIdList;
+import org.wordpress.android.ui.reader.models.ReaderPostChanges;
 import org.wordpress.android.ui.reader.repository.ReaderRepositoryEvent.ReaderPostTableActionEnded;
+import org.wordpress.android.ui.reader.utils.ReaderSearchUtils;
 import org.wordpress.android.ui.reader.utils.ReaderUtils;
 import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.SqlUtils;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
- * tbl_posts contains all reader posts - the primary key is pseudo_id + tag_name + tag_type,
+ * tbl_posts contains a single row for each reader post keyed on pseudo_id, and tbl_post_tags
+ * records which streams the post belongs to - its primary key is pseudo_id + tag_name + tag_type,
  * which allows the same post to appear in multiple streams (ex: it can exist in followed
- * sites, liked posts, and tag streams). note that posts in a specific blog or feed are
- * stored here with an empty tag_name.
+ * sites, liked posts, and tag streams) without storing its content more than once. note that
+ * posts in a specific blog or feed are attached to an empty tag_name. fields that depend on the
+ * stream (sort dates, search score, gap marker) are stored with the tag rather than the post.
  */
 public class ReaderPostTable {
-    private static final String COLUMN_NAMES =
+    // columns which existed when post storage was normalized - used by the migration
+    private static final String NORMALIZED_COLUMN_NAMES =
             "post_id," // 1
             + "blog_id," // 2
             + "feed_id," // 3
@@ -61,96 +74,124 @@ public class ReaderPostTable {
             + "featured_image," // 18
             + "featured_video," // 19
             + "post_avatar," // 20
-            + "score," // 21
-            + "date_published," // 22
-            + "date_liked," // 23
-            + "date_tagged," // 24
-            + "num_replies," // 25
-            + "num_likes," // 26
-            + "is_liked," // 27
-            + "is_followed," // 28
-            + "is_comments_open," // 29
-            + "is_external," // 30
-            + "is_private," // 31
-            + "is_videopress," // 32
-            + "is_jetpack," // 33
-            + "primary_tag," // 34
-            + "secondary_tag," // 35
-            + "attachments_json," // 36
-            + "discover_json," // 37
-            + "xpost_post_id," // 38
-            + "xpost_blog_id," // 39
-            + "railcar_json," // 40
-            + "tag_name," // 41
-            + "tag_type," // 42
-            + "has_gap_marker," // 43
-            + "card_type," // 44
-            + "use_excerpt," // 45
-            + "is_bookmarked," // 46
-            + "is_private_atomic," // 47
-            + "tags," // 48
-            + "organization_id," // 49
-            + "is_seen," // 50
-            + "is_seen_supported," // 51
-            + "author_blog_id," // 52
-            + "author_blog_url"; // 53
-
-    // used when querying multiple rows and skipping text column
-    private static final String COLUMN_NAMES_NO_TEXT =
-            "post_id," // 1
-            + "blog_id," // 2
-            + "feed_id," // 3
-            + "feed_item_id," // 4
-            + "author_id," // 5
-            + "pseudo_id," // 6
-            + "author_name," // 7
-            + "author_first_name," // 8
-            + "blog_name," // 9
-            + "blog_url," // 10
-            + "blog_image_url," // 11
-            + "excerpt," // 12
-            + "format," // 13
-            + "featured_image," // 14
-            + "featured_video," // 15
-            + "title," // 16
-            + "url," // 17
-            + "short_url," // 18
-            + "post_avatar," // 19
-            + "score," // 20
             + "date_published," // 21
-            + "date_liked," // 22
-            + "date_tagged," // 23
-            + "num_replies," // 24
-            + "num_likes," // 25
-            + "is_liked," // 26
-            + "is_followed," // 27
-            + "is_comments_open," // 28
-            + "is_external," // 29
-            + "is_private," // 30
-            + "is_videopress," // 31
-            + "is_jetpack," // 32
-            + "primary_tag," // 33
-            + "secondary_tag," // 34
-            + "attachments_json," // 35
-            + "discover_json," // 36
-            + "xpost_post_id," // 37
-            + "xpost_blog_id," // 38
-            + "railcar_json," // 39
-            + "tag_name," // 40
-            + "tag_type," // 41
-            + "has_gap_marker," // 42
-            + "card_type," // 43
-            + "use_excerpt," // 44
-            + "is_bookmarked," // 45
-            + "is_private_atomic," // 46
-            + "tags," // 47
-            + "organization_id," // 48
-            + "is_seen," // 49
-            + "is_seen_supported," // 50
-            + "author_blog_id," // 51
-            + "author_blog_url"; // 52
+            + "num_replies," // 22
+            + "num_likes," // 23
+            + "is_liked," // 24
+            + "is_followed," // 25
+            + "is_comments_open," // 26
+            + "is_external," // 27
+            + "is_private," // 28
+            + "is_videopress," // 29
+            + "is_jetpack," // 30
+            + "primary_tag," // 31
+            + "secondary_tag," // 32
+            + "attachments_json," // 33
+            + "discover_json," // 34
+            + "xpost_post_id," // 35
+            + "xpost_blog_id," // 36
+            + "railcar_json," // 37
+            + "card_type," // 38
+            + "use_excerpt," // 39
+            + "is_bookmarked," // 40
+            + "is_private_atomic," // 41
+            + "tags," // 42
+            + "organization_id," // 43
+            + "is_seen," // 44
+            + "is_seen_supported," // 45
+            + "author_blog_id," // 46
+            + "author_blog_url"; // 47
+
+    private static final String COLUMN_NAMES =
+            NORMALIZED_COLUMN_NAMES + ","
+            + "date_modified," // 48
+            + "fingerprint"; // 49
+
+    // used when querying multiple rows and skipping text column - pseudo_id is qualified since
+    // it also exists in tbl_post_tags
+    private static final String COLUMN_NAMES_NO_TEXT =
+            "p.post_id," // 1
+            + "p.blog_id," // 2
+            + "p.feed_id," // 3
+            + "p.feed_item_id," // 4
+            + "p.author_id," // 5
+            + "p.pseudo_id," // 6
+            + "p.author_name," // 7
+            + "p.author_first_name," // 8
+            + "p.blog_name," // 9
+            + "p.blog_url," // 10
+            + "p.blog_image_url," // 11
+            + "p.excerpt," // 12
+            + "p.format," // 13
+            + "p.featured_image," // 14
+            + "p.featured_video," // 15
+            + "p.title," // 16
+            + "p.url," // 17
+            + "p.short_url," // 18
+            + "p.post_avatar," // 19
+            + "p.date_published," // 20
+            + "p.num_replies," // 21
+            + "p.num_likes," // 22
+            + "p.is_liked," // 23
+            + "p.is_followed," // 24
+            + "p.is_comments_open," // 25
+            + "p.is_external," // 26
+            + "p.is_private," // 27
+            + "p.is_videopress," // 28
+            + "p.is_jetpack," // 29
+            + "p.primary_tag," // 30
+            + "p.secondary_tag," // 31
+            + "p.attachments_json," // 32
+            + "p.discover_json," // 33
+            + "p.xpost_post_id," // 34
+            + "p.xpost_blog_id," // 35
+            + "p.railcar_json," // 36
+            + "p.card_type," // 37
+            + "p.use_excerpt," // 38
+            + "p.is_bookmarked," // 39
+            + "p.is_private_atomic," // 40
+            + "p.tags," // 41
+            + "p.organization_id," // 42
+            + "p.is_seen," // 43
+            + "p.is_seen_supported," // 44
+            + "p.author_blog_id," // 45
+            + "p.author_blog_url," // 46
+            + "p.date_modified"; // 47
+
+    // stream-specific columns from tbl_post_tags
+    private static final String TAG_COLUMN_NAMES =
+            "pseudo_id," // 1
+            + "tag_name," // 2
+            + "tag_type," // 3
+            + "has_gap_marker," // 4
+            + "score," // 5
+            + "date_liked," // 6
+            + "date_tagged"; // 7
+
+    private static final String JOINED_TAG_COLUMN_NAMES =
+            "t.tag_name,"
+            + "t.tag_type,"
+            + "t.has_gap_marker,"
+            + "t.score,"
+            + "t.date_liked,"
+            + "t.date_tagged";
+
+    private static final String FROM_POSTS_WITH_TAGS =
+            " FROM tbl_post_tags t INNER JOIN tbl_posts p ON p.pseudo_id = t.pseudo_id";
+
+    // columns of tbl_posts which are full-text indexed in tbl_posts_fts, and how much a match in each
+    // contributes to the rank of a search result
+    private static final String SEARCH_COLUMN_NAMES = "title, excerpt, author_name, blog_name, tags";
+    private static final double[] SEARCH_COLUMN_WEIGHTS = {4.0, 1.0, 2.0, 2.0, 3.0};
 
     protected static void createTables(SQLiteDatabase db) {
+        createNormalizedTables(db);
+        addFingerprintColumns(db);
+        createAccessTable(db);
+        createSearchIndex(db);
+    }
+
+    private static void createNormalizedTables(SQLiteDatabase db) {
         db.execSQL("CREATE TABLE tbl_posts ("
                    + " post_id INTEGER DEFAULT 0,"
                    + " blog_id INTEGER DEFAULT 0,"
@@ -172,10 +213,7 @@ public class ReaderPostTable {
                    + " featured_image TEXT,"
                    + " featured_video TEXT,"
                    + " post_avatar TEXT,"
-                   + " score REAL DEFAULT 0,"
                    + " date_published TEXT,"
-                   + " date_liked TEXT,"
-                   + " date_tagged TEXT,"
                    + " num_replies INTEGER DEFAULT 0,"
                    + " num_likes INTEGER DEFAULT 0,"
                    + " is_liked INTEGER DEFAULT 0,"
@@ -192,9 +230,6 @@ public class ReaderPostTable {
                    + " xpost_post_id INTEGER DEFAULT 0,"
                    + " xpost_blog_id INTEGER DEFAULT 0,"
                    + " railcar_json TEXT,"
-                   + " tag_name TEXT NOT NULL COLLATE NOCASE,"
-                   + " tag_type INTEGER DEFAULT 0,"
-                   + " has_gap_marker INTEGER DEFAULT 0,"
                    + " card_type TEXT,"
                    + " use_excerpt INTEGER DEFAULT 0,"
                    + " is_bookmarked INTEGER DEFAULT 0,"
@@ -205,17 +240,114 @@ public class ReaderPostTable {
                    + " is_seen_supported INTEGER DEFAULT 0,"
                    + " author_blog_id INTEGER DEFAULT 0,"
                    + " author_blog_url TEXT,"
-                   + " PRIMARY KEY (pseudo_id, tag_name, tag_type)"
+                   + " PRIMARY KEY (pseudo_id)"
                    + ")");
 
         db.execSQL("CREATE INDEX idx_posts_post_id_blog_id ON tbl_posts(post_id, blog_id)");
         db.execSQL("CREATE INDEX idx_posts_date_published ON tbl_posts(date_published)");
-        db.execSQL("CREATE INDEX idx_posts_date_tagged ON tbl_posts(date_tagged)");
-        db.execSQL("CREATE INDEX idx_posts_tag_name ON tbl_posts(tag_name)");
+        db.execSQL("CREATE INDEX idx_posts_author_id ON tbl_posts(author_id)");
+        db.execSQL("CREATE INDEX idx_posts_feed_id ON tbl_posts(feed_id)");
+
+        db.execSQL("CREATE TABLE tbl_post_tags ("
+                   + " pseudo_id TEXT NOT NULL,"
+                   + " tag_name TEXT NOT NULL COLLATE NOCASE,"
+                   + " tag_type INTEGER DEFAULT 0,"
+                   + " has_gap_marker INTEGER DEFAULT 0,"
+                   + " score REAL DEFAULT 0,"
+                   + " date_liked TEXT,"
+                   + " date_tagged TEXT,"
+                   + " PRIMARY KEY (pseudo_id, tag_name, tag_type)"
+                   + ")");
+
+        db.execSQL("CREATE INDEX idx_post_tags_tag_name_tag_type ON tbl_post_tags(tag_name, tag_type)");
+        db.execSQL("CREATE INDEX idx_post_tags_date_tagged ON tbl_post_tags(date_tagged)");
+    }
+
+    /*
+     * moves the denormalized tbl_posts (one row per post per tag) to the normalized layout, keeping
+     * one content row per post and one tbl_post_tags row per stream the post appears in
+     */
+    protected static void migrateToNormalizedStorage(SQLiteDatabase db) {
+        db.execSQL("DROP INDEX IF EXISTS idx_posts_post_id_blog_id");
+        db.execSQL("DROP INDEX IF EXISTS idx_posts_date_published");
+        db.execSQL("DROP INDEX IF EXISTS idx_posts_date_tagged");
+        db.execSQL("DROP INDEX IF EXISTS idx_posts_tag_name");
+        db.execSQL("ALTER TABLE tbl_posts RENAME TO tbl_posts_denormalized");
+
+        createNormalizedTables(db);
+
+        db.execSQL("INSERT OR IGNORE INTO tbl_post_tags (" + TAG_COLUMN_NAMES + ")"
+                   + " SELECT " + TAG_COLUMN_NAMES + " FROM tbl_posts_denormalized");
+        // bookmarked rows are copied last so they win when the same post exists more than once
+        db.execSQL("INSERT OR REPLACE INTO tbl_posts (" + NORMALIZED_COLUMN_NAMES + ")"
+                   + " SELECT " + NORMALIZED_COLUMN_NAMES + " FROM tbl_posts_denormalized ORDER BY is_bookmarked");
+
+        db.execSQL("DROP TABLE tbl_posts_denormalized");
+    }
+
+    /*
+     * fingerprint is ReaderPost.getFingerprint() at the time the post was stored, which enables
+     * detecting changed posts without loading them - existing posts default to zero so they're
+     * treated as changed the next time they're retrieved
+     */
+    protected static void addFingerprintColumns(SQLiteDatabase db) {
+        db.execSQL("ALTER TABLE tbl_posts ADD date_modified TEXT");
+        db.execSQL("ALTER TABLE tbl_posts ADD fingerprint INTEGER DEFAULT 0");
+    }
+
+    /*
+     * tbl_post_access records when each post was last viewed (in seconds since the epoch), which
+     * ReaderDatabasePurger uses to decide which posts to evict when the database grows too large
+     */
+    protected static void createAccessTable(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE tbl_post_access ("
+                   + " pseudo_id TEXT NOT NULL PRIMARY KEY,"
+                   + " date_accessed INTEGER DEFAULT 0"
+                   + ")");
+    }
+
+    /*
+     * tbl_posts_fts is a full-text index of the searchable columns in tbl_posts keyed on the rowid of
+     * each post, which triggers keep in sync with every insert, update and delete. rows replaced by
+     * INSERT OR REPLACE don't fire delete triggers, so addOrUpdatePosts removes a post from the index
+     * before replacing it - the insert trigger replaces any row left at the new rowid all the same. a
+     * BEFORE INSERT trigger can't do this, since it also fires for an INSERT OR IGNORE which is then
+     * ignored. VACUUM may renumber the rowids, so the index must be rebuilt after one
+     */
+    protected static void createSearchIndex(SQLiteDatabase db) {
+        db.execSQL("CREATE VIRTUAL TABLE tbl_posts_fts USING fts4(" + SEARCH_COLUMN_NAMES + ", tokenize=unicode61)");
+        createSearchIndexTriggers(db);
+        rebuildSearchIndex(db);
+    }
+
+    private static void createSearchIndexTriggers(SQLiteDatabase db) {
+        db.execSQL("CREATE TRIGGER trg_posts_fts_after_insert AFTER INSERT ON tbl_posts BEGIN"
+                   + " INSERT OR REPLACE INTO tbl_posts_fts (docid, " + SEARCH_COLUMN_NAMES + ")"
+                   + " VALUES (NEW.rowid, NEW.title, NEW.excerpt, NEW.author_name, NEW.blog_name, NEW.tags);"
+                   + " END");
+        db.execSQL("CREATE TRIGGER trg_posts_fts_after_update AFTER UPDATE OF " + SEARCH_COLUMN_NAMES
+                   + " ON tbl_posts BEGIN"
+                   + " UPDATE tbl_posts_fts SET title = NEW.title, excerpt = NEW.excerpt,"
+                   + " author_name = NEW.author_name, blog_name = NEW.blog_name, tags = NEW.tags"
+                   + " WHERE docid = NEW.rowid;"
+                   + " END");
+        db.execSQL("CREATE TRIGGER trg_posts_fts_after_delete AFTER DELETE ON tbl_posts BEGIN"
+                   + " DELETE FROM tbl_posts_fts WHERE docid = OLD.rowid;"
+                   + " END");
+    }
+
+    protected static void rebuildSearchIndex(SQLiteDatabase db) {
+        db.execSQL("DELETE FROM tbl_posts_fts");
+        db.execSQL("INSERT INTO tbl_posts_fts (docid, " + SEARCH_COLUMN_NAMES + ")"
+                   + " SELECT rowid, " + SEARCH_COLUMN_NAMES + " FROM tbl_posts");
     }
 
     protected static void dropTables(SQLiteDatabase db) {
+        // dropping tbl_posts also drops the triggers which keep tbl_posts_fts in sync
         db.execSQL("DROP TABLE IF EXISTS tbl_posts");
+        db.execSQL("DROP TABLE IF EXISTS tbl_posts_fts");
+        db.execSQL("DROP TABLE IF EXISTS tbl_post_tags");
+        db.execSQL("DROP TABLE IF EXISTS tbl_post_access");
     }
 
     protected static void reset(SQLiteDatabase db) {
@@ -224,24 +356,77 @@ public class ReaderPostTable {
     }
 
     /*
-     * purge table of unattached/older posts - no need to wrap this in a transaction since it's
-     * only called from ReaderDatabase.purge() which already creates a transaction
+     * the purge methods below are used by ReaderDatabasePurger, which calls them in short transactions
+     * until they return zero - those taking a limit delete at most that many rows per call
      */
-    protected static int purge(SQLiteDatabase db) {
-        // delete posts attached to tags that no longer exist
-        int numDeleted = db.delete("tbl_posts", "tag_name NOT IN (SELECT DISTINCT tag_name FROM tbl_tags)", null);
+    protected static int purgePostsInDeletedTags(SQLiteDatabase db, int limit) {
+        return ReaderDatabase.deleteInBatch(db, "tbl_post_tags",
+                "tag_name NOT IN (SELECT DISTINCT tag_name FROM tbl_tags)", null, limit);
+    }
 
-        // delete excess posts on a per-tag basis
-        ReaderTagList tags = ReaderTagTable.getAllTags();
-        for (ReaderTag tag : tags) {
-            numDeleted += purgePostsForTag(db, tag);
+    protected static int purgeOrphanedPosts(SQLiteDatabase db, int limit) {
+        int numDeleted = ReaderDatabase.deleteInBatch(db, "tbl_posts",
+                "pseudo_id NOT IN (SELECT DISTINCT pseudo_id FROM tbl_post_tags)", null, limit);
+        numDeleted += ReaderDatabase.deleteInBatch(db, "tbl_post_access",
+                "pseudo_id NOT IN (SELECT pseudo_id FROM tbl_posts)", null, limit);
+        if (numDeleted > 0) {
+            AppLog.d(AppLog.T.READER, String.format(Locale.ENGLISH,
+                    "reader post table > purged %d unattached posts", numDeleted));
+        }
+        return numDeleted;
+    }
+
+    /*
+     * evicts the passed number of unbookmarked posts from every stream, least recently viewed first - posts
+     * which have never been viewed are treated as last viewed when they were published
+     */
+    protected static int purgeLeastRecentlyAccessedPosts(SQLiteDatabase db, int limit) {
+        String sql = "SELECT p.pseudo_id FROM tbl_posts p"
+                     + " LEFT JOIN tbl_post_access a ON a.pseudo_id = p.pseudo_id"
+                     + " WHERE p.is_bookmarked = 0"
+                     + " ORDER BY MAX(IFNULL(a.date_accessed, 0), IFNULL(strftime('%s', p.date_published), 0))"
+                     + " LIMIT " + limit;
+        List<String> pseudoIds = new ArrayList<>();
+        Cursor c = db.rawQuery(sql, null);
+        try {
+            while (c.moveToNext()) {
+                pseudoIds.add(c.getString(0));
+            }
+        } finally {
+            SqlUtils.closeCursor(c);
         }
 
-        numDeleted += purgeUnbookmarkedPostsWithBookmarkTag();
+        for (String pseudoId : pseudoIds) {
+            String[] args = {pseudoId};
+            db.delete("tbl_post_tags", "pseudo_id=?", args);
+            db.delete("tbl_post_access", "pseudo_id=?", args);
+            db.delete("tbl_posts", "pseudo_id=?", args);
+        }
+        return pseudoIds.size();
+    }
 
-        // delete search results
-        numDeleted += purgeSearchResults(db);
-        return numDeleted;
+    /*
+     * records that the passed post was just viewed
+     */
+    public static void setPostAccessed(@NonNull ReaderPost post) {
+        final String pseudoId = post.getPseudoId();
+        if (TextUtils.isEmpty(pseudoId)) {
+            return;
+        }
+        ReaderDatabase.executeWrite(() -> {
+            ContentValues values = new ContentValues();
+            values.put("pseudo_id", pseudoId);
+            values.put("date_accessed", System.currentTimeMillis() / 1000);
+            ReaderDatabase.getWritableDb().insertWithOnConflict("tbl_post_access", null, values,
+                    SQLiteDatabase.CONFLICT_REPLACE);
+        });
+    }
+
+    /*
+     * delete post content which no longer belongs to any stream
+     */
+    private static int deleteOrphanedPosts(SQLiteDatabase db) {
+        return db.delete("tbl_posts", "pseudo_id NOT IN (SELECT DISTINCT pseudo_id FROM tbl_post_tags)", null);
     }
 
     /**
@@ -255,11 +440,13 @@ public class ReaderPostTable {
             if (tag.isBookmarked()) {
                 // delete posts which has a bookmark tag but is_bookmarked flag is false
                 String[] args = {tag.getTagSlug(), Integer.toString(tag.tagType.toInt())};
-                numDeleted += ReaderDatabase.getWritableDb()
-                                            .delete("tbl_posts", "tag_name=? AND tag_type=? AND is_bookmarked=0", args);
+                numDeleted += ReaderDatabase.getWritableDb().delete("tbl_post_tags",
+                        "tag_name=? AND tag_type=?"
+                        + " AND pseudo_id IN (SELECT pseudo_id FROM tbl_posts WHERE is_bookmarked=0)", args);
             }
         }
         if (numDeleted > 0) {
+            deleteOrphanedPosts(ReaderDatabase.getWritableDb());
             EventBus.getDefault().post(ReaderPostTableActionEnded.INSTANCE);
         }
         return numDeleted;
@@ -270,7 +457,7 @@ public class ReaderPostTable {
      */
     private static final int MAX_POSTS_PER_TAG = ReaderConstants.READER_MAX_POSTS_TO_DISPLAY;
 
-    private static int purgePostsForTag(SQLiteDatabase db, ReaderTag tag) {
+    protected static int purgePostsForTag(SQLiteDatabase db, ReaderTag tag) {
         int numPosts = getNumPostsWithTag(tag);
         if (numPosts <= MAX_POSTS_PER_TAG) {
             return 0;
@@ -278,9 +465,10 @@ public class ReaderPostTable {
         String tagName = tag.getTagSlug();
         String tagType = Integer.toString(tag.tagType.toInt());
         String[] args = {tagName, tagType, tagName, tagType, Integer.toString(MAX_POSTS_PER_TAG)};
-        String where = "tag_name=? AND tag_type=? AND pseudo_id NOT IN (SELECT DISTINCT pseudo_id FROM tbl_posts WHERE "
-                       + "tag_name=? AND tag_type=? ORDER BY " + getSortColumnForTag(tag) + " DESC LIMIT ?)";
-        int numDeleted = db.delete("tbl_posts", where, args);
+        String where = "tag_name=? AND tag_type=? AND pseudo_id NOT IN (SELECT DISTINCT t.pseudo_id"
+                       + FROM_POSTS_WITH_TAGS + " WHERE t.tag_name=? AND t.tag_type=?"
+                       + " ORDER BY " + getSortColumnForTag(tag) + " DESC LIMIT ?)";
+        int numDeleted = db.delete("tbl_post_tags", where, args);
         AppLog.d(AppLog.T.READER,
                 String.format(Locale.ENGLISH, "reader post table > purged %d posts in tag %s", numDeleted,
                         tag.getTagNameForLog()));
@@ -290,9 +478,106 @@ public class ReaderPostTable {
     /*
      * purge all posts that were retained from previous searches
      */
-    private static int purgeSearchResults(SQLiteDatabase db) {
+    protected static int purgeSearchResults(SQLiteDatabase db, int limit) {
         String[] args = {Integer.toString(ReaderTagType.SEARCH.toInt())};
-        return db.delete("tbl_posts", "tag_type=?", args);
+        return ReaderDatabase.deleteInBatch(db, "tbl_post_tags", "tag_type=?", args, limit);
+    }
+
+    /*
+     * adds cached posts which match the passed query to the passed search stream so they can be shown
+     * while the server search runs, using their rank as their search score - returns the number added
+     */
+    public static int addLocalSearchResults(@NonNull ReaderTag searchTag, @NonNull String query) {
+        List<String> terms = ReaderSearchUtils.getSearchTerms(query);
+        if (terms.isEmpty()) {
+            return 0;
+        }
+
+        SQLiteDatabase db = ReaderDatabase.getWritableDb();
+        Map<String, Double> results = searchPosts(db, terms, ReaderConstants.READER_MAX_SEARCH_RESULTS_TO_REQUEST);
+        if (results.isEmpty()) {
+            return 0;
+        }
+
+        SQLiteStatement stmt = db.compileStatement(
+                "INSERT OR IGNORE INTO tbl_post_tags (pseudo_id, tag_name, tag_type, score) VALUES (?1,?2,?3,?4)");
+        db.beginTransaction();
+        try {
+            for (Map.Entry<String, Double> result : results.entrySet()) {
+                stmt.bindString(1, result.getKey());
+                stmt.bindString(2, searchTag.getTagSlug());
+                stmt.bindLong(3, searchTag.tagType.toInt());
+                stmt.bindDouble(4, result.getValue());
+                stmt.execute();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+            SqlUtils.closeStatement(stmt);
+        }
+
+        AppLog.d(AppLog.T.READER, String.format(Locale.ENGLISH,
+                "reader post table > %d cached posts match search", results.size()));
+        return results.size();
+    }
+
+    /*
+     * returns the pseudo ids and ranks of the cached posts which contain words starting with all the
+     * passed terms, best match first. the rank of each post is the sum of its hits in each indexed
+     * column weighted by SEARCH_COLUMN_WEIGHTS, relative to the number of hits in all posts, so
+     * matches on terms which are rare in the cache count for more
+     */
+    @NonNull
+    private static Map<String, Double> searchPosts(SQLiteDatabase db, @NonNull List<String> terms, int maxResults) {
+        StringBuilder match = new StringBuilder();
+        for (String term : terms) {
+            if (match.length() > 0) {
+                match.append(' ');
+            }
+            match.append('"').append(term).append("*\"");
+        }
+
+        String sql = "SELECT p.pseudo_id, matchinfo(tbl_posts_fts, 'pcx')"
+                     + " FROM tbl_posts_fts INNER JOIN tbl_posts p ON p.rowid = tbl_posts_fts.docid"
+                     + " WHERE tbl_posts_fts MATCH ?";
+        List<Pair<String, Double>> ranked = new ArrayList<>();
+        Cursor c = db.rawQuery(sql, new String[]{match.toString()});
+        try {
+            while (c.moveToNext()) {
+                ranked.add(new Pair<>(c.getString(0), getSearchRank(c.getBlob(1))));
+            }
+        } finally {
+            SqlUtils.closeCursor(c);
+        }
+
+        Collections.sort(ranked, (result1, result2) -> Double.compare(result2.second, result1.second));
+        Map<String, Double> results = new LinkedHashMap<>();
+        for (int i = 0; i < ranked.size() && i < maxResults; i++) {
+            results.put(ranked.get(i).first, ranked.get(i).second);
+        }
+        return results;
+    }
+
+    /*
+     * matchinfo 'pcx' is the number of phrases and columns followed by three values for each phrase and
+     * column - the hits in this row, the hits in all rows, and the number of rows with hits
+     */
+    private static double getSearchRank(@NonNull byte[] matchInfo) {
+        IntBuffer info = ByteBuffer.wrap(matchInfo).order(ByteOrder.nativeOrder()).asIntBuffer();
+        int numPhrases = info.get(0);
+        int numColumns = info.get(1);
+        double rank = 0;
+        for (int phrase = 0; phrase < numPhrases; phrase++) {
+            for (int column = 0; column < numColumns && column < SEARCH_COLUMN_WEIGHTS.length; column++) {
+                int index = 2 + 3 * (phrase * numColumns + column);
+                int hitsInRow = info.get(index);
+                int hitsInAllRows = info.get(index + 1);
+                if (hitsInRow > 0) {
+                    rank += SEARCH_COLUMN_WEIGHTS[column] * hitsInRow / hitsInAllRows;
+                }
+            }
+        }
+        return rank;
     }
 
     public static int getNumPostsInBlog(long blogId) {
@@ -300,7 +585,7 @@ public class ReaderPostTable {
             return 0;
         }
         return SqlUtils.intForQuery(ReaderDatabase.getReadableDb(),
-                "SELECT count(*) FROM tbl_posts WHERE blog_id=? AND tag_name='' AND tag_type=0",
+                "SELECT count(*)" + FROM_POSTS_WITH_TAGS + " WHERE p.blog_id=? AND t.tag_name='' AND t.tag_type=0",
                 new String[]{Long.toString(blogId)});
     }
 
@@ -309,7 +594,7 @@ public class ReaderPostTable {
             return 0;
         }
         return SqlUtils.intForQuery(ReaderDatabase.getReadableDb(),
-                "SELECT count(*) FROM tbl_posts WHERE feed_id=? AND tag_name='' AND tag_type=0",
+                "SELECT count(*)" + FROM_POSTS_WITH_TAGS + " WHERE p.feed_id=? AND t.tag_name='' AND t.tag_type=0",
                 new String[]{Long.toString(feedId)});
     }
 
@@ -319,26 +604,13 @@ public class ReaderPostTable {
         }
         String[] args = {tag.getTagSlug(), Integer.toString(tag.tagType.toInt())};
         return SqlUtils.intForQuery(ReaderDatabase.getReadableDb(),
-                "SELECT count(*) FROM tbl_posts WHERE tag_name=? AND tag_type=?",
+                "SELECT count(*) FROM tbl_post_tags WHERE tag_name=? AND tag_type=?",
                 args);
     }
 
     public static void updatePost(@NonNull ReaderPost post) {
-        // we need to update a few important fields across all instances of this post - this is
-        // necessary because a post can exist multiple times in the table with different tags
-        ContentValues values = new ContentValues();
-        values.put("title", post.getTitle());
-        values.put("text", post.getText());
-        values.put("excerpt", post.getExcerpt());
-        values.put("num_replies", post.numReplies);
-        values.put("num_likes", post.numLikes);
-        values.put("is_liked", post.isLikedByCurrentUser);
-        values.put("is_followed", post.isFollowedByCurrentUser);
-        values.put("is_comments_open", post.isCommentsOpen);
-        values.put("use_excerpt", post.useExcerpt);
-        ReaderDatabase.getWritableDb().update(
-                "tbl_posts", values, "pseudo_id=?", new String[]{post.getPseudoId()});
-
+        // the post's content is stored once regardless of how many streams it appears in, so
+        // replacing it updates every instance of the post
         ReaderPostList posts = new ReaderPostList();
         posts.add(post);
         addOrUpdatePosts(null, posts);
@@ -370,8 +642,8 @@ public class ReaderPostTable {
 
     @Nullable
     private static ReaderPost getPost(String where, String[] args, boolean excludeTextColumn) {
-        String columns = (excludeTextColumn ? COLUMN_NAMES_NO_TEXT : "*");
-        String sql = "SELECT " + columns + " FROM tbl_posts WHERE " + where + " LIMIT 1";
+        String columns = (excludeTextColumn ? COLUMN_NAMES_NO_TEXT : "p.*");
+        String sql = "SELECT " + columns + " FROM tbl_posts p WHERE " + where + " LIMIT 1";
 
         Cursor c = ReaderDatabase.getReadableDb().rawQuery(sql, args);
         try {
@@ -405,45 +677,79 @@ public class ReaderPostTable {
                 args);
     }
 
-    private static boolean postExistsForReaderTag(long blogId, long postId, ReaderTag readerTag) {
-        String[] args = {Long.toString(blogId), Long.toString(postId), readerTag.getTagSlug(),
-                Integer.toString(readerTag.tagType.toInt())};
-        return SqlUtils.boolForQuery(ReaderDatabase.getReadableDb(),
-                "SELECT 1 FROM tbl_posts WHERE blog_id=? AND post_id=? AND tag_name=? AND tag_type=?",
-                args);
-    }
-
     /*
-     * returns whether any of the passed posts are new or changed - used after posts are retrieved
+     * compares the passed posts (typically a page of posts from the server) with the stored ones
+     * using a single query per batch of posts - the stored fingerprint of each post is compared
+     * with the fingerprint of the passed post, and each post is checked for whether it already
+     * exists in the stream (tag, or blog/feed when tag is null) being updated
      */
-    public static ReaderActions.UpdateResult comparePosts(ReaderPostList posts) {
+    private static final int MAX_POSTS_PER_CHANGES_QUERY = 400;
+
+    @NonNull
+    public static ReaderPostChanges getPostChanges(@Nullable ReaderPostList posts, @Nullable ReaderTag tag) {
+        ReaderPostChanges changes = new ReaderPostChanges();
         if (posts == null || posts.size() == 0) {
-            return ReaderActions.UpdateResult.UNCHANGED;
+            return changes;
         }
 
-        boolean hasChanges = false;
-        for (ReaderPost post : posts) {
-            ReaderPost existingPost = getBlogPost(post.blogId, post.postId, true);
-            if (existingPost == null) {
-                return ReaderActions.UpdateResult.HAS_NEW;
-            } else if (!hasChanges && !post.isSamePost(existingPost)) {
-                hasChanges = true;
-            }
-        }
+        String tagName = (tag != null ? tag.getTagSlug() : "");
+        String tagType = Integer.toString(tag != null ? tag.tagType.toInt() : 0);
 
-        return (hasChanges ? ReaderActions.UpdateResult.CHANGED : ReaderActions.UpdateResult.UNCHANGED);
-    }
+        for (int start = 0; start < posts.size(); start += MAX_POSTS_PER_CHANGES_QUERY) {
+            List<ReaderPost> batch = posts.subList(start, Math.min(posts.size(), start + MAX_POSTS_PER_CHANGES_QUERY));
 
-    /*
-     * returns true if any posts in the passed list exist in this list for the given tag
-     */
-    public static boolean hasOverlap(ReaderPostList posts, ReaderTag tag) {
-        for (ReaderPost post : posts) {
-            if (postExistsForReaderTag(post.blogId, post.postId, tag)) {
-                return true;
+            // the query matches on the distinct blog and post ids, which may return a few extra
+            // rows - these are ignored when the results are matched with the passed posts
+            Set<String> blogIds = new HashSet<>();
+            Set<String> postIds = new HashSet<>();
+            for (ReaderPost post : batch) {
+                blogIds.add(Long.toString(post.blogId));
+                postIds.add(Long.toString(post.postId));
+            }
+            List<String> args = new ArrayList<>();
+            args.add(tagName);
+            args.add(tagType);
+            args.addAll(blogIds);
+            args.addAll(postIds);
+
+            String sql = "SELECT p.blog_id, p.post_id, p.fingerprint,"
+                         + " EXISTS (SELECT 1 FROM tbl_post_tags t"
+                         + " WHERE t.pseudo_id=p.pseudo_id AND t.tag_name=? AND t.tag_type=?)"
+                         + " FROM tbl_posts p"
+                         + " WHERE p.blog_id IN (" + TextUtils.join(",", Collections.nCopies(blogIds.size(), "?")) + ")"
+                         + " AND p.post_id IN (" + TextUtils.join(",", Collections.nCopies(postIds.size(), "?")) + ")";
+
+            Map<String, Long> storedFingerprints = new HashMap<>();
+            Set<String> storedInStream = new HashSet<>();
+            Cursor c = ReaderDatabase.getReadableDb().rawQuery(sql, args.toArray(new String[0]));
+            try {
+                while (c.moveToNext()) {
+                    String key = c.getLong(0) + ":" + c.getLong(1);
+                    storedFingerprints.put(key, c.getLong(2));
+                    if (c.getInt(3) != 0) {
+                        storedInStream.add(key);
+                    }
+                }
+            } finally {
+                SqlUtils.closeCursor(c);
+            }
+
+            for (ReaderPost post : batch) {
+                String key = post.blogId + ":" + post.postId;
+                Long fingerprint = storedFingerprints.get(key);
+                ReaderPostChanges.Status status;
+                if (fingerprint == null) {
+                    status = ReaderPostChanges.Status.NEW;
+                } else if (fingerprint != post.getFingerprint()) {
+                    status = ReaderPostChanges.Status.CHANGED;
+                } else {
+                    status = ReaderPostChanges.Status.UNCHANGED;
+                }
+                changes.setStatus(post, status, storedInStream.contains(key));
             }
         }
-        return false;
+
+        return changes;
     }
 
     /*
@@ -467,6 +773,7 @@ public class ReaderPostTable {
     public static void setNumCommentsForPost(long blogId, long postId, int numComments) {
         ContentValues values = new ContentValues();
         values.put("num_replies", numComments);
+        clearFingerprint(values);
 
         update(blogId, postId, values);
     }
@@ -519,6 +826,7 @@ public class ReaderPostTable {
         ContentValues values = new ContentValues();
         values.put("num_likes", numLikes);
         values.put("is_liked", SqlUtils.boolToSql(isLikedByCurrentUser));
+        clearFingerprint(values);
 
         update(post.blogId, post.postId, values);
     }
@@ -536,6 +844,15 @@ public class ReaderPostTable {
         return SqlUtils.boolForQuery(ReaderDatabase.getReadableDb(), sql, null);
     }
 
+    /*
+     * the stored fingerprint covers likes, comments and follow status, so local changes to them
+     * clear it - the post then counts as changed the next time it's retrieved, and is stored again
+     * along with a fingerprint matching what the server returned
+     */
+    private static void clearFingerprint(ContentValues values) {
+        values.put("fingerprint", 0);
+    }
+
     private static void update(long blogId, long postId, ContentValues values) {
         String[] args = {Long.toString(blogId), Long.toString(postId)};
         ReaderDatabase.getWritableDb().update(
@@ -585,33 +902,45 @@ public class ReaderPostTable {
         }
 
         String[] args = {tag.getTagSlug(), Integer.toString(tag.tagType.toInt())};
-        int rowsDeleted = ReaderDatabase.getWritableDb().delete(
-                "tbl_posts",
+        SQLiteDatabase db = ReaderDatabase.getWritableDb();
+        int rowsDeleted = db.delete(
+                "tbl_post_tags",
                 "tag_name=? AND tag_type=?",
                 args);
 
         if (rowsDeleted > 0) {
+            deleteOrphanedPosts(db);
             EventBus.getDefault().post(ReaderPostTableActionEnded.INSTANCE);
         }
         return rowsDeleted;
     }
 
     public static int deletePostsInBlog(long blogId) {
-        String[] args = {Long.toString(blogId)};
-        int rowsDeleted = ReaderDatabase.getWritableDb().delete("tbl_posts", "blog_id = ?", args);
-        if (rowsDeleted > 0) {
-            EventBus.getDefault().post(ReaderPostTableActionEnded.INSTANCE);
-        }
-        return rowsDeleted;
+        return deletePosts("blog_id = ?", new String[]{Long.toString(blogId)});
     }
 
     public static int deletePostsForAuthor(long authorId) {
-        String[] args = {Long.toString(authorId)};
-        int rowsDeleted = ReaderDatabase.getWritableDb().delete("tbl_posts", "author_id = ?", args);
-        if (rowsDeleted > 0) {
-            EventBus.getDefault().post(ReaderPostTableActionEnded.INSTANCE);
+        return deletePosts("author_id = ?", new String[]{Long.toString(authorId)});
+    }
+
+    /*
+     * deletes the matching posts along with all their tags, returns the number of tag rows deleted
+     */
+    private static int deletePosts(@NonNull String where, @NonNull String[] args) {
+        SQLiteDatabase db = ReaderDatabase.getWritableDb();
+        db.beginTransaction();
+        try {
+            int rowsDeleted = db.delete("tbl_post_tags",
+                    "pseudo_id IN (SELECT pseudo_id FROM tbl_posts WHERE " + where + ")", args);
+            db.delete("tbl_posts", where, args);
+            db.setTransactionSuccessful();
+            if (rowsDeleted > 0) {
+                EventBus.getDefault().post(ReaderPostTableActionEnded.INSTANCE);
+            }
+            return rowsDeleted;
+        } finally {
+            db.endTransaction();
         }
-        return rowsDeleted;
     }
 
     /*
@@ -620,7 +949,7 @@ public class ReaderPostTable {
      */
     public static void updateFollowedStatus() {
         SQLiteStatement statement = ReaderDatabase.getWritableDb().compileStatement(
-                "UPDATE tbl_posts SET is_followed = 0"
+                "UPDATE tbl_posts SET is_followed = 0, fingerprint = 0"
                 + " WHERE is_followed != 0"
                 + " AND blog_id NOT IN (SELECT DISTINCT blog_id FROM tbl_blog_info WHERE is_followed != 0)");
         try {
@@ -645,8 +974,8 @@ public class ReaderPostTable {
 
         // date field depends on the tag
         String dateColumn = getSortColumnForTag(tag);
-        String sql = "SELECT " + dateColumn + " FROM tbl_posts"
-                     + " WHERE tag_name=? AND tag_type=?"
+        String sql = "SELECT " + dateColumn + FROM_POSTS_WITH_TAGS
+                     + " WHERE t.tag_name=? AND t.tag_type=?"
                      + " ORDER BY " + dateColumn + " LIMIT 1";
         String[] args = {tag.getTagSlug(), Integer.toString(tag.tagType.toInt())};
         return SqlUtils.stringForQuery(ReaderDatabase.getReadableDb(), sql, args);
@@ -656,16 +985,16 @@ public class ReaderPostTable {
      * returns the iso8601 pub date of the oldest post in the passed blog
      */
     public static String getOldestPubDateInBlog(long blogId) {
-        String sql = "SELECT date_published FROM tbl_posts"
-                     + " WHERE blog_id=? AND tag_name='' AND tag_type=0"
-                     + " ORDER BY date_published LIMIT 1";
+        String sql = "SELECT p.date_published" + FROM_POSTS_WITH_TAGS
+                     + " WHERE p.blog_id=? AND t.tag_name='' AND t.tag_type=0"
+                     + " ORDER BY p.date_published LIMIT 1";
         return SqlUtils.stringForQuery(ReaderDatabase.getReadableDb(), sql, new String[]{Long.toString(blogId)});
     }
 
     public static String getOldestPubDateInFeed(long feedId) {
-        String sql = "SELECT date_published FROM tbl_posts"
-                     + " WHERE feed_id=? AND tag_name='' AND tag_type=0"
-                     + " ORDER BY date_published LIMIT 1";
+        String sql = "SELECT p.date_published" + FROM_POSTS_WITH_TAGS
+                     + " WHERE p.feed_id=? AND t.tag_name='' AND t.tag_type=0"
+                     + " ORDER BY p.date_published LIMIT 1";
         return SqlUtils.stringForQuery(ReaderDatabase.getReadableDb(), sql, new String[]{Long.toString(feedId)});
     }
 
@@ -675,7 +1004,7 @@ public class ReaderPostTable {
         }
 
         String[] args = {tag.getTagSlug(), Integer.toString(tag.tagType.toInt())};
-        String sql = "UPDATE tbl_posts SET has_gap_marker=0 WHERE has_gap_marker!=0 AND tag_name=? AND tag_type=?";
+        String sql = "UPDATE tbl_post_tags SET has_gap_marker=0 WHERE has_gap_marker!=0 AND tag_name=? AND tag_type=?";
         ReaderDatabase.getWritableDb().execSQL(sql, args);
         EventBus.getDefault().post(ReaderPostTableActionEnded.INSTANCE);
     }
@@ -689,7 +1018,8 @@ public class ReaderPostTable {
         }
 
         String[] args = {tag.getTagSlug(), Integer.toString(tag.tagType.toInt())};
-        String sql = "SELECT blog_id, post_id FROM tbl_posts WHERE has_gap_marker!=0 AND tag_name=? AND tag_type=?";
+        String sql = "SELECT p.blog_id, p.post_id" + FROM_POSTS_WITH_TAGS
+                     + " WHERE t.has_gap_marker!=0 AND t.tag_name=? AND t.tag_type=?";
         Cursor cursor = ReaderDatabase.getReadableDb().rawQuery(sql, args);
         try {
             if (cursor.moveToFirst()) {
@@ -710,13 +1040,13 @@ public class ReaderPostTable {
         }
 
         String[] args = {
-                Long.toString(blogId),
-                Long.toString(postId),
                 tag.getTagSlug(),
-                Integer.toString(tag.tagType.toInt())
+                Integer.toString(tag.tagType.toInt()),
+                Long.toString(blogId),
+                Long.toString(postId)
         };
-        String sql =
-                "UPDATE tbl_posts SET has_gap_marker=1 WHERE blog_id=? AND post_id=? AND tag_name=? AND tag_type=?";
+        String sql = "UPDATE tbl_post_tags SET has_gap_marker=1 WHERE tag_name=? AND tag_type=?"
+                     + " AND pseudo_id IN (SELECT pseudo_id FROM tbl_posts WHERE blog_id=? AND post_id=?)";
         ReaderDatabase.getWritableDb().execSQL(sql, args);
         EventBus.getDefault().post(ReaderPostTableActionEnded.INSTANCE);
     }
@@ -728,8 +1058,14 @@ public class ReaderPostTable {
         }
 
         String dateColumn = getSortColumnForTag(tag);
-        String[] args = {Long.toString(ids.getBlogId()), Long.toString(ids.getPostId())};
-        String sql = "SELECT " + dateColumn + " FROM tbl_posts WHERE blog_id=? AND post_id=?";
+        String[] args = {
+                Long.toString(ids.getBlogId()),
+                Long.toString(ids.getPostId()),
+                tag.getTagSlug(),
+                Integer.toString(tag.tagType.toInt())
+        };
+        String sql = "SELECT " + dateColumn + FROM_POSTS_WITH_TAGS
+                     + " WHERE p.blog_id=? AND p.post_id=? AND t.tag_name=? AND t.tag_type=?";
         return SqlUtils.stringForQuery(ReaderDatabase.getReadableDb(), sql, args);
     }
 
@@ -740,25 +1076,27 @@ public class ReaderPostTable {
      * followed posts sort by the date the post was published
      * search results sort by score
      * tagged posts sort by the date the post was tagged
+     *
+     * the returned column is qualified for queries which join tbl_post_tags (t) with tbl_posts (p)
      */
     private static String getSortColumnForTag(ReaderTag tag) {
         if (tag.isPostsILike()) {
-            return "date_liked";
+            return "t.date_liked";
         } else if (tag.isFollowedSites()) {
-            return "date_published";
+            return "p.date_published";
         } else if (tag.tagType == ReaderTagType.SEARCH) {
-            return "score";
+            return "t.score";
         } else if (tag.isTagTopic() || tag.isBookmarked()) {
-            return "date_tagged";
+            return "t.date_tagged";
         } else {
-            return "date_published";
+            return "p.date_published";
         }
     }
 
     /*
      * delete posts with the passed tag that come before the one with the gap marker for
-     * this tag - note this may leave some stray posts in tbl_posts, but these will
-     * be cleaned up by the next purge
+     * this tag - note this may leave some stray posts in tbl_posts which no longer belong
+     * to any tag, but these will be cleaned up by the next purge
      */
     public static void deletePostsBeforeGapMarkerForTag(ReaderTag tag) {
         String gapMarkerDate = getGapMarkerDateForTag(tag);
@@ -767,9 +1105,12 @@ public class ReaderPostTable {
         }
 
         String dateColumn = getSortColumnForTag(tag);
-        String[] args = {tag.getTagSlug(), Integer.toString(tag.tagType.toInt()), gapMarkerDate};
-        String where = "tag_name=? AND tag_type=? AND " + dateColumn + " < ?";
-        int numDeleted = ReaderDatabase.getWritableDb().delete("tbl_posts", where, args);
+        String tagName = tag.getTagSlug();
+        String tagType = Integer.toString(tag.tagType.toInt());
+        String[] args = {tagName, tagType, tagName, tagType, gapMarkerDate};
+        String where = "tag_name=? AND tag_type=? AND pseudo_id IN (SELECT t.pseudo_id" + FROM_POSTS_WITH_TAGS
+                       + " WHERE t.tag_name=? AND t.tag_type=? AND " + dateColumn + " < ?)";
+        int numDeleted = ReaderDatabase.getWritableDb().delete("tbl_post_tags", where, args);
         if (numDeleted > 0) {
             AppLog.d(AppLog.T.READER, "removed " + numDeleted + " posts older than gap marker");
             EventBus.getDefault().post(ReaderPostTableActionEnded.INSTANCE);
@@ -794,11 +1135,11 @@ public class ReaderPostTable {
         try {
             if (blogId != 0) {
                 String sql = "UPDATE tbl_posts SET is_followed=" + SqlUtils.boolToSql(isFollowed)
-                             + " WHERE blog_id=?";
+                             + ", fingerprint=0 WHERE blog_id=?";
                 db.execSQL(sql, new String[]{Long.toString(blogId)});
             } else {
                 String sql = "UPDATE tbl_posts SET is_followed=" + SqlUtils.boolToSql(isFollowed)
-                             + " WHERE feed_id=?";
+                             + ", fingerprint=0 WHERE feed_id=?";
                 db.execSQL(sql, new String[]{Long.toString(feedId)});
             }
 
@@ -806,14 +1147,17 @@ public class ReaderPostTable {
             // if blog/feed is no longer followed, remove its posts tagged with "Followed Sites" or "P2"
             if (!isFollowed) {
                 if (blogId != 0) {
-                    db.delete("tbl_posts", "blog_id=? AND (tag_name=? OR tag_name=?)",
-                            new String[]{Long.toString(blogId), ReaderTag.TAG_TITLE_FOLLOWED_SITES,
-                                    ReaderTag.TAG_SLUG_P2});
+                    db.delete("tbl_post_tags", "(tag_name=? OR tag_name=?)"
+                                               + " AND pseudo_id IN (SELECT pseudo_id FROM tbl_posts WHERE blog_id=?)",
+                            new String[]{ReaderTag.TAG_TITLE_FOLLOWED_SITES, ReaderTag.TAG_SLUG_P2,
+                                    Long.toString(blogId)});
                 } else {
-                    db.delete("tbl_posts", "feed_id=? AND (tag_name=? OR tag_name=?)",
-                            new String[]{Long.toString(feedId), ReaderTag.TAG_TITLE_FOLLOWED_SITES,
-                                    ReaderTag.TAG_SLUG_P2});
+                    db.delete("tbl_post_tags", "(tag_name=? OR tag_name=?)"
+                                               + " AND pseudo_id IN (SELECT pseudo_id FROM tbl_posts WHERE feed_id=?)",
+                            new String[]{ReaderTag.TAG_TITLE_FOLLOWED_SITES, ReaderTag.TAG_SLUG_P2,
+                                    Long.toString(feedId)});
                 }
+                deleteOrphanedPosts(db);
             }
 
             db.setTransactionSuccessful();
@@ -852,6 +1196,16 @@ public class ReaderPostTable {
     }
 
     public static void addOrUpdatePosts(final ReaderTag tag, ReaderPostList posts) {
+        addOrUpdatePosts(tag, posts, null);
+    }
+
+    /*
+     * when changes are passed, the content of posts which are unchanged since they were stored isn't
+     * rewritten (it's only inserted if it no longer exists) - their stream membership is still updated
+     */
+    public static void addOrUpdatePosts(final ReaderTag tag,
+                                        ReaderPostList posts,
+                                        @Nullable ReaderPostChanges changes) {
         if (posts == null || posts.size() == 0) {
             return;
         }
@@ -859,12 +1213,20 @@ public class ReaderPostTable {
         updateIsBookmarkedField(posts);
 
         SQLiteDatabase db = ReaderDatabase.getWritableDb();
+        String postValues = ") VALUES (?1,?2,?3,?4,?5,?6,?7,?8,?9,?10,?11,?12,?13,?14,?15,?16,?17,?18,?19,?20,?21,?22,"
+                            + "?23,?24,?25,?26,?27,?28,?29,?30,?31,?32,?33,?34,?35,?36,?37,?38,?39,?40,?41,?42,?43,?44,"
+                            + "?45,?46,?47,?48,?49)";
         SQLiteStatement stmtPosts = db.compileStatement(
-                "INSERT OR REPLACE INTO tbl_posts ("
-                + COLUMN_NAMES
-                + ") VALUES (?1,?2,?3,?4,?5,?6,?7,?8,?9,?10,?11,?12,?13,?14,?15,?16,?17,?18,?19,?20,?21,?22,?23,?24,"
-                + "?25,?26,?27,?28,?29,?30,?31,?32,?33,?34,?35,?36,?37,?38,?39,?40,?41,?42,?43,?44, ?45, ?46, ?47,"
-                + "?48,?49,?50,?51,?52,?53)");
+                "INSERT OR REPLACE INTO tbl_posts (" + COLUMN_NAMES + postValues);
+        SQLiteStatement stmtUnchangedPosts = db.compileStatement(
+                "INSERT OR IGNORE INTO tbl_posts (" + COLUMN_NAMES + postValues);
+        // the row a post replaces doesn't fire the delete trigger, so it's removed from the index here
+        SQLiteStatement stmtUnindexPost = db.compileStatement(
+                "DELETE FROM tbl_posts_fts WHERE docid = (SELECT rowid FROM tbl_posts WHERE pseudo_id=?1)");
+        SQLiteStatement stmtTags = db.compileStatement(
+                "INSERT OR REPLACE INTO tbl_post_tags ("
+                + TAG_COLUMN_NAMES
+                + ") VALUES (?1,?2,?3,?4,?5,?6,?7)");
 
         db.beginTransaction();
         try {
@@ -881,60 +1243,25 @@ public class ReaderPostTable {
                 // keep the gapMarker flag
                 boolean hasGapMarker = postWithGapMarker != null && postWithGapMarker.getPostId() == post.postId
                                        && postWithGapMarker.getBlogId() == post.blogId;
-                stmtPosts.bindLong(1, post.postId);
-                stmtPosts.bindLong(2, post.blogId);
-                stmtPosts.bindLong(3, post.feedId);
-                stmtPosts.bindLong(4, post.feedItemId);
-                stmtPosts.bindString(5, post.getPseudoId());
-                stmtPosts.bindString(6, post.getAuthorName());
-                stmtPosts.bindString(7, post.getAuthorFirstName());
-                stmtPosts.bindLong(8, post.authorId);
-                stmtPosts.bindString(9, post.getTitle());
-                stmtPosts.bindString(10, maxText(post));
-                stmtPosts.bindString(11, post.getExcerpt());
-                stmtPosts.bindString(12, post.getFormat());
-                stmtPosts.bindString(13, post.getUrl());
-                stmtPosts.bindString(14, post.getShortUrl());
-                stmtPosts.bindString(15, post.getBlogName());
-                stmtPosts.bindString(16, post.getBlogUrl());
-                stmtPosts.bindString(17, post.getBlogImageUrl());
-                stmtPosts.bindString(18, post.getFeaturedImage());
-                stmtPosts.bindString(19, post.getFeaturedVideo());
-                stmtPosts.bindString(20, post.getPostAvatar());
-                stmtPosts.bindDouble(21, post.score);
-                stmtPosts.bindString(22, post.getDatePublished());
-                stmtPosts.bindString(23, post.getDateLiked());
-                stmtPosts.bindString(24, post.getDateTagged());
-                stmtPosts.bindLong(25, post.numReplies);
-                stmtPosts.bindLong(26, post.numLikes);
-                stmtPosts.bindLong(27, SqlUtils.boolToSql(post.isLikedByCurrentUser));
-                stmtPosts.bindLong(28, SqlUtils.boolToSql(post.isFollowedByCurrentUser));
-                stmtPosts.bindLong(29, SqlUtils.boolToSql(post.isCommentsOpen));
-                stmtPosts.bindLong(30, SqlUtils.boolToSql(post.isExternal));
-                stmtPosts.bindLong(31, SqlUtils.boolToSql(post.isPrivate));
-                stmtPosts.bindLong(32, SqlUtils.boolToSql(post.isVideoPress));
-                stmtPosts.bindLong(33, SqlUtils.boolToSql(post.isJetpack));
-                stmtPosts.bindString(34, post.getPrimaryTag());
-                stmtPosts.bindString(35, post.getSecondaryTag());
-                stmtPosts.bindString(36, post.getAttachmentsJson());
-                stmtPosts.bindString(37, post.getDiscoverJson());
-                stmtPosts.bindLong(38, post.xpostPostId);
-                stmtPosts.bindLong(39, post.xpostBlogId);
-                stmtPosts.bindString(40, post.getRailcarJson());
-                stmtPosts.bindString(41, tagName);
-                stmtPosts.bindLong(42, tagType);
-                stmtPosts.bindLong(43, SqlUtils.boolToSql(hasGapMarker));
-                stmtPosts.bindString(44, ReaderCardType.toString(post.getCardType()));
-                stmtPosts.bindLong(45, SqlUtils.boolToSql(post.useExcerpt));
-                stmtPosts.bindLong(46, SqlUtils.boolToSql(post.isBookmarked));
-                stmtPosts.bindLong(47, SqlUtils.boolToSql(post.isPrivateAtomic));
-                stmtPosts.bindString(48, ReaderUtils.getCommaSeparatedTagSlugs(post.getTags()));
-                stmtPosts.bindLong(49, post.organizationId);
-                stmtPosts.bindLong(50, SqlUtils.boolToSql(post.isSeen));
-                stmtPosts.bindLong(51, SqlUtils.boolToSql(post.isSeenSupported));
-                stmtPosts.bindLong(52, post.authorBlogId);
-                stmtPosts.bindString(53, post.getAuthorBlogUrl());
-                stmtPosts.execute();
+
+                if (changes != null && changes.isUnchanged(post)) {
+                    bindPost(stmtUnchangedPosts, post);
+                    stmtUnchangedPosts.execute();
+                } else {
+                    stmtUnindexPost.bindString(1, post.getPseudoId());
+                    stmtUnindexPost.execute();
+                    bindPost(stmtPosts, post);
+                    stmtPosts.execute();
+                }
+
+                stmtTags.bindString(1, post.getPseudoId());
+                stmtTags.bindString(2, tagName);
+                stmtTags.bindLong(3, tagType);
+                stmtTags.bindLong(4, SqlUtils.boolToSql(hasGapMarker));
+                stmtTags.bindDouble(5, post.score);
+                stmtTags.bindString(6, post.getDateLiked());
+                stmtTags.bindString(7, post.getDateTagged());
+                stmtTags.execute();
             }
 
             db.setTransactionSuccessful();
@@ -942,24 +1269,79 @@ public class ReaderPostTable {
         } finally {
             db.endTransaction();
             SqlUtils.closeStatement(stmtPosts);
+            SqlUtils.closeStatement(stmtUnchangedPosts);
+            SqlUtils.closeStatement(stmtUnindexPost);
+            SqlUtils.closeStatement(stmtTags);
         }
     }
 
+    private static void bindPost(@NonNull SQLiteStatement stmt, @NonNull ReaderPost post) {
+        stmt.bindLong(1, post.postId);
+        stmt.bindLong(2, post.blogId);
+        stmt.bindLong(3, post.feedId);
+        stmt.bindLong(4, post.feedItemId);
+        stmt.bindString(5, post.getPseudoId());
+        stmt.bindString(6, post.getAuthorName());
+        stmt.bindString(7, post.getAuthorFirstName());
+        stmt.bindLong(8, post.authorId);
+        stmt.bindString(9, post.getTitle());
+        stmt.bindString(10, maxText(post));
+        stmt.bindString(11, post.getExcerpt());
+        stmt.bindString(12, post.getFormat());
+        stmt.bindString(13, post.getUrl());
+        stmt.bindString(14, post.getShortUrl());
+        stmt.bindString(15, post.getBlogName());
+        stmt.bindString(16, post.getBlogUrl());
+        stmt.bindString(17, post.getBlogImageUrl());
+        stmt.bindString(18, post.getFeaturedImage());
+        stmt.bindString(19, post.getFeaturedVideo());
+        stmt.bindString(20, post.getPostAvatar());
+        stmt.bindString(21, post.getDatePublished());
+        stmt.bindLong(22, post.numReplies);
+        stmt.bindLong(23, post.numLikes);
+        stmt.bindLong(24, SqlUtils.boolToSql(post.isLikedByCurrentUser));
+        stmt.bindLong(25, SqlUtils.boolToSql(post.isFollowedByCurrentUser));
+        stmt.bindLong(26, SqlUtils.boolToSql(post.isCommentsOpen));
+        stmt.bindLong(27, SqlUtils.boolToSql(post.isExternal));
+        stmt.bindLong(28, SqlUtils.boolToSql(post.isPrivate));
+        stmt.bindLong(29, SqlUtils.boolToSql(post.isVideoPress));
+        stmt.bindLong(30, SqlUtils.boolToSql(post.isJetpack));
+        stmt.bindString(31, post.getPrimaryTag());
+        stmt.bindString(32, post.getSecondaryTag());
+        stmt.bindString(33, post.getAttachmentsJson());
+        stmt.bindString(34, post.getDiscoverJson());
+        stmt.bindLong(35, post.xpostPostId);
+        stmt.bindLong(36, post.xpostBlogId);
+        stmt.bindString(37, post.getRailcarJson());
+        stmt.bindString(38, ReaderCardType.toString(post.getCardType()));
+        stmt.bindLong(39, SqlUtils.boolToSql(post.useExcerpt));
+        stmt.bindLong(40, SqlUtils.boolToSql(post.isBookmarked));
+        stmt.bindLong(41, SqlUtils.boolToSql(post.isPrivateAtomic));
+        stmt.bindString(42, ReaderUtils.getCommaSeparatedTagSlugs(post.getTags()));
+        stmt.bindLong(43, post.organizationId);
+        stmt.bindLong(44, SqlUtils.boolToSql(post.isSeen));
+        stmt.bindLong(45, SqlUtils.boolToSql(post.isSeenSupported));
+        stmt.bindLong(46, post.authorBlogId);
+        stmt.bindString(47, post.getAuthorBlogUrl());
+        stmt.bindString(48, post.getDateModified());
+        stmt.bindLong(49, post.getFingerprint());
+    }
+
     public static ReaderPostList getPostsWithTag(ReaderTag tag, int maxPosts, boolean excludeTextColumn) {
         if (tag == null) {
             return new ReaderPostList();
         }
 
-        String columns = (excludeTextColumn ? COLUMN_NAMES_NO_TEXT : "*");
-        String sql = "SELECT " + columns + " FROM tbl_posts WHERE tag_name=? AND tag_type=?";
+        String sql = "SELECT " + getColumnsWithTags(excludeTextColumn) + FROM_POSTS_WITH_TAGS
+                     + " WHERE t.tag_name=? AND t.tag_type=?";
 
         if (tag.tagType == ReaderTagType.DEFAULT) {
             // skip posts that are no longer liked if this is "Posts I Like", skip posts that are no
             // longer followed if this is "Followed Sites"
             if (tag.isPostsILike()) {
-                sql += " AND is_liked != 0";
+                sql += " AND p.is_liked != 0";
             } else if (tag.isFollowedSites()) {
-                sql += " AND is_followed != 0";
+                sql += " AND p.is_followed != 0";
             }
         }
 
@@ -979,10 +1361,10 @@ public class ReaderPostTable {
     }
 
     public static ReaderPostList getPostsInBlog(long blogId, int maxPosts, boolean excludeTextColumn) {
-        String columns = (excludeTextColumn ? COLUMN_NAMES_NO_TEXT : "*");
         String sql =
-                "SELECT " + columns + " FROM tbl_posts WHERE blog_id=? AND tag_name='' AND tag_type=0"
-                + " ORDER BY date_published DESC";
+                "SELECT " + getColumnsWithTags(excludeTextColumn) + FROM_POSTS_WITH_TAGS
+                + " WHERE p.blog_id=? AND t.tag_name='' AND t.tag_type=0"
+                + " ORDER BY p.date_published DESC";
 
         if (maxPosts > 0) {
             sql += " LIMIT " + maxPosts;
@@ -997,7 +1379,7 @@ public class ReaderPostTable {
     }
 
     public static Map<Pair<String, ReaderTagType>, ReaderPostList> getTagPostMap(long blogId) {
-        String sql = "SELECT * FROM tbl_posts WHERE blog_id=?";
+        String sql = "SELECT " + getColumnsWithTags(false) + FROM_POSTS_WITH_TAGS + " WHERE p.blog_id=?";
         Cursor cursor = ReaderDatabase.getReadableDb().rawQuery(sql, new String[]{Long.toString(blogId)});
         try {
             return getTagPostMapFromCursor(cursor);
@@ -1007,7 +1389,7 @@ public class ReaderPostTable {
     }
 
     public static Map<Pair<String, ReaderTagType>, ReaderPostList> getAuthorPostMap(long authorId) {
-        String sql = "SELECT * FROM tbl_posts WHERE author_id=?";
+        String sql = "SELECT " + getColumnsWithTags(false) + FROM_POSTS_WITH_TAGS + " WHERE p.author_id=?";
         Cursor cursor = ReaderDatabase.getReadableDb().rawQuery(sql, new String[]{Long.toString(authorId)});
         try {
             return getTagPostMapFromCursor(cursor);
@@ -1017,10 +1399,10 @@ public class ReaderPostTable {
     }
 
     public static ReaderPostList getPostsInFeed(long feedId, int maxPosts, boolean excludeTextColumn) {
-        String columns = (excludeTextColumn ? COLUMN_NAMES_NO_TEXT : "*");
         String sql =
-                "SELECT " + columns + " FROM tbl_posts WHERE feed_id=? AND tag_name='' AND tag_type=0"
-                + " ORDER BY date_published DESC";
+                "SELECT " + getColumnsWithTags(excludeTextColumn) + FROM_POSTS_WITH_TAGS
+                + " WHERE p.feed_id=? AND t.tag_name='' AND t.tag_type=0"
+                + " ORDER BY p.date_published DESC";
 
         if (maxPosts > 0) {
             sql += " LIMIT " + maxPosts;
@@ -1042,13 +1424,13 @@ public class ReaderPostTable {
             return new ReaderBlogIdPostIdList();
         }
 
-        String sql = "SELECT blog_id, post_id FROM tbl_posts WHERE tag_name=? AND tag_type=?";
+        String sql = "SELECT p.blog_id, p.post_id" + FROM_POSTS_WITH_TAGS + " WHERE t.tag_name=? AND t.tag_type=?";
 
         if (tag.tagType == ReaderTagType.DEFAULT) {
             if (tag.isPostsILike()) {
-                sql += " AND is_liked != 0";
+                sql += " AND p.is_liked != 0";
             } else if (tag.isFollowedSites()) {
-                sql += " AND is_followed != 0";
+                sql += " AND p.is_followed != 0";
             }
         }
 
@@ -1067,7 +1449,7 @@ public class ReaderPostTable {
             return new ReaderBlogIdPostIdList();
         }
 
-        String sql = "SELECT blog_id, post_id FROM tbl_posts WHERE tag_type=?";
+        String sql = "SELECT p.blog_id, p.post_id" + FROM_POSTS_WITH_TAGS + " WHERE t.tag_type=?";
 
         if (maxPosts > 0) {
             sql += " LIMIT " + maxPosts;
@@ -1096,8 +1478,8 @@ public class ReaderPostTable {
      * same as getPostsInBlog() but only returns the blogId/postId pairs
      */
     public static ReaderBlogIdPostIdList getBlogIdPostIdsInBlog(long blogId, int maxPosts) {
-        String sql = "SELECT post_id FROM tbl_posts WHERE blog_id=? AND tag_name='' AND tag_type=0"
-                     + " ORDER BY date_published DESC";
+        String sql = "SELECT p.post_id" + FROM_POSTS_WITH_TAGS + " WHERE p.blog_id=? AND t.tag_name='' AND t.tag_type=0"
+                     + " ORDER BY p.date_published DESC";
 
         if (maxPosts > 0) {
             sql += " LIMIT " + maxPosts;
@@ -1118,6 +1500,13 @@ public class ReaderPostTable {
         }
     }
 
+    /*
+     * returns the columns to select when joining tbl_posts with tbl_post_tags
+     */
+    private static String getColumnsWithTags(boolean excludeTextColumn) {
+        return (excludeTextColumn ? COLUMN_NAMES_NO_TEXT : "p.*") + "," + JOINED_TAG_COLUMN_NAMES;
+    }
+
     private static Pair<String, ReaderTagType> getTagNameAndTypeFromCursor(Cursor c) {
         if (c == null) {
             throw new IllegalArgumentException("getPostFromCursor > null cursor");
@@ -1164,10 +1553,21 @@ public class ReaderPostTable {
         post.setPostAvatar(c.getString(c.getColumnIndexOrThrow("post_avatar")));
 
         post.setDatePublished(c.getString(c.getColumnIndexOrThrow("date_published")));
-        post.setDateLiked(c.getString(c.getColumnIndexOrThrow("date_liked")));
-        post.setDateTagged(c.getString(c.getColumnIndexOrThrow("date_tagged")));
+        post.setDateModified(c.getString(c.getColumnIndexOrThrow("date_modified")));
 
-        post.score = c.getDouble(c.getColumnIndexOrThrow("score"));
+        // stream-specific columns only exist when the post was queried along with its tag
+        int idxDateLiked = c.getColumnIndex("date_liked");
+        if (idxDateLiked > -1) {
+            post.setDateLiked(c.getString(idxDateLiked));
+        }
+        int idxDateTagged = c.getColumnIndex("date_tagged");
+        if (idxDateTagged > -1) {
+            post.setDateTagged(c.getString(idxDateTagged));
+        }
+        int idxScore = c.getColumnIndex("score");
+        if (idxScore > -1) {
+            post.score = c.getDouble(idxScore);
+        }
         post.numReplies = c.getInt(c.getColumnIndexOrThrow("num_replies"));
         post.numLikes = c.getInt(c.getColumnIndexOrThrow("num_likes"));
 
@@ -1276,12 +1676,19 @@ public class ReaderPostTable {
             SQLiteDatabase db = ReaderDatabase.getWritableDb();
             db.beginTransaction();
             try {
-                String sql = "UPDATE tbl_posts SET pseudo_id=? WHERE blog_id=? AND post_id=? AND tag_type=?";
+                // move the bookmark tag over to the post's current pseudo_id, then drop the
+                // content stored under the old pseudo_id if nothing else references it
+                String sql = "UPDATE OR REPLACE tbl_post_tags SET pseudo_id=? WHERE tag_type=? AND pseudo_id IN"
+                             + " (SELECT pseudo_id FROM tbl_posts WHERE blog_id=? AND post_id=? AND pseudo_id!=?)";
                 db.execSQL(sql, new String[]{
                         post.getPseudoId(),
+                        Integer.toString(ReaderTagType.BOOKMARKED.toInt()),
                         Long.toString(post.blogId),
                         Long.toString(post.postId),
-                        Integer.toString(ReaderTagType.BOOKMARKED.toInt())});
+                        post.getPseudoId()});
+                db.delete("tbl_posts", "blog_id=? AND post_id=? AND pseudo_id!=?"
+                                       + " AND pseudo_id NOT IN (SELECT DISTINCT pseudo_id FROM tbl_post_tags)",
+                        new String[]{Long.toString(post.blogId), Long.toString(post.postId), post.getPseudoId()});
                 db.setTransactionSuccessful();
             } finally {
                 db.endTransaction();
@@ -24,8 +24,9 @@ public class ReaderThumbnailTable {
     /*
      * purge table of thumbnails attached to posts that no longer exist
      */
-    protected static int purge(SQLiteDatabase db) {
-        return db.delete("tbl_thumbnails", "post_id NOT IN (SELECT DISTINCT post_id FROM tbl_posts)", null);
+    protected static int purge(SQLiteDatabase db, int limit) {
+        return ReaderDatabase.deleteInBatch(db, "tbl_thumbnails",
+                "post_id NOT IN (SELECT DISTINCT post_id FROM tbl_posts)", null, limit);
     }
 
     public static void addThumbnail(long postId, String fullUrl, String thumbnailUrl) {
@@ -8,6 +8,7 @@ import android.text.TextUtils;
 import android.util.Base64;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -53,6 +54,9 @@ public class Note {
 
     private JSONObject mActions;
     private JSONObject mNoteJSON;
+    private String mRawNoteData;
+    private volatile ListProjection mListProjection;
+    private JSONObject mProjectedSubject;
     private final String mKey;
 
     private final Object mSyncLock = new Object();
@@ -84,8 +88,74 @@ public class Note {
         mKey = mNoteJSON.optString("id", "");
     }
 
+    /**
+     * Creates a note which answers the getters the notifications list uses from the passed projection, and only
+     * parses the passed raw JSON once something else is asked of it - such as when the note is opened
+     */
+    public Note(String key, @NonNull String rawNoteData, @NonNull ListProjection listProjection) {
+        mKey = key;
+        mRawNoteData = rawNoteData;
+        mListProjection = listProjection;
+    }
+
+    /**
+     * The fields of a note shown in the notifications list, extracted from its JSON when it's saved
+     */
+    public static class ListProjection {
+        private final String mType;
+        private final long mTimestamp;
+        private final String mTimestampString;
+        private final boolean mIsUnread;
+        private final String mSubject;
+        private final String mCommentSubject;
+        private final String mCommentSubjectNoticon;
+        private final String mIconUrl;
+        private final String mNoticon;
+        private final long mCommentId;
+        private final long mParentCommentId;
+        private final CommentStatus mCommentStatus;
+        private final String mNoteHash;
+
+        public ListProjection(String type, long timestamp, String timestampString, boolean isUnread,
+                              @Nullable String subject, String commentSubject, String commentSubjectNoticon,
+                              String iconUrl, String noticon, long commentId, long parentCommentId,
+                              CommentStatus commentStatus, String noteHash) {
+            mType = StringUtils.notNullStr(type);
+            mTimestamp = timestamp;
+            mTimestampString = StringUtils.notNullStr(timestampString);
+            mIsUnread = isUnread;
+            mSubject = subject;
+            mCommentSubject = StringUtils.notNullStr(commentSubject);
+            mCommentSubjectNoticon = StringUtils.notNullStr(commentSubjectNoticon);
+            mIconUrl = StringUtils.notNullStr(iconUrl);
+            mNoticon = StringUtils.notNullStr(noticon);
+            mCommentId = commentId;
+            mParentCommentId = parentCommentId;
+            mCommentStatus = commentStatus != null ? commentStatus : CommentStatus.ALL;
+            mNoteHash = StringUtils.notNullStr(noteHash);
+        }
+    }
+
     public JSONObject getJSON() {
-        return mNoteJSON != null ? mNoteJSON : new JSONObject();
+        JSONObject noteJSON = getNoteJSON();
+        return noteJSON != null ? noteJSON : new JSONObject();
+    }
+
+    /*
+     * returns the note's JSON, parsing it first if the note was created from a projection
+     */
+    private JSONObject getNoteJSON() {
+        synchronized (mSyncLock) {
+            if (mNoteJSON == null && mRawNoteData != null) {
+                try {
+                    mNoteJSON = new JSONObject(mRawNoteData);
+                } catch (JSONException e) {
+                    AppLog.e(AppLog.T.NOTIFS, "Can't parse notification with noteId:" + mKey, e);
+                }
+                mRawNoteData = null;
+            }
+            return mNoteJSON;
+        }
     }
 
     public String getId() {
@@ -93,6 +163,10 @@ public class Note {
     }
 
     public String getType() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return listProjection.mType.isEmpty() ? NOTE_UNKNOWN_TYPE : listProjection.mType;
+        }
         return queryJSON("type", NOTE_UNKNOWN_TYPE);
     }
 
@@ -101,10 +175,12 @@ public class Note {
     }
 
     public Boolean isCommentType() {
-        synchronized (mSyncLock) {
-            return (isAutomattcherType() && JSONUtils.queryJSON(mNoteJSON, "meta.ids.comment", -1) != -1)
-                   || isType(NOTE_COMMENT_TYPE);
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return (isAutomattcherType() && listProjection.mCommentId != 0) || isType(NOTE_COMMENT_TYPE);
         }
+        return (isAutomattcherType() && queryJSON("meta.ids.comment", -1) != -1)
+               || isType(NOTE_COMMENT_TYPE);
     }
 
     public Boolean isAutomattcherType() {
@@ -189,9 +265,13 @@ public class Note {
     }
 
     public JSONObject getSubject() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return getProjectedSubject(listProjection);
+        }
         try {
             synchronized (mSyncLock) {
-                JSONArray subjectArray = mNoteJSON.getJSONArray("subject");
+                JSONArray subjectArray = getJSON().getJSONArray("subject");
                 if (subjectArray.length() > 0) {
                     return subjectArray.getJSONObject(0);
                 }
@@ -203,6 +283,25 @@ public class Note {
         return null;
     }
 
+    /*
+     * parses the subject saved with the list projection, once, so binding a list row doesn't parse the whole note
+     */
+    private JSONObject getProjectedSubject(@NonNull ListProjection listProjection) {
+        if (listProjection.mSubject == null) {
+            return null;
+        }
+        synchronized (mSyncLock) {
+            if (mProjectedSubject == null) {
+                try {
+                    mProjectedSubject = new JSONObject(listProjection.mSubject);
+                } catch (JSONException e) {
+                    return null;
+                }
+            }
+            return mProjectedSubject;
+        }
+    }
+
     public Spannable getFormattedSubject(NotificationsUtilsWrapper notificationsUtilsWrapper) {
         return notificationsUtilsWrapper.getSpannableContentForRanges(getSubject());
     }
@@ -212,12 +311,20 @@ public class Note {
     }
 
     public String getIconURL() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return listProjection.mIconUrl;
+        }
         return queryJSON("icon", "");
     }
 
     public String getCommentSubject() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return listProjection.mCommentSubject;
+        }
         synchronized (mSyncLock) {
-            JSONArray subjectArray = mNoteJSON.optJSONArray("subject");
+            JSONArray subjectArray = getJSON().optJSONArray("subject");
             if (subjectArray != null) {
                 String commentSubject = JSONUtils.queryJSON(subjectArray, "subject[1].text", "");
 
@@ -234,6 +341,10 @@ public class Note {
     }
 
     public String getCommentSubjectNoticon() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return listProjection.mCommentSubjectNoticon;
+        }
         JSONArray subjectRanges = queryJSON("subject[0].ranges", new JSONArray());
         if (subjectRanges != null) {
             for (int i = 0; i < subjectRanges.length(); i++) {
@@ -291,14 +402,22 @@ public class Note {
     }
 
     private Boolean isRead() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return !listProjection.mIsUnread;
+        }
         return queryJSON("read", 0) == 1;
     }
 
     public void setRead() {
-        try {
-            mNoteJSON.putOpt("read", 1);
-        } catch (JSONException e) {
-            AppLog.e(AppLog.T.NOTIFS, "Failed to set 'read' property", e);
+        synchronized (mSyncLock) {
+            try {
+                getJSON().putOpt("read", 1);
+            } catch (JSONException e) {
+                AppLog.e(AppLog.T.NOTIFS, "Failed to set 'read' property", e);
+            }
+            // the projection no longer matches the JSON, so answer from the JSON from now on
+            mListProjection = null;
         }
     }
 
@@ -306,17 +425,25 @@ public class Note {
      * Get the timestamp provided by the API for the note
      */
     public long getTimestamp() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return listProjection.mTimestamp;
+        }
         return DateTimeUtils.timestampFromIso8601(getTimestampString());
     }
 
     public String getTimestampString() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return listProjection.mTimestampString;
+        }
         return queryJSON("timestamp", "");
     }
 
     public JSONArray getBody() {
         try {
             synchronized (mSyncLock) {
-                return mNoteJSON.getJSONArray("body");
+                return getJSON().getJSONArray("body");
             }
         } catch (JSONException e) {
             return new JSONArray();
@@ -325,6 +452,10 @@ public class Note {
 
     // returns character code for notification font
     public String getNoticonCharacter() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return listProjection.mNoticon;
+        }
         return queryJSON("noticon", "");
     }
 
@@ -392,10 +523,18 @@ public class Note {
     }
 
     public long getCommentId() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return listProjection.mCommentId;
+        }
         return queryJSON("meta.ids.comment", 0);
     }
 
     public long getParentCommentId() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return listProjection.mParentCommentId;
+        }
         return queryJSON("meta.ids.parent_comment", 0);
     }
 
@@ -404,10 +543,11 @@ public class Note {
      */
     private <U> U queryJSON(String query, U defaultObject) {
         synchronized (mSyncLock) {
-            if (mNoteJSON == null) {
+            JSONObject noteJSON = getNoteJSON();
+            if (noteJSON == null) {
                 return defaultObject;
             }
-            return JSONUtils.queryJSON(mNoteJSON, query, defaultObject);
+            return JSONUtils.queryJSON(noteJSON, query, defaultObject);
         }
     }
 
@@ -470,6 +610,10 @@ public class Note {
     }
 
     public CommentStatus getCommentStatus() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return listProjection.mCommentStatus;
+        }
         EnumSet<EnabledActions> enabledActions = getEnabledActions();
 
         if (enabledActions.contains(EnabledActions.ACTION_UNAPPROVE)) {
@@ -486,13 +630,24 @@ public class Note {
         return !(jsonActions == null || jsonActions.length() == 0) && jsonActions.optBoolean(ACTION_KEY_LIKE);
     }
 
+    /**
+     * Returns the hash the server gives the note, which changes whenever the note does
+     */
+    public String getNoteHash() {
+        ListProjection listProjection = mListProjection;
+        if (listProjection != null) {
+            return listProjection.mNoteHash;
+        }
+        return queryJSON("note_hash", "");
+    }
+
     public String getUrl() {
         return queryJSON("url", "");
     }
 
     public JSONArray getHeader() {
         synchronized (mSyncLock) {
-            return mNoteJSON.optJSONArray("header");
+            return getJSON().optJSONArray("header");
         }
     }
 
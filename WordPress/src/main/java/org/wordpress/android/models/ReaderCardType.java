@@ -37,7 +37,7 @@ public enum ReaderCardType {
         // stream's thumbnail strip, treat it as a gallery
         if (!post.hasFeaturedImage()
             && post.hasImages()
-            && new ReaderImageScanner(post.getText(), post.isPrivate)
+            && new ReaderImageScanner(post.getContentTags(), post.isPrivate)
                     .hasUsableImageCount(ReaderConstants.THUMBNAIL_STRIP_IMG_COUNT,
                             ReaderConstants.MIN_GALLERY_IMAGE_WIDTH)) {
             return GALLERY;
@@ -1,6 +1,8 @@
 package org.wordpress.android.models;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 public class ReaderCommentList extends ArrayList<ReaderComment> {
     public int indexOfCommentId(long commentId) {
@@ -13,15 +15,21 @@ public class ReaderCommentList extends ArrayList<ReaderComment> {
     }
 
     /*
-     * does passed list contain the same comments as this list?
+     * does passed list contain the same comments as this list? comments are matched by id
+     * so this doesn't slow to a crawl comparing every pair in a long thread
      */
     public boolean isSameList(ReaderCommentList comments) {
         if (comments == null || comments.size() != this.size()) {
             return false;
         }
 
+        Map<Long, ReaderComment> commentsById = new HashMap<>(this.size());
+        for (ReaderComment comment : this) {
+            commentsById.put(comment.commentId, comment);
+        }
         for (ReaderComment comment : comments) {
-            if (indexOf(comment) == -1) {
+            ReaderComment thisComment = commentsById.get(comment.commentId);
+            if (thisComment == null || !thisComment.equals(comment)) {
                 return false;
             }
         }
@@ -8,6 +8,7 @@ import org.json.JSONObject;
 import org.wordpress.android.ui.Organization;
 import org.wordpress.android.ui.reader.ReaderConstants;
 import org.wordpress.android.ui.reader.models.ReaderBlogIdPostId;
+import org.wordpress.android.ui.reader.utils.ReaderHtmlTags;
 import org.wordpress.android.ui.reader.utils.ReaderIframeScanner;
 import org.wordpress.android.ui.reader.utils.ReaderImageScanner;
 import org.wordpress.android.ui.reader.utils.ReaderUtils;
@@ -30,6 +31,7 @@ public class ReaderPost {
 
     private String mTitle;
     private String mText;
+    private ReaderHtmlTags mContentTags; // built from mText on first use - see getContentTags()
     private String mExcerpt;
     private String mAuthorName;
     private String mAuthorFirstName;
@@ -45,6 +47,7 @@ public class ReaderPost {
     private String mDateLiked;
     private String mDateTagged;
     private String mDatePublished;
+    private String mDateModified;
     public double score;
 
     private String mUrl;
@@ -138,6 +141,7 @@ public class ReaderPost {
         post.mDatePublished = JSONUtils.getString(json, "date");
         post.mDateLiked = JSONUtils.getString(json, "date_liked");
         post.mDateTagged = JSONUtils.getString(json, "tagged_on");
+        post.mDateModified = JSONUtils.getString(json, "modified");
 
         // "score" only exists for search results
         post.score = json.optDouble("score");
@@ -194,7 +198,7 @@ public class ReaderPost {
         // if the post doesn't have a featured image but it contains an IMG tag, check whether
         // we can find a suitable image from the content
         if (!post.hasFeaturedImage() && post.hasImages()) {
-            post.mFeaturedImage = new ReaderImageScanner(post.mText, post.isPrivate)
+            post.mFeaturedImage = new ReaderImageScanner(post.getContentTags(), post.isPrivate)
                     .getLargestImage(ReaderConstants.MIN_FEATURED_IMAGE_WIDTH);
         }
 
@@ -203,7 +207,7 @@ public class ReaderPost {
         if (!post.hasFeaturedImage()
             && !post.hasFeaturedVideo()
             && post.getText().contains("<iframe")) {
-            post.setFeaturedVideo(new ReaderIframeScanner(post.getText()).getFirstUsableVideo());
+            post.setFeaturedVideo(new ReaderIframeScanner(post.getContentTags()).getFirstUsableVideo());
         }
 
         // "railcar" data - currently used in search streams, used by TrainTracks
@@ -370,6 +374,18 @@ public class ReaderPost {
 
     public void setText(String text) {
         this.mText = StringUtils.notNullStr(text);
+        this.mContentTags = null;
+    }
+
+    /*
+     * returns the img, iframe and embed tags in the post's content - the content is only
+     * scanned the first time this is called
+     */
+    public ReaderHtmlTags getContentTags() {
+        if (mContentTags == null) {
+            mContentTags = ReaderHtmlTags.scan(mText);
+        }
+        return mContentTags;
     }
 
     public String getExcerpt() {
@@ -502,6 +518,14 @@ public class ReaderPost {
         this.mDateTagged = StringUtils.notNullStr(dateStr);
     }
 
+    public String getDateModified() {
+        return StringUtils.notNullStr(mDateModified);
+    }
+
+    public void setDateModified(String dateStr) {
+        this.mDateModified = StringUtils.notNullStr(dateStr);
+    }
+
     public ReaderTagList getTags() {
         return mTags;
     }
@@ -667,6 +691,24 @@ public class ReaderPost {
                && post.getText().equals(this.getText());
     }
 
+    /*
+     * returns a compact hash of the fields which change when a post is edited or interacted with -
+     * stored alongside the post so incoming posts can be checked for changes without loading and
+     * comparing the stored post via isSamePost()
+     */
+    public long getFingerprint() {
+        long hash = getDateModified().hashCode();
+        hash = 31 * hash + numLikes;
+        hash = 31 * hash + numReplies;
+        hash = 31 * hash + (isLikedByCurrentUser ? 1 : 0);
+        hash = 31 * hash + (isFollowedByCurrentUser ? 1 : 0);
+        hash = 31 * hash + (isCommentsOpen ? 1 : 0);
+        hash = 31 * hash + (useExcerpt ? 1 : 0);
+        hash = 31 * hash + getTitle().hashCode();
+        hash = 31 * hash + getExcerpt().hashCode();
+        return hash;
+    }
+
     public boolean hasIds(ReaderBlogIdPostId ids) {
         return ids != null
                && ids.getBlogId() == this.blogId
@@ -0,0 +1,129 @@
+package org.wordpress.android.models;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import androidx.annotation.NonNull;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * reads a page of reader posts (the response from the read/ endpoints) with a pull parser so
+ * the response is never held as a single JSONObject - only the post currently being read is
+ * materialized, after which it's converted with ReaderPost.fromJson() and dropped, which keeps
+ * peak memory close to the size of the resulting ReaderPostList
+ */
+public class ReaderPostStreamParser {
+    private static final String KEY_POSTS = "posts";
+
+    public interface PostCallback {
+        void onPost(@NonNull ReaderPost post);
+    }
+
+    private ReaderPostStreamParser() {
+        throw new AssertionError();
+    }
+
+    @NonNull
+    public static ReaderPostList parse(@NonNull InputStream stream) throws IOException {
+        final ReaderPostList posts = new ReaderPostList();
+        parse(stream, posts::add);
+        return posts;
+    }
+
+    /*
+     * passes each post in the response to the callback as soon as it has been read
+     */
+    public static void parse(@NonNull InputStream stream, @NonNull PostCallback callback) throws IOException {
+        try (JsonReader reader = new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (KEY_POSTS.equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                            callback.onPost(ReaderPost.fromJson(readObject(reader)));
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (JSONException | IllegalStateException | NumberFormatException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @NonNull
+    private static JSONObject readObject(@NonNull JsonReader reader) throws IOException, JSONException {
+        JSONObject json = new JSONObject();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            json.put(reader.nextName(), readValue(reader));
+        }
+        reader.endObject();
+        return json;
+    }
+
+    @NonNull
+    private static JSONArray readArray(@NonNull JsonReader reader) throws IOException, JSONException {
+        JSONArray json = new JSONArray();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            json.put(readValue(reader));
+        }
+        reader.endArray();
+        return json;
+    }
+
+    /*
+     * returns the next value using the same types org.json would have produced for it, so
+     * ReaderPost.fromJson() behaves identically for both parse paths
+     */
+    @NonNull
+    private static Object readValue(@NonNull JsonReader reader) throws IOException, JSONException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                return readObject(reader);
+            case BEGIN_ARRAY:
+                return readArray(reader);
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NUMBER:
+                return parseNumber(reader.nextString());
+            case NULL:
+                reader.nextNull();
+                return JSONObject.NULL;
+            case STRING:
+            default:
+                return reader.nextString();
+        }
+    }
+
+    @NonNull
+    private static Object parseNumber(@NonNull String number) {
+        if (number.indexOf('.') == -1 && number.indexOf('e') == -1 && number.indexOf('E') == -1) {
+            try {
+                long value = Long.parseLong(number);
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    return (int) value;
+                }
+                return value;
+            } catch (NumberFormatException e) {
+                // too large for a long, fall through to double
+            }
+        }
+        return Double.parseDouble(number);
+    }
+}
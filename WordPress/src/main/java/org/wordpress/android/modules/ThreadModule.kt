@@ -7,6 +7,7 @@ import dagger.hilt.components.SingletonComponent
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
+import org.wordpress.android.util.ImageOptimizationPipeline
 import org.wordpress.android.util.helpers.Debouncer
 import javax.inject.Named
 
@@ -15,6 +16,7 @@ const val APPLICATION_SCOPE = "APPLICATION_SCOPE"
 const val UI_THREAD = "UI_THREAD"
 const val BG_THREAD = "BG_THREAD"
 const val IO_THREAD = "IO_THREAD"
+const val IMAGE_OPTIMIZATION_THREAD = "IMAGE_OPTIMIZATION_THREAD"
 
 @InstallIn(SingletonComponent::class)
 @Module
@@ -47,6 +49,12 @@ class ThreadModule {
         return Dispatchers.IO
     }
 
+    @Provides
+    @Named(IMAGE_OPTIMIZATION_THREAD)
+    fun provideImageOptimizationDispatcher(imageOptimizationPipeline: ImageOptimizationPipeline): CoroutineDispatcher {
+        return imageOptimizationPipeline.dispatcher
+    }
+
     /* OTHER */
 
     @Provides
@@ -11,7 +11,7 @@ import okio.Okio;
 import okio.Source;
 
 public class StreamingRequest extends RequestBody {
-    public static final int CHUNK_SIZE = 2048;
+    public static final int CHUNK_SIZE = 64 * 1024;
 
     private final File mFile;
 
@@ -24,6 +24,11 @@ public class StreamingRequest extends RequestBody {
         return MediaType.parse("multipart/form-data");
     }
 
+    @Override
+    public long contentLength() {
+        return mFile.length();
+    }
+
     @Override
     public void writeTo(BufferedSink sink) throws IOException {
         Source source = null;
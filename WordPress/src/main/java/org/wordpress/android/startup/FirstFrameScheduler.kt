@@ -0,0 +1,60 @@
+package org.wordpress.android.startup
+
+import android.app.Activity
+import android.app.Application
+import android.app.Application.ActivityLifecycleCallbacks
+import android.os.Bundle
+import android.os.Handler
+import android.os.Looper
+import android.view.ViewTreeObserver.OnDrawListener
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Runs an action on the main thread once the first activity has drawn its first frame, so work which isn't needed
+ * to show it doesn't delay it. The action still runs after [FALLBACK_DELAY_MS] if no activity is shown, for
+ * processes started by a service or a receiver.
+ */
+class FirstFrameScheduler(private val application: Application) {
+    private val handler = Handler(Looper.getMainLooper())
+    private val hasRun = AtomicBoolean(false)
+
+    fun runAfterFirstFrame(action: () -> Unit) {
+        val runOnce = {
+            if (hasRun.compareAndSet(false, true)) {
+                action()
+            }
+        }
+        val callbacks = object : ActivityLifecycleCallbacks {
+            override fun onActivityResumed(activity: Activity) {
+                application.unregisterActivityLifecycleCallbacks(this)
+                val decorView = activity.window.decorView
+                val drawListener = object : OnDrawListener {
+                    override fun onDraw() {
+                        // listeners can't be removed while the frame is being drawn
+                        handler.postAtFrontOfQueue {
+                            decorView.viewTreeObserver.removeOnDrawListener(this)
+                            runOnce()
+                        }
+                    }
+                }
+                decorView.viewTreeObserver.addOnDrawListener(drawListener)
+            }
+
+            override fun onActivityCreated(activity: Activity, savedInstanceState: Bundle?) = Unit
+            override fun onActivityStarted(activity: Activity) = Unit
+            override fun onActivityPaused(activity: Activity) = Unit
+            override fun onActivityStopped(activity: Activity) = Unit
+            override fun onActivitySaveInstanceState(activity: Activity, outState: Bundle) = Unit
+            override fun onActivityDestroyed(activity: Activity) = Unit
+        }
+        application.registerActivityLifecycleCallbacks(callbacks)
+        handler.postDelayed({
+            application.unregisterActivityLifecycleCallbacks(callbacks)
+            runOnce()
+        }, FALLBACK_DELAY_MS)
+    }
+
+    companion object {
+        private const val FALLBACK_DELAY_MS = 5000L
+    }
+}
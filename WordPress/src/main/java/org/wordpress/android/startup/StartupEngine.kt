@@ -0,0 +1,147 @@
+package org.wordpress.android.startup
+
+import java.util.concurrent.Executor
+import java.util.concurrent.LinkedBlockingQueue
+
+/**
+ * Runs the app's startup steps in the order their dependencies allow: steps needing the main thread run on it one
+ * after another, while the other steps run in parallel on the background executor. Each step is traced.
+ */
+class StartupEngine(
+    val steps: List<StartupStep>,
+    private val mainExecutor: Executor,
+    private val backgroundExecutor: Executor,
+    val trace: StartupTrace = StartupTrace()
+) {
+    private val stepsByName = steps.associateBy { it.name }
+    private val dependents = steps.flatMap { step -> step.dependencies.map { it to step } }
+        .groupBy({ it.first }, { it.second })
+
+    val criticalSteps = steps.filterNot { it.isDeferred }
+    val deferredSteps = steps.filter { it.isDeferred }
+
+    init {
+        require(stepsByName.size == steps.size) { "Startup steps must have unique names" }
+        steps.forEach { step ->
+            step.dependencies.forEach { dependency ->
+                val dependencyStep = requireNotNull(stepsByName[dependency]) {
+                    "${step.name} depends on the unknown step $dependency"
+                }
+                require(step.isDeferred || !dependencyStep.isDeferred) {
+                    "${step.name} isn't deferred, so it can't depend on the deferred step $dependency"
+                }
+            }
+        }
+        requireNoCycles()
+    }
+
+    /**
+     * Runs the steps which aren't deferred, and returns once they've all finished. Must be called on the main thread,
+     * which runs the steps needing it while the others run in the background. An exception thrown by a step in the
+     * background is rethrown here.
+     */
+    @Suppress("TooGenericExceptionCaught")
+    fun run() {
+        val pendingDependencies = countPendingDependencies(criticalSteps)
+        val readyOnMainThread = ArrayDeque<StartupStep>()
+        val finishedInBackground = LinkedBlockingQueue<Pair<StartupStep, Throwable?>>()
+
+        fun start(step: StartupStep) {
+            if (step.runsOnMainThread) {
+                readyOnMainThread.addLast(step)
+            } else {
+                backgroundExecutor.execute {
+                    val error = try {
+                        trace.trace(step)
+                        null
+                    } catch (e: Throwable) {
+                        e
+                    }
+                    finishedInBackground.put(step to error)
+                }
+            }
+        }
+
+        criticalSteps.filter { pendingDependencies[it.name] == 0 }.forEach(::start)
+        repeat(criticalSteps.size) {
+            val step = readyOnMainThread.removeFirstOrNull()?.also { trace.trace(it) }
+                ?: finishedInBackground.take().let { (step, error) -> error?.let { throw it } ?: step }
+            dependents[step.name].orEmpty().filterNot { it.isDeferred }.forEach { dependent ->
+                val pending = pendingDependencies.getValue(dependent.name) - 1
+                pendingDependencies[dependent.name] = pending
+                if (pending == 0) {
+                    start(dependent)
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts the deferred steps, once the other steps have finished. Steps needing the main thread are posted to it
+     * one at a time, so frames can still be drawn between them. Must be called on the main thread, which is passed
+     * the trace once every deferred step has finished.
+     */
+    fun runDeferred(onFinished: (StartupTrace) -> Unit = {}) {
+        val pendingDependencies = countPendingDependencies(deferredSteps)
+        var remaining = deferredSteps.size
+
+        fun onStepFinished(step: StartupStep) {
+            remaining--
+            dependents[step.name].orEmpty().forEach { dependent ->
+                val pending = pendingDependencies.getValue(dependent.name) - 1
+                pendingDependencies[dependent.name] = pending
+                if (pending == 0) {
+                    start(dependent, ::onStepFinished)
+                }
+            }
+            if (remaining == 0) {
+                onFinished(trace)
+            }
+        }
+
+        if (deferredSteps.isEmpty()) {
+            onFinished(trace)
+        }
+        deferredSteps.filter { pendingDependencies[it.name] == 0 }.forEach { start(it, ::onStepFinished) }
+    }
+
+    private fun start(step: StartupStep, onStepFinished: (StartupStep) -> Unit) {
+        if (step.runsOnMainThread) {
+            mainExecutor.execute {
+                trace.trace(step)
+                onStepFinished(step)
+            }
+        } else {
+            backgroundExecutor.execute {
+                trace.trace(step)
+                mainExecutor.execute { onStepFinished(step) }
+            }
+        }
+    }
+
+    /*
+     * counts the dependencies of each of the passed steps which are among them - the others have already finished
+     */
+    private fun countPendingDependencies(steps: List<StartupStep>): MutableMap<String, Int> {
+        val names = steps.map { it.name }.toSet()
+        return steps.associateTo(mutableMapOf()) { step -> step.name to step.dependencies.count { it in names } }
+    }
+
+    private fun requireNoCycles() {
+        val pendingDependencies = countPendingDependencies(steps)
+        val ready = ArrayDeque(steps.filter { pendingDependencies[it.name] == 0 })
+        var sorted = 0
+        while (ready.isNotEmpty()) {
+            val step = ready.removeFirst()
+            sorted++
+            dependents[step.name].orEmpty().forEach { dependent ->
+                val pending = pendingDependencies.getValue(dependent.name) - 1
+                pendingDependencies[dependent.name] = pending
+                if (pending == 0) {
+                    ready.addLast(dependent)
+                }
+            }
+        }
+        require(sorted == steps.size) { "Startup steps can't depend on each other in a cycle" }
+    }
+}
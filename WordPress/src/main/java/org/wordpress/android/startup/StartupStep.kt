@@ -0,0 +1,14 @@
+package org.wordpress.android.startup
+
+/**
+ * A step of the app's startup, which only starts once the steps it depends on have finished. Steps which aren't
+ * deferred have all finished by the time [StartupEngine.run] returns, while deferred steps only start once the
+ * first frame has been drawn - or once the process has been running a while, if it was started without a screen.
+ */
+class StartupStep(
+    val name: String,
+    val dependencies: List<String> = emptyList(),
+    val runsOnMainThread: Boolean = true,
+    val isDeferred: Boolean = false,
+    val action: () -> Unit
+)
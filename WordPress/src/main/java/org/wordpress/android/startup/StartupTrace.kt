@@ -0,0 +1,71 @@
+package org.wordpress.android.startup
+
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Records when each startup step started and finished and on which thread, so the wall time of each step and the
+ * critical path - the chain of steps which kept startup from finishing sooner - can be logged.
+ */
+class StartupTrace(private val clock: () -> Long = System::nanoTime) {
+    class Record(val startNanos: Long, val endNanos: Long, val threadName: String) {
+        val durationNanos: Long
+            get() = endNanos - startNanos
+    }
+
+    private val startNanos = clock()
+    private val records = ConcurrentHashMap<String, Record>()
+
+    fun trace(step: StartupStep) {
+        val stepStartNanos = clock()
+        try {
+            step.action()
+        } finally {
+            records[step.name] = Record(stepStartNanos - startNanos, clock() - startNanos, Thread.currentThread().name)
+        }
+    }
+
+    fun getRecord(stepName: String): Record? = records[stepName]
+
+    /**
+     * Returns the chain of steps ending with the one which finished last among the passed ones, working back through
+     * the dependency of each step which finished last - the one it had to wait for.
+     */
+    fun getCriticalPath(steps: List<StartupStep>): List<StartupStep> {
+        val stepsByName = steps.associateBy { it.name }
+        val path = mutableListOf<StartupStep>()
+        var step = steps.filter { records.containsKey(it.name) }.maxByOrNull { records.getValue(it.name).endNanos }
+        while (step != null) {
+            path.add(0, step)
+            step = step.dependencies.mapNotNull { stepsByName[it] }
+                .filter { records.containsKey(it.name) }
+                .maxByOrNull { records.getValue(it.name).endNanos }
+        }
+        return path
+    }
+
+    /**
+     * Describes the wall time of each of the passed steps in the order they started, followed by the critical path
+     */
+    fun describe(steps: List<StartupStep>): String {
+        val tracedSteps = steps.filter { records.containsKey(it.name) }
+            .sortedBy { records.getValue(it.name).startNanos }
+        val criticalPath = getCriticalPath(steps)
+        val totalNanos = tracedSteps.maxOfOrNull { records.getValue(it.name).endNanos } ?: 0
+        return buildString {
+            append("${tracedSteps.size} steps finished after ${toMillis(totalNanos)}ms\n")
+            tracedSteps.forEach { step ->
+                val record = records.getValue(step.name)
+                append("${step.name}: ${toMillis(record.durationNanos)}ms ")
+                append("from ${toMillis(record.startNanos)}ms on ${record.threadName}\n")
+            }
+            append("critical path (${toMillis(criticalPath.sumOf { records.getValue(it.name).durationNanos })}ms): ")
+            append(criticalPath.joinToString(" > ") { it.name })
+        }
+    }
+
+    private fun toMillis(nanos: Long) = nanos / NANOS_PER_MILLI
+
+    companion object {
+        private const val NANOS_PER_MILLI = 1_000_000L
+    }
+}
@@ -634,10 +634,8 @@ public class SignupEpilogueFragment extends LoginBaseFormFragment<SignupEpilogue
                         @Override
                         public void onResourceReady(@NonNull Drawable resource, @Nullable Object model) {
                             if (newAvatarUploaded && resource instanceof BitmapDrawable) {
-                                Bitmap bitmap = ((BitmapDrawable) resource).getBitmap();
-                                // create a copy since the original bitmap may by automatically recycled
-                                bitmap = bitmap.copy(bitmap.getConfig(), true);
-                                WordPress.getBitmapCache().put(avatarUrl, bitmap);
+                                // the cache keeps a copy since the original bitmap may by automatically recycled
+                                WordPress.getBitmapCache().putCopy(avatarUrl, ((BitmapDrawable) resource).getBitmap());
                             }
                         }
                     }, mAppPrefsWrapper.getAvatarVersion());
@@ -45,7 +45,6 @@ import org.wordpress.android.databinding.CommentDetailFragmentBinding;
 import org.wordpress.android.databinding.ReaderIncludeCommentBoxBinding;
 import org.wordpress.android.datasets.NotificationsTable;
 import org.wordpress.android.datasets.ReaderPostTable;
-import org.wordpress.android.datasets.UserSuggestionTable;
 import org.wordpress.android.fluxc.action.CommentAction;
 import org.wordpress.android.fluxc.generated.CommentActionBuilder;
 import org.wordpress.android.fluxc.model.CommentModel;
@@ -61,7 +60,6 @@ import org.wordpress.android.fluxc.store.SiteStore;
 import org.wordpress.android.fluxc.tools.FluxCImageLoader;
 import org.wordpress.android.models.Note;
 import org.wordpress.android.models.Note.EnabledActions;
-import org.wordpress.android.models.UserSuggestion;
 import org.wordpress.android.models.usecases.LocalCommentCacheUpdateHandler;
 import org.wordpress.android.ui.ActivityId;
 import org.wordpress.android.ui.CollapseFullScreenDialogFragment;
@@ -85,9 +83,9 @@ import org.wordpress.android.ui.reader.ReaderActivityLauncher;
 import org.wordpress.android.ui.reader.ReaderAnim;
 import org.wordpress.android.ui.reader.actions.ReaderActions;
 import org.wordpress.android.ui.reader.actions.ReaderPostActions;
-import org.wordpress.android.ui.suggestion.Suggestion;
 import org.wordpress.android.ui.suggestion.adapters.SuggestionAdapter;
 import org.wordpress.android.ui.suggestion.service.SuggestionEvents;
+import org.wordpress.android.ui.suggestion.util.SuggestionIndexCache;
 import org.wordpress.android.ui.suggestion.util.SuggestionServiceConnectionManager;
 import org.wordpress.android.ui.suggestion.util.SuggestionUtils;
 import org.wordpress.android.util.AniUtils;
@@ -110,7 +108,6 @@ import org.wordpress.android.util.image.ImageType;
 import org.wordpress.android.widgets.WPSnackbar;
 
 import java.util.EnumSet;
-import java.util.List;
 import java.util.Locale;
 
 import javax.inject.Inject;
@@ -626,9 +623,7 @@ public class CommentDetailFragment extends ViewPagerFragment implements Notifica
             && event.mRemoteBlogId == mSite.getSiteId()
             && mSuggestionAdapter != null
         ) {
-            List<UserSuggestion> userSuggestions = UserSuggestionTable.getSuggestionsForSite(event.mRemoteBlogId);
-            List<Suggestion> suggestions = Suggestion.Companion.fromUserSuggestions(userSuggestions);
-            mSuggestionAdapter.setSuggestionList(suggestions);
+            mSuggestionAdapter.setSuggestionIndex(SuggestionIndexCache.getUserSuggestionIndex(event.mRemoteBlogId));
         }
     }
 
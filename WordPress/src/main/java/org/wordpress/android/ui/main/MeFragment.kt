@@ -490,13 +490,8 @@ class MeFragment : Fragment(R.layout.me_fragment), OnScrollToTopListener {
                     model: Any?
                 ) {
                     if (newAvatarUploaded && resource is BitmapDrawable) {
-                        var bitmap = resource.bitmap
-                        // create a copy since the original bitmap may by automatically recycled
-                        bitmap = bitmap.copy(bitmap.config, true)
-                        WordPress.getBitmapCache().put(
-                            avatarUrl,
-                            bitmap
-                        )
+                        // the cache keeps a copy since the original bitmap may by automatically recycled
+                        WordPress.getBitmapCache().putCopy(avatarUrl, resource.bitmap)
                     }
                 }
             })
@@ -0,0 +1,173 @@
+package org.wordpress.android.ui.main;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.wordpress.android.ui.main.SitePickerAdapter.SiteList;
+import org.wordpress.android.ui.main.SitePickerAdapter.SiteRecord;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The sites the site picker can show, in the order it shows them, with their names and URLs lowercased once so
+ * searching them doesn't lowercase every site again on every keystroke.
+ * <p>
+ * Searches are lazy and incremental: matches are only looked for as they're needed - a page at a time as the list is
+ * scrolled - and a search for a query containing a previous one only looks through the sites that one matched.
+ */
+class SiteIndex {
+    @NonNull private final SiteList mSites;
+    @NonNull private final String[] mNames;
+    @NonNull private final String[] mUrls;
+    @NonNull private final Map<Integer, Integer> mPositionsByLocalId = new HashMap<>();
+    @NonNull private final Map<Long, SiteRecord> mSitesBySiteId = new HashMap<>();
+    @NonNull private Search mLastSearch;
+
+    SiteIndex(@NonNull SiteList sites) {
+        mSites = sites;
+        mNames = new String[sites.size()];
+        mUrls = new String[sites.size()];
+        for (int i = 0; i < sites.size(); i++) {
+            SiteRecord site = sites.get(i);
+            mNames[i] = site.getBlogNameOrHomeURL().toLowerCase(Locale.getDefault());
+            mUrls[i] = site.getHomeURL().toLowerCase(Locale.ROOT);
+            mPositionsByLocalId.put(site.getLocalId(), i);
+            if (site.getSiteId() > 0) {
+                mSitesBySiteId.put(site.getSiteId(), site);
+            }
+        }
+        mLastSearch = new Search("", "", null);
+    }
+
+    int size() {
+        return mSites.size();
+    }
+
+    @NonNull
+    SiteRecord get(int position) {
+        return mSites.get(position);
+    }
+
+    /*
+     * returns the position of the site with the passed local id, or -1 if it isn't indexed
+     */
+    int indexOfLocalId(int localId) {
+        Integer position = mPositionsByLocalId.get(localId);
+        return position != null ? position : -1;
+    }
+
+    /*
+     * returns the site with the passed (remote) site id, or null if it isn't indexed - sites without one never are
+     */
+    @Nullable
+    SiteRecord getBySiteId(long siteId) {
+        return mSitesBySiteId.get(siteId);
+    }
+
+    /**
+     * Returns the search for sites whose name or URL contains the passed text - all of them if it's empty. The search
+     * is built on the last search made, or on the search it was built on, when that one matches every site the new
+     * one can match.
+     */
+    @NonNull
+    Search search(@NonNull String text) {
+        String nameQuery = text.toLowerCase(Locale.getDefault());
+        String urlQuery = text.toLowerCase(Locale.ROOT);
+        Search base = mLastSearch;
+        while (!base.includes(nameQuery, urlQuery)) {
+            base = base.mBase;
+        }
+        if (!base.mNameQuery.equals(nameQuery) || !base.mUrlQuery.equals(urlQuery)) {
+            base = new Search(nameQuery, urlQuery, base);
+        }
+        mLastSearch = base;
+        return base;
+    }
+
+    /**
+     * The sites matching a query, in the order they're shown. Sites are matched as they're asked for, so a search
+     * must only be used on the thread it's built on.
+     */
+    class Search {
+        @NonNull private final String mNameQuery;
+        @NonNull private final String mUrlQuery;
+        // the search whose matches this one looks through, or null if it looks through every site
+        @Nullable private final Search mBase;
+        @NonNull private final List<Integer> mMatches = new ArrayList<>();
+        // the number of sites (or matches of the base search) looked through so far
+        private int mNumScanned;
+        private boolean mIsComplete;
+
+        private Search(@NonNull String nameQuery, @NonNull String urlQuery, @Nullable Search base) {
+            mNameQuery = nameQuery;
+            mUrlQuery = urlQuery;
+            mBase = base;
+        }
+
+        /**
+         * Looks for matches until there are at least the passed number of them or every site has been looked
+         * through, and returns the number of matches found.
+         */
+        int findMatches(int count) {
+            while (!mIsComplete && mMatches.size() < count) {
+                int position;
+                if (mBase == null) {
+                    position = mNumScanned < mSites.size() ? mNumScanned : -1;
+                } else {
+                    position = mBase.findMatches(mNumScanned + 1) > mNumScanned ? mBase.mMatches.get(mNumScanned) : -1;
+                }
+                if (position < 0) {
+                    mIsComplete = true;
+                } else {
+                    mNumScanned++;
+                    if (matches(position)) {
+                        mMatches.add(position);
+                    }
+                }
+            }
+            return mMatches.size();
+        }
+
+        boolean isComplete(int count) {
+            return findMatches(count + 1) <= count;
+        }
+
+        /*
+         * returns the match at the passed position, which must have been found
+         */
+        @NonNull
+        SiteRecord get(int position) {
+            return mSites.get(mMatches.get(position));
+        }
+
+        @NonNull
+        SiteList getMatches(int count) {
+            int numMatches = findMatches(count);
+            SiteList matches = new SiteList();
+            for (int i = 0; i < numMatches; i++) {
+                matches.add(get(i));
+            }
+            return matches;
+        }
+
+        @NonNull
+        SiteList getAllMatches() {
+            return getMatches(Integer.MAX_VALUE);
+        }
+
+        private boolean matches(int position) {
+            return mNames[position].contains(mNameQuery) || mUrls[position].contains(mUrlQuery);
+        }
+
+        /*
+         * true if every site matching the passed queries matches this search too
+         */
+        private boolean includes(@NonNull String nameQuery, @NonNull String urlQuery) {
+            return nameQuery.contains(mNameQuery) && urlQuery.contains(mUrlQuery);
+        }
+    }
+}
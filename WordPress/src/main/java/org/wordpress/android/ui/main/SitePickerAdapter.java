@@ -16,6 +16,8 @@ import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.graphics.ColorUtils;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 
 import org.wordpress.android.R;
@@ -38,9 +40,10 @@ import org.wordpress.android.util.image.ImageType;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import javax.inject.Inject;
@@ -110,7 +113,9 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
     private final boolean mShowAndReturn;
     private boolean mShowSelfHostedSites = true;
     private String mLastSearch;
-    private SiteList mAllSites;
+    @NonNull private SiteIndex mIndex = new SiteIndex(new SiteList());
+    @NonNull private SiteIndex.Search mSearch = mIndex.search("");
+    private boolean mIsNextPagePending;
     @Nullable private final ArrayList<Integer> mIgnoreSitesIds;
 
     private OnSiteClickListener mSiteSelectedListener;
@@ -125,6 +130,9 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
     // show recently picked first if there are at least this many blogs
     private static final int RECENTLY_PICKED_THRESHOLD = 11;
 
+    // the number of sites shown at first, and added each time the last one shown is bound
+    private static final int SITES_PAGE_SIZE = 50;
+
     private static final int VIEW_TYPE_HEADER = 0;
     private static final int VIEW_TYPE_ITEM = 1;
     private static final int VIEW_TYPE_FOOTER = 2;
@@ -219,7 +227,6 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
         setHasStableIds(true);
 
         mLastSearch = StringUtils.notNullStr(lastSearch);
-        mAllSites = new SiteList();
         mIsInSearchMode = isInSearchMode;
         mItemLayoutReourceId = itemLayoutResourceId;
         mCurrentLocalId = currentLocalBlogId;
@@ -342,6 +349,13 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
 
         SiteRecord site = getItem(position);
 
+        // show the next page of sites once the last one shown is bound
+        if (position - getPositionOffset() == mSites.size() - 1 && !mIsNextPagePending
+            && !mSearch.isComplete(mSites.size())) {
+            mIsNextPagePending = true;
+            viewHolder.itemView.post(this::showNextPage);
+        }
+
         final SiteViewHolder holder = (SiteViewHolder) viewHolder;
         holder.mTxtTitle.setText(site.getBlogNameOrHomeURL());
         holder.mTxtDomain.setText(site.mHomeURL);
@@ -447,7 +461,7 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
     }
 
     public void findAndSelect(final int lastUsedBlogLocalId) {
-        int positionInSitesArray = mSites.indexOfSiteId(lastUsedBlogLocalId);
+        int positionInSitesArray = showSite(lastUsedBlogLocalId);
         if (positionInSitesArray != -1) {
             selectSingleItem(positionInSitesArray + getPositionOffset());
         }
@@ -458,11 +472,59 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
     }
 
     public int getItemPosByLocalId(int localId) {
-        int positionInSitesArray = mSites.indexOfSiteId(localId);
+        int positionInSitesArray = showSite(localId);
 
         return mSites.size() != 0 && positionInSitesArray > -1 ? positionInSitesArray : -1;
     }
 
+    /*
+     * shows the pages of sites up to the one with the passed local id, and returns its position in the sites shown,
+     * or -1 if it isn't shown
+     */
+    private int showSite(int localId) {
+        if (mIsInSearchMode) {
+            return mSites.indexOfSiteId(localId);
+        }
+        // every site matches when not searching, so the site's position in the index is its position in the list
+        int position = mIndex.indexOfLocalId(localId);
+        if (position >= mSites.size()) {
+            showSites(position + 1);
+        }
+        return position;
+    }
+
+    private void showNextPage() {
+        mIsNextPagePending = false;
+        showSites(mSites.size() + SITES_PAGE_SIZE);
+    }
+
+    /*
+     * adds the next matches of the current search to the sites shown, until at least the passed number are shown
+     */
+    private void showSites(int count) {
+        int numShown = mSites.size();
+        int numMatches = mSearch.findMatches(count);
+        if (numMatches <= numShown) {
+            return;
+        }
+        for (int i = numShown; i < numMatches; i++) {
+            mSites.add(mSearch.get(i));
+        }
+        notifyItemRangeInserted(numShown + getPositionOffset(), numMatches - numShown);
+        if (numShown > 0) {
+            // the last site shown so far gets the divider it didn't have as the last one
+            notifyItemChanged(numShown - 1 + getPositionOffset());
+        }
+    }
+
+    /*
+     * the number of sites to show at first when loading or searching - all of them while selecting sites to hide or
+     * show, which works on the sites' positions
+     */
+    private int getNumSitesToShow(int numShownBefore) {
+        return mIsMultiSelectEnabled ? Integer.MAX_VALUE : Math.max(numShownBefore, SITES_PAGE_SIZE);
+    }
+
     String getLastSearch() {
         return mLastSearch;
     }
@@ -477,9 +539,12 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
 
     void searchSites(String searchText) {
         mLastSearch = searchText;
-        mSites = filteredSitesByText(mAllSites);
-
-        notifyDataSetChanged();
+        mSearch = mIndex.search(searchText);
+        // a new search starts again from the first page, so the changes to the rows are bounded by the page size
+        SiteList sites = mSearch.getMatches(getNumSitesToShow(0));
+        DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new SiteDiffCallback(mSites, sites, false), false);
+        mSites = sites;
+        diffResult.dispatchUpdatesTo(new SiteListUpdateCallback());
     }
 
     private boolean isValidPosition(int position) {
@@ -629,7 +694,7 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
 
     SiteList getHiddenSites() {
         SiteList hiddenSites = new SiteList();
-        for (SiteRecord site : mSites) {
+        for (SiteRecord site : mSearch.getAllMatches()) {
             if (site.mIsHidden) {
                 hiddenSites.add(site);
             }
@@ -645,9 +710,8 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
             ArrayList<Integer> recentIds = AppPrefs.getRecentlyPickedSiteIds();
             int selectedSiteLocalId = mSelectedSiteRepository.getSelectedSiteLocalId();
             for (SiteRecord site : sites) {
-                int index = mAllSites.indexOfSite(site);
-                if (index > -1) {
-                    SiteRecord siteRecord = mAllSites.get(index);
+                SiteRecord siteRecord = site.mSiteId > 0 ? mIndex.getBySiteId(site.mSiteId) : null;
+                if (siteRecord != null) {
                     if (siteRecord.mIsHidden == makeVisible) {
                         changeSet.add(siteRecord);
                         siteRecord.mIsHidden = !makeVisible;
@@ -673,31 +737,6 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
         new LoadSitesTask().executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
     }
 
-    private SiteList filteredSitesByTextIfInSearchMode(SiteList sites) {
-        if (!mIsInSearchMode) {
-            return sites;
-        } else {
-            return filteredSitesByText(sites);
-        }
-    }
-
-    private SiteList filteredSitesByText(SiteList sites) {
-        SiteList filteredSiteList = new SiteList();
-
-        for (int i = 0; i < sites.size(); i++) {
-            SiteRecord record = sites.get(i);
-            String siteNameLowerCase = record.mBlogName.toLowerCase(Locale.getDefault());
-            String hostNameLowerCase = record.mHomeURL.toLowerCase(Locale.ROOT);
-
-            if (siteNameLowerCase.contains(mLastSearch.toLowerCase(Locale.getDefault())) || hostNameLowerCase
-                    .contains(mLastSearch.toLowerCase(Locale.ROOT))) {
-                filteredSiteList.add(record);
-            }
-        }
-
-        return filteredSiteList;
-    }
-
     public List<SiteModel> getBlogsForCurrentView() {
         if (mSitePickerMode.isReblogMode() || mSitePickerMode.isBloggingPromptsMode()) {
             // If we are reblogging we only want to select or search into the WPCom visible sites.
@@ -723,11 +762,20 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
     }
 
     /*
-     * AsyncTask which loads sites from database and populates the adapter
+     * AsyncTask which loads sites from database and populates the adapter. The sites are indexed, and the changes to
+     * the rows shown are worked out, in the background, so the main thread only has to apply them.
      */
     @SuppressWarnings("deprecation")
     @SuppressLint("StaticFieldLeak")
-    private class LoadSitesTask extends AsyncTask<Void, Void, SiteList[]> {
+    private class LoadSitesTask extends AsyncTask<Void, Void, SiteIndex> {
+        private final SiteList mOldSites = mSites;
+        private final SiteList mOldSitesCopy = new SiteList(mSites);
+        private final String mSearchText = mLastSearch;
+        private final int mNumSitesToShow = getNumSitesToShow(mSites.size());
+        private SiteIndex.Search mNewSearch;
+        private SiteList mNewSites;
+        private DiffUtil.DiffResult mDiffResult;
+
         @Override
         protected void onPreExecute() {
             super.onPreExecute();
@@ -741,13 +789,14 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
         }
 
         @Override
-        protected SiteList[] doInBackground(Void... params) {
+        protected SiteIndex doInBackground(Void... params) {
             List<SiteModel> siteModels = getBlogsForCurrentView();
 
             if (mIgnoreSitesIds != null) {
+                Set<Integer> ignoredSiteIds = new HashSet<>(mIgnoreSitesIds);
                 List<SiteModel> unignoredSiteModels = new ArrayList<>();
                 for (SiteModel site : siteModels) {
-                    if (!mIgnoreSitesIds.contains(site.getId())) {
+                    if (!ignoredSiteIds.contains(site.getId())) {
                         unignoredSiteModels.add(site);
                     }
                 }
@@ -772,39 +821,115 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
             // flag recently-picked sites and move them to the top if there are enough sites and
             // the user isn't searching
             if (!mIsInSearchMode && sites.size() >= RECENTLY_PICKED_THRESHOLD) {
-                ArrayList<Integer> pickedIds = AppPrefs.getRecentlyPickedSiteIds();
-                for (int i = pickedIds.size() - 1; i > -1; i--) {
-                    int thisId = pickedIds.get(i);
-                    int indexOfSite = sites.indexOfSiteId(thisId);
-                    if (indexOfSite > -1) {
-                        SiteRecord site = sites.remove(indexOfSite);
-                        site.mIsRecentPick = true;
-                        sites.add(0, site);
-                    }
-                }
+                sites = sites.withRecentPicksFirst(AppPrefs.getRecentlyPickedSiteIds());
             }
 
-            if (mSites == null || !mSites.isSameList(sites)) {
-                SiteList allSites = (SiteList) sites.clone();
-                SiteList filteredSites = filteredSitesByTextIfInSearchMode(sites);
-
-                return new SiteList[]{allSites, filteredSites};
-            }
-
-            return null;
+            SiteIndex index = new SiteIndex(sites);
+            mNewSearch = index.search(mIsInSearchMode ? mSearchText : "");
+            mNewSites = mNewSearch.getMatches(mNumSitesToShow);
+            mDiffResult = DiffUtil.calculateDiff(new SiteDiffCallback(mOldSitesCopy, mNewSites, !mIsInSearchMode));
+            return index;
         }
 
         @Override
-        protected void onPostExecute(SiteList[] updatedSiteLists) {
-            if (updatedSiteLists != null) {
-                mAllSites = updatedSiteLists[0];
-                mSites = updatedSiteLists[1];
+        protected void onPostExecute(SiteIndex index) {
+            mIndex = index;
+            // pages of sites may have been shown, or another search made, while loading
+            if (mSites == mOldSites && mSites.size() == mOldSitesCopy.size() && mSearchText.equals(mLastSearch)) {
+                mSearch = mNewSearch;
+                mSites = mNewSites;
+                mDiffResult.dispatchUpdatesTo(new SiteListUpdateCallback());
+            } else {
+                // the sites shown changed while loading, so the changes worked out no longer apply to them
+                mSearch = mIndex.search(mIsInSearchMode ? mLastSearch : "");
+                mSites = mSearch.getMatches(getNumSitesToShow(0));
                 notifyDataSetChanged();
             }
             mDataLoadedListener.onAfterLoad();
         }
     }
 
+    /*
+     * compares the sites shown before and after a change, including whether each one is the last of the list or of
+     * the recent picks, since that decides whether it's shown with a divider
+     */
+    private static class SiteDiffCallback extends DiffUtil.Callback {
+        private final SiteList mOldSites;
+        private final SiteList mNewSites;
+        private final boolean mShowsRecentPicks;
+
+        SiteDiffCallback(SiteList oldSites, SiteList newSites, boolean showsRecentPicks) {
+            mOldSites = oldSites;
+            mNewSites = newSites;
+            mShowsRecentPicks = showsRecentPicks;
+        }
+
+        @Override
+        public int getOldListSize() {
+            return mOldSites.size();
+        }
+
+        @Override
+        public int getNewListSize() {
+            return mNewSites.size();
+        }
+
+        @Override
+        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+            return mOldSites.get(oldItemPosition).mLocalId == mNewSites.get(newItemPosition).mLocalId;
+        }
+
+        @Override
+        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+            SiteRecord oldSite = mOldSites.get(oldItemPosition);
+            SiteRecord newSite = mNewSites.get(newItemPosition);
+            return oldSite.mIsHidden == newSite.mIsHidden
+                   && oldSite.mIsRecentPick == newSite.mIsRecentPick
+                   && StringUtils.equals(oldSite.mBlogName, newSite.mBlogName)
+                   && StringUtils.equals(oldSite.mHomeURL, newSite.mHomeURL)
+                   && StringUtils.equals(oldSite.mBlavatarUrl, newSite.mBlavatarUrl)
+                   && oldSite.mBlavatarType == newSite.mBlavatarType
+                   && isLast(mOldSites, oldItemPosition) == isLast(mNewSites, newItemPosition)
+                   && (!mShowsRecentPicks
+                       || isLastRecentPick(mOldSites, oldItemPosition) == isLastRecentPick(mNewSites, newItemPosition));
+        }
+
+        private static boolean isLast(SiteList sites, int position) {
+            return position == sites.size() - 1;
+        }
+
+        private static boolean isLastRecentPick(SiteList sites, int position) {
+            return sites.get(position).mIsRecentPick
+                   && !isLast(sites, position)
+                   && !sites.get(position + 1).mIsRecentPick;
+        }
+    }
+
+    /*
+     * applies changes to the sites shown to the rows showing them, which follow the header if there is one
+     */
+    private class SiteListUpdateCallback implements ListUpdateCallback {
+        @Override
+        public void onInserted(int position, int count) {
+            notifyItemRangeInserted(position + getPositionOffset(), count);
+        }
+
+        @Override
+        public void onRemoved(int position, int count) {
+            notifyItemRangeRemoved(position + getPositionOffset(), count);
+        }
+
+        @Override
+        public void onMoved(int fromPosition, int toPosition) {
+            notifyItemMoved(fromPosition + getPositionOffset(), toPosition + getPositionOffset());
+        }
+
+        @Override
+        public void onChanged(int position, int count, @Nullable Object payload) {
+            notifyItemRangeChanged(position + getPositionOffset(), count, payload);
+        }
+    }
+
     /**
      * SiteRecord is a simplified version of the full account (blog) record
      */
@@ -877,31 +1002,34 @@ public class SitePickerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
             }
         }
 
-        boolean isSameList(SiteList sites) {
-            if (sites == null || sites.size() != this.size()) {
-                return false;
+        SiteList(SiteList sites) {
+            super(sites);
+        }
+
+        /*
+         * returns the sites with the recently picked ones - in the order they were picked - flagged and moved to the
+         * top
+         */
+        SiteList withRecentPicksFirst(List<Integer> pickedIds) {
+            Map<Integer, SiteRecord> sitesByLocalId = new HashMap<>();
+            for (SiteRecord site : this) {
+                sitesByLocalId.put(site.mLocalId, site);
             }
-            int i;
-            for (SiteRecord site : sites) {
-                i = indexOfSite(site);
-                if (i == -1
-                    || this.get(i).mIsHidden != site.mIsHidden
-                    || this.get(i).mIsRecentPick != site.mIsRecentPick) {
-                    return false;
+            SiteList sites = new SiteList();
+            Set<Integer> recentPickIds = new HashSet<>();
+            for (Integer pickedId : pickedIds) {
+                SiteRecord site = sitesByLocalId.get(pickedId);
+                if (site != null && recentPickIds.add(pickedId)) {
+                    site.mIsRecentPick = true;
+                    sites.add(site);
                 }
             }
-            return true;
-        }
-
-        int indexOfSite(SiteRecord site) {
-            if (site != null && site.mSiteId > 0) {
-                for (int i = 0; i < size(); i++) {
-                    if (site.mSiteId == this.get(i).mSiteId) {
-                        return i;
-                    }
+            for (SiteRecord site : this) {
+                if (!recentPickIds.contains(site.mLocalId)) {
+                    sites.add(site);
                 }
             }
-            return -1;
+            return sites;
         }
 
         int indexOfSiteId(int localId) {
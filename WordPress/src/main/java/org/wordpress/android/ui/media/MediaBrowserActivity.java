@@ -80,7 +80,6 @@ import org.wordpress.android.ui.uploads.UploadUtilsWrapper;
 import org.wordpress.android.util.ActivityUtils;
 import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.DisplayUtils;
-import org.wordpress.android.util.FluxCUtils;
 import org.wordpress.android.util.FormatUtils;
 import org.wordpress.android.util.ListUtils;
 import org.wordpress.android.util.MediaUtils;
@@ -130,6 +129,7 @@ public class MediaBrowserActivity extends LocaleAwareActivity implements MediaGr
     @Inject QuickStartRepository mQuickStartRepository;
     @Inject SelectedSiteRepository mSelectedSiteRepository;
     @Inject JetpackFeatureRemovalPhaseHelper mJetpackFeatureRemovalPhaseHelper;
+    @Inject MediaLibraryUploader mMediaLibraryUploader;
 
     private SiteModel mSite;
 
@@ -481,8 +481,9 @@ public class MediaBrowserActivity extends LocaleAwareActivity implements MediaGr
     }
 
     private void fetchMediaAndDoNext(Uri imageUri, int requestCode, String mimeType) {
+        // the upload is queued once the image is optimized, and the grid picks it up from the store then
         WPMediaUtils.fetchMediaAndDoNext(this, imageUri,
-                uri -> queueFileForUpload(getOptimizedPictureIfNecessary(uri), mimeType));
+                uri -> mMediaLibraryUploader.optimizeAndUpload(uri, mimeType, mSite));
         trackAddMediaFromDeviceEvents(
                 false,
                 requestCode == RequestCodes.VIDEO_LIBRARY,
@@ -564,10 +565,10 @@ public class MediaBrowserActivity extends LocaleAwareActivity implements MediaGr
 
     private void addLastTakenPicture() {
         WPMediaUtils.scanMediaFile(this, mMediaCapturePath);
-        Uri uri = getOptimizedPictureIfNecessary(Uri.parse(mMediaCapturePath));
+        Uri capturedUri = Uri.parse(mMediaCapturePath);
         mMediaCapturePath = null;
-        queueFileForUpload(uri, getContentResolver().getType(uri));
-        trackAddMediaFromDeviceEvents(true, false, uri);
+        mMediaLibraryUploader.optimizeAndUpload(capturedUri, null, mSite);
+        trackAddMediaFromDeviceEvents(true, false, capturedUri);
     }
 
     private void handlePickerResult(Intent data, int requestCode) {
@@ -792,10 +793,10 @@ public class MediaBrowserActivity extends LocaleAwareActivity implements MediaGr
     }
 
     private void showMediaSettings(@NonNull MediaModel media) {
-        List<MediaModel> mediaList = mMediaGridFragment.getFilteredMedia();
+        // only the ids are read, so this stays quick however many media the site has
         ArrayList<String> idList = new ArrayList<>();
-        for (MediaModel thisMedia : mediaList) {
-            idList.add(Integer.toString(thisMedia.getId()));
+        for (Integer id : mMediaGridFragment.getFilteredMediaIds()) {
+            idList.add(Integer.toString(id));
         }
         MediaSettingsActivity.showForResult(this, mSite, media, idList);
     }
@@ -926,9 +927,8 @@ public class MediaBrowserActivity extends LocaleAwareActivity implements MediaGr
         for (Uri uri : uriList) {
             if (uri != null) {
                 WPMediaUtils.fetchMediaAndDoNext(this, uri,
-                        downloadedUri -> queueFileForUpload(
-                                getOptimizedPictureIfNecessary(downloadedUri),
-                                getContentResolver().getType(downloadedUri)));
+                        downloadedUri -> mMediaLibraryUploader.optimizeAndUpload(downloadedUri,
+                                getContentResolver().getType(downloadedUri), mSite));
             }
         }
     }
@@ -1064,29 +1064,6 @@ public class MediaBrowserActivity extends LocaleAwareActivity implements MediaGr
         }
     }
 
-    private Uri getOptimizedPictureIfNecessary(Uri originalUri) {
-        String filePath = MediaUtils.getRealPathFromURI(this, originalUri);
-        if (TextUtils.isEmpty(filePath)) {
-            return originalUri;
-        }
-        Uri optimizedMedia = WPMediaUtils.getOptimizedMedia(this, filePath, false);
-        if (optimizedMedia != null) {
-            return optimizedMedia;
-        } else {
-            // Optimization is OFF. Make sure the picture is in portrait for .org site
-            // Fix for the rotation issue https://github.com/wordpress-mobile/WordPress-Android/issues/5737
-            if (!mSite.isWPCom()) {
-                // If it's not wpcom we must rotate the picture locally
-                Uri rotatedMedia = WPMediaUtils.fixOrientationIssue(this, filePath, false);
-                if (rotatedMedia != null) {
-                    return rotatedMedia;
-                }
-            }
-        }
-
-        return originalUri;
-    }
-
     private void addMediaToUploadService(@NonNull MediaModel media) {
         ArrayList<MediaModel> mediaList = new ArrayList<>();
         mediaList.add(media);
@@ -1107,16 +1084,10 @@ public class MediaBrowserActivity extends LocaleAwareActivity implements MediaGr
     }
 
     private void queueFileForUpload(Uri uri, String mimeType) {
-        MediaModel media = FluxCUtils.mediaModelFromLocalUri(this, uri, mimeType, mMediaStore, mSite.getId());
-        if (media == null) {
-            ToastUtils.showToast(this, R.string.file_not_found, ToastUtils.Duration.SHORT);
-            return;
+        MediaModel media = mMediaLibraryUploader.upload(uri, mimeType, mSite);
+        if (media != null) {
+            updateMediaGridItem(media, false);
         }
-
-        mDispatcher.dispatch(MediaActionBuilder.newUpdateMediaAction(media));
-        addMediaToUploadService(media);
-
-        updateMediaGridItem(media, false);
     }
 
     private void handleSharedMedia() {
@@ -1,11 +1,12 @@
 package org.wordpress.android.ui.media;
 
+import android.annotation.SuppressLint;
 import android.content.Context;
-import android.graphics.Bitmap;
 import android.graphics.Color;
 import android.graphics.PorterDuff;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
+import android.os.AsyncTask;
 import android.os.Handler;
 import android.text.TextUtils;
 import android.view.LayoutInflater;
@@ -19,6 +20,7 @@ import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
@@ -47,8 +49,10 @@ import org.wordpress.android.util.image.ImageType;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -67,6 +71,7 @@ public class MediaGridAdapter extends RecyclerView.Adapter<MediaGridAdapter.Grid
     private boolean mHasRetrievedAll;
     private boolean mInMultiSelect;
     private boolean mLoadThumbnails = true;
+    private boolean mHasMoreMediaInDB;
 
     private final Handler mHandler;
     private final LayoutInflater mInflater;
@@ -78,12 +83,22 @@ public class MediaGridAdapter extends RecyclerView.Adapter<MediaGridAdapter.Grid
     private final ArrayList<MediaModel> mMediaList = new ArrayList<>();
     private final ArrayList<Integer> mSelectedItems = new ArrayList<>();
 
+    // the source media are read from, and the one those shown so far were read from - they differ while the first
+    // page of a new source is loading
+    private MediaGridDataSource mDataSource;
+    private MediaGridDataSource mShownDataSource;
+    private LoadMediaTask mLoadMediaTask;
+    private int mPrefetchedThroughPosition = -1;
+
     private final int mThumbWidth;
     private final int mThumbHeight;
 
     private static final float SCALE_NORMAL = 1.0f;
     private static final float SCALE_SELECTED = .8f;
 
+    // the number of items past the last one shown whose thumbnails are loaded before they're scrolled into view
+    private static final int PREFETCH_ITEM_COUNT = 24;
+
     private static final String VIEW_TAG_EXTRACT_FROM_REMOTE_VIDEO_URL = "view_tag_extract_from_remote_video_url";
 
     @Inject ImageManager mImageManager;
@@ -100,6 +115,8 @@ public class MediaGridAdapter extends RecyclerView.Adapter<MediaGridAdapter.Grid
         void onAdapterRequestRetry(int position);
 
         void onAdapterRequestDelete(int position);
+
+        void onAdapterMediaLoaded();
     }
 
     private static final int INVALID_POSITION = -1;
@@ -125,12 +142,56 @@ public class MediaGridAdapter extends RecyclerView.Adapter<MediaGridAdapter.Grid
         return getLocalMediaIdAtPosition(position);
     }
 
-    public void setMediaList(@NonNull List<MediaModel> mediaList) {
-        if (!isSameList(mediaList)) {
-            mMediaList.clear();
-            mMediaList.addAll(mediaList);
-            notifyDataSetChanged();
+    /*
+     * shows the media read from the passed source in place of those shown so far
+     */
+    void setDataSource(@NonNull MediaGridDataSource dataSource) {
+        mDataSource = dataSource;
+        reload();
+    }
+
+    /*
+     * reloads the media shown so far - or the first page of them for a new source - so changes to them are shown,
+     * and any media added in front of them are inserted
+     */
+    @SuppressWarnings("deprecation")
+    void reload() {
+        if (mDataSource == null) {
+            return;
+        }
+        cancelLoadMediaTask();
+        int limit = mDataSource == mShownDataSource
+                ? Math.max(mMediaList.size(), MediaGridDataSource.PAGE_SIZE) : MediaGridDataSource.PAGE_SIZE;
+        mLoadMediaTask = new LoadMediaTask(mDataSource, 0, limit);
+        mLoadMediaTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+    }
+
+    /*
+     * appends the next page of media, unless a load is already in progress or they've all been loaded
+     */
+    @SuppressWarnings("deprecation")
+    private void loadMoreMediaFromDBAsync() {
+        if (!mHasMoreMediaInDB || mDataSource != mShownDataSource
+            || (mLoadMediaTask != null && mLoadMediaTask.getStatus() != AsyncTask.Status.FINISHED)) {
+            return;
         }
+        mLoadMediaTask = new LoadMediaTask(mDataSource, mMediaList.size(), MediaGridDataSource.PAGE_SIZE);
+        mLoadMediaTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+    }
+
+    @SuppressWarnings("deprecation")
+    private void cancelLoadMediaTask() {
+        if (mLoadMediaTask != null) {
+            mLoadMediaTask.cancel(false);
+            mLoadMediaTask = null;
+        }
+    }
+
+    /*
+     * true while the first page of a new source is loading, so the media shown aren't the ones asked for yet
+     */
+    boolean isLoadingMedia() {
+        return mDataSource != mShownDataSource;
     }
 
     @Override
@@ -186,6 +247,8 @@ public class MediaGridAdapter extends RecyclerView.Adapter<MediaGridAdapter.Grid
         boolean canSelect = canSelectPosition(position);
         boolean isImage = media.getMimeType() != null && media.getMimeType().startsWith("image/");
 
+        // forget any video thumbnail still being read for the item previously bound to this view
+        holder.mImageView.setTag(R.id.media_grid_video_thumb_key_id, null);
         if (!mLoadThumbnails) {
             holder.mFileContainer.setVisibility(View.GONE);
             mImageManager.load(holder.mImageView, ImageType.PHOTO, "", ScaleType.CENTER_CROP);
@@ -262,11 +325,13 @@ public class MediaGridAdapter extends RecyclerView.Adapter<MediaGridAdapter.Grid
             holder.mVideoOverlayContainer.setVisibility(media.isVideo() ? View.VISIBLE : View.GONE);
         }
 
-        // if we are near the end, make a call to fetch more
-        if (position == getItemCount() - 1
-            && !mHasRetrievedAll
-            && mCallback != null) {
-            mCallback.onAdapterFetchMoreData();
+        // if we are near the end, load the next page from the DB - or once they've all been loaded, fetch more
+        if (position == getItemCount() - 1) {
+            if (mHasMoreMediaInDB) {
+                loadMoreMediaFromDBAsync();
+            } else if (!mHasRetrievedAll && mCallback != null) {
+                mCallback.onAdapterFetchMoreData();
+            }
         }
     }
 
@@ -455,6 +520,7 @@ public class MediaGridAdapter extends RecyclerView.Adapter<MediaGridAdapter.Grid
     @Override public void onViewRecycled(@NonNull GridViewHolder holder) {
         mImageManager.cancelRequestAndClearImageView(holder.mImageView);
         holder.mImageView.setTag(R.id.media_grid_remote_thumb_extract_id, null);
+        holder.mImageView.setTag(R.id.media_grid_video_thumb_key_id, null);
         super.onViewRecycled(holder);
     }
 
@@ -516,13 +582,22 @@ public class MediaGridAdapter extends RecyclerView.Adapter<MediaGridAdapter.Grid
             AppLog.w(AppLog.T.MEDIA, "MediaGridAdapter > No path to video thumbnail");
             return;
         }
-        // see if we have a cached thumbnail before retrieving it
-        Bitmap bitmap = WordPress.getBitmapCache().get(filePath);
-        if (bitmap != null) {
-            mImageManager.load(imageView, bitmap, ScaleType.CENTER_CROP);
-            return;
-        }
+        // see if we have a cached thumbnail, in memory or on disk, before extracting it
+        imageView.setTag(R.id.media_grid_video_thumb_key_id, filePath);
+        WordPress.getBitmapCache().loadThumbnail(filePath, thumbnail -> {
+            if (!filePath.equals(imageView.getTag(R.id.media_grid_video_thumb_key_id))) {
+                // the view has since been recycled or bound to another item
+                return;
+            }
+            if (thumbnail != null) {
+                mImageManager.load(imageView, thumbnail, ScaleType.CENTER_CROP);
+            } else {
+                extractVideoThumbnail(filePath, imageView);
+            }
+        });
+    }
 
+    private void extractVideoThumbnail(@NonNull final String filePath, @NonNull final ImageView imageView) {
         imageView.setTag(R.id.media_grid_remote_thumb_extract_id, VIEW_TAG_EXTRACT_FROM_REMOTE_VIDEO_URL);
         mImageManager.loadThumbnailFromVideoUrl(mAppScope, imageView, filePath, ScaleType.CENTER_CROP,
                 new ImageManager.RequestListener<Drawable>() {
@@ -536,10 +611,8 @@ public class MediaGridAdapter extends RecyclerView.Adapter<MediaGridAdapter.Grid
                     @Override
                     public void onResourceReady(@NonNull Drawable resource, @Nullable Object model) {
                         imageView.setTag(R.id.media_grid_remote_thumb_extract_id, null);
-                        Bitmap bitmap = ((BitmapDrawable) resource).getBitmap();
-                        // create a copy since the original bitmap may by automatically recycled
-                        bitmap = bitmap.copy(bitmap.getConfig(), true);
-                        WordPress.getBitmapCache().put(filePath, bitmap);
+                        // the cache keeps a copy since the original bitmap may by automatically recycled
+                        WordPress.getBitmapCache().putThumbnail(filePath, ((BitmapDrawable) resource).getBitmap());
                     }
                 });
     }
@@ -573,6 +646,52 @@ public class MediaGridAdapter extends RecyclerView.Adapter<MediaGridAdapter.Grid
                 notifyDataSetChanged();
             }
         }
+        if (mLoadThumbnails) {
+            prefetchThumbnails();
+        }
+    }
+
+    /*
+     * loads the thumbnails of the items just past the ones shown into the image cache, so they're read from there
+     * rather than the network when they're scrolled into view. Skipped while thumbnail loading is off during a fling,
+     * since those items would only be flung past.
+     */
+    private void prefetchThumbnails() {
+        if (!mLoadThumbnails || mLayoutManager == null) {
+            return;
+        }
+        int lastVisiblePosition = mLayoutManager.findLastVisibleItemPosition();
+        if (lastVisiblePosition < 0) {
+            return;
+        }
+        int firstPosition = Math.max(lastVisiblePosition + 1, mPrefetchedThroughPosition + 1);
+        int lastPosition = Math.min(lastVisiblePosition + PREFETCH_ITEM_COUNT, mMediaList.size() - 1);
+        for (int i = firstPosition; i <= lastPosition; i++) {
+            String thumbnailUrl = getPrefetchThumbnailUrl(mMediaList.get(i));
+            if (thumbnailUrl != null) {
+                mImageManager.preload(mContext, thumbnailUrl, mThumbWidth, mThumbHeight, ScaleType.CENTER_CROP);
+            }
+        }
+        mPrefetchedThroughPosition = Math.max(mPrefetchedThroughPosition, lastPosition);
+    }
+
+    /*
+     * returns the url of the thumbnail onBindViewHolder will load for the passed media, or null if it doesn't load
+     * one from the network
+     */
+    @Nullable
+    private String getPrefetchThumbnailUrl(@NonNull MediaModel media) {
+        if (MediaUtils.isLocalFile(media.getUploadState())) {
+            return null;
+        }
+        if (media.getMimeType() != null && media.getMimeType().startsWith("image/")) {
+            return getBestImageUrl(media);
+        }
+        if (media.isVideo() && !TextUtils.isEmpty(media.getThumbnailUrl())
+            && !MediaUtils.isVideo(media.getThumbnailUrl())) {
+            return media.getThumbnailUrl();
+        }
+        return null;
     }
 
     public void clearSelection() {
@@ -716,19 +835,101 @@ public class MediaGridAdapter extends RecyclerView.Adapter<MediaGridAdapter.Grid
     }
 
     /*
-     * returns true if the passed list is the same as the existing one
+     * reads media from the DB and works out the changes to the items shown in the background, so the main thread
+     * only has to apply them
      */
-    private boolean isSameList(@NonNull List<MediaModel> otherList) {
-        if (otherList.size() != mMediaList.size()) {
-            return false;
+    @SuppressWarnings("deprecation")
+    @SuppressLint("StaticFieldLeak")
+    private class LoadMediaTask extends AsyncTask<Void, Void, Boolean> {
+        private final MediaGridDataSource mSource;
+        private final int mOffset;
+        private final int mLimit;
+        private final ArrayList<MediaModel> mOldMedia = new ArrayList<>(mMediaList);
+        private final ArrayList<MediaModel> mNewMedia = new ArrayList<>();
+        private DiffUtil.DiffResult mDiffResult;
+
+        LoadMediaTask(@NonNull MediaGridDataSource source, int offset, int limit) {
+            mSource = source;
+            mOffset = offset;
+            mLimit = limit;
+        }
+
+        @Override
+        protected Boolean doInBackground(Void... voids) {
+            MediaGridDataSource.Page page = mSource.loadPage(mOffset, mLimit);
+            if (mOffset > 0) {
+                mNewMedia.addAll(mOldMedia.subList(0, Math.min(mOffset, mOldMedia.size())));
+            }
+            // media added since the previous page was read push media already shown into this one, so skip those
+            Set<Integer> ids = new HashSet<>();
+            for (MediaModel media : mNewMedia) {
+                ids.add(media.getId());
+            }
+            for (MediaModel media : page.getMedia()) {
+                if (ids.add(media.getId())) {
+                    mNewMedia.add(media);
+                }
+            }
+            mDiffResult = DiffUtil.calculateDiff(new MediaDiffCallback(mOldMedia, mNewMedia));
+            return page.hasMore();
         }
 
-        for (MediaModel otherMedia : otherList) {
-            if (!mediaExists(otherMedia)) {
-                return false;
+        @Override
+        protected void onPostExecute(Boolean hasMoreMediaInDB) {
+            mLoadMediaTask = null;
+            mHasMoreMediaInDB = hasMoreMediaInDB;
+            mShownDataSource = mSource;
+            mPrefetchedThroughPosition = -1;
+            boolean isUnchangedSinceLoading = mMediaList.equals(mOldMedia);
+            mMediaList.clear();
+            mMediaList.addAll(mNewMedia);
+            if (isUnchangedSinceLoading) {
+                mDiffResult.dispatchUpdatesTo(MediaGridAdapter.this);
+            } else {
+                // an item was updated or removed while loading, so the changes worked out no longer apply
+                notifyDataSetChanged();
+            }
+
+            if (mCallback != null) {
+                mCallback.onAdapterMediaLoaded();
+            }
+            prefetchThumbnails();
+
+            // binding the last item asks for the next page, but it won't be bound again if it's already shown
+            if (mHasMoreMediaInDB && mLayoutManager != null
+                && mLayoutManager.findLastVisibleItemPosition() >= getItemCount() - 1) {
+                loadMoreMediaFromDBAsync();
             }
         }
+    }
+
+    private static class MediaDiffCallback extends DiffUtil.Callback {
+        private final List<MediaModel> mOldMedia;
+        private final List<MediaModel> mNewMedia;
 
-        return true;
+        MediaDiffCallback(@NonNull List<MediaModel> oldMedia, @NonNull List<MediaModel> newMedia) {
+            mOldMedia = oldMedia;
+            mNewMedia = newMedia;
+        }
+
+        @Override
+        public int getOldListSize() {
+            return mOldMedia.size();
+        }
+
+        @Override
+        public int getNewListSize() {
+            return mNewMedia.size();
+        }
+
+        @Override
+        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+            return mOldMedia.get(oldItemPosition).getId() == mNewMedia.get(newItemPosition).getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+            return mOldMedia.get(oldItemPosition).equals(mNewMedia.get(newItemPosition));
+        }
     }
 }
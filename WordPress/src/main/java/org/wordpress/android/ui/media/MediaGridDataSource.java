@@ -0,0 +1,183 @@
+package org.wordpress.android.ui.media;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.wellsql.generated.MediaModelTable;
+import com.yarolegovich.wellsql.WellSql;
+
+import org.wordpress.android.fluxc.model.MediaModel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the media shown by the media grid from the media table a page at a time. The site, mime types and search
+ * term are applied by the query rather than to a list of all the site's media in memory, and only the local ids of a
+ * page are selected by it, the page's models then being read by id - so a site with tens of thousands of media items
+ * only has the ones scrolled through so far loaded.
+ */
+class MediaGridDataSource {
+    // should be a multiple of both the column counts (3 in portrait, 4 in landscape)
+    static final int PAGE_SIZE = 48;
+
+    static final String MIME_TYPE_PREFIX_IMAGE = "image/";
+    static final String MIME_TYPE_PREFIX_VIDEO = "video/";
+    static final String MIME_TYPE_PREFIX_AUDIO = "audio/";
+    static final String MIME_TYPE_PREFIX_DOCUMENT = "application/";
+
+    private static final String MEDIA_TABLE = "MediaModel";
+    private static final String[] SEARCH_COLUMNS = {
+            MediaModelTable.TITLE,
+            MediaModelTable.CAPTION,
+            MediaModelTable.DESCRIPTION,
+            MediaModelTable.FILE_NAME
+    };
+    private static final String ORDER_BY = MediaModelTable.UPLOAD_DATE + " DESC, " + MediaModelTable.ID + " DESC";
+
+    /**
+     * Fixes up the media of a page before they're shown. Called on the background thread the page is read on.
+     */
+    interface PageProcessor {
+        void processPage(@NonNull List<MediaModel> page);
+    }
+
+    static class Page {
+        @NonNull private final List<MediaModel> mMedia;
+        private final boolean mHasMore;
+
+        Page(@NonNull List<MediaModel> media, boolean hasMore) {
+            mMedia = media;
+            mHasMore = hasMore;
+        }
+
+        @NonNull
+        List<MediaModel> getMedia() {
+            return mMedia;
+        }
+
+        /*
+         * false once the query has no more rows after this page
+         */
+        boolean hasMore() {
+            return mHasMore;
+        }
+    }
+
+    @NonNull private final String mSelection;
+    @NonNull private final String[] mSelectionArgs;
+    @Nullable private final PageProcessor mPageProcessor;
+
+    /**
+     * @param mimeTypePrefixes The media shown must have a mime type starting with one of these, or any if it's empty
+     * @param searchTerm Text the media's title, caption, description or file name must contain, if not empty
+     */
+    MediaGridDataSource(int localSiteId, @NonNull List<String> mimeTypePrefixes, @Nullable String searchTerm,
+                        @Nullable PageProcessor pageProcessor) {
+        List<String> selectionArgs = new ArrayList<>();
+        mSelection = buildSelection(localSiteId, mimeTypePrefixes, searchTerm, selectionArgs);
+        mSelectionArgs = selectionArgs.toArray(new String[0]);
+        mPageProcessor = pageProcessor;
+    }
+
+    /*
+     * reads the passed number of media starting at the passed offset in the order they're shown - call from a
+     * background thread
+     */
+    @NonNull
+    Page loadPage(int offset, int limit) {
+        List<Integer> ids = queryIds(offset + "," + limit);
+        if (ids.isEmpty()) {
+            return new Page(new ArrayList<>(), false);
+        }
+
+        Map<Integer, MediaModel> mediaById = new HashMap<>();
+        for (MediaModel media : WellSql.select(MediaModel.class)
+                                       .where().isIn(MediaModelTable.ID, ids).endWhere()
+                                       .getAsModel()) {
+            mediaById.put(media.getId(), media);
+        }
+        // restore the query's order, leaving out any media deleted between the two reads
+        List<MediaModel> page = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            MediaModel media = mediaById.get(id);
+            if (media != null) {
+                page.add(media);
+            }
+        }
+
+        if (mPageProcessor != null) {
+            mPageProcessor.processPage(page);
+        }
+        return new Page(page, ids.size() == limit);
+    }
+
+    /*
+     * returns the local ids of all the media shown, in the order they're shown
+     */
+    @NonNull
+    List<Integer> loadAllIds() {
+        return queryIds(null);
+    }
+
+    @NonNull
+    private List<Integer> queryIds(@Nullable String limit) {
+        List<Integer> ids = new ArrayList<>();
+        try (Cursor cursor = WellSql.giveMeReadableDb().query(MEDIA_TABLE, new String[]{MediaModelTable.ID},
+                mSelection, mSelectionArgs, null, null, ORDER_BY, limit)) {
+            while (cursor.moveToNext()) {
+                ids.add(cursor.getInt(0));
+            }
+        }
+        return ids;
+    }
+
+    /*
+     * returns the where clause matching the passed site, mime types and search term, adding its arguments to the
+     * passed list
+     */
+    @NonNull
+    static String buildSelection(int localSiteId, @NonNull List<String> mimeTypePrefixes,
+                                 @Nullable String searchTerm, @NonNull List<String> selectionArgs) {
+        StringBuilder selection = new StringBuilder(MediaModelTable.LOCAL_SITE_ID).append("=?");
+        selectionArgs.add(String.valueOf(localSiteId));
+
+        if (!mimeTypePrefixes.isEmpty()) {
+            selection.append(" AND (");
+            for (int i = 0; i < mimeTypePrefixes.size(); i++) {
+                if (i > 0) {
+                    selection.append(" OR ");
+                }
+                selection.append(MediaModelTable.MIME_TYPE).append(" LIKE ? ESCAPE '\\'");
+                selectionArgs.add(escapeLikePattern(mimeTypePrefixes.get(i)) + "%");
+            }
+            selection.append(")");
+        }
+
+        if (searchTerm != null && !searchTerm.isEmpty()) {
+            String pattern = "%" + escapeLikePattern(searchTerm) + "%";
+            selection.append(" AND (");
+            for (int i = 0; i < SEARCH_COLUMNS.length; i++) {
+                if (i > 0) {
+                    selection.append(" OR ");
+                }
+                selection.append(SEARCH_COLUMNS[i]).append(" LIKE ? ESCAPE '\\'");
+                selectionArgs.add(pattern);
+            }
+            selection.append(")");
+        }
+        return selection.toString();
+    }
+
+    /*
+     * escapes the characters LIKE treats as wildcards, so they only match themselves
+     */
+    @NonNull
+    private static String escapeLikePattern(@NonNull String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -66,6 +66,8 @@ import org.wordpress.android.util.widgets.CustomSwipeRefreshLayout;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -390,7 +392,8 @@ public class MediaGridFragment extends Fragment implements MediaGridAdapterCallb
     /*
       * this method has two purposes: (1) make sure media that is being deleted still has the right UploadState,
       * as it may have been overwritten by a refresh while deletion was still in progress, (2) remove any local
-      * files (ie: media not uploaded yet) that no longer exist (in case user deleted them from the device)
+      * files (ie: media not uploaded yet) that no longer exist (in case user deleted them from the device).
+      * Called on the background thread each page of media is loaded on.
       */
     private void ensureCorrectState(List<MediaModel> mediaModels) {
         if (isAdded() && getActivity() instanceof MediaBrowserActivity) {
@@ -422,60 +425,45 @@ public class MediaGridFragment extends Fragment implements MediaGridAdapterCallb
         }
     }
 
-    List<MediaModel> getFilteredMedia() {
-        List<MediaModel> mediaList;
-        if (!TextUtils.isEmpty(mSearchTerm)) {
+    /*
+     * returns the source of the media shown for the current filter and search term
+     */
+    @NonNull
+    private MediaGridDataSource createDataSource() {
+        return new MediaGridDataSource(mSite.getId(), getMimeTypePrefixes(), mSearchTerm, this::ensureCorrectState);
+    }
+
+    @NonNull
+    private List<String> getMimeTypePrefixes() {
+        if (!TextUtils.isEmpty(mSearchTerm) || mBrowserType.canFilter() || mBrowserType.canOnlyDoInitialFilter()
+            || mBrowserType.isSingleFilePicker() || mBrowserType.isSingleAudioFilePicker()) {
             switch (mFilter) {
                 case FILTER_IMAGES:
-                    mediaList = mMediaStore.searchSiteImages(mSite, mSearchTerm);
-                    break;
+                    return Collections.singletonList(MediaGridDataSource.MIME_TYPE_PREFIX_IMAGE);
                 case FILTER_DOCUMENTS:
-                    mediaList = mMediaStore.searchSiteDocuments(mSite, mSearchTerm);
-                    break;
+                    return Collections.singletonList(MediaGridDataSource.MIME_TYPE_PREFIX_DOCUMENT);
                 case FILTER_VIDEOS:
-                    mediaList = mMediaStore.searchSiteVideos(mSite, mSearchTerm);
-                    break;
+                    return Collections.singletonList(MediaGridDataSource.MIME_TYPE_PREFIX_VIDEO);
                 case FILTER_AUDIO:
-                    mediaList = mMediaStore.searchSiteAudio(mSite, mSearchTerm);
-                    break;
+                    return Collections.singletonList(MediaGridDataSource.MIME_TYPE_PREFIX_AUDIO);
                 default:
-                    mediaList = mMediaStore.searchSiteMedia(mSite, mSearchTerm);
-                    break;
+                    return Collections.emptyList();
             }
         } else if (mBrowserType.isSingleImagePicker()) {
-            mediaList = mMediaStore.getSiteImages(mSite);
-        } else if (mBrowserType.canFilter() || mBrowserType.canOnlyDoInitialFilter() || mBrowserType
-                .isSingleFilePicker() || mBrowserType
-                           .isSingleAudioFilePicker()) {
-            mediaList = getMediaList();
+            return Collections.singletonList(MediaGridDataSource.MIME_TYPE_PREFIX_IMAGE);
         } else {
-            List<MediaModel> allMedia = mMediaStore.getAllSiteMedia(mSite);
-            mediaList = new ArrayList<>();
-            for (MediaModel media : allMedia) {
-                String mime = media.getMimeType();
-                if (mime != null && (mime.startsWith("image") || mime.startsWith("video"))) {
-                    mediaList.add(media);
-                }
-            }
+            return Arrays.asList(MediaGridDataSource.MIME_TYPE_PREFIX_IMAGE,
+                    MediaGridDataSource.MIME_TYPE_PREFIX_VIDEO);
         }
-
-        ensureCorrectState(mediaList);
-        return mediaList;
     }
 
-    private List<MediaModel> getMediaList() {
-        switch (mFilter) {
-            case FILTER_IMAGES:
-                return mMediaStore.getSiteImages(mSite);
-            case FILTER_DOCUMENTS:
-                return mMediaStore.getSiteDocuments(mSite);
-            case FILTER_VIDEOS:
-                return mMediaStore.getSiteVideos(mSite);
-            case FILTER_AUDIO:
-                return mMediaStore.getSiteAudio(mSite);
-            default:
-                return mMediaStore.getAllSiteMedia(mSite);
-        }
+    /*
+     * returns the local ids of all the media for the current filter and search term, including those not loaded into
+     * the grid yet - reads them from the DB, so avoid calling it from the main thread more than on a user's action
+     */
+    @NonNull
+    List<Integer> getFilteredMediaIds() {
+        return createDataSource().loadAllIds();
     }
 
     void setFilter(@NonNull MediaFilter filter) {
@@ -489,7 +477,7 @@ public class MediaGridFragment extends Fragment implements MediaGridAdapterCallb
         // temporarily disable animation - otherwise the user will see items animate
         // when they change the filter
         mRecycler.setItemAnimator(null);
-        getAdapter().setMediaList(getFilteredMedia());
+        getAdapter().setDataSource(createDataSource());
         new Handler().postDelayed(new Runnable() {
             @Override
             public void run() {
@@ -547,6 +535,11 @@ public class MediaGridFragment extends Fragment implements MediaGridAdapterCallb
         mListener.onMediaRequestRetry(localMediaId);
     }
 
+    @Override
+    public void onAdapterMediaLoaded() {
+        updateEmptyView(mEmptyViewMessageType);
+    }
+
     @Override
     public void onAdapterRequestDelete(int position) {
         int localMediaId = getAdapter().getLocalMediaIdAtPosition(position);
@@ -573,7 +566,7 @@ public class MediaGridFragment extends Fragment implements MediaGridAdapterCallb
      */
     void reload() {
         if (isAdded()) {
-            getAdapter().setMediaList(getFilteredMedia());
+            getAdapter().reload();
         }
     }
 
@@ -603,12 +596,9 @@ public class MediaGridFragment extends Fragment implements MediaGridAdapterCallb
 
     public void search(String searchTerm) {
         mSearchTerm = searchTerm;
-        List<MediaModel> mediaList = getFilteredMedia();
-        mGridAdapter.setMediaList(mediaList);
-
-        if (isEmpty()) {
-            updateEmptyView(EmptyViewMessageType.NO_CONTENT);
-        }
+        // the empty view is updated once the media matching the term are loaded
+        mEmptyViewMessageType = EmptyViewMessageType.NO_CONTENT;
+        getAdapter().setDataSource(createDataSource());
     }
 
     public void clearSelection() {
@@ -643,7 +633,8 @@ public class MediaGridFragment extends Fragment implements MediaGridAdapterCallb
             return;
         }
 
-        if (isEmpty()) {
+        // while the media for a new filter or search term are loading, the grid still shows the previous ones
+        if (isEmpty() && !getAdapter().isLoadingMedia()) {
             int stringId;
             switch (emptyViewMessageType) {
                 case LOADING:
@@ -778,9 +769,7 @@ public class MediaGridFragment extends Fragment implements MediaGridAdapterCallb
             return;
         }
 
-        List<MediaModel> filteredMedia = getFilteredMedia();
-        ensureCorrectState(filteredMedia);
-        getAdapter().setMediaList(filteredMedia);
+        getAdapter().reload();
 
         boolean hasRetrievedAll = !event.canLoadMore;
         getAdapter().setHasRetrievedAll(hasRetrievedAll);
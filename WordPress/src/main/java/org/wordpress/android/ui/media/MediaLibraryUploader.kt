@@ -0,0 +1,88 @@
+package org.wordpress.android.ui.media
+
+import android.content.Context
+import android.net.Uri
+import org.wordpress.android.R
+import org.wordpress.android.analytics.AnalyticsTracker.Stat.APP_REVIEWS_EVENT_INCREMENTED_BY_UPLOADING_MEDIA
+import org.wordpress.android.fluxc.Dispatcher
+import org.wordpress.android.fluxc.generated.MediaActionBuilder
+import org.wordpress.android.fluxc.model.MediaModel
+import org.wordpress.android.fluxc.model.SiteModel
+import org.wordpress.android.fluxc.store.MediaStore
+import org.wordpress.android.ui.uploads.UploadService
+import org.wordpress.android.util.AppLog
+import org.wordpress.android.util.FluxCUtils
+import org.wordpress.android.util.ImageOptimizationPipeline
+import org.wordpress.android.util.MediaUtils
+import org.wordpress.android.util.NetworkUtils
+import org.wordpress.android.util.ToastUtils
+import org.wordpress.android.util.WPMediaUtils
+import org.wordpress.android.widgets.AppRatingDialog
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * Optimizes the media added to a site's media library and queues it for upload, without holding on to the screen it
+ * was added from. The media is stored once it's optimized, which the media browser showing at that point - the one
+ * recreated after a rotation, say - picks up from the store, and if the browser was left the upload goes on anyway.
+ */
+@Singleton
+class MediaLibraryUploader @Inject constructor(
+    private val appContext: Context,
+    private val imageOptimizationPipeline: ImageOptimizationPipeline,
+    private val dispatcher: Dispatcher,
+    private val mediaStore: MediaStore
+) {
+    /**
+     * Optimizes the passed image on the optimization workers, then queues it for upload.
+     *
+     * @param mimeType The mime type of the media, or null to read it from the optimized image
+     */
+    fun optimizeAndUpload(uri: Uri, mimeType: String?, site: SiteModel) {
+        imageOptimizationPipeline.optimize(uri, { getOptimizedPictureIfNecessary(it, site) }) { optimizedUri ->
+            // an optimized copy may be in another format - a HEIC photo is optimized to a JPEG - so its type is read
+            // from the copy
+            val type = if (optimizedUri == uri) mimeType else null
+            upload(optimizedUri, type ?: appContext.contentResolver.getType(optimizedUri), site)
+        }
+    }
+
+    /**
+     * Stores the media at the passed uri and queues it for upload, returning it - or null if it can't be read.
+     */
+    fun upload(uri: Uri, mimeType: String?, site: SiteModel): MediaModel? {
+        val media = FluxCUtils.mediaModelFromLocalUri(appContext, uri, mimeType, mediaStore, site.id)
+        if (media == null) {
+            ToastUtils.showToast(appContext, R.string.file_not_found, ToastUtils.Duration.SHORT)
+            return null
+        }
+
+        dispatcher.dispatch(MediaActionBuilder.newUpdateMediaAction(media))
+        if (!NetworkUtils.isNetworkAvailable(appContext)) {
+            AppLog.v(AppLog.T.MEDIA, "Unable to start UploadService, internet connection required.")
+            ToastUtils.showToast(appContext, R.string.no_network_message, ToastUtils.Duration.SHORT)
+        } else {
+            UploadService.uploadMedia(appContext, arrayListOf(media), "MediaLibraryUploader#upload")
+            AppRatingDialog.incrementInteractions(APP_REVIEWS_EVENT_INCREMENTED_BY_UPLOADING_MEDIA)
+        }
+        return media
+    }
+
+    private fun getOptimizedPictureIfNecessary(originalUri: Uri, site: SiteModel): Uri {
+        val filePath = MediaUtils.getRealPathFromURI(appContext, originalUri)
+        if (filePath.isNullOrEmpty()) {
+            return originalUri
+        }
+        val optimizedMedia = WPMediaUtils.getOptimizedMedia(appContext, filePath, false)
+        if (optimizedMedia != null) {
+            return optimizedMedia
+        }
+        // Optimization is OFF. Make sure the picture is in portrait for .org site
+        // Fix for the rotation issue https://github.com/wordpress-mobile/WordPress-Android/issues/5737
+        if (!site.isWPCom) {
+            // If it's not wpcom we must rotate the picture locally
+            WPMediaUtils.fixOrientationIssue(appContext, filePath, false)?.let { return it }
+        }
+        return originalUri
+    }
+}
@@ -6,6 +6,8 @@ import org.wordpress.android.fluxc.model.PostModel;
 import org.wordpress.android.fluxc.model.SiteModel;
 import org.wordpress.android.util.helpers.MediaFile;
 
+import java.util.Map;
+
 /**
  * Callbacks - requests for editor capabilities to replace media once it's finished uploading
  * and mark media failed if could not be uploaded
@@ -16,5 +18,8 @@ public interface MediaUploadReadyListener {
     //  See: https://git.io/JqfhK
     PostModel replaceMediaFileWithUrlInPost(@Nullable PostModel post, String localMediaId, MediaFile mediaFile,
                                             @Nullable SiteModel site);
+    // Replaces several uploaded media at once - mediaFiles is keyed by local media id and iterated in order
+    PostModel replaceMediaFilesWithUrlsInPost(@Nullable PostModel post, Map<String, MediaFile> mediaFiles,
+                                              @Nullable SiteModel site);
     PostModel markMediaUploadFailedInPost(@Nullable PostModel post, String localMediaId, MediaFile mediaFile);
 }
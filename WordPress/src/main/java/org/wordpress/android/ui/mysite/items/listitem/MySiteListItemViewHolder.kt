@@ -71,13 +71,8 @@ class MySiteListItemViewHolder(
                     override fun onResourceReady(resource: android.graphics.drawable.Drawable, model: Any?) {
                         ImageViewCompat.setImageTintList(imgIcon, null)
                         if (resource is BitmapDrawable) {
-                            var bitmap = resource.bitmap
-                            // create a copy since the original bitmap may by automatically recycled
-                            bitmap = bitmap.copy(bitmap.config, true)
-                            WordPress.getBitmapCache().put(
-                                avatarUrl,
-                                bitmap
-                            )
+                            // the cache keeps a copy since the original bitmap may by automatically recycled
+                            WordPress.getBitmapCache().putCopy(avatarUrl, resource.bitmap)
                         }
                     }
                 }
@@ -45,6 +45,9 @@ public class NotificationEvents {
         }
     }
 
+    /**
+     * Posted once a sync has been applied to the stored notes, with the notes it found changed on the server
+     */
     public static class NotificationsRefreshCompleted {
         public final List<Note> notes;
 
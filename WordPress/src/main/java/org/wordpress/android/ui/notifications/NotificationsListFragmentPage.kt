@@ -439,7 +439,7 @@ class NotificationsListFragmentPage : ViewPagerFragment(R.layout.notifications_l
             return
         }
         swipeToRefreshHelper?.isRefreshing = false
-        notesAdapter!!.addAll(event.notes, true)
+        notesAdapter!!.reloadNotesFromDBAsync()
     }
 
     @Suppress("unused", "UNUSED_PARAMETER")
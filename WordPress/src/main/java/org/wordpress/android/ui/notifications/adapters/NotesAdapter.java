@@ -15,6 +15,7 @@ import android.widget.TextView;
 import androidx.core.graphics.ColorUtils;
 import androidx.core.text.BidiFormatter;
 import androidx.core.view.ViewCompat;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import org.wordpress.android.R;
@@ -80,6 +81,7 @@ public class NotesAdapter extends RecyclerView.Adapter<NotesAdapter.NoteViewHold
 
     private FILTERS mCurrentFilter = FILTERS.FILTER_ALL;
     private ReloadNotesFromDBTask mReloadNotesFromDBTask;
+    private boolean mHasMoreNotesInDB;
 
     public interface DataLoadedListener {
         void onDataLoaded(int itemsCount);
@@ -308,9 +310,14 @@ public class NotesAdapter extends RecyclerView.Adapter<NotesAdapter.NoteViewHold
             noteViewHolder.mContentView.setBackgroundColor(0);
         }
 
-        // request to load more comments when we near the end
-        if (mOnLoadMoreListener != null && position >= getItemCount() - 1) {
-            mOnLoadMoreListener.onLoadMore(note.getTimestamp());
+        // request to load more comments when we near the end - from the DB while it has more, and from the
+        // server once they've all been loaded
+        if (position >= getItemCount() - 1) {
+            if (mHasMoreNotesInDB) {
+                loadMoreNotesFromDBAsync();
+            } else if (mOnLoadMoreListener != null) {
+                mOnLoadMoreListener.onLoadMore(note.getTimestamp());
+            }
         }
     }
 
@@ -341,26 +348,89 @@ public class NotesAdapter extends RecyclerView.Adapter<NotesAdapter.NoteViewHold
         }
     }
 
+    /*
+     * reloads the notes shown so far - or the first page of notes if none have been loaded - so changes to them
+     * are shown, and any notes added in front of them are inserted
+     */
     @SuppressWarnings("deprecation")
     public void reloadNotesFromDBAsync() {
         cancelReloadNotesTask();
-        mReloadNotesFromDBTask = new ReloadNotesFromDBTask();
+        int limit = Math.max(mNotes.size(), NotificationsTable.NOTES_PAGE_SIZE);
+        mReloadNotesFromDBTask = new ReloadNotesFromDBTask(0, limit);
         mReloadNotesFromDBTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
     }
 
+    /*
+     * appends the next page of stored notes, unless a load is already in progress or they've all been loaded
+     */
+    @SuppressWarnings("deprecation")
+    private void loadMoreNotesFromDBAsync() {
+        if (!mHasMoreNotesInDB
+            || (mReloadNotesFromDBTask != null && mReloadNotesFromDBTask.getStatus() != Status.FINISHED)) {
+            return;
+        }
+        mReloadNotesFromDBTask = new ReloadNotesFromDBTask(mNotes.size(), NotificationsTable.NOTES_PAGE_SIZE);
+        mReloadNotesFromDBTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+    }
+
+    /*
+     * loads notes from the DB and works out the changes to the rows shown in the background, so the main thread
+     * only has to apply them
+     */
     @SuppressWarnings("deprecation")
     @SuppressLint("StaticFieldLeak")
-    private class ReloadNotesFromDBTask extends AsyncTask<Void, Void, ArrayList<Note>> {
+    private class ReloadNotesFromDBTask extends AsyncTask<Void, Void, Boolean> {
+        private final int mOffset;
+        private final int mLimit;
+        private final FILTERS mFilter = mCurrentFilter;
+        private final ArrayList<Note> mOldNotes = new ArrayList<>(mNotes);
+        private final ArrayList<Note> mOldFilteredNotes = new ArrayList<>(mFilteredNotes);
+        private final ArrayList<Note> mNewNotes = new ArrayList<>();
+        private final ArrayList<Note> mNewFilteredNotes = new ArrayList<>();
+        private DiffUtil.DiffResult mDiffResult;
+
+        ReloadNotesFromDBTask(int offset, int limit) {
+            mOffset = offset;
+            mLimit = limit;
+        }
+
         @Override
-        protected ArrayList<Note> doInBackground(Void... voids) {
-            return NotificationsTable.getLatestNotes();
+        protected Boolean doInBackground(Void... voids) {
+            ArrayList<Note> notes = NotificationsTable.getLatestNotes(mLimit, mOffset);
+            if (mOffset > 0) {
+                mNewNotes.addAll(mOldNotes.subList(0, Math.min(mOffset, mOldNotes.size())));
+            }
+            mNewNotes.addAll(notes);
+            buildFilteredNotesList(mNewFilteredNotes, mNewNotes, mFilter);
+            mDiffResult = DiffUtil.calculateDiff(new NotesDiffCallback(mOldFilteredNotes, mNewFilteredNotes));
+            return notes.size() == mLimit;
         }
 
         @Override
-        protected void onPostExecute(ArrayList<Note> notes) {
+        protected void onPostExecute(Boolean hasMoreNotesInDB) {
+            mReloadNotesFromDBTask = null;
+            mHasMoreNotesInDB = hasMoreNotesInDB;
             mNotes.clear();
-            mNotes.addAll(notes);
-            myNotifyDatasetChanged();
+            mNotes.addAll(mNewNotes);
+            if (mFilter == mCurrentFilter && mFilteredNotes.equals(mOldFilteredNotes)) {
+                mFilteredNotes.clear();
+                mFilteredNotes.addAll(mNewFilteredNotes);
+                mDiffResult.dispatchUpdatesTo(NotesAdapter.this);
+                if (mDataLoadedListener != null) {
+                    mDataLoadedListener.onDataLoaded(getItemCount());
+                }
+            } else {
+                // the rows shown changed while loading, so the changes worked out no longer apply to them
+                myNotifyDatasetChanged();
+            }
+
+            // keep loading while the filter leaves too few notes to fill the list and trigger loading more
+            if (mHasMoreNotesInDB && mFilteredNotes.size() < NotificationsTable.NOTES_PAGE_SIZE) {
+                loadMoreNotesFromDBAsync();
+            } else if (mOffset > 0 && !mHasMoreNotesInDB && mOnLoadMoreListener != null && !mNotes.isEmpty()) {
+                // the end of the list was reached and the DB has run out, so older notes come from the server
+                mOnLoadMoreListener.onLoadMore(mNotes.get(mNotes.size() - 1).getTimestamp());
+            }
         }
     }
 
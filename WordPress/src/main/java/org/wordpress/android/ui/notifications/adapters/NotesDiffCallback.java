@@ -0,0 +1,65 @@
+package org.wordpress.android.ui.notifications.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+
+import org.wordpress.android.models.Note;
+import org.wordpress.android.models.Note.NoteTimeGroup;
+
+import java.util.List;
+
+/**
+ * Compares two lists of notes as shown by NotesAdapter. A row is unchanged when its note has the same server hash,
+ * read state and comment status, and it shows the same time group header - which depends on the note before it.
+ */
+class NotesDiffCallback extends DiffUtil.Callback {
+    private final List<Note> mOldNotes;
+    private final List<Note> mNewNotes;
+
+    NotesDiffCallback(@NonNull List<Note> oldNotes, @NonNull List<Note> newNotes) {
+        mOldNotes = oldNotes;
+        mNewNotes = newNotes;
+    }
+
+    @Override
+    public int getOldListSize() {
+        return mOldNotes.size();
+    }
+
+    @Override
+    public int getNewListSize() {
+        return mNewNotes.size();
+    }
+
+    @Override
+    public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+        String oldId = mOldNotes.get(oldItemPosition).getId();
+        return oldId != null && oldId.equals(mNewNotes.get(newItemPosition).getId());
+    }
+
+    @Override
+    public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+        Note oldNote = mOldNotes.get(oldItemPosition);
+        Note newNote = mNewNotes.get(newItemPosition);
+        return oldNote.getNoteHash().equals(newNote.getNoteHash())
+               && oldNote.getTimestampString().equals(newNote.getTimestampString())
+               && oldNote.isUnread().equals(newNote.isUnread())
+               && oldNote.getCommentStatus() == newNote.getCommentStatus()
+               && oldNote.getLocalStatus().equals(newNote.getLocalStatus())
+               && getHeaderTimeGroup(mOldNotes, oldItemPosition) == getHeaderTimeGroup(mNewNotes, newItemPosition);
+    }
+
+    /*
+     * returns the time group shown in the header above the note at the passed position, or null if the note
+     * doesn't show a header because it's in the same time group as the note before it
+     */
+    @Nullable
+    private static NoteTimeGroup getHeaderTimeGroup(@NonNull List<Note> notes, int position) {
+        NoteTimeGroup timeGroup = Note.getTimeGroupForTimestamp(notes.get(position).getTimestamp());
+        if (position > 0 && Note.getTimeGroupForTimestamp(notes.get(position - 1).getTimestamp()) == timeGroup) {
+            return null;
+        }
+        return timeGroup;
+    }
+}
@@ -7,6 +7,7 @@ import com.android.volley.VolleyError;
 import com.wordpress.rest.RestRequest;
 
 import org.greenrobot.eventbus.EventBus;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.wordpress.android.WordPress;
@@ -20,10 +21,17 @@ import org.wordpress.android.util.AppLog;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * Syncs the stored notifications with the server by first fetching just the id and hash of the latest notes, then
+ * fetching the full data of only those notes whose hash differs from the stored one, so a refresh where little has
+ * changed transfers and writes little.
+ */
 public class NotificationsUpdateLogic {
     private ServiceCompletionListener mCompletionListener;
     private Object mListenerCompanion;
@@ -46,35 +54,111 @@ public class NotificationsUpdateLogic {
         mRunning = true;
         mNoteId = noteId;
         mIsStartedByTappingOnNotification = isStartedByTappingOnNotification;
+        Map<String, String> params = getParams(NotificationsTable.NOTES_TO_RETRIEVE);
+        params.put("fields", RestClientUtils.NOTIFICATION_HASH_FIELDS);
+        HashesListener listener = new HashesListener();
+        WordPress.getRestClientUtilsV1_1().getNotifications(params, listener, listener);
+    }
+
+    private Map<String, String> getParams(int number) {
         Map<String, String> params = new HashMap<>();
-        params.put("number", "200");
-        params.put("num_note_items", "20");
-        params.put("fields", RestClientUtils.NOTIFICATION_FIELDS);
+        params.put("number", String.valueOf(number));
         if (!TextUtils.isEmpty(mLocale)) {
             params.put("locale", mLocale.toLowerCase(Locale.ENGLISH));
         }
-        RestListener listener = new RestListener();
-        WordPress.getRestClientUtilsV1_1().getNotifications(params, listener, listener);
+        return params;
     }
 
-    private class RestListener implements RestRequest.Listener, RestRequest.ErrorListener {
+    /*
+     * receives the id and hash of the server's latest notes, and requests the full data of those which have changed
+     */
+    private class HashesListener implements RestRequest.Listener, RestRequest.ErrorListener {
         @Override
         public void onResponse(final JSONObject response) {
-            List<Note> notes;
             if (response == null) {
                 // Not sure this could ever happen, but make sure we're catching all response types
                 AppLog.w(AppLog.T.NOTIFS, "Success, but did not receive any notes");
                 EventBus.getDefault().post(
                         new NotificationEvents.NotificationsRefreshCompleted(new ArrayList<Note>(0)));
+                completed();
+                return;
+            }
+
+            Set<String> serverNoteIds = new HashSet<>();
+            List<String> changedNoteIds = new ArrayList<>();
+            try {
+                Map<String, String> storedNoteHashes = NotificationsTable.getNoteHashes();
+                JSONArray notesJSON = response.getJSONArray("notes");
+                for (int i = 0; i < notesJSON.length(); i++) {
+                    JSONObject noteJSON = notesJSON.getJSONObject(i);
+                    String noteId = noteJSON.optString("id", "");
+                    String noteHash = noteJSON.optString("note_hash", "");
+                    if (TextUtils.isEmpty(noteId)) {
+                        continue;
+                    }
+                    serverNoteIds.add(noteId);
+                    // if we have a note id, we were started from NotificationsDetailActivity.
+                    // That means we need to re-set the *read* flag on this note, so fetch it even if it hasn't changed.
+                    boolean isTappedNote = mIsStartedByTappingOnNotification && noteId.equals(mNoteId);
+                    if (isTappedNote || TextUtils.isEmpty(noteHash) || !noteHash.equals(storedNoteHashes.get(noteId))) {
+                        changedNoteIds.add(noteId);
+                    }
+                }
+            } catch (JSONException e) {
+                AppLog.e(AppLog.T.NOTIFS, "Success, but can't parse the response", e);
+                EventBus.getDefault().post(new NotificationEvents.NotificationsRefreshError());
+                completed();
+                return;
+            }
+
+            AppLog.i(AppLog.T.NOTIFS, "notifications update service > " + changedNoteIds.size() + " of "
+                                      + serverNoteIds.size() + " notes changed");
+            if (changedNoteIds.isEmpty()) {
+                NotificationsTable.applyNoteChanges(new ArrayList<Note>(0), serverNoteIds);
+                EventBus.getDefault().post(
+                        new NotificationEvents.NotificationsRefreshCompleted(new ArrayList<Note>(0)));
+                completed();
+                return;
+            }
+
+            Map<String, String> params = getParams(changedNoteIds.size());
+            params.put("ids", TextUtils.join(",", changedNoteIds));
+            params.put("num_note_items", "20");
+            params.put("fields", RestClientUtils.NOTIFICATION_FIELDS);
+            NotesListener listener = new NotesListener(serverNoteIds);
+            WordPress.getRestClientUtilsV1_1().getNotifications(params, listener, listener);
+        }
+
+        @Override
+        public void onErrorResponse(final VolleyError volleyError) {
+            onRefreshError(volleyError);
+        }
+    }
+
+    /*
+     * receives the full data of the changed notes and applies the changes to the stored notes
+     */
+    private class NotesListener implements RestRequest.Listener, RestRequest.ErrorListener {
+        private final Set<String> mServerNoteIds;
+
+        NotesListener(Set<String> serverNoteIds) {
+            mServerNoteIds = serverNoteIds;
+        }
+
+        @Override
+        public void onResponse(final JSONObject response) {
+            List<Note> notes;
+            if (response == null) {
+                AppLog.w(AppLog.T.NOTIFS, "Success, but did not receive any notes");
+                EventBus.getDefault().post(
+                        new NotificationEvents.NotificationsRefreshCompleted(new ArrayList<Note>(0)));
             } else {
                 try {
                     notes = NotificationsActions.parseNotes(response);
-                    // if we have a note id, we were started from NotificationsDetailActivity.
-                    // That means we need to re-set the *read* flag on this note.
                     if (mIsStartedByTappingOnNotification && mNoteId != null) {
                         setNoteRead(mNoteId, notes);
                     }
-                    NotificationsTable.saveNotes(notes, true);
+                    NotificationsTable.applyNoteChanges(notes, mServerNoteIds);
                     EventBus.getDefault().post(new NotificationEvents.NotificationsRefreshCompleted(notes));
                 } catch (JSONException e) {
                     AppLog.e(AppLog.T.NOTIFS, "Success, but can't parse the response", e);
@@ -86,12 +170,16 @@ public class NotificationsUpdateLogic {
 
         @Override
         public void onErrorResponse(final VolleyError volleyError) {
-            logVolleyErrorDetails(volleyError);
-            EventBus.getDefault().post(new NotificationEvents.NotificationsRefreshError(volleyError));
-            completed();
+            onRefreshError(volleyError);
         }
     }
 
+    private void onRefreshError(final VolleyError volleyError) {
+        logVolleyErrorDetails(volleyError);
+        EventBus.getDefault().post(new NotificationEvents.NotificationsRefreshError(volleyError));
+        completed();
+    }
+
     private void setNoteRead(String noteId, List<Note> notes) {
         int notePos = NotificationsUtils.findNoteInNoteArray(notes, noteId);
         if (notePos != -1) {
@@ -442,6 +442,20 @@ public class PostUtils {
         return postContent;
     }
 
+    /**
+     * Replaces the local ids and urls of all the passed media files in a single pass over the content, which is
+     * considerably cheaper than calling {@link #replaceMediaFileWithUrlInGutenbergPost} once per media file when
+     * a post contains a lot of media
+     */
+    public static String replaceMediaFilesWithUrlsInGutenbergPost(@NonNull String postContent,
+                                                                  Map<String, MediaFile> mediaFiles, String siteUrl) {
+        if (mediaFiles != null && !mediaFiles.isEmpty() && contentContainsGutenbergBlocks(postContent)) {
+            MediaUploadCompletionProcessor processor = new MediaUploadCompletionProcessor(mediaFiles, siteUrl);
+            postContent = processor.processContent(postContent);
+        }
+        return postContent;
+    }
+
     public static boolean isMediaInGutenbergPostBody(@NonNull String postContent,
                                             String localMediaId) {
         List<String> patterns = new ArrayList<>();
@@ -6,14 +6,14 @@ import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.async
 import kotlinx.coroutines.withContext
 import org.wordpress.android.fluxc.model.SiteModel
-import org.wordpress.android.modules.BG_THREAD
+import org.wordpress.android.modules.IMAGE_OPTIMIZATION_THREAD
 import org.wordpress.android.ui.posts.editor.EditorTracker
 import org.wordpress.android.util.MediaUtilsWrapper
 import javax.inject.Inject
 import javax.inject.Named
 
 /**
- * Optimizes images and fixes their rotation.
+ * Optimizes images and fixes their rotation, in parallel on the workers of the ImageOptimizationPipeline.
  *
  * Warning: This use case optimizes images only if the user enabled image optimization (AppPrefs.isImageOptimize()).
  */
@@ -21,7 +21,7 @@ import javax.inject.Named
 class OptimizeMediaUseCase @Inject constructor(
     private val editorTracker: EditorTracker,
     private val mediaUtilsWrapper: MediaUtilsWrapper,
-    @Named(BG_THREAD) private val bgDispatcher: CoroutineDispatcher
+    @Named(IMAGE_OPTIMIZATION_THREAD) private val imageOptimizationDispatcher: CoroutineDispatcher
 ) {
     suspend fun optimizeMediaIfSupportedAsync(
         site: SiteModel,
@@ -29,7 +29,7 @@ class OptimizeMediaUseCase @Inject constructor(
         uriList: List<Uri>,
         trackEvent: Boolean = true
     ): OptimizeMediaResult {
-        return withContext(bgDispatcher) {
+        return withContext(imageOptimizationDispatcher) {
             uriList
                 .map { async { optimizeMedia(it, freshlyTaken, site, trackEvent) } }
                 .map { it.await() }
@@ -2,6 +2,13 @@ package org.wordpress.android.ui.posts.mediauploadcompletionprocessors;
 
 import org.wordpress.android.util.helpers.MediaFile;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -9,7 +16,27 @@ import static org.wordpress.android.ui.posts.mediauploadcompletionprocessors.Med
 import static org.wordpress.android.ui.posts.mediauploadcompletionprocessors.MediaUploadCompletionProcessorPatterns.PATTERN_TEMPLATE_BLOCK_BOUNDARY;
 
 public class MediaUploadCompletionProcessor {
-    private final BlockProcessorFactory mBlockProcessorFactory;
+    /**
+     * Block boundary patterns for each media block type, compiled once rather than once per block
+     */
+    private static final Map<MediaBlockType, Pattern> BLOCK_BOUNDARY_PATTERNS = new EnumMap<>(MediaBlockType.class);
+
+    static {
+        for (MediaBlockType type : MediaBlockType.values()) {
+            BLOCK_BOUNDARY_PATTERNS.put(type,
+                    Pattern.compile(String.format(PATTERN_TEMPLATE_BLOCK_BOUNDARY, type), Pattern.DOTALL));
+        }
+    }
+
+    private final Map<String, MediaFile> mMediaFiles;
+    private final Map<String, BlockProcessorFactory> mBlockProcessorFactories = new HashMap<>();
+
+    /**
+     * Local ids which matched an enclosing block while its inner blocks are being processed - a block which matches
+     * is replaced as a whole, so (as when processing one media item at a time) its inner blocks aren't processed for
+     * the same id
+     */
+    private final Set<String> mExcludedLocalIds = new HashSet<>();
 
     /**
      * Processor used for replacing local media id(s) and url(s) with their remote counterparts after an upload has
@@ -20,40 +47,60 @@ public class MediaUploadCompletionProcessor {
      * @param siteUrl The site url - used to generate the attachmentPage url
      */
     public MediaUploadCompletionProcessor(String localId, MediaFile mediaFile, String siteUrl) {
-        mBlockProcessorFactory = new BlockProcessorFactory(this)
-                .init(localId, mediaFile, siteUrl);
+        this(Collections.singletonMap(localId, mediaFile), siteUrl);
+    }
+
+    /**
+     * Processor used for replacing the local ids and urls of several uploaded media items in a single pass over the
+     * content, rather than processing the whole content once per media item.
+     *
+     * @param mediaFiles The mediaFiles containing the remote ids and remote urls, keyed by the local media id that
+     *                   needs replacement
+     * @param siteUrl The site url - used to generate the attachmentPage url
+     */
+    public MediaUploadCompletionProcessor(Map<String, MediaFile> mediaFiles, String siteUrl) {
+        mMediaFiles = mediaFiles;
+        for (Map.Entry<String, MediaFile> entry : mediaFiles.entrySet()) {
+            mBlockProcessorFactories.put(entry.getKey(),
+                    new BlockProcessorFactory(this).init(entry.getKey(), entry.getValue(), siteUrl));
+        }
     }
 
     /**
      * Processes content to replace the local ids and local urls of media with remote ids and remote urls. This method
-     * delineates block boundaries for media-containing blocks and delegates further processing via itself and / or
-     * {@link #processBlock(String)}, via direct and mutual recursion, respectively.
+     * walks the content once, delineating block boundaries for media-containing blocks and delegating further
+     * processing to {@link #processBlock(String, MediaBlockType, String, boolean)}. Block types with inner blocks
+     * call back into this method for their inner content.
      *
      * @param content The content to be processed
      * @return A string containing the processed content, or the original content if no match was found
      */
     public String processContent(String content) {
-        Matcher headerMatcher = PATTERN_BLOCK_HEADER.matcher(content);
+        if (mMediaFiles.isEmpty()) {
+            return content;
+        }
 
-        int positionBlockStart, positionBlockEnd = content.length();
+        Matcher headerMatcher = PATTERN_BLOCK_HEADER.matcher(content);
+        StringBuilder processed = null;
+        int position = 0;
 
-        if (headerMatcher.find()) {
-            positionBlockStart = headerMatcher.start();
-            String blockType = headerMatcher.group(1);
-            String blockTagSuffix = headerMatcher.group(2);
-            Boolean isSelfClosingTag = blockTagSuffix.equals("/-->");
+        while (headerMatcher.find(position)) {
+            int positionBlockStart = headerMatcher.start();
+            int positionBlockEnd = content.length();
+            MediaBlockType blockType = MediaBlockType.fromString(headerMatcher.group(1));
+            String blockHeader = headerMatcher.group(0);
+            boolean isSelfClosingTag = headerMatcher.group(2).equals("/-->");
             if (isSelfClosingTag) {
                 positionBlockEnd = headerMatcher.end();
             } else {
-                Matcher blockBoundaryMatcher =
-                        Pattern.compile(String.format(PATTERN_TEMPLATE_BLOCK_BOUNDARY, blockType),
-                                Pattern.DOTALL).matcher(content.substring(headerMatcher.end()));
+                Matcher blockBoundaryMatcher = BLOCK_BOUNDARY_PATTERNS.get(blockType).matcher(content);
+                blockBoundaryMatcher.region(headerMatcher.end(), content.length());
 
                 int nestLevel = 1;
 
                 while (0 < nestLevel && blockBoundaryMatcher.find()) {
                     if (blockBoundaryMatcher.group(1).equals("/")) {
-                        positionBlockEnd = headerMatcher.end() + blockBoundaryMatcher.end();
+                        positionBlockEnd = blockBoundaryMatcher.end();
                         nestLevel--;
                     } else {
                         nestLevel++;
@@ -61,30 +108,86 @@ public class MediaUploadCompletionProcessor {
                 }
             }
 
-            return new StringBuilder()
-                    .append(content.substring(0, positionBlockStart))
-                    .append(processBlock(content.substring(positionBlockStart, positionBlockEnd), isSelfClosingTag))
-                    .append(processContent(content.substring(positionBlockEnd)))
-                    .toString();
-        } else {
+            if (processed == null) {
+                processed = new StringBuilder(content.length());
+            }
+            processed.append(content, position, positionBlockStart)
+                     .append(processBlock(content.substring(positionBlockStart, positionBlockEnd), blockType,
+                             blockHeader, isSelfClosingTag));
+            position = positionBlockEnd;
+        }
+
+        if (processed == null) {
             return content;
         }
+        return processed.append(content, position, content.length()).toString();
     }
 
     /**
-     * Processes a media block returning a raw content replacement string
+     * Processes a media block returning a raw content replacement string. Only the processors for local ids which
+     * appear in the block header are run, so blocks which don't reference any of the media being replaced are left
+     * untouched without being parsed, other than delegating to their inner blocks where the block type has them.
      *
      * @param block The raw block contents
+     * @param blockType The type of the block
+     * @param blockHeader The block's opening comment
+     * @param isSelfClosingTag Whether the block is self closing
      * @return A string containing content with ids and urls replaced
      */
-    private String processBlock(String block, Boolean isSelfClosingTag) {
-        final MediaBlockType blockType = MediaBlockType.detectBlockType(block);
-        final BlockProcessor blockProcessor = mBlockProcessorFactory.getProcessorForMediaBlockType(blockType);
+    private String processBlock(String block, MediaBlockType blockType, String blockHeader, boolean isSelfClosingTag) {
+        Set<String> localIds = findLocalIdsInHeader(blockHeader);
+
+        for (String localId : localIds) {
+            block = getBlockProcessor(localId, blockType).processBlock(block, isSelfClosingTag);
+        }
 
-        if (blockProcessor != null) {
-            return blockProcessor.processBlock(block, isSelfClosingTag);
+        // the inner blocks may reference any media which isn't referenced by the block itself
+        if (!isSelfClosingTag && hasInnerBlocks(blockType)
+            && localIds.size() + mExcludedLocalIds.size() < mMediaFiles.size()) {
+            String anyLocalId = mMediaFiles.keySet().iterator().next();
+            Set<String> newlyExcluded = new HashSet<>(localIds);
+            newlyExcluded.removeAll(mExcludedLocalIds);
+            mExcludedLocalIds.addAll(newlyExcluded);
+            try {
+                block = getBlockProcessor(anyLocalId, blockType).processInnerBlock(block);
+            } finally {
+                mExcludedLocalIds.removeAll(newlyExcluded);
+            }
         }
 
         return block;
     }
+
+    private static boolean hasInnerBlocks(MediaBlockType blockType) {
+        return blockType == MediaBlockType.GALLERY || blockType == MediaBlockType.COVER;
+    }
+
+    /**
+     * Returns the local ids being replaced which appear as numbers in the passed block header, other than those
+     * excluded by an enclosing block
+     */
+    private Set<String> findLocalIdsInHeader(String blockHeader) {
+        Set<String> localIds = new LinkedHashSet<>();
+        int length = blockHeader.length();
+        int i = 0;
+        while (i < length) {
+            if (Character.isDigit(blockHeader.charAt(i))) {
+                int start = i;
+                while (i < length && Character.isDigit(blockHeader.charAt(i))) {
+                    i++;
+                }
+                String number = blockHeader.substring(start, i);
+                if (mMediaFiles.containsKey(number) && !mExcludedLocalIds.contains(number)) {
+                    localIds.add(number);
+                }
+            } else {
+                i++;
+            }
+        }
+        return localIds;
+    }
+
+    private BlockProcessor getBlockProcessor(String localId, MediaBlockType blockType) {
+        return mBlockProcessorFactories.get(localId).getProcessorForMediaBlockType(blockType);
+    }
 }
@@ -143,6 +143,7 @@ import org.wordpress.android.viewmodel.main.WPMainActivityViewModel;
 import org.wordpress.android.widgets.AppRatingDialog;
 import org.wordpress.android.widgets.RecyclerItemDecoration;
 import org.wordpress.android.widgets.WPSnackbar;
+import org.wordpress.android.workers.reader.ReaderPurgeScheduler;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
@@ -234,6 +235,7 @@ public class ReaderPostListFragment extends ViewPagerFragment
     @Inject QuickStartUtilsWrapper mQuickStartUtilsWrapper;
     @Inject SeenUnseenWithCounterFeatureConfig mSeenUnseenWithCounterFeatureConfig;
     @Inject JetpackBrandingUtils mJetpackBrandingUtils;
+    @Inject ReaderPurgeScheduler mReaderPurgeScheduler;
     @Inject QuickStartRepository mQuickStartRepository;
     @Inject ReaderTracker mReaderTracker;
     @Inject SnackbarSequencer mSnackbarSequencer;
@@ -1367,15 +1369,32 @@ public class ReaderPostListFragment extends ViewPagerFragment
         }
 
         // remember this query for future suggestions
-        String trimQuery = query.trim();
+        final String trimQuery = query.trim();
         ReaderSearchTable.addOrUpdateQueryString(trimQuery);
 
         // remove cached results for this search - search results are ephemeral so each search
-        // should be treated as a "fresh" one
-        ReaderTag searchTag = ReaderUtils.getTagForSearchQuery(trimQuery);
-        ReaderPostTable.deletePostsWithTag(searchTag);
+        // should be treated as a "fresh" one - then show matching cached posts, which are replaced
+        // once the server search completes. this is done on the writer thread, where the server
+        // results are written too, so it's done before they arrive
+        final ReaderTag searchTag = ReaderUtils.getTagForSearchQuery(trimQuery);
+        ReaderDatabase.executeWrite(new Runnable() {
+            @Override
+            public void run() {
+                ReaderPostTable.deletePostsWithTag(searchTag);
+                ReaderPostTable.addLocalSearchResults(searchTag, trimQuery);
+
+                Activity activity = getActivity();
+                if (activity != null) {
+                    activity.runOnUiThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            showSearchResults(searchTag, trimQuery);
+                        }
+                    });
+                }
+            }
+        });
 
-        mPostAdapter.setCurrentTag(searchTag);
         mCurrentSearchQuery = trimQuery;
         updatePostsInCurrentSearch(0);
         updateSitesInCurrentSearch(0);
@@ -1388,6 +1407,20 @@ public class ReaderPostListFragment extends ViewPagerFragment
         }
     }
 
+    /*
+     * shows the posts in the passed search stream unless another search was submitted since
+     */
+    private void showSearchResults(@NonNull ReaderTag searchTag, @NonNull String query) {
+        if (!isAdded() || !query.equals(mCurrentSearchQuery)) {
+            return;
+        }
+        if (mPostAdapter.isCurrentTag(searchTag)) {
+            mPostAdapter.reload();
+        } else {
+            mPostAdapter.setCurrentTag(searchTag);
+        }
+    }
+
     @SuppressWarnings("unused")
     @Subscribe(threadMode = ThreadMode.MAIN)
     public void onReaderSitesSearched(OnReaderSitesSearched event) {
@@ -2799,7 +2832,8 @@ public class ReaderPostListFragment extends ViewPagerFragment
         if (!mHasPurgedReaderDb) {
             AppLog.d(T.READER, "reader post list > purging database");
             mHasPurgedReaderDb = true;
-            ReaderDatabase.purgeAsync();
+            mReaderPurgeScheduler.purgeNow();
+            mReaderPurgeScheduler.scheduleIfNeeded();
         }
     }
 
@@ -80,6 +80,7 @@ import org.wordpress.android.util.UriWrapper;
 import org.wordpress.android.util.UrlUtilsWrapper;
 import org.wordpress.android.util.WPActivityUtils;
 import org.wordpress.android.util.analytics.AnalyticsUtilsWrapper;
+import org.wordpress.android.util.config.ReaderImprovementsFeatureConfig;
 import org.wordpress.android.util.config.SeenUnseenWithCounterFeatureConfig;
 import org.wordpress.android.util.extensions.CompatExtensionsKt;
 import org.wordpress.android.widgets.WPSwipeSnackbar;
@@ -175,6 +176,8 @@ public class ReaderPostPagerActivity extends LocaleAwareActivity {
     private JetpackFeatureFullScreenOverlayViewModel mJetpackFullScreenViewModel;
     @Inject AccountStore mAccountStore;
     @Inject JetpackFeatureRemovalPhaseHelper mJetpackFeatureRemovalPhaseHelper;
+    @Inject ReaderCssProvider mReaderCssProvider;
+    @Inject ReaderImprovementsFeatureConfig mReaderImprovementsFeatureConfig;
 
     @Override
     public void onCreate(@Nullable Bundle savedInstanceState) {
@@ -286,6 +289,7 @@ public class ReaderPostPagerActivity extends LocaleAwareActivity {
                 }
 
                 mLastSelectedPosition = position;
+                prerenderPostsAdjacentTo(position);
             }
         });
 
@@ -817,6 +821,7 @@ public class ReaderPostPagerActivity extends LocaleAwareActivity {
                         mViewPager.setCurrentItem(currentPosition);
                         trackPostAtPositionIfNeeded(currentPosition);
                     }
+                    prerenderPostsAdjacentTo(mViewPager.getCurrentItem());
 
                     // let the user know they can swipe between posts
                     if (adapter.getCount() > 1 && !AppPrefs.isReaderSwipeToNavigateShown()) {
@@ -828,6 +833,24 @@ public class ReaderPostPagerActivity extends LocaleAwareActivity {
         }.start();
     }
 
+    /*
+     * renders the posts on either side of the passed position in the background so their
+     * content is ready as soon as the user swipes to them
+     */
+    private void prerenderPostsAdjacentTo(int position) {
+        PostPagerAdapter adapter = getPagerAdapter();
+        if (adapter == null) {
+            return;
+        }
+        for (int adjacent : new int[]{position + 1, position - 1}) {
+            ReaderBlogIdPostId ids = adapter.getBlogIdPostIdAtPosition(adjacent);
+            if (ids != null) {
+                ReaderPostRenderer.prerender(this, mIsFeed, ids.getBlogId(), ids.getPostId(), mReaderCssProvider,
+                        mReaderImprovementsFeatureConfig.isEnabled());
+            }
+        }
+    }
+
     private ReaderTag getCurrentTag() {
         return mCurrentTag;
     }
@@ -0,0 +1,110 @@
+package org.wordpress.android.ui.reader;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.collection.LruCache;
+
+import org.wordpress.android.models.ReaderPost;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/*
+ * process-wide cache of the HTML generated by ReaderPostRenderer, keyed by post, content and
+ * display settings (see getCacheKey) - rendering happens on a small shared executor, and a
+ * render which is already underway is shared rather than repeated, so a post which was
+ * pre-rendered while the user was reading its neighbour shows immediately
+ */
+class ReaderPostRenderCache {
+    // limit is in chars rather than entries since rendered posts vary greatly in size
+    @VisibleForTesting
+    static final int MAX_CACHED_CHARS = 2 * 1024 * 1024;
+    private static final int RENDER_THREADS = 2;
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(RENDER_THREADS);
+
+    private static final LruCache<String, String> CACHE = new LruCache<String, String>(MAX_CACHED_CHARS) {
+        @Override
+        protected int sizeOf(@NonNull String key, @NonNull String html) {
+            return html.length();
+        }
+    };
+
+    private static final Map<String, CompletableFuture<String>> PENDING = new HashMap<>();
+
+    private ReaderPostRenderCache() {
+        throw new AssertionError();
+    }
+
+    /*
+     * returns the key a post's rendered HTML is cached under - includes everything the rendered
+     * HTML depends on, so a change to the post or the display results in a new render
+     */
+    @NonNull
+    static String getCacheKey(@NonNull ReaderPost post,
+                              @NonNull String resourceVarsKey,
+                              boolean useSansSerifForContent,
+                              @Nullable String cssUrl) {
+        String content = post.shouldShowExcerpt() ? post.getExcerpt() : post.getText();
+        return post.getPseudoId()
+               + ":" + content.hashCode()
+               + ":" + post.getAttachmentsJson().hashCode()
+               + ":" + post.getDiscoverJson().hashCode()
+               + ":" + resourceVarsKey
+               + ":" + useSansSerifForContent
+               + ":" + cssUrl;
+    }
+
+    /*
+     * returns the cached HTML for the passed key as a completed future, otherwise the render
+     * which is already underway for it, otherwise starts a new render on the shared executor
+     */
+    @NonNull
+    static synchronized CompletableFuture<String> getOrRender(@NonNull final String key,
+                                                              @NonNull Supplier<String> renderer) {
+        String html = CACHE.get(key);
+        if (html != null) {
+            return CompletableFuture.completedFuture(html);
+        }
+
+        CompletableFuture<String> pending = PENDING.get(key);
+        if (pending != null) {
+            return pending;
+        }
+
+        // the returned future completes once the HTML is cached, so a caller never sees a finished
+        // render which a later request for the same key would miss
+        CompletableFuture<String> render = CompletableFuture.supplyAsync(renderer, EXECUTOR)
+                .whenComplete((result, error) -> onRenderComplete(key, result));
+        // the render may already have finished and been cached by the time it's chained
+        if (!render.isDone()) {
+            PENDING.put(key, render);
+        }
+        return render;
+    }
+
+    /*
+     * runs the passed task on the render executor - used to do the work needed before a
+     * pre-render can be requested (such as loading the post) off the main thread
+     */
+    static void execute(@NonNull Runnable task) {
+        EXECUTOR.execute(task);
+    }
+
+    @VisibleForTesting
+    static synchronized void clear() {
+        CACHE.evictAll();
+    }
+
+    private static synchronized void onRenderComplete(@NonNull String key, String html) {
+        PENDING.remove(key);
+        if (html != null) {
+            CACHE.put(key, html);
+        }
+    }
+}
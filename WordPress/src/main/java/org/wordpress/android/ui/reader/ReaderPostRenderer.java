@@ -1,20 +1,21 @@
 package org.wordpress.android.ui.reader;
 
 import android.annotation.SuppressLint;
+import android.content.Context;
 import android.net.Uri;
 import android.os.Handler;
+import android.os.SystemClock;
 
 import org.jsoup.Jsoup;
 import org.wordpress.android.R;
 import org.wordpress.android.WordPress;
+import org.wordpress.android.datasets.ReaderPostTable;
 import org.wordpress.android.models.ReaderPost;
 import org.wordpress.android.models.ReaderPostDiscoverData;
 import org.wordpress.android.ui.reader.utils.ImageSizeMap;
 import org.wordpress.android.ui.reader.utils.ImageSizeMap.ImageSize;
-import org.wordpress.android.ui.reader.utils.ReaderEmbedScanner;
+import org.wordpress.android.ui.reader.utils.ReaderHtmlTags;
 import org.wordpress.android.ui.reader.utils.ReaderHtmlUtils;
-import org.wordpress.android.ui.reader.utils.ReaderIframeScanner;
-import org.wordpress.android.ui.reader.utils.ReaderImageScanner;
 import org.wordpress.android.ui.reader.utils.ReaderUtils;
 import org.wordpress.android.ui.reader.views.ReaderWebView;
 import org.wordpress.android.util.AppLog;
@@ -24,11 +25,11 @@ import org.wordpress.android.util.StringUtils;
 import java.lang.ref.WeakReference;
 import java.text.Bidi;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * generates and displays the HTML for post detail content - main purpose is to assign the
@@ -45,124 +46,152 @@ public class ReaderPostRenderer {
     private final int mMinFullSizeWidthDp;
     private final int mMinMidSizeWidthDp;
     private final WeakReference<ReaderWebView> mWeakWebView;
+    private final String mCssUrl;
 
-    private StringBuilder mRenderBuilder;
     private String mRenderedHtml;
     private ImageSizeMap mAttachmentSizes;
-    private ReaderCssProvider mCssProvider;
     private boolean mUseSansSerifForContent = false;
 
     @SuppressLint("SetJavaScriptEnabled")
     public ReaderPostRenderer(ReaderWebView webView, ReaderPost post, ReaderCssProvider cssProvider,
                               boolean useSansSerifForContent) {
+        this(webView != null ? webView.getContext() : null, webView, post, cssProvider, useSansSerifForContent);
         if (webView == null) {
             throw new IllegalArgumentException("ReaderPostRenderer requires a webView");
         }
+
+        // enable JavaScript in the webView, otherwise videos and other embedded content won't
+        // work - note that the content is scrubbed on the backend so this is considered safe
+        webView.getSettings().setJavaScriptEnabled(true);
+    }
+
+    private ReaderPostRenderer(Context context, ReaderWebView webView, ReaderPost post, ReaderCssProvider cssProvider,
+                               boolean useSansSerifForContent) {
         if (post == null) {
             throw new IllegalArgumentException("ReaderPostRenderer requires a post");
         }
+        if (context == null) {
+            throw new IllegalArgumentException("ReaderPostRenderer requires a context");
+        }
 
         mUseSansSerifForContent = useSansSerifForContent;
         mPost = post;
         mWeakWebView = new WeakReference<>(webView);
-        mResourceVars = new ReaderResourceVars(webView.getContext());
-        mCssProvider = cssProvider;
+        mResourceVars = new ReaderResourceVars(context);
+        mCssUrl = cssProvider.getCssUrl();
 
         mMinFullSizeWidthDp = pxToDp(mResourceVars.mFullSizeImageWidthPx / 3);
         mMinMidSizeWidthDp = mMinFullSizeWidthDp / 2;
+    }
 
-        // enable JavaScript in the webView, otherwise videos and other embedded content won't
-        // work - note that the content is scrubbed on the backend so this is considered safe
-        webView.getSettings().setJavaScriptEnabled(true);
+    /*
+     * renders the post with the passed ids in the background so it displays immediately when
+     * it's shown - used for the posts on either side of the one being viewed in the pager
+     */
+    public static void prerender(final Context context, final boolean isFeed, final long blogId, final long postId,
+                                 final ReaderCssProvider cssProvider, final boolean useSansSerifForContent) {
+        ReaderPostRenderCache.execute(new Runnable() {
+            @Override
+            public void run() {
+                ReaderPost post = isFeed
+                        ? ReaderPostTable.getFeedPost(blogId, postId, false)
+                        : ReaderPostTable.getBlogPost(blogId, postId, false);
+                if (post == null) {
+                    return;
+                }
+                ReaderPostRenderer renderer =
+                        new ReaderPostRenderer(context, null, post, cssProvider, useSansSerifForContent);
+                ReaderPostRenderCache.getOrRender(renderer.getCacheKey(), renderer::renderPostContent);
+            }
+        });
     }
 
     public void beginRender() {
         final Handler handler = new Handler();
-        mRenderBuilder = new StringBuilder(getPostContent());
-
-        new Thread() {
-            @Override
-            public void run() {
-                final boolean hasTiledGallery = hasTiledGallery(mRenderBuilder.toString());
+        CompletableFuture<String> render = ReaderPostRenderCache.getOrRender(getCacheKey(), this::renderPostContent);
 
-                if (!(hasTiledGallery && mResourceVars.mIsWideDisplay)) {
-                    resizeImages();
-                }
+        // show a cached render right away rather than waiting for the next pass of the main looper
+        String cachedHtml = render.getNow(null);
+        if (cachedHtml != null) {
+            renderHtmlContent(cachedHtml);
+            return;
+        }
 
-                resizeIframes();
-
-                // Get the set of JS scripts to inject in our Webview to support some specific Embeds.
-                Set<String> jsToInject = injectJSForSpecificEmbedSupport();
-
-                final String htmlContent =
-                        formatPostContentForWebView(
-                                mRenderBuilder.toString(),
-                                jsToInject,
-                                hasTiledGallery,
-                                mResourceVars.mIsWideDisplay);
-
-                mRenderBuilder = null;
-                handler.post(new Runnable() {
-                    @Override
-                    public void run() {
-                        renderHtmlContent(htmlContent);
-                    }
-                });
+        render.whenComplete((htmlContent, error) -> {
+            if (error != null) {
+                AppLog.e(AppLog.T.READER, "reader renderer > rendering failed", error);
+            } else {
+                handler.post(() -> renderHtmlContent(htmlContent));
             }
-        }.start();
+        });
     }
 
-    public static boolean hasTiledGallery(String text) {
-        // determine whether a tiled-gallery exists in the content
-        return Pattern.compile("tiled-gallery[\\s\"']").matcher(text).find();
+    private String getCacheKey() {
+        return ReaderPostRenderCache.getCacheKey(mPost, mResourceVars.getCacheKey(), mUseSansSerifForContent, mCssUrl);
     }
 
     /*
-     * scan the content for images and make sure they're correctly sized for the device
+     * generates the full HTML document for the post - called on the render executor
      */
-    private void resizeImages() {
-        ReaderHtmlUtils.HtmlScannerListener imageListener = new ReaderHtmlUtils.HtmlScannerListener() {
-            @Override
-            public void onTagFound(String imageTag, String imageUrl) {
-                // Exceptions which should keep their original tag attributes
-                if (imageUrl.contains("wpcom-smileys") || imageTag.contains("wp-story")) {
-                    return;
-                }
-                replaceImageTag(imageTag, imageUrl);
-            }
-        };
-        String content = mRenderBuilder.toString();
-        ReaderImageScanner scanner = new ReaderImageScanner(content, mPost.isPrivate);
-        scanner.beginScan(imageListener);
+    private String renderPostContent() {
+        long startTime = SystemClock.elapsedRealtime();
+        String content = getPostContent();
+
+        // a single scan finds everything the rest of the rendering needs to know about the content
+        ReaderHtmlTags tags = ReaderHtmlTags.scan(content);
+        boolean hasTiledGallery = tags.hasTiledGallery();
+        boolean resizeImages = !(hasTiledGallery && mResourceVars.mIsWideDisplay);
+
+        String htmlContent = formatPostContentForWebView(
+                resizeTags(content, tags, resizeImages),
+                tags.getEmbedScripts(),
+                hasTiledGallery,
+                mResourceVars.mIsWideDisplay);
+
+        AppLog.d(AppLog.T.READER, "reader renderer > rendered post " + mPost.getPseudoId() + " in "
+                                  + (SystemClock.elapsedRealtime() - startTime) + "ms");
+        return htmlContent;
+    }
+
+    public static boolean hasTiledGallery(String text) {
+        // determine whether a tiled-gallery exists in the content
+        return ReaderHtmlTags.scan(text).hasTiledGallery();
     }
 
     /*
-     * scan the content for iframes and make sure they're correctly sized for the device
+     * returns the passed content with its images (unless resizeImages is false) and iframes
+     * correctly sized for the device - the tags are replaced in order in a single pass
      */
-    private void resizeIframes() {
-        ReaderHtmlUtils.HtmlScannerListener iframeListener = new ReaderHtmlUtils.HtmlScannerListener() {
-            @Override
-            public void onTagFound(String tag, String src) {
-                replaceIframeTag(tag, src);
+    private String resizeTags(final String content, final ReaderHtmlTags tags, boolean resizeImages) {
+        List<ReaderHtmlTags.Tag> images = resizeImages ? tags.getImages() : Collections.emptyList();
+        List<ReaderHtmlTags.Tag> iframes = tags.getIframes();
+        if (images.isEmpty() && iframes.isEmpty()) {
+            return content;
+        }
+
+        StringBuilder sb = new StringBuilder(content.length());
+        int copiedTo = 0;
+        int imageIndex = 0;
+        int iframeIndex = 0;
+        while (imageIndex < images.size() || iframeIndex < iframes.size()) {
+            boolean isImage = iframeIndex >= iframes.size()
+                              || (imageIndex < images.size()
+                                  && images.get(imageIndex).start < iframes.get(iframeIndex).start);
+            ReaderHtmlTags.Tag tag = isImage ? images.get(imageIndex++) : iframes.get(iframeIndex++);
+            if (tag.start < copiedTo) {
+                // overlaps a tag which has already been replaced
+                continue;
             }
-        };
-        String content = mRenderBuilder.toString();
-        ReaderIframeScanner scanner = new ReaderIframeScanner(content);
-        scanner.beginScan(iframeListener);
-    }
 
-    private Set<String> injectJSForSpecificEmbedSupport() {
-        final Set<String> jsToInject = new HashSet<>();
-        ReaderHtmlUtils.HtmlScannerListener embedListener = new ReaderHtmlUtils.HtmlScannerListener() {
-            @Override
-            public void onTagFound(String tag, String src) {
-                jsToInject.add(src);
+            String newTag = isImage ? makeResizedImageTag(tag.tag, tag.src) : makeResizedIframeTag(tag.tag, tag.src);
+            if (newTag != null) {
+                sb.append(content, copiedTo, tag.start).append(newTag);
+                copiedTo = tag.end;
             }
-        };
-        String content = mRenderBuilder.toString();
-        ReaderEmbedScanner scanner = new ReaderEmbedScanner(content);
-        scanner.beginScan(embedListener);
-        return jsToInject;
+        }
+        sb.append(content, copiedTo, content.length());
+
+        return sb.toString();
     }
 
     /*
@@ -186,11 +215,16 @@ public class ReaderPostRenderer {
     }
 
     /*
-     * called when image scanner finds an image, tries to replace the image tag with one that
-     * has height & width attributes set correctly for the current display, if that fails
-     * replaces it with one that has our 'size-none' class
+     * returns an image tag to replace the passed one which has height & width attributes set
+     * correctly for the current display, or one that has our 'size-none' class if that fails -
+     * returns null for images which should keep their original tag
      */
-    private void replaceImageTag(final String imageTag, final String imageUrl) {
+    private String makeResizedImageTag(final String imageTag, final String imageUrl) {
+        // Exceptions which should keep their original tag attributes
+        if (imageUrl.contains("wpcom-smileys") || imageTag.contains("wp-story")) {
+            return null;
+        }
+
         ImageSize origSize = getImageSize(imageTag, imageUrl);
         boolean hasWidth = (origSize != null && origSize.width > 0);
         boolean isFullSize = hasWidth && (origSize.width >= mMinFullSizeWidthDp);
@@ -198,24 +232,15 @@ public class ReaderPostRenderer {
                             && (origSize.width >= mMinMidSizeWidthDp)
                             && (origSize.width < mMinFullSizeWidthDp);
 
-        final String newImageTag;
         if (isFullSize) {
-            newImageTag = makeFullSizeImageTag(imageUrl, origSize.width, origSize.height);
+            return makeFullSizeImageTag(imageUrl, origSize.width, origSize.height);
         } else if (isMidSize) {
-            newImageTag = makeImageTag(imageUrl, origSize.width, origSize.height, "size-medium");
+            return makeImageTag(imageUrl, origSize.width, origSize.height, "size-medium");
         } else if (hasWidth) {
-            newImageTag = makeImageTag(imageUrl, origSize.width, origSize.height, "size-none");
+            return makeImageTag(imageUrl, origSize.width, origSize.height, "size-none");
         } else {
-            newImageTag = "<img class='size-none' src='" + imageUrl + "' />";
+            return "<img class='size-none' src='" + imageUrl + "' />";
         }
-
-        int start = mRenderBuilder.indexOf(imageTag);
-        if (start == -1) {
-            AppLog.w(AppLog.T.READER, "reader renderer > image not found in builder");
-            return;
-        }
-
-        mRenderBuilder.replace(start, start + imageTag.length(), newImageTag);
     }
 
     private String makeImageTag(final String imageUrl, int width, int height, final String imageClass) {
@@ -311,9 +336,9 @@ public class ReaderPostRenderer {
     }
 
     /*
-     * replace the passed iframe tag with one that's correctly sized for the device
+     * returns an iframe tag to replace the passed one which is correctly sized for the device
      */
-    private void replaceIframeTag(final String tag, final String src) {
+    private String makeResizedIframeTag(final String tag, final String src) {
         int width = ReaderHtmlUtils.getWidthAttrValue(tag);
         int height = ReaderHtmlUtils.getHeightAttrValue(tag);
 
@@ -328,18 +353,10 @@ public class ReaderPostRenderer {
             newHeight = mResourceVars.mVideoHeightPx;
         }
 
-        String newTag = "<iframe src='" + src + "'"
-                        + " frameborder='0' allowfullscreen='true' allowtransparency='true'"
-                        + " width='" + pxToDp(newWidth) + "'"
-                        + " height='" + pxToDp(newHeight) + "' />";
-
-        int start = mRenderBuilder.indexOf(tag);
-        if (start == -1) {
-            AppLog.w(AppLog.T.READER, "reader renderer > iframe not found in builder");
-            return;
-        }
-
-        mRenderBuilder.replace(start, start + tag.length(), newTag);
+        return "<iframe src='" + src + "'"
+               + " frameborder='0' allowfullscreen='true' allowtransparency='true'"
+               + " width='" + pxToDp(newWidth) + "'"
+               + " height='" + pxToDp(newHeight) + "' />";
     }
 
     /*
@@ -365,7 +382,7 @@ public class ReaderPostRenderer {
         // title isn't necessary, but it's invalid html5 without one
         sbHtml.append("<title>Reader Post</title>")
               .append("<link rel=\"stylesheet\" type=\"text/css\"\n"
-                      + "          href=\"" + mCssProvider.getCssUrl() + "\">");
+                      + "          href=\"" + mCssUrl + "\">");
         // https://developers.google.com/chrome/mobile/docs/webview/pixelperfect
         sbHtml.append("<meta name='viewport' content='width=device-width, initial-scale=1'>")
               .append("<style type='text/css'>");
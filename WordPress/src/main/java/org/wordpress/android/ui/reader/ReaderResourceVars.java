@@ -91,4 +91,13 @@ class ReaderResourceVars {
         mVideoWidthPx = mFullSizeImageWidthPx - (marginLargePx * 2);
         mVideoHeightPx = (int) (mVideoWidthPx * 0.5625f);
     }
+
+    /*
+     * returns a key which changes when any of the values that affect how a post is rendered change
+     */
+    String getCacheKey() {
+        return mIsWideDisplay + "," + mFullSizeImageWidthPx + "," + mVideoWidthPx + "," + mMarginMediumPx
+               + "," + mLinkColorStr + "," + mGreyMediumDarkStr + "," + mGreyLightStr + ","
+               + mGreyExtraLightStr + "," + mTextColor + "," + mGreyDisabledStr;
+    }
 }
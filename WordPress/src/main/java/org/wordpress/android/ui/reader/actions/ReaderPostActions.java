@@ -17,6 +17,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 import org.wordpress.android.BuildConfig;
 import org.wordpress.android.WordPress;
+import org.wordpress.android.datasets.ReaderDatabase;
 import org.wordpress.android.datasets.ReaderLikeTable;
 import org.wordpress.android.datasets.ReaderPostTable;
 import org.wordpress.android.datasets.ReaderTagTable;
@@ -164,7 +165,8 @@ public class ReaderPostActions {
 
         final Handler handler = new Handler();
 
-        new Thread() {
+        // the local post is updated on the reader database's writer thread, along with all other reader writes
+        ReaderDatabase.executeWrite(new Runnable() {
             @Override
             public void run() {
                 ReaderPost serverPost = ReaderPost.fromJson(jsonObject);
@@ -216,7 +218,7 @@ public class ReaderPostActions {
                     });
                 }
             }
-        }.start();
+        });
     }
 
     /*
@@ -331,6 +333,8 @@ public class ReaderPostActions {
             return;
         }
 
+        ReaderPostTable.setPostAccessed(post);
+
         // don't bump stats for posts in sites the current user is an admin of, unless
         // this is a private post since we count views for private posts from owner or member
         SiteModel site = siteStore.getSiteBySiteId(post.blogId);
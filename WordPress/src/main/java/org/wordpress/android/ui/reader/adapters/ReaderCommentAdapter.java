@@ -114,6 +114,10 @@ public class ReaderCommentAdapter extends RecyclerView.Adapter<RecyclerView.View
     }
 
     private ReaderCommentList mComments = new ReaderCommentList();
+    // leveler for the comments last loaded by LoadCommentsTask, used to add newly loaded pages
+    // without re-leveling the whole thread - guarded by itself since tasks may overlap
+    private final Object mLevelerLock = new Object();
+    private ReaderCommentLeveler mLeveler;
     private RequestReplyListener mReplyListener;
     private CommentMenuActionListener mCommentMenuActionListener;
     private ReaderInterfaces.DataLoadedListener mDataLoadedListener;
@@ -618,6 +622,9 @@ public class ReaderCommentAdapter extends RecyclerView.Adapter<RecyclerView.View
             mComments.remove(index);
             // re-level comments
             mComments = new ReaderCommentLeveler(mComments).createLevelList();
+            synchronized (mLevelerLock) {
+                mLeveler = null;
+            }
             notifyDataSetChanged();
         }
     }
@@ -675,6 +682,7 @@ public class ReaderCommentAdapter extends RecyclerView.Adapter<RecyclerView.View
     @SuppressLint("StaticFieldLeak")
     private class LoadCommentsTask extends AsyncTask<Void, Void, Boolean> {
         private ReaderCommentList mTmpComments;
+        private ReaderCommentList mTmpLevelList;
         private boolean mTmpMoreCommentsExist;
 
         @Override
@@ -701,7 +709,22 @@ public class ReaderCommentAdapter extends RecyclerView.Adapter<RecyclerView.View
             mTmpMoreCommentsExist = (numServerComments > numLocalComments);
 
             mTmpComments = ReaderCommentTable.getCommentsForPost(mPost);
-            return !mComments.isSameList(mTmpComments);
+            if (mComments.isSameList(mTmpComments)) {
+                return false;
+            }
+
+            // sort children under their parents and apply indent levels here rather than on the main thread -
+            // when the comments just extend those loaded last time (ie: another page was loaded) only the new
+            // ones are leveled
+            synchronized (mLevelerLock) {
+                if (mLeveler != null && mLeveler.isExtendedBy(mTmpComments)) {
+                    mTmpLevelList = mLeveler.addComments(mTmpComments);
+                } else {
+                    mLeveler = new ReaderCommentLeveler(mTmpComments);
+                    mTmpLevelList = mLeveler.createLevelList();
+                }
+            }
+            return true;
         }
 
         @Override
@@ -710,7 +733,7 @@ public class ReaderCommentAdapter extends RecyclerView.Adapter<RecyclerView.View
 
             if (result) {
                 // assign the comments with children sorted under their parents and indent levels applied
-                mComments = new ReaderCommentLeveler(mTmpComments).createLevelList();
+                mComments = mTmpLevelList;
                 notifyDataSetChanged();
             }
             if (mDataLoadedListener != null) {
@@ -48,6 +48,7 @@ import org.wordpress.android.ui.reader.discover.viewholders.ReaderPostViewHolder
 import org.wordpress.android.ui.reader.models.ReaderBlogIdPostId;
 import org.wordpress.android.ui.reader.tracker.ReaderTab;
 import org.wordpress.android.ui.reader.tracker.ReaderTracker;
+import org.wordpress.android.ui.reader.utils.ReaderSearchUtils;
 import org.wordpress.android.ui.reader.utils.ReaderXPostUtils;
 import org.wordpress.android.ui.reader.views.ReaderGapMarkerView;
 import org.wordpress.android.ui.reader.views.ReaderSiteHeaderView;
@@ -69,7 +70,9 @@ import org.wordpress.android.util.image.BlavatarShape;
 import org.wordpress.android.util.image.ImageManager;
 import org.wordpress.android.util.image.ImageType;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 
 import javax.inject.Inject;
 
@@ -83,6 +86,7 @@ public class ReaderPostAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
     private final ImageManager mImageManager;
     private final UiHelpers mUiHelpers;
     private ReaderTag mCurrentTag;
+    private List<String> mSearchTerms = new ArrayList<>();
     private long mCurrentBlogId;
     private long mCurrentFeedId;
     private int mGapMarkerPosition = -1;
@@ -522,6 +526,9 @@ public class ReaderPostAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
                                 .buildMoreMenuItemsBlocking(post, false, onButtonClicked) : null
                 );
         holder.onBind(uiState);
+        if (postListType == ReaderPostListType.SEARCH_RESULTS) {
+            holder.highlightSearchTerms(mSearchTerms);
+        }
     }
 
     // TODO update the viewholder to the new one
@@ -624,6 +631,9 @@ public class ReaderPostAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
                                 .buildMoreMenuItemsBlocking(post, true, onButtonClicked) : null
                 );
         holder.onBind(uiState);
+        if (getPostListType() == ReaderPostListType.SEARCH_RESULTS) {
+            holder.highlightSearchTerms(mSearchTerms);
+        }
     }
 
     /*
@@ -712,6 +722,7 @@ public class ReaderPostAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
         mSource = mReaderTracker.getSource(mPostListType, ReaderTab.transformTagToTab(tag));
         if (!ReaderTag.isSameTag(tag, mCurrentTag)) {
             mCurrentTag = tag;
+            mSearchTerms = ReaderSearchUtils.getSearchTerms(tag != null ? tag.getTagDisplayName() : null);
             mRenderedIds.clear();
             reload();
         }
@@ -16,6 +16,7 @@ import org.wordpress.android.ui.reader.discover.ReaderCardUiState.ReaderPostNewU
 import org.wordpress.android.ui.reader.discover.ReaderPostCardAction
 import org.wordpress.android.ui.reader.discover.ReaderPostCardAction.PrimaryAction
 import org.wordpress.android.ui.reader.tracker.ReaderTracker
+import org.wordpress.android.ui.reader.utils.ReaderSearchUtils
 import org.wordpress.android.ui.reader.utils.ReaderUtils
 import org.wordpress.android.ui.reader.utils.ReaderVideoUtils
 import org.wordpress.android.ui.reader.utils.ReaderVideoUtils.VideoThumbnailUrlListener
@@ -88,6 +89,13 @@ class ReaderPostNewViewHolder(
         state.onItemRendered.invoke(uiState)
     }
 
+    /**
+     * Highlights the words in the title and excerpt which match the passed search terms, so it must be called
+     * after the post has been bound.
+     */
+    fun highlightSearchTerms(terms: List<String>) =
+        ReaderSearchUtils.highlightMatches(terms, binding.textTitle, binding.textExcerpt)
+
     private fun updateInteractionCountsSection(state: ReaderPostNewUiState) = with(binding) {
         val likeCount = state.interactionSection.likeCount
         val commentCount = state.interactionSection.commentCount
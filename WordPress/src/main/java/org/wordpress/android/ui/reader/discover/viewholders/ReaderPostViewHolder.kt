@@ -15,6 +15,7 @@ import org.wordpress.android.ui.reader.discover.ReaderCardUiState.ReaderPostUiSt
 import org.wordpress.android.ui.reader.discover.ReaderPostCardAction
 import org.wordpress.android.ui.reader.discover.ReaderPostCardAction.PrimaryAction
 import org.wordpress.android.ui.reader.tracker.ReaderTracker
+import org.wordpress.android.ui.reader.utils.ReaderSearchUtils
 import org.wordpress.android.ui.reader.utils.ReaderVideoUtils
 import org.wordpress.android.ui.reader.utils.ReaderVideoUtils.VideoThumbnailUrlListener
 import org.wordpress.android.ui.reader.views.ReaderIconCountView
@@ -95,6 +96,13 @@ class ReaderPostViewHolder(
         state.onItemRendered.invoke(uiState)
     }
 
+    /**
+     * Highlights the words in the title and excerpt which match the passed search terms, so it must be called
+     * after the post has been bound.
+     */
+    fun highlightSearchTerms(terms: List<String>) =
+        ReaderSearchUtils.highlightMatches(terms, binding.textTitle, binding.textExcerpt)
+
     private fun updateBlogSection(state: ReaderPostUiState) = with(binding.layoutBlogSection) {
         updateAvatarOrBlavatar(state)
         uiHelpers.setTextOrHide(textAuthorAndBlogName, state.blogSection.blogName)
@@ -0,0 +1,79 @@
+package org.wordpress.android.ui.reader.models;
+
+import androidx.annotation.NonNull;
+
+import org.wordpress.android.models.ReaderPost;
+import org.wordpress.android.ui.reader.actions.ReaderActions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * result of comparing a page of posts from the server with the stored posts - see
+ * ReaderPostTable.getPostChanges()
+ */
+public class ReaderPostChanges {
+    public enum Status {
+        NEW, // post isn't stored
+        CHANGED, // post is stored but its fingerprint differs
+        UNCHANGED // post is stored with the same fingerprint
+    }
+
+    private final Map<String, Status> mStatuses = new HashMap<>();
+    private boolean mHasNew;
+    private boolean mHasChanged;
+    private boolean mHasOverlap;
+
+    /*
+     * records the status of the passed post - isInStream is true when the post is already stored
+     * in the stream (tag, blog or feed) being updated
+     */
+    public void setStatus(@NonNull ReaderPost post, @NonNull Status status, boolean isInStream) {
+        mStatuses.put(getKey(post.blogId, post.postId), status);
+        if (status == Status.NEW || !isInStream) {
+            mHasNew = true;
+        } else if (status == Status.CHANGED) {
+            mHasChanged = true;
+        }
+        if (isInStream) {
+            mHasOverlap = true;
+        }
+    }
+
+    @NonNull
+    public Status getStatus(@NonNull ReaderPost post) {
+        Status status = mStatuses.get(getKey(post.blogId, post.postId));
+        return status != null ? status : Status.NEW;
+    }
+
+    public boolean isUnchanged(@NonNull ReaderPost post) {
+        return getStatus(post) == Status.UNCHANGED;
+    }
+
+    /*
+     * returns true if any of the compared posts already exist in the stream being updated
+     */
+    public boolean hasOverlap() {
+        return mHasOverlap;
+    }
+
+    /*
+     * posts which are new to the stream count as new even when their content is already stored
+     * for another stream
+     */
+    @NonNull
+    public ReaderActions.UpdateResult getUpdateResult() {
+        if (mHasNew) {
+            return ReaderActions.UpdateResult.HAS_NEW;
+        } else if (mHasChanged) {
+            return ReaderActions.UpdateResult.CHANGED;
+        } else {
+            return ReaderActions.UpdateResult.UNCHANGED;
+        }
+    }
+
+    @NonNull
+    private static String getKey(long blogId, long postId) {
+        return blogId + ":" + postId;
+    }
+}
@@ -214,7 +214,7 @@ public class ReaderCommentService extends Service {
             return;
         }
 
-        new Thread() {
+        ReaderDatabase.executeWrite(new Runnable() {
             @Override
             public void run() {
                 final boolean hasNewComments;
@@ -260,6 +260,6 @@ public class ReaderCommentService extends Service {
                         (hasNewComments ? ReaderActions.UpdateResult.HAS_NEW : ReaderActions.UpdateResult.UNCHANGED);
                 resultListener.onUpdateResult(result);
             }
-        }.start();
+        });
     }
 }
@@ -4,16 +4,17 @@ import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
 
+import com.android.volley.Response;
 import com.android.volley.VolleyError;
-import com.wordpress.rest.RestRequest;
 
 import org.greenrobot.eventbus.EventBus;
-import org.json.JSONObject;
 import org.wordpress.android.WordPress;
+import org.wordpress.android.datasets.ReaderDatabase;
 import org.wordpress.android.datasets.ReaderPostTable;
 import org.wordpress.android.datasets.ReaderTagTable;
 import org.wordpress.android.models.ReaderPost;
 import org.wordpress.android.models.ReaderPostList;
+import org.wordpress.android.models.ReaderPostStreamParser;
 import org.wordpress.android.models.ReaderTag;
 import org.wordpress.android.models.ReaderTagType;
 import org.wordpress.android.ui.prefs.AppPrefs;
@@ -21,6 +22,7 @@ import org.wordpress.android.ui.reader.ReaderConstants;
 import org.wordpress.android.ui.reader.ReaderEvents;
 import org.wordpress.android.ui.reader.actions.ReaderActions;
 import org.wordpress.android.ui.reader.models.ReaderBlogIdPostId;
+import org.wordpress.android.ui.reader.models.ReaderPostChanges;
 import org.wordpress.android.ui.reader.services.ServiceCompletionListener;
 import org.wordpress.android.ui.reader.services.post.ReaderPostServiceStarter.UpdateAction;
 import org.wordpress.android.ui.reader.utils.ReaderUtils;
@@ -126,17 +128,17 @@ public class ReaderPostLogic {
 
         sb.append("&meta=site,likes");
 
-        com.wordpress.rest.RestRequest.Listener listener = new RestRequest.Listener() {
+        Response.Listener<ReaderPostList> listener = new Response.Listener<ReaderPostList>() {
             @Override
-            public void onResponse(JSONObject jsonObject) {
+            public void onResponse(ReaderPostList serverPosts) {
                 // remember when this tag was updated if newer posts were requested
                 if (updateAction == UpdateAction.REQUEST_NEWER || updateAction == UpdateAction.REQUEST_REFRESH) {
                     ReaderTagTable.setTagLastUpdated(tag);
                 }
-                handleUpdatePostsResponse(tag, jsonObject, updateAction, resultListener);
+                handleUpdatePostsResponse(tag, serverPosts, updateAction, resultListener);
             }
         };
-        RestRequest.ErrorListener errorListener = new RestRequest.ErrorListener() {
+        Response.ErrorListener errorListener = new Response.ErrorListener() {
             @Override
             public void onErrorResponse(VolleyError volleyError) {
                 AppLog.e(AppLog.T.READER, volleyError);
@@ -144,7 +146,8 @@ public class ReaderPostLogic {
             }
         };
 
-        WordPress.getRestClientUtilsV1_2().get(sb.toString(), null, null, listener, errorListener);
+        WordPress.getRestClientUtilsV1_2()
+                 .getStreaming(sb.toString(), null, ReaderPostStreamParser::parse, listener, errorListener);
     }
 
     private static void requestPostsForBlog(final long blogId,
@@ -160,13 +163,13 @@ public class ReaderPostLogic {
             }
         }
 
-        com.wordpress.rest.RestRequest.Listener listener = new RestRequest.Listener() {
+        Response.Listener<ReaderPostList> listener = new Response.Listener<ReaderPostList>() {
             @Override
-            public void onResponse(JSONObject jsonObject) {
-                handleUpdatePostsResponse(null, jsonObject, updateAction, resultListener);
+            public void onResponse(ReaderPostList serverPosts) {
+                handleUpdatePostsResponse(null, serverPosts, updateAction, resultListener);
             }
         };
-        RestRequest.ErrorListener errorListener = new RestRequest.ErrorListener() {
+        Response.ErrorListener errorListener = new Response.ErrorListener() {
             @Override
             public void onErrorResponse(VolleyError volleyError) {
                 AppLog.e(AppLog.T.READER, volleyError);
@@ -174,7 +177,8 @@ public class ReaderPostLogic {
             }
         };
         AppLog.d(AppLog.T.READER, "updating posts in blog " + blogId);
-        WordPress.getRestClientUtilsV1_2().get(path, null, null, listener, errorListener);
+        WordPress.getRestClientUtilsV1_2()
+                 .getStreaming(path, null, ReaderPostStreamParser::parse, listener, errorListener);
     }
 
     private static void requestPostsForFeed(final long feedId,
@@ -188,13 +192,13 @@ public class ReaderPostLogic {
             }
         }
 
-        com.wordpress.rest.RestRequest.Listener listener = new RestRequest.Listener() {
+        Response.Listener<ReaderPostList> listener = new Response.Listener<ReaderPostList>() {
             @Override
-            public void onResponse(JSONObject jsonObject) {
-                handleUpdatePostsResponse(null, jsonObject, updateAction, resultListener);
+            public void onResponse(ReaderPostList serverPosts) {
+                handleUpdatePostsResponse(null, serverPosts, updateAction, resultListener);
             }
         };
-        RestRequest.ErrorListener errorListener = new RestRequest.ErrorListener() {
+        Response.ErrorListener errorListener = new Response.ErrorListener() {
             @Override
             public void onErrorResponse(VolleyError volleyError) {
                 AppLog.e(AppLog.T.READER, volleyError);
@@ -203,26 +207,28 @@ public class ReaderPostLogic {
         };
 
         AppLog.d(AppLog.T.READER, "updating posts in feed " + feedId);
-        WordPress.getRestClientUtilsV1_2().get(path, null, null, listener, errorListener);
+        WordPress.getRestClientUtilsV1_2()
+                 .getStreaming(path, null, ReaderPostStreamParser::parse, listener, errorListener);
     }
 
     /*
-     * called after requesting posts with a specific tag or in a specific blog/feed
+     * called after requesting posts with a specific tag or in a specific blog/feed - the posts
+     * have already been read from the response stream on the network thread
      */
     private static void handleUpdatePostsResponse(final ReaderTag tag,
-                                                  final JSONObject jsonObject,
+                                                  final ReaderPostList serverPosts,
                                                   final UpdateAction updateAction,
                                                   final ReaderActions.UpdateResultListener resultListener) {
-        if (jsonObject == null) {
+        if (serverPosts == null) {
             resultListener.onUpdateResult(ReaderActions.UpdateResult.FAILED);
             return;
         }
 
-        new Thread() {
+        ReaderDatabase.executeWrite(new Runnable() {
             @Override
             public void run() {
-                ReaderPostList serverPosts = ReaderPostList.fromJson(jsonObject);
-                ReaderActions.UpdateResult updateResult = ReaderPostTable.comparePosts(serverPosts);
+                ReaderPostChanges changes = ReaderPostTable.getPostChanges(serverPosts, tag);
+                ReaderActions.UpdateResult updateResult = changes.getUpdateResult();
                 if (updateResult.isNewOrChanged()) {
                     // gap detection - only applies to posts with a specific tag
                     ReaderPost postWithGap = null;
@@ -235,7 +241,7 @@ public class ReaderPostLogic {
                                 int numServerPosts = serverPosts.size();
                                 if (numServerPosts >= 2
                                     && ReaderPostTable.getNumPostsWithTag(tag) > 0
-                                    && !ReaderPostTable.hasOverlap(serverPosts, tag)) {
+                                    && !changes.hasOverlap()) {
                                     // treat the second to last server post as having a gap
                                     postWithGap = serverPosts.get(numServerPosts - 2);
                                     // remove the last server post to deal with the edge case of
@@ -264,7 +270,8 @@ public class ReaderPostLogic {
                                 break;
                         }
                     }
-                    ReaderPostTable.addOrUpdatePosts(tag, serverPosts);
+                    // posts which haven't changed since they were stored are only attached to the tag
+                    ReaderPostTable.addOrUpdatePosts(tag, serverPosts, changes);
                     if (AppPrefs.shouldUpdateBookmarkPostsPseudoIds(tag)) {
                         ReaderPostTable.updateBookmarkedPostPseudoId(serverPosts);
                         AppPrefs.setBookmarkPostsPseudoIdsUpdated();
@@ -284,7 +291,7 @@ public class ReaderPostLogic {
                 AppLog.d(AppLog.T.READER, "requested posts response = " + updateResult.toString());
                 resultListener.onUpdateResult(updateResult);
             }
-        }.start();
+        });
     }
 
     /*
@@ -6,8 +6,10 @@ import com.wordpress.rest.RestRequest;
 import org.greenrobot.eventbus.EventBus;
 import org.json.JSONObject;
 import org.wordpress.android.WordPress;
+import org.wordpress.android.datasets.ReaderDatabase;
 import org.wordpress.android.datasets.ReaderPostTable;
 import org.wordpress.android.models.ReaderPostList;
+import org.wordpress.android.models.ReaderTag;
 import org.wordpress.android.ui.reader.ReaderConstants;
 import org.wordpress.android.ui.reader.ReaderEvents;
 import org.wordpress.android.ui.reader.services.ServiceCompletionListener;
@@ -56,15 +58,25 @@ public class ReaderSearchLogic {
         WordPress.getRestClientUtilsV1_2().get(path, null, null, listener, errorListener);
     }
 
+    /*
+     * the results are written on the reader database's writer thread, after the cached posts which matched the
+     * search were added by ReaderPostListFragment, so they're what ends up in the search stream
+     */
     private void handleSearchResponse(final String query, final int offset, final JSONObject jsonObject) {
-        new Thread() {
+        ReaderDatabase.executeWrite(new Runnable() {
             @Override
             public void run() {
                 ReaderPostList serverPosts = ReaderPostList.fromJson(jsonObject);
-                ReaderPostTable.addOrUpdatePosts(getTagForSearchQuery(query), serverPosts);
+                ReaderTag searchTag = getTagForSearchQuery(query);
+                // cached posts which matched the search are shown until the server results arrive, at which
+                // point they're replaced - unless the server has no results, in which case they're kept
+                if (offset == 0 && !serverPosts.isEmpty()) {
+                    ReaderPostTable.deletePostsWithTag(searchTag);
+                }
+                ReaderPostTable.addOrUpdatePosts(searchTag, serverPosts);
                 EventBus.getDefault().post(new ReaderEvents.SearchPostsEnded(query, offset, true));
                 mCompletionListener.onCompleted(mListenerCompanion);
             }
-        }.start();
+        });
     }
 }
@@ -11,6 +11,7 @@ import org.json.JSONObject;
 import org.wordpress.android.R;
 import org.wordpress.android.WordPress;
 import org.wordpress.android.datasets.ReaderBlogTable;
+import org.wordpress.android.datasets.ReaderDatabase;
 import org.wordpress.android.datasets.ReaderPostTable;
 import org.wordpress.android.datasets.ReaderTagTable;
 import org.wordpress.android.fluxc.store.AccountStore;
@@ -140,7 +141,7 @@ public class ReaderUpdateLogic {
     }
 
     private void handleUpdateTagsResponse(final JSONObject jsonObject) {
-        new Thread() {
+        ReaderDatabase.executeWrite(new Runnable() {
             @Override
             public void run() {
                 // get server topics, both default & followed - but use "recommended" for logged-out
@@ -198,7 +199,7 @@ public class ReaderUpdateLogic {
 
                 taskCompleted(UpdateTask.TAGS);
             }
-        }.start();
+        });
     }
 
     /*
@@ -316,7 +317,7 @@ public class ReaderUpdateLogic {
     }
 
     private void handleFollowedBlogsResponse(final JSONObject jsonObject) {
-        new Thread() {
+        ReaderDatabase.executeWrite(new Runnable() {
             @Override
             public void run() {
                 ReaderBlogList serverBlogs = ReaderBlogList.fromJson(jsonObject);
@@ -338,6 +339,6 @@ public class ReaderUpdateLogic {
 
                 taskCompleted(UpdateTask.FOLLOWED_BLOGS);
             }
-        }.start();
+        });
     }
 }
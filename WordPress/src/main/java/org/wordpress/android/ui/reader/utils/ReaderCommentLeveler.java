@@ -5,81 +5,151 @@ import androidx.annotation.NonNull;
 import org.wordpress.android.models.ReaderComment;
 import org.wordpress.android.models.ReaderCommentList;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 /*
  * utility class which accepts a list of comments and then creates a "level list" from it
  * which places child comments below their parents with indentation levels applied
+ *
+ * the children of each comment are indexed once, and the level list is then created with a
+ * single depth-first walk from the root comments, so the time taken grows linearly with the
+ * number of comments. comments whose parent isn't in the list are left out of the level list,
+ * and replies are placed in the order they appear in the passed list
  */
 
 public class ReaderCommentLeveler {
-    private final ReaderCommentList mComments;
+    private final ReaderCommentList mComments = new ReaderCommentList();
+    private final Map<Long, ReaderCommentList> mChildrenByParentId = new HashMap<>();
+    private final Set<Long> mCommentIds = new HashSet<>();
+    private ReaderCommentList mLevelList = new ReaderCommentList();
 
     public ReaderCommentLeveler(@NonNull ReaderCommentList comments) {
-        mComments = comments;
+        mComments.addAll(comments);
     }
 
     public ReaderCommentList createLevelList() {
-        ReaderCommentList result = new ReaderCommentList();
+        mChildrenByParentId.clear();
+        mCommentIds.clear();
 
-        // reset all levels, and add root comments to result
+        ReaderCommentList roots = new ReaderCommentList();
         for (ReaderComment comment : mComments) {
             comment.level = 0;
+            mCommentIds.add(comment.commentId);
             if (comment.parentId == 0) {
-                result.add(comment);
+                roots.add(comment);
+            } else {
+                getChildren(comment.parentId).add(comment);
             }
         }
 
-        // add children at each level
-        int level = 0;
-        while (walkCommentsAtLevel(result, level)) {
-            level++;
+        ReaderCommentList levelList = new ReaderCommentList();
+        for (ReaderComment root : roots) {
+            insertThread(levelList, levelList.size(), root, 0);
         }
-
-        return result;
+        mLevelList = levelList;
+        return copyOf(mLevelList);
     }
 
     /*
-     * walk comments in the passed list that have the passed level and add their children
-     * beneath them
+     * returns true if the passed list starts with the same comments as the list this leveler
+     * was created with, followed by more comments - ie: a newly loaded page of comments, which
+     * can be added with addComments() rather than re-leveling the whole list
      */
-    private boolean walkCommentsAtLevel(@NonNull ReaderCommentList comments, int level) {
-        boolean hasChanges = false;
-        for (int index = 0; index < comments.size(); index++) {
-            ReaderComment parent = comments.get(index);
-            if (parent.level == level && hasChildren(parent.commentId)) {
-                // get children for this comment, set their level, then add them below the parent
-                ReaderCommentList children = getChildren(parent.commentId);
-                setLevel(children, level + 1);
-                comments.addAll(index + 1, children);
-                hasChanges = true;
-                // skip past the children we just added
-                index += children.size();
+    public boolean isExtendedBy(@NonNull ReaderCommentList comments) {
+        if (comments.size() <= mComments.size()) {
+            return false;
+        }
+        for (int i = 0; i < mComments.size(); i++) {
+            if (!mComments.get(i).equals(comments.get(i))) {
+                return false;
             }
         }
-        return hasChanges;
+        return true;
     }
 
-    private boolean hasChildren(long commentId) {
-        for (ReaderComment comment : mComments) {
-            if (comment.parentId == commentId) {
-                return true;
+    /*
+     * adds the passed comments to the level list created by createLevelList() without
+     * re-leveling the comments already in it, and returns the updated level list - comments
+     * already in the list are skipped. new root comments go at the end of the list and new
+     * replies go below their parent's existing replies, which matches the list createLevelList()
+     * creates as long as the new comments come after the existing ones, as new pages do
+     */
+    public ReaderCommentList addComments(@NonNull ReaderCommentList comments) {
+        ReaderCommentList levelList = copyOf(mLevelList);
+        for (ReaderComment comment : comments) {
+            if (!mCommentIds.add(comment.commentId)) {
+                continue;
+            }
+            mComments.add(comment);
+            comment.level = 0;
+
+            if (comment.parentId == 0) {
+                insertThread(levelList, levelList.size(), comment, 0);
+                continue;
             }
+
+            getChildren(comment.parentId).add(comment);
+            int parentIndex = levelList.indexOfCommentId(comment.parentId);
+            if (parentIndex == -1) {
+                // the parent hasn't been added yet, this reply will be added along with it
+                continue;
+            }
+            int parentLevel = levelList.get(parentIndex).level;
+            int index = parentIndex + 1;
+            while (index < levelList.size() && levelList.get(index).level > parentLevel) {
+                index++;
+            }
+            insertThread(levelList, index, comment, parentLevel + 1);
         }
-        return false;
+        mLevelList = levelList;
+        return copyOf(mLevelList);
     }
 
-    private ReaderCommentList getChildren(long commentId) {
-        ReaderCommentList children = new ReaderCommentList();
-        for (ReaderComment comment : mComments) {
-            if (comment.parentId == commentId) {
-                children.add(comment);
+    /*
+     * inserts the passed comment followed by all its replies, depth first, at the passed index -
+     * this uses a stack rather than recursion so very deep threads can't overflow the call stack
+     */
+    private void insertThread(@NonNull ReaderCommentList levelList, int index, @NonNull ReaderComment comment,
+                              int level) {
+        ReaderCommentList thread = new ReaderCommentList();
+        Deque<ReaderComment> stack = new ArrayDeque<>();
+        comment.level = level;
+        stack.push(comment);
+        while (!stack.isEmpty()) {
+            ReaderComment parent = stack.pop();
+            thread.add(parent);
+            ReaderCommentList children = mChildrenByParentId.get(parent.commentId);
+            if (children != null) {
+                // push in reverse so the children are popped in their original order
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    ReaderComment child = children.get(i);
+                    child.level = parent.level + 1;
+                    stack.push(child);
+                }
             }
         }
-        return children;
+        levelList.addAll(index, thread);
     }
 
-    private void setLevel(@NonNull ReaderCommentList comments, int level) {
-        for (ReaderComment comment : comments) {
-            comment.level = level;
+    @NonNull
+    private ReaderCommentList getChildren(long parentId) {
+        ReaderCommentList children = mChildrenByParentId.get(parentId);
+        if (children == null) {
+            children = new ReaderCommentList();
+            mChildrenByParentId.put(parentId, children);
         }
+        return children;
+    }
+
+    @NonNull
+    private static ReaderCommentList copyOf(@NonNull ReaderCommentList comments) {
+        ReaderCommentList copy = new ReaderCommentList();
+        copy.addAll(comments);
+        return copy;
     }
 }
@@ -1,19 +1,19 @@
 package org.wordpress.android.ui.reader.utils;
 
-import java.util.HashMap;
-import java.util.regex.Pattern;
+import androidx.annotation.NonNull;
 
 public class ReaderEmbedScanner {
-    private final String mContent;
-
-    private final HashMap<Pattern, String> mKnownEmbeds = new HashMap<>();
+    private final ReaderHtmlTags mTags;
 
     public ReaderEmbedScanner(String contentOfPost) {
-        mContent = contentOfPost;
-        mKnownEmbeds.put(Pattern.compile("<blockquote[^<>]class=\"instagram-", Pattern.CASE_INSENSITIVE),
-                         "https://platform.instagram.com/en_US/embeds.js");
-        mKnownEmbeds.put(Pattern.compile("<fb:post", Pattern.CASE_INSENSITIVE),
-                         "https://connect.facebook.net/en_US/sdk.js#xfbml=1&amp;version=v2.8");
+        this(ReaderHtmlTags.scan(contentOfPost));
+    }
+
+    /*
+     * use this when the content has already been scanned - see ReaderPost.getContentTags()
+     */
+    public ReaderEmbedScanner(@NonNull ReaderHtmlTags tags) {
+        mTags = tags;
     }
 
     public void beginScan(ReaderHtmlUtils.HtmlScannerListener listener) {
@@ -21,12 +21,10 @@ public class ReaderEmbedScanner {
             throw new IllegalArgumentException("HtmlScannerListener is required");
         }
 
-        for (Pattern pattern : mKnownEmbeds.keySet()) {
-            if (pattern.matcher(mContent).find()) {
-                // Use the onTagFound callback to pass a URL. Not super clean, but avoid clutter with more kind
-                // of listeners.
-                listener.onTagFound("", mKnownEmbeds.get(pattern));
-            }
+        for (String script : mTags.getEmbedScripts()) {
+            // Use the onTagFound callback to pass a URL. Not super clean, but avoid clutter with more kind
+            // of listeners.
+            listener.onTagFound("", script);
         }
     }
 }
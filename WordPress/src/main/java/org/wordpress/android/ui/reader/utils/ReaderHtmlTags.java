@@ -0,0 +1,190 @@
+package org.wordpress.android.ui.reader.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * the img, iframe and embed tags found in a post's HTML, gathered by a single linear scan of the
+ * content - used by the image, iframe and embed scanners and by the post renderer so the content
+ * isn't searched once per kind of tag.
+ * <p>
+ * Matching deliberately mirrors the regular expressions those classes used before this existed:
+ * images are "&lt;img[^&gt;]* src=\"([^\"]*)\"[^&gt;]*&gt;", iframes are the same with single quotes,
+ * and both are case-insensitive.
+ */
+public class ReaderHtmlTags {
+    public static final String INSTAGRAM_EMBED_SCRIPT = "https://platform.instagram.com/en_US/embeds.js";
+    public static final String FACEBOOK_EMBED_SCRIPT =
+            "https://connect.facebook.net/en_US/sdk.js#xfbml=1&amp;version=v2.8";
+
+    private static final String IMG_TAG_START = "<img";
+    private static final String IFRAME_TAG_START = "<iframe";
+    private static final String BLOCKQUOTE_TAG_START = "<blockquote";
+    private static final String INSTAGRAM_CLASS = "class=\"instagram-";
+    private static final String FACEBOOK_TAG_START = "<fb:post";
+    private static final String TILED_GALLERY = "tiled-gallery";
+    private static final String SRC_ATTR = " src=";
+
+    /**
+     * a tag found in the content along with its src attribute - start and end are the offsets
+     * of the whole tag in the scanned content (end is exclusive)
+     */
+    public static class Tag {
+        @NonNull public final String tag;
+        @NonNull public final String src;
+        public final int start;
+        public final int end;
+
+        Tag(@NonNull String content, int start, int end, int srcStart, int srcEnd) {
+            this.tag = content.substring(start, end);
+            this.src = content.substring(srcStart, srcEnd);
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private final List<Tag> mImages = new ArrayList<>();
+    private final List<Tag> mIframes = new ArrayList<>();
+    private final Set<String> mEmbedScripts = new LinkedHashSet<>();
+    private boolean mHasTiledGallery;
+
+    private ReaderHtmlTags() {
+    }
+
+    @NonNull
+    public List<Tag> getImages() {
+        return Collections.unmodifiableList(mImages);
+    }
+
+    @NonNull
+    public List<Tag> getIframes() {
+        return Collections.unmodifiableList(mIframes);
+    }
+
+    /*
+     * scripts which must be loaded for the embeds in the content to work
+     */
+    @NonNull
+    public Set<String> getEmbedScripts() {
+        return Collections.unmodifiableSet(mEmbedScripts);
+    }
+
+    public boolean hasImages() {
+        return !mImages.isEmpty();
+    }
+
+    public boolean hasIframes() {
+        return !mIframes.isEmpty();
+    }
+
+    public boolean hasTiledGallery() {
+        return mHasTiledGallery;
+    }
+
+    @NonNull
+    public static ReaderHtmlTags scan(@Nullable String content) {
+        ReaderHtmlTags tags = new ReaderHtmlTags();
+        if (content == null || content.isEmpty()) {
+            return tags;
+        }
+
+        // images and iframes are matched independently (as they were when each had its own
+        // regex), so each kind resumes after its own previous match
+        int nextImage = 0;
+        int nextIframe = 0;
+        int length = content.length();
+        for (int i = 0; i < length; i++) {
+            char c = content.charAt(i);
+            if (c == '<') {
+                if (i >= nextImage && content.regionMatches(true, i, IMG_TAG_START, 0, IMG_TAG_START.length())) {
+                    Tag image = matchSrcTag(content, i, IMG_TAG_START.length(), '"');
+                    if (image != null) {
+                        tags.mImages.add(image);
+                        nextImage = image.end;
+                    }
+                } else if (i >= nextIframe
+                           && content.regionMatches(true, i, IFRAME_TAG_START, 0, IFRAME_TAG_START.length())) {
+                    Tag iframe = matchSrcTag(content, i, IFRAME_TAG_START.length(), '\'');
+                    if (iframe != null) {
+                        tags.mIframes.add(iframe);
+                        nextIframe = iframe.end;
+                    }
+                } else if (isInstagramEmbedAt(content, i)) {
+                    tags.mEmbedScripts.add(INSTAGRAM_EMBED_SCRIPT);
+                } else if (content.regionMatches(true, i, FACEBOOK_TAG_START, 0, FACEBOOK_TAG_START.length())) {
+                    tags.mEmbedScripts.add(FACEBOOK_EMBED_SCRIPT);
+                }
+            } else if (c == 't' && !tags.mHasTiledGallery && isTiledGalleryAt(content, i)) {
+                tags.mHasTiledGallery = true;
+            }
+        }
+
+        return tags;
+    }
+
+    /*
+     * matches "<name[^>]* src=Q([^Q]*)Q[^>]*>" at the passed offset - since the leading [^>]*
+     * is greedy, the last " src=Q" before the first '>' wins, falling back to earlier ones
+     * when the rest of the pattern can't be matched after it
+     */
+    @Nullable
+    private static Tag matchSrcTag(@NonNull String content, int start, int nameLength, char quote) {
+        int nameEnd = start + nameLength;
+        int firstClose = content.indexOf('>', nameEnd);
+        if (firstClose == -1) {
+            return null;
+        }
+
+        int attrLength = SRC_ATTR.length() + 1;
+        for (int attr = firstClose - attrLength; attr >= nameEnd; attr--) {
+            if (content.charAt(attr + SRC_ATTR.length()) != quote
+                || !content.regionMatches(true, attr, SRC_ATTR, 0, SRC_ATTR.length())) {
+                continue;
+            }
+            int srcStart = attr + attrLength;
+            int srcEnd = content.indexOf(quote, srcStart);
+            if (srcEnd == -1) {
+                continue;
+            }
+            int tagClose = content.indexOf('>', srcEnd + 1);
+            if (tagClose == -1) {
+                continue;
+            }
+            return new Tag(content, start, tagClose + 1, srcStart, srcEnd);
+        }
+        return null;
+    }
+
+    /*
+     * matches "<blockquote[^<>]class=\"instagram-" at the passed offset
+     */
+    private static boolean isInstagramEmbedAt(@NonNull String content, int start) {
+        int separator = start + BLOCKQUOTE_TAG_START.length();
+        if (separator >= content.length()
+            || !content.regionMatches(true, start, BLOCKQUOTE_TAG_START, 0, BLOCKQUOTE_TAG_START.length())) {
+            return false;
+        }
+        char c = content.charAt(separator);
+        return c != '<' && c != '>'
+               && content.regionMatches(true, separator + 1, INSTAGRAM_CLASS, 0, INSTAGRAM_CLASS.length());
+    }
+
+    /*
+     * matches "tiled-gallery[\s\"']" at the passed offset
+     */
+    private static boolean isTiledGalleryAt(@NonNull String content, int start) {
+        int next = start + TILED_GALLERY.length();
+        if (next >= content.length() || !content.startsWith(TILED_GALLERY, start)) {
+            return false;
+        }
+        char c = content.charAt(next);
+        return c == '"' || c == '\'' || c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f'
+               || c == '\u000B';
+    }
+}
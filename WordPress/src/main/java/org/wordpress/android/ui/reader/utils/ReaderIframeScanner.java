@@ -1,17 +1,19 @@
 package org.wordpress.android.ui.reader.utils;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import androidx.annotation.NonNull;
 
 public class ReaderIframeScanner {
-    private final String mContent;
-
-    private static final Pattern IFRAME_TAG_PATTERN = Pattern.compile(
-            "<iframe[^>]* src=\\\'([^\\\']*)\\\'[^>]*>",
-            Pattern.CASE_INSENSITIVE);
+    private final ReaderHtmlTags mTags;
 
     public ReaderIframeScanner(String contentOfPost) {
-        mContent = contentOfPost;
+        this(ReaderHtmlTags.scan(contentOfPost));
+    }
+
+    /*
+     * use this when the content has already been scanned - see ReaderPost.getContentTags()
+     */
+    public ReaderIframeScanner(@NonNull ReaderHtmlTags tags) {
+        mTags = tags;
     }
 
     public void beginScan(ReaderHtmlUtils.HtmlScannerListener listener) {
@@ -19,11 +21,8 @@ public class ReaderIframeScanner {
             throw new IllegalArgumentException("HtmlScannerListener is required");
         }
 
-        Matcher matcher = IFRAME_TAG_PATTERN.matcher(mContent);
-        while (matcher.find()) {
-            String tag = matcher.group(0);
-            String src = matcher.group(1);
-            listener.onTagFound(tag, src);
+        for (ReaderHtmlTags.Tag iframe : mTags.getIframes()) {
+            listener.onTagFound(iframe.tag, iframe.src);
         }
     }
 
@@ -31,11 +30,9 @@ public class ReaderIframeScanner {
      * scans the post for iframes containing usable videos, returns the first one found
      */
     public String getFirstUsableVideo() {
-        Matcher matcher = IFRAME_TAG_PATTERN.matcher(mContent);
-        while (matcher.find()) {
-            String src = matcher.group(1);
-            if (ReaderVideoUtils.canShowVideoThumbnail(src)) {
-                return src;
+        for (ReaderHtmlTags.Tag iframe : mTags.getIframes()) {
+            if (ReaderVideoUtils.canShowVideoThumbnail(iframe.src)) {
+                return iframe.src;
             }
         }
         return null;
@@ -4,22 +4,22 @@ import androidx.annotation.NonNull;
 
 import org.wordpress.android.ui.reader.models.ReaderImageList;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 public class ReaderImageScanner {
-    private final String mContent;
+    private final ReaderHtmlTags mTags;
     private final boolean mIsPrivate;
     private final boolean mContentContainsImages;
 
-    private static final Pattern IMG_TAG_PATTERN = Pattern.compile(
-            "<img[^>]* src=\\\"([^\\\"]*)\\\"[^>]*>",
-            Pattern.CASE_INSENSITIVE);
-
     public ReaderImageScanner(String contentOfPost, boolean isPrivate) {
-        mContent = contentOfPost;
+        this(ReaderHtmlTags.scan(contentOfPost), isPrivate);
+    }
+
+    /*
+     * use this when the content has already been scanned - see ReaderPost.getContentTags()
+     */
+    public ReaderImageScanner(@NonNull ReaderHtmlTags tags, boolean isPrivate) {
+        mTags = tags;
         mIsPrivate = isPrivate;
-        mContentContainsImages = mContent != null && mContent.contains("<img");
+        mContentContainsImages = tags.hasImages();
     }
 
     /*
@@ -34,11 +34,8 @@ public class ReaderImageScanner {
             return;
         }
 
-        Matcher imgMatcher = IMG_TAG_PATTERN.matcher(mContent);
-        while (imgMatcher.find()) {
-            String imageTag = imgMatcher.group(0);
-            String imageUrl = imgMatcher.group(1);
-            listener.onTagFound(imageTag, imageUrl);
+        for (ReaderHtmlTags.Tag image : mTags.getImages()) {
+            listener.onTagFound(image.tag, image.src);
         }
     }
 
@@ -53,10 +50,9 @@ public class ReaderImageScanner {
             return imageList;
         }
 
-        Matcher imgMatcher = IMG_TAG_PATTERN.matcher(mContent);
-        while (imgMatcher.find()) {
-            String imageTag = imgMatcher.group(0);
-            String imageUrl = imgMatcher.group(1);
+        for (ReaderHtmlTags.Tag image : mTags.getImages()) {
+            String imageTag = image.tag;
+            String imageUrl = image.src;
 
             if (minImageWidth == 0) {
                 imageList.addImageUrl(imageUrl);
@@ -95,10 +91,9 @@ public class ReaderImageScanner {
         String currentImageUrl = null;
         int currentMaxWidth = minImageWidth;
 
-        Matcher imgMatcher = IMG_TAG_PATTERN.matcher(mContent);
-        while (imgMatcher.find()) {
-            String imageTag = imgMatcher.group(0);
-            String imageUrl = imgMatcher.group(1);
+        for (ReaderHtmlTags.Tag image : mTags.getImages()) {
+            String imageTag = image.tag;
+            String imageUrl = image.src;
 
             // Primary source: check the width attribute.
             int width = Math.max(ReaderHtmlUtils.getWidthAttrValue(imageTag),
@@ -0,0 +1,129 @@
+package org.wordpress.android.ui.reader.utils;
+
+import android.graphics.Typeface;
+import android.text.Spannable;
+import android.text.SpannableString;
+import android.text.style.ForegroundColorSpan;
+import android.text.style.StyleSpan;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.wordpress.android.util.extensions.ContextExtensionsKt;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/*
+ * splits reader search queries into terms and finds the words which match them - words match
+ * when they start with a term, which mirrors the prefix queries used to search cached posts
+ */
+public class ReaderSearchUtils {
+    private static final int MAX_SEARCH_TERMS = 8;
+
+    public static class Match {
+        public final int start;
+        public final int end;
+
+        Match(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private ReaderSearchUtils() {
+        throw new AssertionError();
+    }
+
+    /*
+     * returns the distinct lowercase words in the passed query, ignoring punctuation
+     */
+    @NonNull
+    public static List<String> getSearchTerms(@Nullable String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query == null) {
+            return new ArrayList<>(terms);
+        }
+
+        int start = -1;
+        for (int i = 0; i <= query.length() && terms.size() < MAX_SEARCH_TERMS; i++) {
+            boolean isWordChar = i < query.length() && Character.isLetterOrDigit(query.charAt(i));
+            if (isWordChar && start == -1) {
+                start = i;
+            } else if (!isWordChar && start != -1) {
+                terms.add(query.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /*
+     * returns the position of each word in the passed text which starts with one of the passed terms
+     */
+    @NonNull
+    public static List<Match> findMatches(@Nullable CharSequence text, @NonNull List<String> terms) {
+        List<Match> matches = new ArrayList<>();
+        if (text == null || text.length() == 0 || terms.isEmpty()) {
+            return matches;
+        }
+
+        String str = text.toString();
+        int length = str.length();
+        int i = 0;
+        while (i < length) {
+            if (!Character.isLetterOrDigit(str.charAt(i))) {
+                i++;
+                continue;
+            }
+            int wordEnd = i;
+            while (wordEnd < length && Character.isLetterOrDigit(str.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            for (String term : terms) {
+                if (term.length() <= wordEnd - i && str.regionMatches(true, i, term, 0, term.length())) {
+                    matches.add(new Match(i, wordEnd));
+                    break;
+                }
+            }
+            i = wordEnd;
+        }
+        return matches;
+    }
+
+    /*
+     * returns the passed text with the words which match the passed terms shown in bold using the passed color
+     */
+    @Nullable
+    public static CharSequence highlightMatches(@Nullable CharSequence text, @NonNull List<String> terms, int color) {
+        List<Match> matches = findMatches(text, terms);
+        if (matches.isEmpty()) {
+            return text;
+        }
+
+        SpannableString spannable = new SpannableString(text);
+        for (Match match : matches) {
+            spannable.setSpan(new StyleSpan(Typeface.BOLD), match.start, match.end,
+                    Spannable.SPAN_EXCLUSIVE_EXCLUSIVE);
+            spannable.setSpan(new ForegroundColorSpan(color), match.start, match.end,
+                    Spannable.SPAN_EXCLUSIVE_EXCLUSIVE);
+        }
+        return spannable;
+    }
+
+    /*
+     * shows the words in the passed views which match the passed terms in bold using the theme's primary color,
+     * which is how search results are highlighted in post cards
+     */
+    public static void highlightMatches(@NonNull List<String> terms, @NonNull TextView... views) {
+        for (TextView view : views) {
+            int color = ContextExtensionsKt.getColorFromAttribute(view.getContext(),
+                    com.google.android.material.R.attr.colorPrimary);
+            view.setText(highlightMatches(view.getText(), terms, color));
+        }
+    }
+}
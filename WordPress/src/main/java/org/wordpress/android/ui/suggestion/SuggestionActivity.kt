@@ -160,7 +160,12 @@ class SuggestionActivity : LocaleAwareActivity() {
         }
 
         viewModel.suggestionData.observe(this, { suggestionResult ->
-            suggestionAdapter?.suggestionList = suggestionResult.suggestions
+            val index = suggestionResult.index
+            if (index != null) {
+                suggestionAdapter?.setSuggestionIndex(index)
+            } else {
+                suggestionAdapter?.suggestionList = suggestionResult.suggestions
+            }
 
             // Calling forceFiltering is needed to force the suggestions list to always
             // immediately refresh when there is new data
@@ -2,6 +2,7 @@ package org.wordpress.android.ui.suggestion
 
 import androidx.lifecycle.LiveData
 import org.wordpress.android.fluxc.model.SiteModel
+import org.wordpress.android.ui.suggestion.util.SuggestionIndex
 
 interface SuggestionSource {
     val site: SiteModel
@@ -12,4 +13,8 @@ interface SuggestionSource {
     fun onCleared()
 }
 
-data class SuggestionResult(val suggestions: List<Suggestion>, val hadFetchError: Boolean)
+data class SuggestionResult(
+    val suggestions: List<Suggestion>,
+    val hadFetchError: Boolean,
+    val index: SuggestionIndex? = null
+)
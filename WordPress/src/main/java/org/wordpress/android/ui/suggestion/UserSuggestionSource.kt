@@ -8,10 +8,10 @@ import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Job
 import kotlinx.coroutines.launch
 import org.greenrobot.eventbus.Subscribe
-import org.wordpress.android.datasets.UserSuggestionTable
 import org.wordpress.android.fluxc.model.SiteModel
 import org.wordpress.android.modules.BG_THREAD
 import org.wordpress.android.ui.suggestion.service.SuggestionEvents.SuggestionNameListUpdated
+import org.wordpress.android.ui.suggestion.util.SuggestionIndexCache
 import org.wordpress.android.ui.suggestion.util.SuggestionServiceConnectionManager
 import org.wordpress.android.util.EventBusWrapper
 import javax.inject.Inject
@@ -41,13 +41,12 @@ class UserSuggestionSource @Inject constructor(
 
     private fun postSavedSuggestions(suggestionsWereJustUpdated: Boolean) {
         launch {
-            val suggestions = Suggestion.fromUserSuggestions(
-                UserSuggestionTable.getSuggestionsForSite(site.siteId)
-            )
+            val index = SuggestionIndexCache.getUserSuggestionIndex(site.siteId)
+            val suggestions = index.suggestions
 
             // Only send empty suggestions if they are recent
             if (suggestions.isNotEmpty() || suggestionsWereJustUpdated) {
-                _suggestions.postValue(SuggestionResult(suggestions, false))
+                _suggestions.postValue(SuggestionResult(suggestions, false, index))
             }
         }
     }
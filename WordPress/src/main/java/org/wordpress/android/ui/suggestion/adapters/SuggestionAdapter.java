@@ -18,14 +18,13 @@ import androidx.annotation.Nullable;
 import org.wordpress.android.R;
 import org.wordpress.android.WordPress;
 import org.wordpress.android.ui.suggestion.Suggestion;
+import org.wordpress.android.ui.suggestion.util.SuggestionIndex;
 import org.wordpress.android.util.GravatarUtils;
 import org.wordpress.android.util.image.ImageManager;
 import org.wordpress.android.util.image.ImageType;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 
 import javax.inject.Inject;
 
@@ -34,6 +33,7 @@ public class SuggestionAdapter extends BaseAdapter implements Filterable {
     private Filter mSuggestionFilter;
     private List<Suggestion> mSuggestionList;
     private List<Suggestion> mOrigSuggestionList;
+    private SuggestionIndex mSuggestionIndex;
     private final int mAvatarSz;
     private @Nullable @AttrRes Integer mBackgroundColor;
 
@@ -52,14 +52,44 @@ public class SuggestionAdapter extends BaseAdapter implements Filterable {
         mBackgroundColor = backgroundColor;
     }
 
-    public void setSuggestionList(List<Suggestion> suggestionList) {
+    /*
+     * the index for the passed suggestions is built on the filter thread the next time they're filtered - use
+     * setSuggestionIndex() instead when an index has already been built
+     */
+    public synchronized void setSuggestionList(List<Suggestion> suggestionList) {
         mOrigSuggestionList = suggestionList;
+        mSuggestionIndex = null;
     }
 
-    public List<Suggestion> getSuggestionList() {
+    public synchronized void setSuggestionIndex(@NonNull SuggestionIndex suggestionIndex) {
+        mOrigSuggestionList = suggestionIndex.getSuggestions();
+        mSuggestionIndex = suggestionIndex;
+    }
+
+    public synchronized List<Suggestion> getSuggestionList() {
         return mOrigSuggestionList;
     }
 
+    @Nullable
+    private SuggestionIndex getSuggestionIndex() {
+        List<Suggestion> suggestionList;
+        SuggestionIndex suggestionIndex;
+        synchronized (this) {
+            suggestionList = mOrigSuggestionList;
+            suggestionIndex = mSuggestionIndex;
+        }
+        if (suggestionIndex == null && suggestionList != null) {
+            // built outside the lock so the list can be replaced while the index is being built
+            suggestionIndex = SuggestionIndex.build(suggestionList);
+            synchronized (this) {
+                if (mOrigSuggestionList == suggestionList) {
+                    mSuggestionIndex = suggestionIndex;
+                }
+            }
+        }
+        return suggestionIndex;
+    }
+
     public List<Suggestion> getFilteredSuggestions() {
         return mSuggestionList;
     }
@@ -149,26 +179,11 @@ public class SuggestionAdapter extends BaseAdapter implements Filterable {
 
         @NonNull
         private List<Suggestion> getFilteredSuggestions(CharSequence constraint) {
-            if (mOrigSuggestionList == null) {
+            SuggestionIndex suggestionIndex = getSuggestionIndex();
+            if (suggestionIndex == null) {
                 return Collections.emptyList();
-            } else if (constraint == null || constraint.length() == 0) {
-                return mOrigSuggestionList;
-            } else {
-                List<Suggestion> filteredSuggestions = new ArrayList<>();
-                for (Suggestion suggestion : mOrigSuggestionList) {
-                    String lowerCaseConstraint = constraint.toString().toLowerCase(Locale.getDefault());
-                    boolean suggestionMatchesConstraint =
-                            suggestion.getValue().toLowerCase(Locale.ROOT).startsWith(lowerCaseConstraint)
-                            || suggestion.getDisplayValue().toLowerCase(Locale.getDefault())
-                                         .startsWith(lowerCaseConstraint)
-                            || suggestion.getDisplayValue().toLowerCase(Locale.getDefault())
-                                         .contains(" " + lowerCaseConstraint);
-                    if (suggestionMatchesConstraint) {
-                        filteredSuggestions.add(suggestion);
-                    }
-                }
-                return filteredSuggestions;
             }
+            return suggestionIndex.find(constraint, SuggestionIndex.MAX_RESULTS);
         }
 
         @SuppressWarnings("unchecked")
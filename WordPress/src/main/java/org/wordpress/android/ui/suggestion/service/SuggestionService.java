@@ -14,6 +14,7 @@ import org.wordpress.android.WordPress;
 import org.wordpress.android.datasets.UserSuggestionTable;
 import org.wordpress.android.models.UserSuggestion;
 import org.wordpress.android.models.Tag;
+import org.wordpress.android.ui.suggestion.util.SuggestionIndexCache;
 import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.AppLog.T;
 
@@ -106,6 +107,8 @@ public class SuggestionService extends Service {
                 List<UserSuggestion> suggestions = UserSuggestion.suggestionListFromJSON(jsonSuggestions, siteId);
                 if (suggestions != null) {
                     UserSuggestionTable.insertSuggestionsForSite(siteId, suggestions);
+                    // build the index here so editors showing these suggestions don't have to
+                    SuggestionIndexCache.putUserSuggestions(siteId, suggestions);
                     EventBus.getDefault().post(new SuggestionEvents.SuggestionNameListUpdated(siteId));
                 }
             }
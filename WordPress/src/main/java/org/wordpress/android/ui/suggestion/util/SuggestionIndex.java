@@ -0,0 +1,142 @@
+package org.wordpress.android.ui.suggestion.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.wordpress.android.ui.suggestion.Suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A prefix index over a list of suggestions. A suggestion matches what the user has typed when its value, its
+ * display value, or a word in its display value starts with it. Each of those keys is lowercased once when the index
+ * is built and kept in a sorted array for its kind of match, so finding the best matches for a keystroke is a binary
+ * search in each array followed by reading matching keys until enough have been found, rather than a pass over every
+ * suggestion.
+ * <p>
+ * Indexes are immutable, so they can be built on one thread and searched on another.
+ */
+public class SuggestionIndex {
+    public static final int MAX_RESULTS = 50;
+
+    private static class Key implements Comparable<Key> {
+        private final String mText;
+        private final int mPosition;
+
+        Key(@NonNull String text, int position) {
+            mText = text;
+            mPosition = position;
+        }
+
+        @Override
+        public int compareTo(@NonNull Key other) {
+            return mText.compareTo(other.mText);
+        }
+    }
+
+    private final List<Suggestion> mSuggestions;
+    private final Locale mLocale;
+
+    // sorted keys for each kind of match, best kind first
+    private final Key[][] mKeysByRank;
+
+    private SuggestionIndex(@NonNull List<Suggestion> suggestions, @NonNull Locale locale,
+                            @NonNull Key[][] keysByRank) {
+        mSuggestions = suggestions;
+        mLocale = locale;
+        mKeysByRank = keysByRank;
+    }
+
+    @NonNull
+    public static SuggestionIndex build(@Nullable List<Suggestion> suggestions) {
+        List<Suggestion> suggestionList = suggestions != null
+                ? Collections.unmodifiableList(new ArrayList<>(suggestions)) : Collections.emptyList();
+        Locale locale = Locale.getDefault();
+
+        List<Key> valueKeys = new ArrayList<>(suggestionList.size());
+        List<Key> displayValueKeys = new ArrayList<>(suggestionList.size());
+        List<Key> wordKeys = new ArrayList<>(suggestionList.size());
+        for (int position = 0; position < suggestionList.size(); position++) {
+            Suggestion suggestion = suggestionList.get(position);
+            valueKeys.add(new Key(suggestion.getValue().toLowerCase(locale), position));
+
+            String displayValue = suggestion.getDisplayValue().toLowerCase(locale);
+            displayValueKeys.add(new Key(displayValue, position));
+            for (int i = displayValue.indexOf(' '); i != -1; i = displayValue.indexOf(' ', i + 1)) {
+                if (i + 1 < displayValue.length()) {
+                    wordKeys.add(new Key(displayValue.substring(i + 1), position));
+                }
+            }
+        }
+
+        Key[][] keysByRank = {sortedArray(valueKeys), sortedArray(displayValueKeys), sortedArray(wordKeys)};
+        return new SuggestionIndex(suggestionList, locale, keysByRank);
+    }
+
+    @NonNull
+    private static Key[] sortedArray(@NonNull List<Key> keys) {
+        Key[] array = keys.toArray(new Key[0]);
+        Arrays.sort(array);
+        return array;
+    }
+
+    /**
+     * Returns every suggestion in the order they were passed to {@link #build(List)}.
+     */
+    @NonNull
+    public List<Suggestion> getSuggestions() {
+        return mSuggestions;
+    }
+
+    /**
+     * Returns at most the passed number of suggestions matching the passed text. Suggestions whose value starts with
+     * the text come first (so a value which is the text comes before all others), followed by those whose display
+     * value starts with it and lastly those with a word in their display value starting with it - each in the
+     * alphabetical order of the matching value, display value or word. All the suggestions are returned when the
+     * text is empty.
+     */
+    @NonNull
+    public List<Suggestion> find(@Nullable CharSequence text, int maxResults) {
+        if (text == null || text.length() == 0) {
+            return mSuggestions;
+        }
+
+        String prefix = text.toString().toLowerCase(mLocale);
+        List<Suggestion> results = new ArrayList<>();
+        Set<Integer> foundPositions = new HashSet<>();
+        for (Key[] keys : mKeysByRank) {
+            for (int i = lowerBound(keys, prefix); i < keys.length && keys[i].mText.startsWith(prefix); i++) {
+                if (results.size() >= maxResults) {
+                    return results;
+                }
+                if (foundPositions.add(keys[i].mPosition)) {
+                    results.add(mSuggestions.get(keys[i].mPosition));
+                }
+            }
+        }
+        return results;
+    }
+
+    /*
+     * returns the index of the first of the passed keys which isn't less than the passed text
+     */
+    private static int lowerBound(@NonNull Key[] keys, @NonNull String text) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].mText.compareTo(text) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,74 @@
+package org.wordpress.android.ui.suggestion.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.wordpress.android.datasets.UserSuggestionTable;
+import org.wordpress.android.models.UserSuggestion;
+import org.wordpress.android.ui.suggestion.Suggestion;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the user suggestion index for the most recently used sites, so the comment editors and the post editor all
+ * search the same index. SuggestionService rebuilds a site's index each time it saves the site's suggestions.
+ */
+public class SuggestionIndexCache {
+    private static final int MAX_SITES = 4;
+
+    private static final Map<Long, SuggestionIndex> USER_INDEXES =
+            new LinkedHashMap<Long, SuggestionIndex>(MAX_SITES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, SuggestionIndex> eldest) {
+                    return size() > MAX_SITES;
+                }
+            };
+
+    private SuggestionIndexCache() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Replaces the index for the passed site with one built from the passed suggestions.
+     */
+    @NonNull
+    public static SuggestionIndex putUserSuggestions(long siteId, @Nullable List<UserSuggestion> userSuggestions) {
+        SuggestionIndex index = buildIndex(userSuggestions);
+        synchronized (USER_INDEXES) {
+            USER_INDEXES.put(siteId, index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index for the passed site if it's been built, without building it.
+     */
+    @Nullable
+    public static SuggestionIndex peekUserSuggestionIndex(long siteId) {
+        synchronized (USER_INDEXES) {
+            return USER_INDEXES.get(siteId);
+        }
+    }
+
+    /**
+     * Returns the index for the passed site, building it from the saved suggestions if it hasn't been built yet -
+     * which reads the database, so should be avoided on the main thread.
+     */
+    @NonNull
+    public static SuggestionIndex getUserSuggestionIndex(long siteId) {
+        SuggestionIndex index = peekUserSuggestionIndex(siteId);
+        if (index != null) {
+            return index;
+        }
+        return putUserSuggestions(siteId, UserSuggestionTable.getSuggestionsForSite(siteId));
+    }
+
+    @NonNull
+    private static SuggestionIndex buildIndex(@Nullable List<UserSuggestion> userSuggestions) {
+        List<Suggestion> suggestions = userSuggestions != null
+                ? Suggestion.Companion.fromUserSuggestions(userSuggestions) : null;
+        return SuggestionIndex.build(suggestions);
+    }
+}
@@ -3,7 +3,6 @@ package org.wordpress.android.ui.suggestion.util
 import android.content.Context
 import org.wordpress.android.datasets.UserSuggestionTable
 import org.wordpress.android.fluxc.model.SiteModel
-import org.wordpress.android.models.UserSuggestion
 import org.wordpress.android.ui.suggestion.Suggestion
 import org.wordpress.android.ui.suggestion.adapters.SuggestionAdapter
 import org.wordpress.android.util.SiteUtils
@@ -28,23 +27,22 @@ object SuggestionUtils {
         connectionManager: SuggestionServiceConnectionManager,
         isWPCom: Boolean
     ): SuggestionAdapter {
-        val initialSuggestions = setupUserSuggestions(siteId, connectionManager, isWPCom)
-        return SuggestionAdapter(context, '@').apply {
-            suggestionList = Suggestion.fromUserSuggestions(initialSuggestions)
-        }
-    }
-
-    private fun setupUserSuggestions(
-        siteId: Long,
-        serviceConnectionManager: SuggestionServiceConnectionManager,
-        isWPCom: Boolean
-    ): List<UserSuggestion> {
+        val adapter = SuggestionAdapter(context, '@')
         if (!isWPCom) {
-            return emptyList()
+            adapter.suggestionList = emptyList()
+            return adapter
         }
-        serviceConnectionManager.bindToService()
+        connectionManager.bindToService()
 
-        // Immediately return any already saved suggestions
-        return UserSuggestionTable.getSuggestionsForSite(siteId) ?: emptyList()
+        // Immediately use any already saved suggestions, sharing the site's index when it's already been built
+        val index = SuggestionIndexCache.peekUserSuggestionIndex(siteId)
+        if (index != null) {
+            adapter.setSuggestionIndex(index)
+        } else {
+            adapter.suggestionList = Suggestion.fromUserSuggestions(
+                UserSuggestionTable.getSuggestionsForSite(siteId) ?: emptyList()
+            )
+        }
+        return adapter
     }
 }
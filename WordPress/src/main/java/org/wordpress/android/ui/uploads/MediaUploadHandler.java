@@ -24,11 +24,14 @@ import org.wordpress.android.util.WPMediaUtils;
 import org.wordpress.android.util.analytics.AnalyticsUtils;
 import org.wordpress.android.util.config.Mp4ComposerVideoOptimizationFeatureConfig;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
@@ -37,6 +40,10 @@ public class MediaUploadHandler implements UploadHandler<MediaModel>, VideoOptim
     private static List<MediaModel> sPendingUploads = new ArrayList<>();
     private static List<MediaModel> sInProgressUploads = new ArrayList<>();
     private static ConcurrentHashMap<Integer, Float> sOptimizationProgressByMediaId = new ConcurrentHashMap<>();
+    private static ConcurrentHashMap<Integer, Long> sUploadSizeByMediaId = new ConcurrentHashMap<>();
+    // ids of the pending videos which have to be optimized before they're uploaded, and of those being optimized
+    private static Set<Integer> sAwaitingTranscodeMediaIds = ConcurrentHashMap.newKeySet();
+    private static Set<Integer> sTranscodingMediaIds = ConcurrentHashMap.newKeySet();
 
     @Inject Dispatcher mDispatcher;
     @Inject SiteStore mSiteStore;
@@ -51,6 +58,9 @@ public class MediaUploadHandler implements UploadHandler<MediaModel>, VideoOptim
 
     void unregister() {
         sOptimizationProgressByMediaId.clear();
+        sUploadSizeByMediaId.clear();
+        sAwaitingTranscodeMediaIds.clear();
+        sTranscodingMediaIds.clear();
         mDispatcher.unregister(this);
         EventBus.getDefault().unregister(this);
     }
@@ -170,12 +180,28 @@ public class MediaUploadHandler implements UploadHandler<MediaModel>, VideoOptim
         return 0.5F + (uploadProgress * 0.5F);
     }
 
+    /**
+     * Returns the size in bytes of the file being uploaded for the given media, or 0 if it isn't known. Sizes are
+     * cached since this is used to weigh upload progress, which is requested repeatedly while uploads are underway,
+     * until the media is optimized or its upload is over.
+     */
+    static long getUploadSizeForMedia(@NonNull MediaModel media) {
+        Long size = sUploadSizeByMediaId.get(media.getId());
+        if (size == null) {
+            String filePath = media.getFilePath();
+            size = filePath != null ? new File(filePath).length() : 0L;
+            sUploadSizeByMediaId.put(media.getId(), size);
+        }
+        return size;
+    }
+
     private void handleOnMediaUploadedSuccess(@NonNull OnMediaUploaded event) {
         if (event.media != null) {
             if (event.canceled) {
                 AppLog.i(T.MEDIA, "MediaUploadHandler > Upload successfully canceled");
                 trackUploadMediaEvents(AnalyticsTracker.Stat.MEDIA_UPLOAD_CANCELED,
                         getMediaFromInProgressQueueById(event.media.getId()), null);
+                removePendingUploadWithId(event.media.getId());
                 completeUploadWithId(event.media.getId());
                 uploadNextInQueue();
             } else if (event.completed) {
@@ -211,19 +237,39 @@ public class MediaUploadHandler implements UploadHandler<MediaModel>, VideoOptim
         }
     }
 
+    /**
+     * Starts as many pending transcodes and uploads as {@link MediaUploadScheduler} allows, rather than just the next
+     * one, so uploads run concurrently up to the limits for the current network while videos are optimized
+     */
     private synchronized void uploadNextInQueue() {
-        MediaModel next = getNextMediaToUpload();
+        MediaModel transcode = getNextMediaToTranscode();
+        while (transcode != null) {
+            startTranscode(transcode);
+            transcode = getNextMediaToTranscode();
+        }
+
+        boolean throttled = MediaUploadScheduler.isThrottledNetwork(WordPress.getContext());
+        MediaModel next = getNextMediaToUpload(throttled);
 
         if (next == null) {
-            AppLog.w(T.MEDIA, "MediaUploadHandler > No more media items to upload. Skipping this request.");
-            checkIfUploadsComplete();
+            if (sPendingUploads.isEmpty()) {
+                AppLog.w(T.MEDIA, "MediaUploadHandler > No more media items to upload. Skipping this request.");
+                checkIfUploadsComplete();
+            } else {
+                AppLog.i(T.MEDIA, "MediaUploadHandler > Upload limit reached, waiting for uploads and transcodes "
+                                  + "in progress");
+            }
             return;
         }
 
-        prepareForUpload(next);
+        while (next != null) {
+            dispatchUploadAction(next);
+            next = getNextMediaToUpload(throttled);
+        }
     }
 
     private synchronized void completeUploadWithId(int id) {
+        sUploadSizeByMediaId.remove(id);
         MediaModel media = getMediaFromInProgressQueueById(id);
         if (media != null) {
             sInProgressUploads.remove(media);
@@ -231,6 +277,26 @@ public class MediaUploadHandler implements UploadHandler<MediaModel>, VideoOptim
         }
     }
 
+    /*
+     * drops a canceled media which hasn't started uploading yet, so a video waiting for the transcode lane isn't
+     * optimized and uploaded anyway - a video being optimized leaves the lane once its optimizer completes, since
+     * optimizers can't be stopped
+     */
+    private void removePendingUploadWithId(int id) {
+        synchronized (sPendingUploads) {
+            Iterator<MediaModel> pendingUploads = sPendingUploads.iterator();
+            while (pendingUploads.hasNext()) {
+                if (pendingUploads.next().getId() == id) {
+                    pendingUploads.remove();
+                }
+            }
+        }
+        if (sAwaitingTranscodeMediaIds.remove(id)) {
+            sOptimizationProgressByMediaId.remove(id);
+        }
+        sUploadSizeByMediaId.remove(id);
+    }
+
     private MediaModel getMediaFromInProgressQueueById(int id) {
         for (MediaModel media : sInProgressUploads) {
             if (media.getId() == id) {
@@ -240,13 +306,48 @@ public class MediaUploadHandler implements UploadHandler<MediaModel>, VideoOptim
         return null;
     }
 
-    private MediaModel getNextMediaToUpload() {
-        synchronized (sPendingUploads) {
-            if (!sPendingUploads.isEmpty()) {
-                return sPendingUploads.remove(0);
+    private MediaModel getNextMediaToUpload(boolean throttled) {
+        synchronized (sInProgressUploads) {
+            synchronized (sPendingUploads) {
+                MediaModel next = MediaUploadScheduler.pickNext(sPendingUploads, sInProgressUploads,
+                        sAwaitingTranscodeMediaIds, sTranscodingMediaIds, throttled);
+                if (next != null) {
+                    sPendingUploads.remove(next);
+                }
+                return next;
+            }
+        }
+    }
+
+    private MediaModel getNextMediaToTranscode() {
+        synchronized (sInProgressUploads) {
+            synchronized (sPendingUploads) {
+                MediaModel next = MediaUploadScheduler.pickNextTranscode(sPendingUploads, sAwaitingTranscodeMediaIds,
+                        sTranscodingMediaIds);
+                if (next != null) {
+                    sPendingUploads.remove(next);
+                    sAwaitingTranscodeMediaIds.remove(next.getId());
+                    sTranscodingMediaIds.add(next.getId());
+                }
+                return next;
+            }
+        }
+    }
+
+    /*
+     * moves an optimized video back to the front of the pending uploads, returning false if it's no longer in
+     * progress - which happens when it's canceled while being optimized
+     */
+    private boolean returnOptimizedMediaToQueue(@NonNull MediaModel media) {
+        synchronized (sInProgressUploads) {
+            synchronized (sPendingUploads) {
+                if (!sInProgressUploads.remove(media)) {
+                    return false;
+                }
+                sPendingUploads.add(0, media);
+                return true;
             }
         }
-        return null;
     }
 
     private void addUniqueMediaToQueue(MediaModel media) {
@@ -259,6 +360,12 @@ public class MediaUploadHandler implements UploadHandler<MediaModel>, VideoOptim
                 // no match found in queue
                 sPendingUploads.add(media);
             }
+
+            if (media.isVideo() && WPMediaUtils.isVideoOptimizationEnabled()) {
+                sAwaitingTranscodeMediaIds.add(media.getId());
+                // the video is optimized before it's uploaded, so its progress starts with the optimization's
+                sOptimizationProgressByMediaId.put(media.getId(), 0F);
+            }
         }
     }
 
@@ -285,17 +392,13 @@ public class MediaUploadHandler implements UploadHandler<MediaModel>, VideoOptim
         }
     }
 
-    private void prepareForUpload(@NonNull MediaModel media) {
-        if (media.isVideo() && WPMediaUtils.isVideoOptimizationEnabled()) {
-            addUniqueMediaToInProgressUploads(media);
+    private void startTranscode(@NonNull MediaModel media) {
+        addUniqueMediaToInProgressUploads(media);
 
-            if (mMp4ComposerVideoOptimizationFeatureConfig.isEnabled()) {
-                new Mp4ComposerVideoOptimizer(media, this).start();
-            } else {
-                new VideoOptimizer(media, this).start();
-            }
+        if (mMp4ComposerVideoOptimizationFeatureConfig.isEnabled()) {
+            new Mp4ComposerVideoOptimizer(media, this).start();
         } else {
-            dispatchUploadAction(media);
+            new VideoOptimizer(media, this).start();
         }
     }
 
@@ -462,11 +565,14 @@ public class MediaUploadHandler implements UploadHandler<MediaModel>, VideoOptim
     @Override
     public void onVideoOptimizationCompleted(@NonNull MediaModel media) {
         sOptimizationProgressByMediaId.remove(media.getId());
+        sTranscodingMediaIds.remove(media.getId());
+        // the optimized video is uploaded instead of the original, so its size has to be read again
+        sUploadSizeByMediaId.remove(media.getId());
         // make sure this media should still be uploaded (may have been cancelled during optimization)
-        if (sInProgressUploads.contains(media)) {
-            dispatchUploadAction(media);
-        } else {
+        if (!returnOptimizedMediaToQueue(media)) {
             AppLog.d(T.MEDIA, "MediaUploadHandler > skipping upload of optimized media");
         }
+        // the transcode lane is free again, and the video waits for an upload slot like any other media
+        uploadNextInQueue();
     }
 }
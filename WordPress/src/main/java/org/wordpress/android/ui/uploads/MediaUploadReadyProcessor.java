@@ -12,6 +12,8 @@ import org.wordpress.android.ui.prefs.AppPrefs;
 import org.wordpress.android.ui.stories.SaveStoryGutenbergBlockUseCase;
 import org.wordpress.android.util.helpers.MediaFile;
 
+import java.util.Map;
+
 import javax.inject.Inject;
 
 
@@ -46,6 +48,27 @@ public class MediaUploadReadyProcessor implements MediaUploadReadyListener {
         return post;
     }
 
+    @Override
+    public PostModel replaceMediaFilesWithUrlsInPost(@Nullable PostModel post, Map<String, MediaFile> mediaFiles,
+                                                     @Nullable SiteModel site) {
+        if (post != null && !mediaFiles.isEmpty()) {
+            if (AppPrefs.isGutenbergEditorEnabled()
+                && !PostUtils.contentContainsWPStoryGutenbergBlocks(post.getContent())
+                && PostUtils.contentContainsGutenbergBlocks(post.getContent())) {
+                // Gutenberg content can have all the media replaced in a single pass
+                String siteUrl = site != null ? site.getUrl() : "";
+                post.setContent(
+                        PostUtils.replaceMediaFilesWithUrlsInGutenbergPost(post.getContent(), mediaFiles, siteUrl));
+            } else {
+                for (Map.Entry<String, MediaFile> entry : mediaFiles.entrySet()) {
+                    replaceMediaFileWithUrlInPost(post, entry.getKey(), entry.getValue(), site);
+                }
+            }
+        }
+
+        return post;
+    }
+
     @Override
     public PostModel markMediaUploadFailedInPost(@Nullable PostModel post, String localMediaId,
                                                  final MediaFile mediaFile) {
@@ -0,0 +1,137 @@
+package org.wordpress.android.ui.uploads;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.wordpress.android.fluxc.model.MediaModel;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decides which pending media upload should start next, so several uploads can run at once without a single post
+ * or site hogging the connection.
+ * <p>
+ * Uploads are limited both overall and per site, and the limits drop to a single upload at a time on metered or slow
+ * networks. Within those limits the post with the fewest uploads underway goes first, falling back to queue order,
+ * so a post with a few images isn't stuck behind one with dozens.
+ * <p>
+ * Videos which have to be optimized first are transcoded in a lane of their own, a single one at a time since they
+ * all compete for the same hardware encoder. A video being transcoded doesn't take an upload slot, so other media keep
+ * uploading meanwhile, and once it's done it goes back to the pending uploads to wait for a slot like any other.
+ */
+class MediaUploadScheduler {
+    static final int MAX_CONCURRENT_UPLOADS = 3;
+    static final int MAX_CONCURRENT_UPLOADS_PER_SITE = 2;
+    static final int MAX_CONCURRENT_UPLOADS_THROTTLED = 1;
+    static final int MAX_CONCURRENT_TRANSCODES = 1;
+
+    // below this estimated bandwidth concurrent uploads would just compete with each other
+    private static final int SLOW_NETWORK_KBPS = 1000;
+
+    private MediaUploadScheduler() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the pending media which should be uploaded next, or null if nothing should start now - either because
+     * nothing is pending or because the limits have been reached. Media awaiting a transcode are skipped, and media
+     * being transcoded don't count towards the limits. The caller is responsible for moving the returned media from
+     * the pending to the in progress list.
+     */
+    @Nullable
+    static MediaModel pickNext(@NonNull List<MediaModel> pending, @NonNull List<MediaModel> inProgress,
+                               @NonNull Set<Integer> awaitingTranscode, @NonNull Set<Integer> transcoding,
+                               boolean throttled) {
+        int maxUploads = throttled ? MAX_CONCURRENT_UPLOADS_THROTTLED : MAX_CONCURRENT_UPLOADS;
+        int maxUploadsPerSite = throttled ? MAX_CONCURRENT_UPLOADS_THROTTLED : MAX_CONCURRENT_UPLOADS_PER_SITE;
+        if (pending.isEmpty()) {
+            return null;
+        }
+
+        int uploads = 0;
+        Map<Integer, Integer> uploadsBySite = new HashMap<>();
+        Map<Integer, Integer> uploadsByPost = new HashMap<>();
+        for (MediaModel media : inProgress) {
+            if (!transcoding.contains(media.getId())) {
+                uploads++;
+                increment(uploadsBySite, media.getLocalSiteId());
+                increment(uploadsByPost, media.getLocalPostId());
+            }
+        }
+        if (uploads >= maxUploads) {
+            return null;
+        }
+
+        MediaModel next = null;
+        int nextPostUploads = Integer.MAX_VALUE;
+        for (MediaModel media : pending) {
+            if (awaitingTranscode.contains(media.getId())
+                || count(uploadsBySite, media.getLocalSiteId()) >= maxUploadsPerSite) {
+                continue;
+            }
+            int postUploads = count(uploadsByPost, media.getLocalPostId());
+            if (postUploads < nextPostUploads) {
+                next = media;
+                nextPostUploads = postUploads;
+                if (postUploads == 0) {
+                    break;
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returns the pending video which should be transcoded next, or null if none is waiting for a transcode or the
+     * transcode limit has been reached. Videos are transcoded in queue order.
+     */
+    @Nullable
+    static MediaModel pickNextTranscode(@NonNull List<MediaModel> pending, @NonNull Set<Integer> awaitingTranscode,
+                                        @NonNull Set<Integer> transcoding) {
+        if (transcoding.size() >= MAX_CONCURRENT_TRANSCODES) {
+            return null;
+        }
+        for (MediaModel media : pending) {
+            if (awaitingTranscode.contains(media.getId())) {
+                return media;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true when the active network is metered or estimated to be slow, in which case uploads are started one
+     * at a time
+     */
+    static boolean isThrottledNetwork(@NonNull Context context) {
+        ConnectivityManager connectivityManager =
+                (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+        if (connectivityManager == null) {
+            return false;
+        }
+        if (connectivityManager.isActiveNetworkMetered()) {
+            return true;
+        }
+        Network network = connectivityManager.getActiveNetwork();
+        NetworkCapabilities capabilities = network != null ? connectivityManager.getNetworkCapabilities(network) : null;
+        return capabilities != null && capabilities.getLinkUpstreamBandwidthKbps() > 0
+               && capabilities.getLinkUpstreamBandwidthKbps() < SLOW_NETWORK_KBPS;
+    }
+
+    private static void increment(@NonNull Map<Integer, Integer> counts, int key) {
+        counts.put(key, count(counts, key) + 1);
+    }
+
+    private static int count(@NonNull Map<Integer, Integer> counts, int key) {
+        Integer count = counts.get(key);
+        return count != null ? count : 0;
+    }
+}
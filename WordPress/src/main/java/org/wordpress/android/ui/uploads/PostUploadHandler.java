@@ -4,11 +4,11 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.database.Cursor;
 import android.net.Uri;
-import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
 import android.provider.MediaStore.Images;
 import android.provider.MediaStore.Video;
 import android.text.TextUtils;
-import android.util.SparseArray;
 
 import androidx.annotation.NonNull;
 
@@ -28,6 +28,7 @@ import org.wordpress.android.fluxc.model.PostModel;
 import org.wordpress.android.fluxc.model.SiteModel;
 import org.wordpress.android.fluxc.model.post.PostStatus;
 import org.wordpress.android.fluxc.store.MediaStore;
+import org.wordpress.android.fluxc.store.MediaStore.OnMediaUploaded;
 import org.wordpress.android.fluxc.store.MediaStore.UploadMediaPayload;
 import org.wordpress.android.fluxc.store.PostStore;
 import org.wordpress.android.fluxc.store.PostStore.OnPostUploaded;
@@ -55,25 +56,37 @@ import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.inject.Inject;
 
 public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePostIfNotDraftCallback {
-    private static ArrayList<PostModel> sQueuedPostsList = new ArrayList<>();
+    // independent posts upload at the same time, up to this limit
+    private static final int MAX_CONCURRENT_POST_UPLOADS = 3;
+
+    private static final PostUploadQueue sUploadQueue = new PostUploadQueue();
     private static Set<Integer> sFirstPublishPosts = new HashSet<>();
-    private static PostModel sCurrentUploadingPost = null;
-    private static Map<String, Object> sCurrentUploadingPostAnalyticsProperties;
 
     private PostUploadNotifier mPostUploadNotifier;
-    private UploadPostTask mCurrentTask = null;
+    // the uploads started by this handler, keyed by local post id and guarded by itself
+    private final Map<Integer, UploadPostTask> mCurrentTasks = new HashMap<>();
+
+    // media uploaded as part of a post upload, keyed by local media id and completed when FluxC reports the upload
+    // has finished - the post upload continues once all of its media have completed
+    private Map<Integer, CompletableFuture<Void>> mMediaUploads = new ConcurrentHashMap<>();
 
-    private SparseArray<CountDownLatch> mMediaLatchMap = new SparseArray<>();
+    private final ExecutorService mExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_POST_UPLOADS);
+    private final Executor mMainThreadExecutor = new Handler(Looper.getMainLooper())::post;
 
     @Inject Dispatcher mDispatcher;
     @Inject SiteStore mSiteStore;
@@ -93,35 +106,35 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
 
     void unregister() {
         mDispatcher.unregister(this);
+        mExecutor.shutdown();
     }
 
     @Override
     public boolean hasInProgressUploads() {
-        return mCurrentTask != null || !sQueuedPostsList.isEmpty();
+        synchronized (mCurrentTasks) {
+            return !mCurrentTasks.isEmpty() || sUploadQueue.hasQueued();
+        }
     }
 
+    /*
+     * the cancelled posts are no longer being uploaded, so a later handler uploads them again when they're queued
+     */
     @Override
     public void cancelInProgressUploads() {
-        if (mCurrentTask != null) {
-            AppLog.i(T.POSTS, "PostUploadHandler > Cancelling current upload task");
-            mCurrentTask.cancel(true);
+        synchronized (mCurrentTasks) {
+            for (UploadPostTask task : mCurrentTasks.values()) {
+                AppLog.i(T.POSTS, "PostUploadHandler > Cancelling upload task for post " + task.mPost.getId());
+                task.cancel();
+                sUploadQueue.abandon(task.mPost);
+            }
+            mCurrentTasks.clear();
         }
     }
 
     @Override
     public void upload(@NonNull PostModel post) {
-        synchronized (sQueuedPostsList) {
-            // first check whether there was an old version of this Post still enqueued waiting
-            // for being uploaded
-            for (PostModel queuedPost : sQueuedPostsList) {
-                if (queuedPost.getId() == post.getId()) {
-                    // we found an older version, so let's remove it and replace it with the newest copy
-                    sQueuedPostsList.remove(queuedPost);
-                    break;
-                }
-            }
-            sQueuedPostsList.add(post);
-        }
+        // an older version of the post still waiting to be uploaded is replaced with this one
+        sUploadQueue.add(post);
         uploadNextPost();
     }
 
@@ -142,53 +155,38 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
     }
 
     static boolean isPostQueued(PostImmutableModel post) {
-        if (post == null) {
-            return false;
-        }
-
-        // Check the list of posts waiting to be uploaded
-        if (sQueuedPostsList.size() > 0) {
-            synchronized (sQueuedPostsList) {
-                for (PostModel queuedPost : sQueuedPostsList) {
-                    if (queuedPost.getId() == post.getId()) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        return post != null && sUploadQueue.isQueued(post);
     }
 
     static boolean isPostUploading(PostImmutableModel post) {
-        return post != null && sCurrentUploadingPost != null && sCurrentUploadingPost.getId() == post.getId();
+        return post != null && sUploadQueue.isUploading(post);
     }
 
     static boolean hasPendingOrInProgressPostUploads() {
-        return sCurrentUploadingPost != null || !sQueuedPostsList.isEmpty();
+        return sUploadQueue.hasQueuedOrUploading();
     }
 
-    @SuppressWarnings("deprecation")
+    /**
+     * Starts uploading queued posts until the concurrent upload limit is reached. A newer version of a post which is
+     * already being uploaded stays queued until the current upload finishes.
+     */
     private void uploadNextPost() {
-        synchronized (sQueuedPostsList) {
-            if (mCurrentTask == null) { // make sure nothing is running
-                sCurrentUploadingPost = null;
-                sCurrentUploadingPostAnalyticsProperties = null;
-                if (sQueuedPostsList.size() > 0) {
-                    sCurrentUploadingPost = sQueuedPostsList.remove(0);
-                    mCurrentTask = new UploadPostTask();
-                    mCurrentTask.executeOnExecutor(AsyncTask.SERIAL_EXECUTOR, sCurrentUploadingPost);
-                } else {
-                    AppLog.i(T.POSTS, "PostUploadHandler > Completed");
-                }
+        synchronized (mCurrentTasks) {
+            for (PostModel post : sUploadQueue.startNext(MAX_CONCURRENT_POST_UPLOADS - mCurrentTasks.size())) {
+                UploadPostTask task = new UploadPostTask(post);
+                mCurrentTasks.put(post.getId(), task);
+                task.execute();
+            }
+            if (mCurrentTasks.isEmpty()) {
+                AppLog.i(T.POSTS, "PostUploadHandler > Completed");
             }
         }
     }
 
-    private void finishUpload() {
-        synchronized (sQueuedPostsList) {
-            mCurrentTask = null;
-            sCurrentUploadingPost = null;
-            sCurrentUploadingPostAnalyticsProperties = null;
+    private void finishUpload(@NonNull PostImmutableModel post) {
+        synchronized (mCurrentTasks) {
+            mCurrentTasks.remove(post.getId());
+            sUploadQueue.finish(post);
         }
         uploadNextPost();
     }
@@ -197,23 +195,69 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
         PUSH_POST_DISPATCHED, ERROR, NOTHING_TO_UPLOAD, AUTO_SAVE_OR_UPDATE_DRAFT
     }
 
-    @SuppressWarnings("deprecation")
-    @SuppressLint("StaticFieldLeak")
-    private class UploadPostTask extends AsyncTask<PostModel, Boolean, UploadPostTaskResult> {
-        private Context mContext;
+    /**
+     * Uploads a single post as a chain of asynchronous stages rather than on a blocking thread: any media embedded in
+     * the content is uploaded concurrently, and the post is only pushed once all of that media has finished. No
+     * thread is held while waiting for the media, so other posts keep uploading in the meantime.
+     */
+    private class UploadPostTask {
+        private final Context mContext = WordPress.getContext();
 
-        private PostModel mPost;
+        private final PostModel mPost;
         private SiteModel mSite;
 
+        private final List<CompletableFuture<?>> mPendingMediaUploads = new ArrayList<>();
+        private volatile boolean mIsCancelled = false;
+
         private String mErrorMessage = "";
-        private boolean mIsMediaError = false;
-        private long mFeaturedImageID = -1;
+        private volatile boolean mIsMediaError = false;
+        private volatile long mFeaturedImageID = -1;
 
         // Used for analytics
-        private boolean mHasImage, mHasVideo, mHasCategory;
+        private volatile boolean mHasImage, mHasVideo, mHasCategory;
+
+        UploadPostTask(@NonNull PostModel post) {
+            mPost = post;
+        }
 
-        @Override
-        protected void onPostExecute(UploadPostTaskResult result) {
+        void execute() {
+            CompletableFuture.supplyAsync(this::startUpload, mExecutor)
+                             .thenCompose(result -> result)
+                             .whenCompleteAsync((result, error) -> {
+                                 if (mIsCancelled) {
+                                     abandonUpload();
+                                     return;
+                                 }
+                                 if (error != null) {
+                                     AppLog.e(T.POSTS, "PostUploadHandler > Post upload failed", error);
+                                     mErrorMessage = mContext.getString(R.string.error_generic);
+                                     result = UploadPostTaskResult.ERROR;
+                                 }
+                                 onPostExecute(result);
+                             }, mMainThreadExecutor);
+        }
+
+        void cancel() {
+            mIsCancelled = true;
+            synchronized (mPendingMediaUploads) {
+                for (CompletableFuture<?> mediaUpload : mPendingMediaUploads) {
+                    mediaUpload.cancel(false);
+                }
+            }
+        }
+
+        /*
+         * forgets this upload once it's cancelled, without starting the next one - only the task itself is removed,
+         * since a newer version of the post may be uploading by now
+         */
+        private void abandonUpload() {
+            synchronized (mCurrentTasks) {
+                mCurrentTasks.remove(mPost.getId(), this);
+                sUploadQueue.abandon(mPost);
+            }
+        }
+
+        private void onPostExecute(UploadPostTaskResult result) {
             switch (result) {
                 case ERROR:
                     mPostUploadNotifier.incrementUploadedPostCountFromForegroundNotification(mPost);
@@ -222,14 +266,14 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
                     } else {
                         AppLog.e(T.POSTS, "Site cannot be null");
                     }
-                    finishUpload();
+                    finishUpload(mPost);
                     break;
                 case NOTHING_TO_UPLOAD:
                     // we need to force increment the uploaded count as we know the post was enqueued twice. If we
                     // didn't force incremented it, the `PostUploadNotifier.isPostAlreadyInPostCount()` would return
                     // true and we'd end up with a dangling upload notification.
                     mPostUploadNotifier.incrementUploadedPostCountFromForegroundNotification(mPost, true);
-                    finishUpload();
+                    finishUpload(mPost);
                     break;
                 case PUSH_POST_DISPATCHED:
                     // will be handled in OnPostChanged
@@ -237,15 +281,15 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
             }
         }
 
-        @Override
-        protected UploadPostTaskResult doInBackground(PostModel... posts) {
-            mContext = WordPress.getContext();
-            mPost = posts[0];
-
+        /**
+         * Prepares the post and starts uploading its media, returning the stage which pushes the post once the
+         * media has finished uploading
+         */
+        private CompletableFuture<UploadPostTaskResult> startUpload() {
             mSite = mSiteStore.getSiteByLocalId(mPost.getLocalSiteId());
             if (mSite == null) {
                 mErrorMessage = mContext.getString(R.string.blog_not_found);
-                return UploadPostTaskResult.ERROR;
+                return CompletableFuture.completedFuture(UploadPostTaskResult.ERROR);
             }
 
             if (TextUtils.isEmpty(mPost.getStatus())) {
@@ -260,8 +304,16 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
             if (content.length() > 0 && content.charAt(0) == '\u200B') {
                 content = content.substring(1, content.length());
             }
-            content = processPostMedia(content);
-            mPost.setContent(content);
+            return processPostMedia(content).thenApplyAsync(processedContent -> {
+                mPost.setContent(processedContent);
+                return uploadPost();
+            }, mExecutor);
+        }
+
+        private UploadPostTaskResult uploadPost() {
+            if (mIsCancelled) {
+                return UploadPostTaskResult.NOTHING_TO_UPLOAD;
+            }
 
             // If media file upload failed, let's stop here and prompt the user
             if (mIsMediaError) {
@@ -316,90 +368,88 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
         }
 
         private void prepareUploadAnalytics(String postContent) {
-            // Other methods (like 'uploadNextPost') synchronize over `sQueuedPostsList` before setting
-            // `sCurrentUploadingPostAnalyticsProperties` to null. Make sure racing conditions are avoid here
-            // by synchronizing over sQueuedPostsList.
+            // the properties are only handed to sUploadQueue once they're complete, since onPostUploaded may read
+            // them on another thread
             // See https://github.com/wordpress-mobile/WordPress-Android/issues/7990
-            synchronized (sQueuedPostsList) {
-                // Calculate the words count
-                sCurrentUploadingPostAnalyticsProperties = new HashMap<>();
-                sCurrentUploadingPostAnalyticsProperties
-                        .put("word_count", AnalyticsUtils.getWordCount(mPost.getContent()));
-                // Add the editor source
-                int siteLocalId = mPost.getLocalSiteId();
-                if (siteLocalId != -1) {
-                    // Site found, use it
-                    SiteModel selectedSite = mSiteStore.getSiteByLocalId(siteLocalId);
-                    // If saved site exist, then add info
-                    if (selectedSite != null) {
-                        sCurrentUploadingPostAnalyticsProperties.put("editor_source",
-                                // making sure to reuse the same logic for both showing Gutenberg and tracking.
-                                // Note that mIsNewPost is not available as a flag-logic per se outside of
-                                // EditPostActivity, but the check will pass anyway as long as Gutenberg is enabled
-                                // and the PostModel contains Gutenberg blocks.
-                                // As a proxy to mIsNewPost, we're using postModel.isLocalDraft(). The choice is
-                                // loosely made knowing the other check ("contains blocks") is in place.
-                                // NOTE: added now first check if this post contains a WP Story and mark it created
-                                // like so.
-                                PostUtils.contentContainsWPStoryGutenbergBlocks(mPost.getContent())
-                                        ? SiteUtils.WP_STORIES_CREATOR_NAME
-                                        : (PostUtils.shouldShowGutenbergEditor(
-                                                    mPost.isLocalDraft(), mPost.getContent(), selectedSite
-                                                ) ? SiteUtils.GB_EDITOR_NAME : SiteUtils.AZTEC_EDITOR_NAME));
-                    }
-                }
-                if (hasGallery()) {
-                    sCurrentUploadingPostAnalyticsProperties.put("with_galleries", true);
-                }
-                if (!mHasImage) {
-                    // Check if there is a img tag in the post. Media added in any editor other than legacy.
-                    String imageTagsPattern = "<img[^>]+src\\s*=\\s*[\"]([^\"]+)[\"][^>]*>";
-                    Pattern pattern = Pattern.compile(imageTagsPattern);
-                    Matcher matcher = pattern.matcher(postContent);
-                    mHasImage = matcher.find();
-                }
-                if (mHasImage) {
-                    sCurrentUploadingPostAnalyticsProperties.put("with_photos", true);
-                }
-                if (!mHasVideo) {
-                    // Check if there is a video tag in the post. Media added in any editor other than legacy.
-                    String videoTagsPattern =
-                            "<video[^>]+src\\s*=\\s*[\"]([^\"]+)[\"][^>]*>|\\[wpvideo\\s+([^\\]]+)\\]";
-                    Pattern pattern = Pattern.compile(videoTagsPattern);
-                    Matcher matcher = pattern.matcher(postContent);
-                    mHasVideo = matcher.find();
-                }
-                if (mHasVideo) {
-                    sCurrentUploadingPostAnalyticsProperties.put("with_videos", true);
-                }
-                if (mHasCategory) {
-                    sCurrentUploadingPostAnalyticsProperties.put("with_categories", true);
-                }
-                if (!mPost.getTagNameList().isEmpty()) {
-                    sCurrentUploadingPostAnalyticsProperties.put("with_tags", true);
+            // Calculate the words count
+            Map<String, Object> analyticsProperties = new HashMap<>();
+            analyticsProperties
+                    .put("word_count", AnalyticsUtils.getWordCount(mPost.getContent()));
+            // Add the editor source
+            int siteLocalId = mPost.getLocalSiteId();
+            if (siteLocalId != -1) {
+                // Site found, use it
+                SiteModel selectedSite = mSiteStore.getSiteByLocalId(siteLocalId);
+                // If saved site exist, then add info
+                if (selectedSite != null) {
+                    analyticsProperties.put("editor_source",
+                            // making sure to reuse the same logic for both showing Gutenberg and tracking.
+                            // Note that mIsNewPost is not available as a flag-logic per se outside of
+                            // EditPostActivity, but the check will pass anyway as long as Gutenberg is enabled
+                            // and the PostModel contains Gutenberg blocks.
+                            // As a proxy to mIsNewPost, we're using postModel.isLocalDraft(). The choice is
+                            // loosely made knowing the other check ("contains blocks") is in place.
+                            // NOTE: added now first check if this post contains a WP Story and mark it created
+                            // like so.
+                            PostUtils.contentContainsWPStoryGutenbergBlocks(mPost.getContent())
+                                    ? SiteUtils.WP_STORIES_CREATOR_NAME
+                                    : (PostUtils.shouldShowGutenbergEditor(
+                                                mPost.isLocalDraft(), mPost.getContent(), selectedSite
+                                            ) ? SiteUtils.GB_EDITOR_NAME : SiteUtils.AZTEC_EDITOR_NAME));
                 }
             }
+            if (hasGallery()) {
+                analyticsProperties.put("with_galleries", true);
+            }
+            if (!mHasImage) {
+                // Check if there is a img tag in the post. Media added in any editor other than legacy.
+                String imageTagsPattern = "<img[^>]+src\\s*=\\s*[\"]([^\"]+)[\"][^>]*>";
+                Pattern pattern = Pattern.compile(imageTagsPattern);
+                Matcher matcher = pattern.matcher(postContent);
+                mHasImage = matcher.find();
+            }
+            if (mHasImage) {
+                analyticsProperties.put("with_photos", true);
+            }
+            if (!mHasVideo) {
+                // Check if there is a video tag in the post. Media added in any editor other than legacy.
+                String videoTagsPattern =
+                        "<video[^>]+src\\s*=\\s*[\"]([^\"]+)[\"][^>]*>|\\[wpvideo\\s+([^\\]]+)\\]";
+                Pattern pattern = Pattern.compile(videoTagsPattern);
+                Matcher matcher = pattern.matcher(postContent);
+                mHasVideo = matcher.find();
+            }
+            if (mHasVideo) {
+                analyticsProperties.put("with_videos", true);
+            }
+            if (mHasCategory) {
+                analyticsProperties.put("with_categories", true);
+            }
+            if (!mPost.getTagNameList().isEmpty()) {
+                analyticsProperties.put("with_tags", true);
+            }
+            sUploadQueue.setAnalyticsProperties(mPost, analyticsProperties);
         }
 
         /**
-         * Finds media in post content, uploads them, and returns the HTML to insert in the post
+         * Finds media in post content and starts uploading all of it at once, returning the post content with the
+         * HTML for the uploaded media inserted once every upload has finished
          */
-        private String processPostMedia(String postContent) {
+        private CompletableFuture<String> processPostMedia(final String postContent) {
             String imageTagsPattern = "<img[^>]+android-uri\\s*=\\s*['\"]([^'\"]+)['\"][^>]*>";
             Pattern pattern = Pattern.compile(imageTagsPattern);
             Matcher matcher = pattern.matcher(postContent);
 
-            int totalMediaItems = 0;
             List<String> imageTags = new ArrayList<>();
             while (matcher.find()) {
                 imageTags.add(matcher.group());
-                totalMediaItems++;
             }
 
+            final Map<String, CompletableFuture<String>> mediaUploadOutputs = new LinkedHashMap<>();
             for (String tag : imageTags) {
                 Pattern p = Pattern.compile("android-uri=\"([^\"]+)\"");
                 Matcher m = p.matcher(tag);
-                if (m.find()) {
+                if (m.find() && !mediaUploadOutputs.containsKey(tag)) {
                     String imageUri = m.group(1);
                     if (!imageUri.equals("")) {
                         MediaModel mediaModel = mMediaStore.getMediaForPostWithPath(mPost, imageUri);
@@ -411,34 +461,44 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
                         if (mediaFile != null) {
                             mPostUploadNotifier.addMediaInfoToForegroundNotification(mediaModel);
 
-                            String mediaUploadOutput;
                             if (mediaFile.isVideo()) {
                                 mHasVideo = true;
-                                mediaUploadOutput = uploadVideo(mediaFile);
+                                mediaUploadOutputs.put(tag, uploadVideo(mediaFile));
                             } else {
                                 mHasImage = true;
-                                mediaUploadOutput = uploadImage(mediaFile);
-                            }
-
-                            if (mediaUploadOutput != null) {
-                                postContent = postContent.replace(tag, mediaUploadOutput);
-                            } else {
-                                postContent = postContent.replace(tag, "");
-                                mIsMediaError = true;
+                                mediaUploadOutputs.put(tag, uploadImage(mediaFile));
                             }
                         }
                     }
                 }
             }
 
+            return CompletableFuture.allOf(mediaUploadOutputs.values().toArray(new CompletableFuture[0]))
+                                    .thenApply(ignored -> insertMediaUploadOutputs(postContent, mediaUploadOutputs));
+        }
+
+        /**
+         * Replaces each media tag with the HTML for its finished upload, removing the tag if its upload failed
+         */
+        private String insertMediaUploadOutputs(String postContent,
+                                                Map<String, CompletableFuture<String>> mediaUploadOutputs) {
+            for (Map.Entry<String, CompletableFuture<String>> mediaUploadOutput : mediaUploadOutputs.entrySet()) {
+                String output = mediaUploadOutput.getValue().join();
+                if (output != null) {
+                    postContent = postContent.replace(mediaUploadOutput.getKey(), output);
+                } else {
+                    postContent = postContent.replace(mediaUploadOutput.getKey(), "");
+                    mIsMediaError = true;
+                }
+            }
             return postContent;
         }
 
-        private String uploadImage(MediaFile mediaFile) {
+        private CompletableFuture<String> uploadImage(final MediaFile mediaFile) {
             AppLog.i(T.POSTS, "PostUploadHandler > UploadImage: " + mediaFile.getFilePath());
 
             if (mediaFile.getFilePath() == null) {
-                return null;
+                return CompletableFuture.completedFuture(null);
             }
 
             Uri imageUri = Uri.parse(mediaFile.getFilePath());
@@ -465,32 +525,33 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
             // check if the file exists
             if (imageFile == null) {
                 mErrorMessage = mContext.getString(R.string.file_not_found);
-                return null;
+                return CompletableFuture.completedFuture(null);
             }
 
-            String fullSizeUrl = uploadImageFile(mediaFile, mSite);
-            if (fullSizeUrl == null) {
-                mErrorMessage = mContext.getString(R.string.error_media_upload);
-                return null;
-            }
+            return uploadImageFile(mediaFile, mSite).thenApply(fullSizeUrl -> {
+                if (fullSizeUrl == null) {
+                    mErrorMessage = mContext.getString(R.string.error_media_upload);
+                    return null;
+                }
 
-            return mediaFile.getImageHtmlForUrls(fullSizeUrl, null, false);
+                return mediaFile.getImageHtmlForUrls(fullSizeUrl, null, false);
+            });
         }
 
         @SuppressLint("InlinedApi")
-        private String uploadVideo(MediaFile mediaFile) {
+        private CompletableFuture<String> uploadVideo(MediaFile mediaFile) {
             // create temp file for media upload
             String tempFileName = "wp-" + System.currentTimeMillis();
             try {
                 mContext.openFileOutput(tempFileName, Context.MODE_PRIVATE);
             } catch (FileNotFoundException e) {
                 mErrorMessage = mContext.getResources().getString(R.string.file_error_create);
-                return null;
+                return CompletableFuture.completedFuture(null);
             }
 
             if (mediaFile.getFilePath() == null) {
                 mErrorMessage = mContext.getString(R.string.error_media_upload);
-                return null;
+                return CompletableFuture.completedFuture(null);
             }
 
             Uri videoUri = Uri.parse(mediaFile.getFilePath());
@@ -536,50 +597,70 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
 
             if (videoFile == null) {
                 mErrorMessage = mContext.getResources().getString(R.string.error_media_upload);
-                return null;
+                return CompletableFuture.completedFuture(null);
             }
 
             if (TextUtils.isEmpty(mimeType)) {
                 mimeType = MediaUtils.getMediaFileMimeType(videoFile);
             }
 
-            CountDownLatch countDownLatch = new CountDownLatch(1);
-            UploadMediaPayload payload = new UploadMediaPayload(
-                    mSite,
-                    FluxCUtils.mediaModelFromMediaFile(mediaFile),
-                    AppPrefs.isStripImageLocation()
-            );
-            mDispatcher.dispatch(MediaActionBuilder.newUploadMediaAction(payload));
+            final String videoMimeType = mimeType;
+            final String videoWidth = xRes;
+            final String videoHeight = yRes;
+            return uploadMedia(mediaFile, mSite).thenApply(finishedMedia -> {
+                if (finishedMedia == null || finishedMedia.getUploadState() == null
+                    || !finishedMedia.getUploadState().equals(MediaUploadState.UPLOADED.toString())) {
+                    mIsMediaError = true;
+                    return null;
+                }
 
-            try {
-                mMediaLatchMap.put(mediaFile.getId(), countDownLatch);
-                countDownLatch.await();
-            } catch (InterruptedException e) {
-                AppLog.e(T.POSTS, "PostUploadHandler > CountDownLatch await interrupted for media file: "
-                                  + mediaFile.getId() + " - " + e);
-                mIsMediaError = true;
-            }
+                if (!TextUtils.isEmpty(finishedMedia.getVideoPressGuid())) {
+                    return "[wpvideo " + finishedMedia.getVideoPressGuid() + "]\n";
+                } else {
+                    return String.format(
+                            "<video width=\"%s\" height=\"%s\" controls=\"controls\"><source src=\"%s\" type=\"%s\" />"
+                            + "<a href=\"%s\">Click to view video</a>.</video>",
+                            videoWidth, videoHeight, finishedMedia.getUrl(), videoMimeType, finishedMedia.getUrl());
+                }
+            });
+        }
 
-            MediaModel finishedMedia = mMediaStore.getMediaWithLocalId(mediaFile.getId());
+        private CompletableFuture<String> uploadImageFile(final MediaFile mediaFile, SiteModel site) {
+            return uploadMedia(mediaFile, site).thenApply(finishedMedia -> {
+                if (finishedMedia == null || finishedMedia.getUploadState() == null
+                    || !finishedMedia.getUploadState().equals(MediaUploadState.UPLOADED.toString())) {
+                    mIsMediaError = true;
+                    return null;
+                }
 
-            if (finishedMedia == null || finishedMedia.getUploadState() == null
-                || !finishedMedia.getUploadState().equals(MediaUploadState.UPLOADED.toString())) {
-                mIsMediaError = true;
-                return null;
-            }
+                String pictureURL = finishedMedia.getUrl();
 
-            if (!TextUtils.isEmpty(finishedMedia.getVideoPressGuid())) {
-                return "[wpvideo " + finishedMedia.getVideoPressGuid() + "]\n";
-            } else {
-                return String.format(
-                        "<video width=\"%s\" height=\"%s\" controls=\"controls\"><source src=\"%s\" type=\"%s\" />"
-                        + "<a href=\"%s\">Click to view video</a>.</video>",
-                        xRes, yRes, finishedMedia.getUrl(), mimeType, finishedMedia.getUrl());
-            }
+                if (mediaFile.isFeatured()) {
+                    mFeaturedImageID = finishedMedia.getMediaId();
+                    if (!mediaFile.isFeaturedInPost()) {
+                        return "";
+                    }
+                }
+
+                return pictureURL;
+            });
         }
 
-        private String uploadImageFile(MediaFile mediaFile, SiteModel site) {
-            CountDownLatch countDownLatch = new CountDownLatch(1);
+        /**
+         * Dispatches the upload of the passed media, returning a future which completes with the stored media once
+         * FluxC reports the upload has finished, whether or not it succeeded
+         */
+        private CompletableFuture<MediaModel> uploadMedia(MediaFile mediaFile, SiteModel site) {
+            final int mediaId = mediaFile.getId();
+            CompletableFuture<Void> upload = new CompletableFuture<>();
+            mMediaUploads.put(mediaId, upload);
+            synchronized (mPendingMediaUploads) {
+                mPendingMediaUploads.add(upload);
+            }
+            if (mIsCancelled) {
+                upload.cancel(false);
+            }
+
             UploadMediaPayload payload = new UploadMediaPayload(
                     site,
                     FluxCUtils.mediaModelFromMediaFile(mediaFile),
@@ -587,33 +668,7 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
             );
             mDispatcher.dispatch(MediaActionBuilder.newUploadMediaAction(payload));
 
-            try {
-                mMediaLatchMap.put(mediaFile.getId(), countDownLatch);
-                countDownLatch.await();
-            } catch (InterruptedException e) {
-                AppLog.e(T.POSTS, "PostUploadHandler > CountDownLatch await interrupted for media file: "
-                                  + mediaFile.getId() + " - " + e);
-                mIsMediaError = true;
-            }
-
-            MediaModel finishedMedia = mMediaStore.getMediaWithLocalId(mediaFile.getId());
-
-            if (finishedMedia == null || finishedMedia.getUploadState() == null
-                || !finishedMedia.getUploadState().equals(MediaUploadState.UPLOADED.toString())) {
-                mIsMediaError = true;
-                return null;
-            }
-
-            String pictureURL = finishedMedia.getUrl();
-
-            if (mediaFile.isFeatured()) {
-                mFeaturedImageID = finishedMedia.getMediaId();
-                if (!mediaFile.isFeaturedInPost()) {
-                    return "";
-                }
-            }
-
-            return pictureURL;
+            return upload.thenApplyAsync(ignored -> mMediaStore.getMediaWithLocalId(mediaId), mExecutor);
         }
     }
 
@@ -628,7 +683,7 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
              * notification since it's not a user initiated action. We'll retry the action later on.
              */
             mPostUploadNotifier.incrementUploadedPostCountFromForegroundNotification(post);
-            finishUpload();
+            finishUpload(post);
         } else if (result instanceof PostIsDraftInRemote) {
             /*
              * If the post is a draft in remote, we'll update it directly instead of auto-saving it. Please see
@@ -645,6 +700,22 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
         }
     }
 
+    /**
+     * Completes the upload of media embedded in a post being uploaded, letting the post upload continue once all of
+     * its media has finished
+     */
+    @SuppressWarnings("unused")
+    @Subscribe(threadMode = ThreadMode.MAIN)
+    public void onMediaUploaded(OnMediaUploaded event) {
+        if (event.media == null || !(event.isError() || event.canceled || event.completed)) {
+            return;
+        }
+        CompletableFuture<Void> upload = mMediaUploads.remove(event.media.getId());
+        if (upload != null) {
+            upload.complete(null);
+        }
+    }
+
     /**
      * Has priority 9 on OnPostUploaded events, which ensures that PostUploadHandler is the first to receive
      * and process OnPostUploaded events, before they trickle down to other subscribers.
@@ -681,34 +752,28 @@ public class PostUploadHandler implements UploadHandler<PostModel>, OnAutoSavePo
                 AppLog.e(T.POSTS, "Cannot update notification success without a site");
             }
             if (isFirstTimePublish) {
-                if (sCurrentUploadingPostAnalyticsProperties != null) {
-                    sCurrentUploadingPostAnalyticsProperties.put("post_id", event.post.getRemotePostId());
+                Map<String, Object> analyticsProperties = sUploadQueue.getAnalyticsProperties(event.post);
+                if (analyticsProperties != null) {
+                    analyticsProperties.put("post_id", event.post.getRemotePostId());
                 } else {
-                    sCurrentUploadingPostAnalyticsProperties = new HashMap<>();
+                    analyticsProperties = new HashMap<>();
                 }
                 PostUtils.addPostTypeAndPostFormatToAnalyticsProperties(
-                        event.post, sCurrentUploadingPostAnalyticsProperties);
-                sCurrentUploadingPostAnalyticsProperties.put(AnalyticsUtils.HAS_GUTENBERG_BLOCKS_KEY,
+                        event.post, analyticsProperties);
+                analyticsProperties.put(AnalyticsUtils.HAS_GUTENBERG_BLOCKS_KEY,
                         PostUtils.contentContainsGutenbergBlocks(event.post.getContent()));
-                sCurrentUploadingPostAnalyticsProperties.put(AnalyticsUtils.HAS_WP_STORIES_BLOCKS_KEY,
+                analyticsProperties.put(AnalyticsUtils.HAS_WP_STORIES_BLOCKS_KEY,
                         PostUtils.contentContainsWPStoryGutenbergBlocks(event.post.getContent()));
-                sCurrentUploadingPostAnalyticsProperties
+                analyticsProperties
                         .put(AnalyticsUtils.PROMPT_ID, event.post.getAnsweredPromptId());
                 AnalyticsUtils.trackWithSiteDetails(Stat.EDITOR_PUBLISHED_POST,
                         mSiteStore.getSiteByLocalId(event.post.getLocalSiteId()),
-                        sCurrentUploadingPostAnalyticsProperties);
-            }
-            synchronized (sQueuedPostsList) {
-                for (PostModel post : sQueuedPostsList) {
-                    if (post.getId() == event.post.getId()) {
-                        // Check if a new version of the post we've just uploaded is in the queue and update its state
-                        post.setRemotePostId(event.post.getRemotePostId());
-                        post.setIsLocalDraft(false);
-                    }
-                }
+                        analyticsProperties);
             }
+            // Check if a new version of the post we've just uploaded is in the queue and update its state
+            sUploadQueue.onUploaded(event.post);
         }
 
-        finishUpload();
+        finishUpload(event.post);
     }
 }
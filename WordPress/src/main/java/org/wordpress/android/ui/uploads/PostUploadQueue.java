@@ -0,0 +1,123 @@
+package org.wordpress.android.ui.uploads;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.wordpress.android.fluxc.model.PostImmutableModel;
+import org.wordpress.android.fluxc.model.PostModel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The posts waiting to be uploaded and the posts being uploaded, shared by every PostUploadHandler so the state
+ * outlives the handler of a stopped UploadService.
+ * <p>
+ * A post is being uploaded from the time it's started until its upload is finished, or abandoned when it's cancelled.
+ * A newer version of a post which is being uploaded stays queued until then, so two versions of the same post are
+ * never uploaded at the same time.
+ */
+class PostUploadQueue {
+    private final ArrayList<PostModel> mQueuedPosts = new ArrayList<>();
+    // the posts being uploaded and their analytics properties, keyed by local post id
+    private final Map<Integer, PostModel> mUploadingPosts = new HashMap<>();
+    private final Map<Integer, Map<String, Object>> mAnalyticsProperties = new HashMap<>();
+
+    /*
+     * queues the passed post, replacing an older version of it which is still waiting
+     */
+    synchronized void add(@NonNull PostModel post) {
+        for (PostModel queuedPost : mQueuedPosts) {
+            if (queuedPost.getId() == post.getId()) {
+                mQueuedPosts.remove(queuedPost);
+                break;
+            }
+        }
+        mQueuedPosts.add(post);
+    }
+
+    /*
+     * moves up to the passed number of queued posts to the posts being uploaded, in queue order, skipping the ones
+     * with an older version still being uploaded - returns the posts to start uploading
+     */
+    @NonNull
+    synchronized List<PostModel> startNext(int maxPosts) {
+        List<PostModel> started = new ArrayList<>();
+        Iterator<PostModel> queuedPosts = mQueuedPosts.iterator();
+        while (started.size() < maxPosts && queuedPosts.hasNext()) {
+            PostModel post = queuedPosts.next();
+            if (mUploadingPosts.containsKey(post.getId())) {
+                continue;
+            }
+            queuedPosts.remove();
+            mUploadingPosts.put(post.getId(), post);
+            started.add(post);
+        }
+        return started;
+    }
+
+    /*
+     * the upload of the passed post is over, whichever version of it was uploaded
+     */
+    synchronized void finish(@NonNull PostImmutableModel post) {
+        mUploadingPosts.remove(post.getId());
+        mAnalyticsProperties.remove(post.getId());
+    }
+
+    /*
+     * the upload of the passed post was cancelled - unlike finish() this leaves a newer version of the post which
+     * has started uploading since alone
+     */
+    synchronized void abandon(@NonNull PostModel post) {
+        if (mUploadingPosts.get(post.getId()) == post) {
+            finish(post);
+        }
+    }
+
+    synchronized boolean isQueued(@NonNull PostImmutableModel post) {
+        for (PostModel queuedPost : mQueuedPosts) {
+            if (queuedPost.getId() == post.getId()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized boolean isUploading(@NonNull PostImmutableModel post) {
+        return mUploadingPosts.containsKey(post.getId());
+    }
+
+    synchronized boolean hasQueued() {
+        return !mQueuedPosts.isEmpty();
+    }
+
+    synchronized boolean hasQueuedOrUploading() {
+        return !mUploadingPosts.isEmpty() || !mQueuedPosts.isEmpty();
+    }
+
+    synchronized void setAnalyticsProperties(@NonNull PostImmutableModel post,
+                                             @NonNull Map<String, Object> analyticsProperties) {
+        mAnalyticsProperties.put(post.getId(), analyticsProperties);
+    }
+
+    @Nullable
+    synchronized Map<String, Object> getAnalyticsProperties(@NonNull PostImmutableModel post) {
+        return mAnalyticsProperties.get(post.getId());
+    }
+
+    /*
+     * marks a newer version of the passed post which is waiting in the queue as uploaded too, since it now exists
+     * on the server
+     */
+    synchronized void onUploaded(@NonNull PostImmutableModel post) {
+        for (PostModel queuedPost : mQueuedPosts) {
+            if (queuedPost.getId() == post.getId()) {
+                queuedPost.setRemotePostId(post.getRemotePostId());
+                queuedPost.setIsLocalDraft(false);
+            }
+        }
+    }
+}
@@ -47,11 +47,14 @@ import org.wordpress.android.util.NetworkUtils;
 import org.wordpress.android.util.StringUtils;
 import org.wordpress.android.util.ToastUtils;
 import org.wordpress.android.util.WPMediaUtils;
+import org.wordpress.android.util.helpers.MediaFile;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.inject.Inject;
@@ -485,13 +488,15 @@ public class UploadService extends Service {
             // updates in one go and save only once
             MediaUploadReadyListener processor = new MediaUploadReadyProcessor();
             Set<MediaModel> completedMedia = sInstance.mUploadStore.getCompletedMediaForPost(post);
+            List<MediaModel> contentMedia = new ArrayList<>();
             for (MediaModel media : completedMedia) {
                 if (media.getMarkedLocallyAsFeatured()) {
                     post = updatePostWithNewFeaturedImg(post, media.getMediaId());
                 } else {
-                    post = updatePostWithMediaUrl(post, media, processor);
+                    contentMedia.add(media);
                 }
             }
+            post = updatePostWithMediaUrls(post, contentMedia, processor);
 
             if (completedMedia != null && !completedMedia.isEmpty()) {
                 // finally remove all completed uploads for this post, as they've been taken care of
@@ -549,13 +554,32 @@ public class UploadService extends Service {
             return 1;
         }
 
+        // media which has already finished uploading still counts towards the post's progress, otherwise the
+        // progress would go backwards each time an upload completes
+        List<MediaModel> postMediaList = new ArrayList<>(pendingMediaList);
+        Set<MediaModel> completedMediaList = instance.mUploadStore.getCompletedMediaForPost(postModel);
+        postMediaList.addAll(completedMediaList);
+
+        // weigh each upload by its size so a large video counts for more than a thumbnail, unless any size is
+        // unknown in which case each upload counts the same
+        long[] weights = new long[postMediaList.size()];
+        boolean allSizesKnown = true;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = MediaUploadHandler.getUploadSizeForMedia(postMediaList.get(i));
+            allSizesKnown &= weights[i] > 0;
+        }
+
         float overallProgress = 0;
-        for (MediaModel pendingMedia : pendingMediaList) {
-            overallProgress += getUploadProgressForMedia(pendingMedia);
+        float totalWeight = 0;
+        for (int i = 0; i < weights.length; i++) {
+            MediaModel media = postMediaList.get(i);
+            float weight = allSizesKnown ? weights[i] : 1;
+            float progress = completedMediaList.contains(media) ? 1 : getUploadProgressForMedia(media);
+            overallProgress += progress * weight;
+            totalWeight += weight;
         }
-        overallProgress /= pendingMediaList.size();
 
-        return overallProgress;
+        return overallProgress / totalWeight;
     }
 
     public static float getUploadProgressForMedia(MediaModel mediaModel) {
@@ -633,17 +657,24 @@ public class UploadService extends Service {
         return post;
     }
 
-    private static synchronized PostModel updatePostWithMediaUrl(PostModel post, MediaModel media,
-                                                                 MediaUploadReadyListener processor) {
-        if (media != null && post != null && processor != null && sInstance != null) {
+    /*
+     * replaces the local ids and urls of all the passed media in the post at once, so the content is only
+     * processed a single time regardless of how many uploads have completed
+     */
+    private static synchronized PostModel updatePostWithMediaUrls(PostModel post, List<MediaModel> mediaList,
+                                                                  MediaUploadReadyListener processor) {
+        if (!mediaList.isEmpty() && post != null && processor != null && sInstance != null) {
             boolean changesConfirmed = post.contentHashcode() == post.getChangesConfirmedContentHashcode();
 
-            // obtain site url used to generate attachment page url
-            SiteModel site = sInstance.mSiteStore.getSiteByLocalId(media.getLocalSiteId());
+            // obtain site url used to generate attachment page url - all the media belongs to the post's site
+            SiteModel site = sInstance.mSiteStore.getSiteByLocalId(mediaList.get(0).getLocalSiteId());
 
-            // actually replace the media ID with the media uri
-            processor.replaceMediaFileWithUrlInPost(post, String.valueOf(media.getId()),
-                    FluxCUtils.mediaFileFromMediaModel(media), site);
+            // actually replace the media IDs with the media uris
+            Map<String, MediaFile> mediaFiles = new LinkedHashMap<>();
+            for (MediaModel media : mediaList) {
+                mediaFiles.put(String.valueOf(media.getId()), FluxCUtils.mediaFileFromMediaModel(media));
+            }
+            processor.replaceMediaFilesWithUrlsInPost(post, mediaFiles, site);
 
             // we changed the post, so let’s mark this down
             if (!post.isLocalDraft()) {
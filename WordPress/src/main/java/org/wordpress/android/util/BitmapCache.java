@@ -0,0 +1,273 @@
+package org.wordpress.android.util;
+
+import android.graphics.Bitmap;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.collection.LruCache;
+
+import com.android.volley.toolbox.ImageLoader.ImageCache;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The app's bitmap cache, used by Volley's ImageLoader and by screens which keep bitmaps around themselves, such as
+ * the video thumbnails in the media grid. It has two tiers:
+ * <ul>
+ * <li>memory: bitmaps sized by the bytes they actually hold, evicting the least recently used ones once the cache
+ * holds more than its maximum number of bytes</li>
+ * <li>disk: thumbnails passed to putThumbnail(), which are read back by loadThumbnail() once they've been evicted
+ * from memory</li>
+ * </ul>
+ * Bitmaps copied into the cache by putCopy() and putThumbnail() belong to it, so once one of them is evicted without
+ * ever having been handed out, its memory is reused for the next bitmap copied or read from disk.
+ * <p>
+ * Keys are indexed by the URL or path they were stored for - without the size prefix Volley adds - so removeSimilar()
+ * only visits the keys it removes.
+ */
+public class BitmapCache implements ImageCache {
+    private final MemoryCache mMemoryCache;
+    @NonNull private final BitmapReusePool mReusePool;
+    @Nullable private final ThumbnailDiskCache mDiskCache;
+    // keys of the bitmaps in memory by the URL or path they were stored for
+    private final TreeMap<String, Set<String>> mKeysByBaseKey = new TreeMap<>();
+    private int mDiskHitCount;
+    private int mDiskMissCount;
+
+    public BitmapCache(int maxBytes, @NonNull BitmapReusePool reusePool, @Nullable ThumbnailDiskCache diskCache) {
+        mMemoryCache = new MemoryCache(maxBytes);
+        mReusePool = reusePool;
+        mDiskCache = diskCache;
+    }
+
+    @Nullable
+    public synchronized Bitmap get(@NonNull String key) {
+        Entry entry = mMemoryCache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.mIsHandedOut = true;
+        return entry.mBitmap;
+    }
+
+    /**
+     * Adds the passed bitmap to memory. The cache never reuses it, since the caller may go on showing it.
+     */
+    public synchronized void put(@NonNull String key, @NonNull Bitmap bitmap) {
+        put(key, new Entry(bitmap, false));
+    }
+
+    /**
+     * Adds a copy of the passed bitmap to memory, for callers which don't own the bitmap - such as one loaded by
+     * Glide, which may recycle it.
+     */
+    public void putCopy(@NonNull String key, @NonNull Bitmap bitmap) {
+        Bitmap copy = mReusePool.copyOf(bitmap);
+        if (copy != null) {
+            synchronized (this) {
+                put(key, new Entry(copy, true));
+            }
+        }
+    }
+
+    /**
+     * Adds a copy of the passed thumbnail to memory and writes it to disk, so it can be loaded without being made
+     * again once it has been evicted from memory.
+     */
+    public void putThumbnail(@NonNull String key, @NonNull Bitmap thumbnail) {
+        Bitmap copy = mReusePool.copyOf(thumbnail);
+        if (copy == null) {
+            return;
+        }
+        // the copy is written to disk in the background, so it's never given to the pool
+        synchronized (this) {
+            put(key, new Entry(copy, false));
+        }
+        if (mDiskCache != null) {
+            mDiskCache.put(key, copy);
+        }
+    }
+
+    /**
+     * Passes the thumbnail with the passed key to the listener - right away if it's in memory, otherwise once it has
+     * been read from disk. Passes null if the thumbnail isn't cached.
+     */
+    public void loadThumbnail(@NonNull final String key, @NonNull final ThumbnailDiskCache.Listener listener) {
+        Bitmap bitmap = get(key);
+        if (bitmap != null || mDiskCache == null) {
+            listener.onThumbnailLoaded(bitmap);
+            return;
+        }
+        mDiskCache.get(key, thumbnail -> {
+            synchronized (BitmapCache.this) {
+                if (thumbnail != null) {
+                    mDiskHitCount++;
+                    Entry entry = new Entry(thumbnail, true);
+                    entry.mIsHandedOut = true;
+                    put(key, entry);
+                } else {
+                    mDiskMissCount++;
+                }
+            }
+            listener.onThumbnailLoaded(thumbnail);
+        });
+    }
+
+    /**
+     * Removes the bitmaps stored for URLs or paths starting with the passed prefix, including those Volley stored
+     * with a size prefix.
+     */
+    public synchronized void removeSimilar(@NonNull String keyPrefix) {
+        Map<String, Set<String>> similarKeys = getKeysWithPrefix(keyPrefix);
+        List<String> keys = new ArrayList<>();
+        for (Set<String> keysForBaseKey : similarKeys.values()) {
+            keys.addAll(keysForBaseKey);
+        }
+        for (String key : keys) {
+            mMemoryCache.remove(key);
+        }
+        if (mDiskCache != null) {
+            mDiskCache.removeByPrefix(keyPrefix);
+        }
+    }
+
+    /**
+     * Evicts every bitmap from memory and empties the reuse pool. The thumbnails on disk are kept.
+     */
+    public synchronized void evictAll() {
+        mMemoryCache.evictAll();
+        mReusePool.clear();
+    }
+
+    public synchronized int getSize() {
+        return mMemoryCache.size();
+    }
+
+    public synchronized int getMaxSize() {
+        return mMemoryCache.maxSize();
+    }
+
+    public synchronized int getHitCount() {
+        return mMemoryCache.hitCount();
+    }
+
+    public synchronized int getMissCount() {
+        return mMemoryCache.missCount();
+    }
+
+    public synchronized int getEvictionCount() {
+        return mMemoryCache.evictionCount();
+    }
+
+    public synchronized int getDiskHitCount() {
+        return mDiskHitCount;
+    }
+
+    public synchronized int getDiskMissCount() {
+        return mDiskMissCount;
+    }
+
+    public int getReuseCount() {
+        return mReusePool.getReuseCount();
+    }
+
+    @Override
+    public Bitmap getBitmap(String key) {
+        return get(key);
+    }
+
+    @Override
+    public void putBitmap(String key, Bitmap bitmap) {
+        put(key, bitmap);
+    }
+
+    /*
+     * indexes the key before adding the entry, so the key is dropped from the index again if the entry is evicted
+     * right away for being larger than the cache
+     */
+    private void put(@NonNull String key, @NonNull Entry entry) {
+        String baseKey = getBaseKey(key);
+        Set<String> keys = mKeysByBaseKey.get(baseKey);
+        if (keys == null) {
+            keys = new HashSet<>();
+            mKeysByBaseKey.put(baseKey, keys);
+        }
+        keys.add(key);
+        mMemoryCache.put(key, entry);
+    }
+
+    @NonNull
+    private Map<String, Set<String>> getKeysWithPrefix(@NonNull String prefix) {
+        return mKeysByBaseKey.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    /*
+     * called with the cache locked, from a put, remove or eviction
+     */
+    private void onEntryRemoved(@NonNull String key, @NonNull Entry oldEntry, @Nullable Entry newEntry) {
+        if (newEntry == null) {
+            String baseKey = getBaseKey(key);
+            Set<String> keys = mKeysByBaseKey.get(baseKey);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                mKeysByBaseKey.remove(baseKey);
+            }
+        }
+        if (oldEntry.mIsOwned && !oldEntry.mIsHandedOut) {
+            mReusePool.put(oldEntry.mBitmap);
+        }
+    }
+
+    /**
+     * Returns the URL or path a key was stored for, without the "#W[width]#H[height]#S[scale type]" prefix Volley's
+     * ImageLoader adds to it.
+     */
+    @NonNull
+    static String getBaseKey(@NonNull String key) {
+        if (!key.startsWith("#W")) {
+            return key;
+        }
+        int scaleTypeStart = key.indexOf("#S");
+        if (scaleTypeStart < 0) {
+            return key;
+        }
+        int baseKeyStart = scaleTypeStart + 2;
+        while (baseKeyStart < key.length() && Character.isDigit(key.charAt(baseKeyStart))) {
+            baseKeyStart++;
+        }
+        return key.substring(baseKeyStart);
+    }
+
+    private static class Entry {
+        @NonNull private final Bitmap mBitmap;
+        // true if the bitmap was copied or decoded by the cache, so nothing outside it has a reference to it
+        private final boolean mIsOwned;
+        private boolean mIsHandedOut;
+
+        Entry(@NonNull Bitmap bitmap, boolean isOwned) {
+            mBitmap = bitmap;
+            mIsOwned = isOwned;
+        }
+    }
+
+    private class MemoryCache extends LruCache<String, Entry> {
+        MemoryCache(int maxBytes) {
+            super(maxBytes);
+        }
+
+        @Override
+        protected int sizeOf(@NonNull String key, @NonNull Entry entry) {
+            return entry.mBitmap.getAllocationByteCount();
+        }
+
+        @Override
+        protected void entryRemoved(boolean evicted, @NonNull String key, @NonNull Entry oldEntry,
+                                    @Nullable Entry newEntry) {
+            onEntryRemoved(key, oldEntry, newEntry);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.wordpress.android.util;
+
+import android.graphics.Bitmap;
+import android.graphics.Bitmap.Config;
+import android.graphics.Canvas;
+import android.graphics.Color;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Holds mutable bitmaps which nothing else references any more, so their memory can be reused for new bitmaps of
+ * the same or a slightly smaller size instead of being allocated again. Bitmaps are found by allocation size, and
+ * the pool drops its largest bitmaps once it holds more than its maximum number of bytes.
+ */
+public class BitmapReusePool {
+    // a pooled bitmap isn't used for a bitmap needing less than 1/MAX_SIZE_MULTIPLE of its memory
+    private static final int MAX_SIZE_MULTIPLE = 2;
+
+    private final int mMaxBytes;
+    private final TreeMap<Integer, ArrayDeque<Bitmap>> mBitmapsBySize = new TreeMap<>();
+    private int mBytes;
+    private int mReuseCount;
+
+    public BitmapReusePool(int maxBytes) {
+        mMaxBytes = maxBytes;
+    }
+
+    /**
+     * Adds the passed bitmap to the pool. The caller must not use the bitmap after this, and must be sure nothing
+     * else (such as an ImageView) is still showing it.
+     */
+    public synchronized void put(@NonNull Bitmap bitmap) {
+        int size = bitmap.getAllocationByteCount();
+        if (!bitmap.isMutable() || bitmap.isRecycled() || size > mMaxBytes) {
+            return;
+        }
+        ArrayDeque<Bitmap> bitmaps = mBitmapsBySize.get(size);
+        if (bitmaps == null) {
+            bitmaps = new ArrayDeque<>();
+            mBitmapsBySize.put(size, bitmaps);
+        }
+        bitmaps.addLast(bitmap);
+        mBytes += size;
+        trimToSize(mMaxBytes);
+    }
+
+    /**
+     * Takes a bitmap out of the pool, reconfigured to the passed dimensions and config and cleared, or returns null
+     * if the pool has no bitmap large enough which wouldn't waste too much memory.
+     */
+    @Nullable
+    public synchronized Bitmap get(int width, int height, @Nullable Config config) {
+        int bytesPerPixel = getBytesPerPixel(config);
+        if (bytesPerPixel == 0 || width <= 0 || height <= 0) {
+            return null;
+        }
+        int size = width * height * bytesPerPixel;
+        Map.Entry<Integer, ArrayDeque<Bitmap>> entry = mBitmapsBySize.ceilingEntry(size);
+        if (entry == null || entry.getKey() > size * MAX_SIZE_MULTIPLE) {
+            return null;
+        }
+        Bitmap bitmap = removeFirst(entry);
+        bitmap.reconfigure(width, height, config);
+        bitmap.eraseColor(Color.TRANSPARENT);
+        mReuseCount++;
+        return bitmap;
+    }
+
+    /**
+     * Returns a mutable copy of the passed bitmap, drawn into a pooled bitmap when there's one which fits.
+     */
+    @Nullable
+    public Bitmap copyOf(@NonNull Bitmap source) {
+        Bitmap copy = get(source.getWidth(), source.getHeight(), source.getConfig());
+        if (copy == null) {
+            return source.copy(source.getConfig(), true);
+        }
+        copy.setDensity(source.getDensity());
+        new Canvas(copy).drawBitmap(source, 0, 0, null);
+        return copy;
+    }
+
+    public synchronized void clear() {
+        trimToSize(0);
+    }
+
+    public synchronized int getSize() {
+        return mBytes;
+    }
+
+    /**
+     * Returns the number of bitmaps taken out of the pool for reuse.
+     */
+    public synchronized int getReuseCount() {
+        return mReuseCount;
+    }
+
+    private void trimToSize(int maxBytes) {
+        while (mBytes > maxBytes && !mBitmapsBySize.isEmpty()) {
+            removeFirst(mBitmapsBySize.lastEntry());
+        }
+    }
+
+    @NonNull
+    private Bitmap removeFirst(@NonNull Map.Entry<Integer, ArrayDeque<Bitmap>> entry) {
+        Bitmap bitmap = entry.getValue().removeFirst();
+        if (entry.getValue().isEmpty()) {
+            mBitmapsBySize.remove(entry.getKey());
+        }
+        mBytes -= entry.getKey();
+        return bitmap;
+    }
+
+    private static int getBytesPerPixel(@Nullable Config config) {
+        if (config == null) {
+            return 0;
+        }
+        switch (config) {
+            case ALPHA_8:
+                return 1;
+            case RGB_565:
+                return 2;
+            case ARGB_8888:
+                return 4;
+            default:
+                // hardware bitmaps can't be reused, and the other configs are too rare to pool
+                return 0;
+        }
+    }
+}
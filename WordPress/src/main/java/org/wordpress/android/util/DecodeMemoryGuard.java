@@ -0,0 +1,42 @@
+package org.wordpress.android.util;
+
+/**
+ * Limits the memory held by the bitmaps of images being optimized at the same time. Each optimization acquires the
+ * bytes its bitmaps will need before decoding, waiting while the others hold too much of the budget, and releases
+ * them once its bitmaps have been recycled. An image needing more than the whole budget waits for every other one to
+ * finish and is then optimized alone.
+ */
+public class DecodeMemoryGuard {
+    private final long mBudgetBytes;
+    private long mAcquiredBytes;
+
+    public DecodeMemoryGuard(long budgetBytes) {
+        mBudgetBytes = Math.max(budgetBytes, 1);
+    }
+
+    /**
+     * Waits until the passed number of bytes - or the whole budget, if that's less - can be held, and returns the
+     * number of bytes held, which must be passed to release() once they're no longer needed.
+     */
+    public synchronized long acquire(long bytes) throws InterruptedException {
+        long acquiredBytes = Math.min(Math.max(bytes, 0), mBudgetBytes);
+        while (mAcquiredBytes + acquiredBytes > mBudgetBytes) {
+            wait();
+        }
+        mAcquiredBytes += acquiredBytes;
+        return acquiredBytes;
+    }
+
+    public synchronized void release(long acquiredBytes) {
+        mAcquiredBytes -= acquiredBytes;
+        notifyAll();
+    }
+
+    public synchronized long getAcquiredBytes() {
+        return mAcquiredBytes;
+    }
+
+    public long getBudgetBytes() {
+        return mBudgetBytes;
+    }
+}
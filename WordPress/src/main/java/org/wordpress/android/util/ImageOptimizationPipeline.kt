@@ -0,0 +1,77 @@
+package org.wordpress.android.util
+
+import android.net.Uri
+import android.os.Handler
+import android.os.Looper
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.asCoroutineDispatcher
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * Optimizes picked images on a pool of worker threads sized to the device's cores and memory, handing each one on
+ * as soon as it's done rather than once they all are, so its upload can start while the others are optimized.
+ * [ImageOptimizer] holds the memory of each decode from a shared budget, so the workers can't run the app out of
+ * memory even when the images are larger than the pool was sized for.
+ */
+@Singleton
+class ImageOptimizationPipeline @Inject constructor() {
+    fun interface Optimization {
+        /**
+         * Returns the URI of the image to upload in place of the passed one. Called on a worker thread.
+         */
+        fun optimize(uri: Uri): Uri
+    }
+
+    fun interface Listener {
+        /**
+         * Called on the main thread with the URI of the optimized image, once it's done.
+         */
+        fun onImageOptimized(optimizedUri: Uri)
+    }
+
+    private val poolSize = getPoolSize(
+        Runtime.getRuntime().availableProcessors(),
+        ImageOptimizer.getDecodeMemoryBudget()
+    )
+    private val executor = ThreadPoolExecutor(
+        poolSize,
+        poolSize,
+        KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        LinkedBlockingQueue()
+    ).apply { allowCoreThreadTimeOut(true) }
+    private val mainHandler = Handler(Looper.getMainLooper())
+
+    /**
+     * The pool's workers as a dispatcher, for callers which need every image optimized before going on.
+     */
+    val dispatcher: CoroutineDispatcher = executor.asCoroutineDispatcher()
+
+    fun optimize(uri: Uri, optimization: Optimization, listener: Listener) {
+        executor.execute {
+            val optimizedUri = optimization.optimize(uri)
+            mainHandler.post { listener.onImageOptimized(optimizedUri) }
+        }
+    }
+
+    companion object {
+        private const val KEEP_ALIVE_SECONDS = 30L
+
+        // the memory a worker optimizing a photo from a typical phone camera holds: a 12 MP image subsampled by 2
+        // while decoding, and the copy of it resized to the default maximum size
+        private const val BYTES_PER_WORKER = 32L * 1024 * 1024
+
+        /**
+         * Returns the number of workers: one per core, as long as the decode memory budget can hold the bitmaps of
+         * that many typical photos, and always at least one.
+         */
+        fun getPoolSize(cores: Int, decodeMemoryBudget: Long): Int {
+            val workersInBudget = (decodeMemoryBudget / BYTES_PER_WORKER).toInt()
+            return workersInBudget.coerceAtMost(cores).coerceAtLeast(1)
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package org.wordpress.android.util;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Bitmap.CompressFormat;
+import android.graphics.BitmapFactory;
+import android.graphics.Matrix;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.exifinterface.media.ExifInterface;
+
+import org.wordpress.android.util.AppLog.T;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Resizes, rotates and re-encodes images before they're uploaded. Images are subsampled while they're decoded, so
+ * a photo many times larger than the size it's resized to is never decoded at full size, and every decode holds the
+ * memory its bitmaps need from a budget shared by all the images being optimized, so optimizing several at the same
+ * time can't run the app out of memory.
+ */
+public class ImageOptimizer {
+    // share of the app's maximum memory the bitmaps of images being optimized can hold at the same time
+    private static final double DECODE_MEMORY_RATIO = 0.25;
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final String OPTIMIZED_FILE_PREFIX = "wp-optimized-";
+
+    private static final String MIME_TYPE_JPEG = "image/jpeg";
+    private static final String MIME_TYPE_PNG = "image/png";
+    private static final String MIME_TYPE_GIF = "image/gif";
+    private static final String MIME_TYPE_WEBP = "image/webp";
+
+    // the RIFF header and the first chunk's header and flags
+    private static final int WEBP_HEADER_SIZE = 25;
+    private static final int WEBP_FLAG_ANIMATION = 0x02;
+    private static final int WEBP_FLAG_ALPHA = 0x10;
+
+    private static final DecodeMemoryGuard DECODE_MEMORY_GUARD =
+            new DecodeMemoryGuard((long) (Runtime.getRuntime().maxMemory() * DECODE_MEMORY_RATIO));
+
+    /**
+     * Returns the path of a copy of the image resized so its longest side is at most maxSize, turned upright and
+     * encoded with the passed quality. Still images in other formats - HEIC and WebP photos, say - are re-encoded as
+     * JPEG, or PNG if they're transparent. Returns the image's own path if there's nothing to do - or it's a GIF or
+     * animated, which re-encoding would flatten - and null if it can't be read or written.
+     */
+    @Nullable
+    public static String optimizeImage(@NonNull Context context, @NonNull String path, int maxSize, int quality) {
+        BitmapFactory.Options bounds = decodeBounds(path);
+        if (bounds == null) {
+            return null;
+        }
+        CompressFormat format = getCompressFormat(bounds.outMimeType, path);
+        if (format == null) {
+            return path;
+        }
+        int rotationDegrees = getRotationDegrees(path);
+        boolean needsResize = Math.max(bounds.outWidth, bounds.outHeight) > maxSize;
+        boolean isConverted = !MIME_TYPE_JPEG.equals(bounds.outMimeType) && !MIME_TYPE_PNG.equals(bounds.outMimeType);
+        boolean needsReencode = isConverted || (format == CompressFormat.JPEG && quality < 100);
+        if (!needsResize && !needsReencode && rotationDegrees == 0) {
+            return path;
+        }
+
+        int inSampleSize = calculateInSampleSize(bounds.outWidth, bounds.outHeight, maxSize);
+        long acquiredBytes;
+        try {
+            acquiredBytes = DECODE_MEMORY_GUARD.acquire(
+                    estimateDecodeBytes(bounds.outWidth, bounds.outHeight, inSampleSize));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        try {
+            return decodeAndWrite(context, path, inSampleSize, maxSize, rotationDegrees, format, quality);
+        } finally {
+            DECODE_MEMORY_GUARD.release(acquiredBytes);
+        }
+    }
+
+    /**
+     * Turns the image upright if its EXIF orientation says it's rotated, holding the memory that needs - at full size
+     * - from the shared budget. Returns the path of the rotated copy, or null if the image didn't need rotating.
+     */
+    @Nullable
+    public static String rotateImageIfNecessary(@NonNull Context context, @NonNull String path) {
+        BitmapFactory.Options bounds = decodeBounds(path);
+        if (bounds == null || getRotationDegrees(path) == 0) {
+            return null;
+        }
+        long acquiredBytes;
+        try {
+            acquiredBytes = DECODE_MEMORY_GUARD.acquire(estimateDecodeBytes(bounds.outWidth, bounds.outHeight, 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        try {
+            return ImageUtils.rotateImageIfNecessary(context, path);
+        } finally {
+            DECODE_MEMORY_GUARD.release(acquiredBytes);
+        }
+    }
+
+    /**
+     * Returns the number of bytes the bitmaps of images being optimized can hold at the same time.
+     */
+    public static long getDecodeMemoryBudget() {
+        return DECODE_MEMORY_GUARD.getBudgetBytes();
+    }
+
+    /**
+     * Returns the largest power of two the image can be subsampled by while its longest side stays at least maxSize,
+     * so it's only ever scaled down after decoding, never up.
+     */
+    static int calculateInSampleSize(int width, int height, int maxSize) {
+        int longestSide = Math.max(width, height);
+        int inSampleSize = 1;
+        while (maxSize > 0 && longestSide / (inSampleSize * 2) >= maxSize) {
+            inSampleSize *= 2;
+        }
+        return inSampleSize;
+    }
+
+    /**
+     * Returns the bytes held while optimizing an image: the subsampled bitmap and the resized or rotated copy made of
+     * it, which is never larger.
+     */
+    static long estimateDecodeBytes(int width, int height, int inSampleSize) {
+        long sampledWidth = (width + inSampleSize - 1) / inSampleSize;
+        long sampledHeight = (height + inSampleSize - 1) / inSampleSize;
+        return 2 * sampledWidth * sampledHeight * BYTES_PER_PIXEL;
+    }
+
+    @Nullable
+    private static BitmapFactory.Options decodeBounds(@NonNull String path) {
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(path, bounds);
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            AppLog.w(T.MEDIA, "Can't read the size of the image to optimize");
+            return null;
+        }
+        return bounds;
+    }
+
+    /*
+     * returns the format the image is written in once it's optimized, or null if it's left as it is
+     */
+    @Nullable
+    private static CompressFormat getCompressFormat(@Nullable String mimeType, @NonNull String path) {
+        if (mimeType == null || !mimeType.startsWith("image/") || MIME_TYPE_GIF.equals(mimeType)
+            || mimeType.endsWith("-sequence")) {
+            // GIFs and HEIF image sequences may be animated
+            return null;
+        } else if (MIME_TYPE_PNG.equals(mimeType)) {
+            return CompressFormat.PNG;
+        } else if (MIME_TYPE_WEBP.equals(mimeType)) {
+            byte[] header = readHeader(path, WEBP_HEADER_SIZE);
+            if (header == null || isAnimatedWebp(header)) {
+                return null;
+            }
+            return hasWebpAlpha(header) ? CompressFormat.PNG : CompressFormat.JPEG;
+        }
+        return CompressFormat.JPEG;
+    }
+
+    /*
+     * the extended WebP header flags animated images - see https://developers.google.com/speed/webp/docs/riff_container
+     */
+    static boolean isAnimatedWebp(@NonNull byte[] header) {
+        return isWebpChunk(header, "VP8X") && (header[20] & WEBP_FLAG_ANIMATION) != 0;
+    }
+
+    static boolean hasWebpAlpha(@NonNull byte[] header) {
+        if (isWebpChunk(header, "VP8X")) {
+            return (header[20] & WEBP_FLAG_ALPHA) != 0;
+        } else if (isWebpChunk(header, "VP8L")) {
+            // the lossless bitstream starts with a signature byte, the width and height in 14 bits each, then the
+            // alpha_is_used bit
+            return (header[24] & 0x10) != 0;
+        }
+        return false;
+    }
+
+    private static boolean isWebpChunk(@NonNull byte[] header, @NonNull String fourCc) {
+        return header.length >= WEBP_HEADER_SIZE
+               && new String(header, 0, 4, StandardCharsets.US_ASCII).equals("RIFF")
+               && new String(header, 8, 4, StandardCharsets.US_ASCII).equals("WEBP")
+               && new String(header, 12, 4, StandardCharsets.US_ASCII).equals(fourCc);
+    }
+
+    @Nullable
+    private static byte[] readHeader(@NonNull String path, int size) {
+        byte[] header = new byte[size];
+        try (InputStream in = new FileInputStream(path)) {
+            int read = 0;
+            while (read < size) {
+                int count = in.read(header, read, size - read);
+                if (count < 0) {
+                    break;
+                }
+                read += count;
+            }
+            return read == size ? header : null;
+        } catch (IOException e) {
+            AppLog.w(T.MEDIA, "Can't read the header of the image to optimize: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static int getRotationDegrees(@NonNull String path) {
+        try {
+            return new ExifInterface(path).getRotationDegrees();
+        } catch (IOException e) {
+            AppLog.w(T.MEDIA, "Can't read the orientation of the image to optimize: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    @Nullable
+    private static String decodeAndWrite(@NonNull Context context, @NonNull String path, int inSampleSize,
+                                         int maxSize, int rotationDegrees, @NonNull CompressFormat format,
+                                         int quality) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inSampleSize = inSampleSize;
+        Bitmap sampled = BitmapFactory.decodeFile(path, options);
+        if (sampled == null) {
+            AppLog.w(T.MEDIA, "Can't decode the image to optimize");
+            return null;
+        }
+
+        Matrix matrix = new Matrix();
+        int longestSide = Math.max(sampled.getWidth(), sampled.getHeight());
+        if (longestSide > maxSize) {
+            float scale = (float) maxSize / longestSide;
+            matrix.postScale(scale, scale);
+        }
+        if (rotationDegrees != 0) {
+            matrix.postRotate(rotationDegrees);
+        }
+        Bitmap optimized = matrix.isIdentity() ? sampled
+                : Bitmap.createBitmap(sampled, 0, 0, sampled.getWidth(), sampled.getHeight(), matrix, true);
+        if (optimized != sampled) {
+            sampled.recycle();
+        }
+
+        File file = null;
+        try {
+            String extension = format == CompressFormat.PNG ? ".png" : ".jpg";
+            file = File.createTempFile(OPTIMIZED_FILE_PREFIX, extension, context.getCacheDir());
+            try (OutputStream out = new FileOutputStream(file)) {
+                if (!optimized.compress(format, quality, out)) {
+                    throw new IOException("Can't encode the optimized image");
+                }
+            }
+            return file.getAbsolutePath();
+        } catch (IOException e) {
+            AppLog.e(T.MEDIA, "Can't write the optimized image", e);
+            if (file != null && !file.delete()) {
+                AppLog.w(T.MEDIA, "Can't delete the partly written optimized image");
+            }
+            return null;
+        } finally {
+            optimized.recycle();
+        }
+    }
+}
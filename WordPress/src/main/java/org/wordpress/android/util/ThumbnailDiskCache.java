@@ -0,0 +1,294 @@
+package org.wordpress.android.util;
+
+import android.graphics.Bitmap;
+import android.graphics.Bitmap.CompressFormat;
+import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.wordpress.android.util.AppLog.T;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps decoded thumbnails - such as frames extracted from videos - on disk, so they don't have to be extracted again
+ * when they're no longer in memory or after the app restarts. Each file starts with the thumbnail's key, followed by
+ * the compressed image. Files are read and written on a single background thread, which is also the only thread to
+ * touch the index, and the least recently used thumbnails are deleted once the directory holds more than its maximum
+ * number of bytes.
+ */
+public class ThumbnailDiskCache {
+    public interface Listener {
+        void onThumbnailLoaded(@Nullable Bitmap thumbnail);
+    }
+
+    private static final int JPEG_QUALITY = 85;
+    private static final String FILE_EXTENSION = ".thumb";
+
+    private final File mDirectory;
+    private final long mMaxBytes;
+    @Nullable private final BitmapReusePool mReusePool;
+    private final ExecutorService mExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    // thumbnail files by key, least recently used first
+    private final LinkedHashMap<String, File> mFiles = new LinkedHashMap<>(16, 0.75f, true);
+    // the same keys sorted, so the thumbnails of keys starting with a prefix can be found without a scan
+    private final TreeMap<String, File> mSortedFiles = new TreeMap<>();
+    private long mBytes;
+    private boolean mIsIndexLoaded;
+
+    public ThumbnailDiskCache(@NonNull File directory, long maxBytes, @Nullable BitmapReusePool reusePool) {
+        mDirectory = directory;
+        mMaxBytes = maxBytes;
+        mReusePool = reusePool;
+    }
+
+    /**
+     * Writes the passed thumbnail to disk in the background. The thumbnail must not be changed while it's written.
+     */
+    public void put(@NonNull final String key, @NonNull final Bitmap thumbnail) {
+        mExecutor.execute(() -> {
+            loadIndex();
+            write(key, thumbnail);
+        });
+    }
+
+    /**
+     * Reads the thumbnail with the passed key in the background, and passes it to the listener on the main thread -
+     * or passes null if there's no such thumbnail.
+     */
+    public void get(@NonNull final String key, @NonNull final Listener listener) {
+        mExecutor.execute(() -> {
+            loadIndex();
+            final Bitmap thumbnail = read(key);
+            mMainHandler.post(() -> listener.onThumbnailLoaded(thumbnail));
+        });
+    }
+
+    /**
+     * Deletes the thumbnails whose keys start with the passed prefix in the background.
+     */
+    public void removeByPrefix(@NonNull final String prefix) {
+        mExecutor.execute(() -> {
+            loadIndex();
+            Map<String, File> prefixedFiles = mSortedFiles.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+            for (String key : new ArrayList<>(prefixedFiles.keySet())) {
+                delete(key);
+            }
+        });
+    }
+
+    public void clear() {
+        mExecutor.execute(() -> {
+            loadIndex();
+            for (String key : new ArrayList<>(mFiles.keySet())) {
+                delete(key);
+            }
+        });
+    }
+
+    /*
+     * reads the key at the start of each file in the directory, ordering the files by when they were last used
+     */
+    private void loadIndex() {
+        if (mIsIndexLoaded) {
+            return;
+        }
+        mIsIndexLoaded = true;
+        if (!mDirectory.isDirectory() && !mDirectory.mkdirs()) {
+            AppLog.w(T.UTILS, "Unable to create thumbnail cache directory");
+            return;
+        }
+        File[] files = mDirectory.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, (file1, file2) -> Long.compare(file1.lastModified(), file2.lastModified()));
+        for (File file : files) {
+            String key = readKey(file);
+            if (key == null) {
+                deleteFile(file);
+            } else {
+                addToIndex(key, file);
+            }
+        }
+    }
+
+    private void write(@NonNull String key, @NonNull Bitmap thumbnail) {
+        File file = new File(mDirectory, getFileName(key));
+        File tempFile = new File(mDirectory, file.getName() + ".tmp");
+        CompressFormat format = thumbnail.hasAlpha() ? CompressFormat.PNG : CompressFormat.JPEG;
+        try (OutputStream out = new FileOutputStream(tempFile)) {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            dataOut.writeUTF(key);
+            if (!thumbnail.compress(format, JPEG_QUALITY, dataOut)) {
+                throw new IOException("Unable to compress thumbnail");
+            }
+            dataOut.flush();
+        } catch (IOException | IllegalStateException e) {
+            AppLog.w(T.UTILS, "Unable to write thumbnail to disk: " + e.getMessage());
+            deleteFile(tempFile);
+            return;
+        }
+        removeFromIndex(key);
+        if (!tempFile.renameTo(file)) {
+            deleteFile(tempFile);
+            return;
+        }
+        addToIndex(key, file);
+        trimToSize();
+    }
+
+    @Nullable
+    private Bitmap read(@NonNull String key) {
+        File file = mFiles.get(key);
+        if (file == null) {
+            return null;
+        }
+        byte[] data = new byte[(int) file.length()];
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            in.readFully(data);
+        } catch (IOException e) {
+            AppLog.w(T.UTILS, "Unable to read thumbnail from disk: " + e.getMessage());
+            delete(key);
+            return null;
+        }
+        int offset = getImageOffset(data, key);
+        if (offset < 0) {
+            delete(key);
+            return null;
+        }
+        Bitmap thumbnail = decode(data, offset);
+        if (thumbnail == null) {
+            delete(key);
+            return null;
+        }
+        if (!file.setLastModified(System.currentTimeMillis())) {
+            AppLog.d(T.UTILS, "Unable to update thumbnail's last use");
+        }
+        return thumbnail;
+    }
+
+    /*
+     * decodes the image into a pooled bitmap when there's one which fits, so reading thumbnails while scrolling
+     * doesn't allocate a new bitmap for each of them
+     */
+    @Nullable
+    private Bitmap decode(@NonNull byte[] data, int offset) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeByteArray(data, offset, data.length - offset, options);
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            return null;
+        }
+        options.inJustDecodeBounds = false;
+        options.inMutable = true;
+        if (mReusePool != null) {
+            options.inBitmap = mReusePool.get(options.outWidth, options.outHeight, Bitmap.Config.ARGB_8888);
+        }
+        try {
+            return BitmapFactory.decodeByteArray(data, offset, data.length - offset, options);
+        } catch (IllegalArgumentException e) {
+            // the pooled bitmap couldn't be used for this image
+            options.inBitmap = null;
+            return BitmapFactory.decodeByteArray(data, offset, data.length - offset, options);
+        }
+    }
+
+    private void delete(@NonNull String key) {
+        File file = removeFromIndex(key);
+        if (file != null) {
+            deleteFile(file);
+        }
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<String, File>> iterator = mFiles.entrySet().iterator();
+        while (mBytes > mMaxBytes && iterator.hasNext()) {
+            Map.Entry<String, File> eldest = iterator.next();
+            iterator.remove();
+            mSortedFiles.remove(eldest.getKey());
+            mBytes -= eldest.getValue().length();
+            deleteFile(eldest.getValue());
+        }
+    }
+
+    private void addToIndex(@NonNull String key, @NonNull File file) {
+        mFiles.put(key, file);
+        mSortedFiles.put(key, file);
+        mBytes += file.length();
+    }
+
+    @Nullable
+    private File removeFromIndex(@NonNull String key) {
+        File file = mFiles.remove(key);
+        mSortedFiles.remove(key);
+        if (file != null) {
+            mBytes -= file.length();
+        }
+        return file;
+    }
+
+    private static void deleteFile(@NonNull File file) {
+        if (!file.delete()) {
+            AppLog.w(T.UTILS, "Unable to delete thumbnail " + file.getName());
+        }
+    }
+
+    @Nullable
+    private static String readKey(@NonNull File file) {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return in.readUTF();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /*
+     * returns the offset of the image after the key at the start of the file, or -1 if the file holds another key -
+     * which only happens if two keys have the same hash
+     */
+    private static int getImageOffset(@NonNull byte[] data, @NonNull String key) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            return key.equals(in.readUTF()) ? data.length - in.available() : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    @NonNull
+    private static String getFileName(@NonNull String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder fileName = new StringBuilder(hash.length * 2 + FILE_EXTENSION.length());
+            for (byte b : hash) {
+                fileName.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return fileName.append(FILE_EXTENSION).toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(key.hashCode()) + FILE_EXTENSION;
+        }
+    }
+}
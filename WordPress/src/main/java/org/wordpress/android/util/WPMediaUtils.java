@@ -76,7 +76,7 @@ public class WPMediaUtils {
             return null;
         }
 
-        String optimizedPath = ImageUtils.optimizeImage(context, path, resizeDimension, quality);
+        String optimizedPath = ImageOptimizer.optimizeImage(context, path, resizeDimension, quality);
         if (optimizedPath == null) {
             AppLog.e(AppLog.T.EDITOR, "Optimized picture was null!");
             AnalyticsTracker.track(AnalyticsTracker.Stat.MEDIA_PHOTO_OPTIMIZE_ERROR);
@@ -92,7 +92,7 @@ public class WPMediaUtils {
             return null;
         }
 
-        String rotatedPath = ImageUtils.rotateImageIfNecessary(context, path);
+        String rotatedPath = ImageOptimizer.rotateImageIfNecessary(context, path);
         if (rotatedPath != null) {
             return Uri.parse(rotatedPath);
         }
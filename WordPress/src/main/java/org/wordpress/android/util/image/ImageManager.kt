@@ -321,6 +321,18 @@ class ImageManager @Inject constructor(
         }
     }
 
+    /**
+     * Loads an image from the "imgUrl" into the memory cache at the passed size, so a later [load] of it into an
+     * [ImageView] of that size with the same scale type is served from there.
+     */
+    fun preload(context: Context, imgUrl: String, width: Int, height: Int, scaleType: ScaleType = CENTER) {
+        if (!context.isAvailable()) return
+        GlideApp.with(context)
+            .load(imgUrl)
+            .applyScaleType(scaleType)
+            .preload(width, height)
+    }
+
     /**
      * Loads an [MShot] into an [ImageView] and attaches a [RequestListener].
      *
@@ -9,6 +9,7 @@ import org.wordpress.android.util.UploadWorker
 import org.wordpress.android.workers.notification.local.LocalNotificationHandlerFactory
 import org.wordpress.android.workers.notification.local.LocalNotificationWorker
 import org.wordpress.android.workers.notification.push.GCMRegistrationWorker
+import org.wordpress.android.workers.reader.ReaderPurgeWorker
 import org.wordpress.android.workers.reminder.ReminderNotifier
 import org.wordpress.android.workers.reminder.ReminderScheduler
 import org.wordpress.android.workers.reminder.ReminderWorker
@@ -34,5 +35,6 @@ class WordPressWorkersFactory @Inject constructor(
         addFactory(ReminderWorker.Factory(reminderScheduler, reminderNotifier, promptReminderNotifier))
         addFactory(WeeklyRoundupWorker.Factory(weeklyRoundupNotifier))
         addFactory(GCMRegistrationWorker.Factory(accountStore, zendeskHelper))
+        addFactory(ReaderPurgeWorker.Factory())
     }
 }
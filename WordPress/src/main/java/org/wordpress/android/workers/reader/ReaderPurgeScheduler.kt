@@ -0,0 +1,54 @@
+package org.wordpress.android.workers.reader
+
+import androidx.work.Constraints
+import androidx.work.Data
+import androidx.work.ExistingPeriodicWorkPolicy.KEEP
+import androidx.work.ExistingWorkPolicy
+import androidx.work.OneTimeWorkRequestBuilder
+import androidx.work.PeriodicWorkRequestBuilder
+import androidx.work.WorkManager
+import org.wordpress.android.viewmodel.ContextProvider
+import java.util.concurrent.TimeUnit.DAYS
+import javax.inject.Inject
+
+class ReaderPurgeScheduler @Inject constructor(
+    private val contextProvider: ContextProvider
+) {
+    private val workManager by lazy { WorkManager.getInstance(contextProvider.getContext()) }
+
+    fun scheduleIfNeeded() {
+        val constraints = Constraints.Builder()
+            .setRequiresDeviceIdle(true)
+            .setRequiresCharging(true)
+            .build()
+
+        val workRequest = PeriodicWorkRequestBuilder<ReaderPurgeWorker>(REPEAT_INTERVAL_DAYS, DAYS)
+            .addTag(TAG)
+            .setConstraints(constraints)
+            .build()
+
+        workManager.enqueueUniquePeriodicWork(TAG, KEEP, workRequest)
+    }
+
+    /**
+     * Runs a quick purge right away, unless one is already running
+     */
+    fun purgeNow() {
+        val inputData = Data.Builder()
+            .putBoolean(ReaderPurgeWorker.KEY_FULL_PURGE, false)
+            .build()
+
+        val workRequest = OneTimeWorkRequestBuilder<ReaderPurgeWorker>()
+            .addTag(QUICK_PURGE_TAG)
+            .setInputData(inputData)
+            .build()
+
+        workManager.enqueueUniqueWork(QUICK_PURGE_TAG, ExistingWorkPolicy.KEEP, workRequest)
+    }
+
+    companion object {
+        private const val TAG = "reader_purge"
+        private const val QUICK_PURGE_TAG = "reader_quick_purge"
+        private const val REPEAT_INTERVAL_DAYS = 1L
+    }
+}
@@ -0,0 +1,48 @@
+package org.wordpress.android.workers.reader
+
+import android.content.Context
+import androidx.work.Worker
+import androidx.work.WorkerFactory
+import androidx.work.WorkerParameters
+import org.wordpress.android.datasets.ReaderDatabasePurger
+import org.wordpress.android.datasets.ReaderDatabasePurger.FULL_PURGE_BUDGET_MS
+import org.wordpress.android.datasets.ReaderDatabasePurger.QUICK_PURGE_BUDGET_MS
+
+/**
+ * Purges the reader database. The quick purge done when the reader is opened spends only a short time on it so
+ * syncing isn't held up, while the full purge runs when the device is idle and charging with a larger time budget,
+ * and is retried when it runs out of time before the database is purged
+ */
+class ReaderPurgeWorker(
+    context: Context,
+    workerParameters: WorkerParameters
+) : Worker(context, workerParameters) {
+    override fun doWork(): Result {
+        val isFullPurge = inputData.getBoolean(KEY_FULL_PURGE, true)
+        val budget = if (isFullPurge) FULL_PURGE_BUDGET_MS else QUICK_PURGE_BUDGET_MS
+        val result = ReaderDatabasePurger.purge(budget, isFullPurge)
+        return if (isFullPurge && !result.isComplete && runAttemptCount < MAX_FULL_PURGE_RETRIES) {
+            // the rest is purged by the retry, which waits for the device to be idle and charging again
+            Result.retry()
+        } else {
+            Result.success()
+        }
+    }
+
+    class Factory : WorkerFactory() {
+        override fun createWorker(
+            appContext: Context,
+            workerClassName: String,
+            workerParameters: WorkerParameters
+        ) = if (workerClassName == ReaderPurgeWorker::class.java.name) {
+            ReaderPurgeWorker(appContext, workerParameters)
+        } else {
+            null
+        }
+    }
+
+    companion object {
+        const val KEY_FULL_PURGE = "full_purge"
+        private const val MAX_FULL_PURGE_RETRIES = 5
+    }
+}
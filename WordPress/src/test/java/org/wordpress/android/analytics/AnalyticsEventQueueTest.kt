@@ -0,0 +1,145 @@
+package org.wordpress.android.analytics
+
+import android.content.Context
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.After
+import org.junit.Test
+import org.mockito.kotlin.mock
+import org.wordpress.android.analytics.AnalyticsTracker.Stat
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+
+class AnalyticsEventQueueTest {
+    private val tracker = RecordingTracker(mock())
+    private var blockedTracker: BlockedTracker? = null
+
+    @After
+    fun tearDown() {
+        blockedTracker?.release()
+    }
+
+    @Test
+    fun `passes events on to the trackers in the order they were tracked`() {
+        val queue = AnalyticsEventQueue(listOf(tracker), AnalyticsEventQueue.DEFAULT_CAPACITY)
+        val stats = (0 until 500).map { Stat.values()[it % Stat.values().size] }
+
+        stats.forEach { queue.track(it, null) }
+        awaitQueued(queue)
+
+        assertThat(tracker.trackedStats).isEqualTo(stats)
+        assertThat(tracker.batchSizes).allMatch { it <= AnalyticsEventQueue.MAX_BATCH_SIZE }
+    }
+
+    @Test
+    fun `passes on a copy of the properties`() {
+        val queue = AnalyticsEventQueue(listOf(tracker), AnalyticsEventQueue.DEFAULT_CAPACITY)
+        val properties = mutableMapOf("source" to "reader")
+
+        queue.track(Stat.APPLICATION_OPENED, properties)
+        properties["source"] = "changed"
+        awaitQueued(queue)
+
+        assertThat(tracker.trackedProperties.single()).isEqualTo(mapOf("source" to "reader"))
+    }
+
+    @Test
+    fun `makes queued calls after the events tracked before them`() {
+        val queue = AnalyticsEventQueue(listOf(tracker), AnalyticsEventQueue.DEFAULT_CAPACITY)
+        val trackedBeforeCall = mutableListOf<Int>()
+
+        repeat(100) { queue.track(Stat.APPLICATION_OPENED, null) }
+        queue.run { trackedBeforeCall.add(tracker.trackedStats.size) }
+        repeat(100) { queue.track(Stat.APPLICATION_CLOSED, null) }
+        awaitQueued(queue)
+
+        assertThat(trackedBeforeCall).containsExactly(100)
+        assertThat(tracker.trackedStats).hasSize(200)
+    }
+
+    @Test
+    fun `drops events tracked while the queue is full and keeps those already queued`() {
+        val blocked = BlockedTracker(mock()).also { blockedTracker = it }
+        val queue = AnalyticsEventQueue(listOf(blocked, tracker), CAPACITY)
+
+        // the first event is taken off the queue and blocks the consumer, so the queue then fills up
+        queue.track(Stat.APPLICATION_OPENED, null)
+        blocked.awaitBlocked()
+        val accepted = (0 until CAPACITY + 10).count { queue.track(Stat.APPLICATION_CLOSED, null) }
+        blocked.release()
+        awaitQueued(queue)
+
+        assertThat(accepted).isEqualTo(CAPACITY)
+        assertThat(queue.droppedEventCount).isEqualTo(10)
+        assertThat(tracker.trackedStats).hasSize(CAPACITY + 1)
+    }
+
+    @Test
+    fun `tracking doesn't wait for the trackers`() {
+        val blocked = BlockedTracker(mock()).also { blockedTracker = it }
+        val queue = AnalyticsEventQueue(listOf(blocked), CAPACITY)
+        val doneTracking = CountDownLatch(1)
+
+        thread {
+            repeat(CAPACITY) { queue.track(Stat.APPLICATION_OPENED, null) }
+            doneTracking.countDown()
+        }
+
+        // the tracker stays blocked on the first event until the test is over, so tracking only finishes if it
+        // doesn't wait for it
+        assertThat(blocked.awaitBlocked()).isTrue
+        assertThat(doneTracking.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue
+    }
+
+    private fun awaitQueued(queue: AnalyticsEventQueue) {
+        val latch = CountDownLatch(1)
+        queue.run { latch.countDown() }
+        assertThat(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue
+    }
+
+    private open class RecordingTracker(context: Context) : Tracker(context) {
+        val trackedStats: MutableList<Stat> = Collections.synchronizedList(mutableListOf())
+        val trackedProperties: MutableList<Map<String, *>?> = Collections.synchronizedList(mutableListOf())
+        val batchSizes: MutableList<Int> = Collections.synchronizedList(mutableListOf())
+
+        override fun track(events: List<AnalyticsEvent>) {
+            batchSizes.add(events.size)
+            super.track(events)
+        }
+
+        override fun track(stat: Stat) = track(stat, null)
+
+        override fun track(stat: Stat, properties: Map<String, *>?) {
+            trackedStats.add(stat)
+            trackedProperties.add(properties)
+        }
+
+        override fun endSession() = Unit
+
+        override fun flush() = Unit
+
+        override fun refreshMetadata(metadata: AnalyticsMetadata?) = Unit
+
+        override fun getAnonIdPrefKey() = "test_anon_id"
+    }
+
+    private class BlockedTracker(context: Context) : RecordingTracker(context) {
+        private val blocked = CountDownLatch(1)
+        private val released = CountDownLatch(1)
+
+        override fun track(stat: Stat, properties: Map<String, *>?) {
+            blocked.countDown()
+            released.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+        }
+
+        fun awaitBlocked() = blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+
+        fun release() = released.countDown()
+    }
+
+    companion object {
+        private const val CAPACITY = 16
+        private const val TIMEOUT_SECONDS = 10L
+    }
+}
@@ -0,0 +1,48 @@
+package org.wordpress.android.analytics
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.analytics.AnalyticsTracker.Stat
+
+class AnalyticsEventTableTest {
+    @Test
+    fun `looks up the event names and predefined properties tracked before the table was generated`() {
+        val trackedEvents = readTrackedEvents()
+
+        assertThat(trackedEvents.keys).containsExactlyElementsOf(Stat.values().map { it.name })
+        Stat.values().forEach { stat ->
+            val (eventName, properties) = trackedEvents.getValue(stat.name)
+            assertThat(AnalyticsEventTable.getEventName(stat)).describedAs(stat.name).isEqualTo(eventName)
+            assertThat(AnalyticsTrackerNosara.getEventNameForStat(stat)).describedAs(stat.name).isEqualTo(eventName)
+            assertThat(AnalyticsEventTable.getPredefinedProperties(stat)).describedAs(stat.name).isEqualTo(properties)
+        }
+    }
+
+    @Test
+    fun `gives boolean predefined properties as booleans`() {
+        assertThat(AnalyticsEventTable.getPredefinedProperties(Stat.NOTIFICATION_QUICK_ACTIONS_LIKED))
+                .isEqualTo(mapOf("is_quick_action" to true))
+    }
+
+    /*
+     * reads the snapshot of each stat's event name and predefined properties, taken from the switches which used to
+     * be in AnalyticsTrackerNosara
+     */
+    private fun readTrackedEvents(): Map<String, Pair<String, Map<String, Any>?>> {
+        val lines = javaClass.classLoader!!.getResourceAsStream(TRACKED_EVENTS_RESOURCE)
+                .bufferedReader()
+                .use { it.readLines() }
+        return lines.filter { it.isNotBlank() && !it.startsWith("#") }.associate { line ->
+            val columns = line.split("\t")
+            val properties = columns.getOrNull(2)?.split(",")?.associate { property ->
+                val (key, value) = property.split("=")
+                key to (if (value == "true") true else value)
+            }
+            columns[0] to (columns[1] to properties)
+        }
+    }
+
+    companion object {
+        private const val TRACKED_EVENTS_RESOURCE = "analytics/tracks_events.tsv"
+    }
+}
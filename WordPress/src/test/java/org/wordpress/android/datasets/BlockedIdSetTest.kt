@@ -0,0 +1,54 @@
+package org.wordpress.android.datasets
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.datasets.ReaderBlocklistCache.BlockedIdSet
+
+class BlockedIdSetTest {
+    private var loadCount = 0
+    private val idSet = BlockedIdSet {
+        loadCount++
+        longArrayOf(30L, 10L, 20L)
+    }
+
+    @Test
+    fun `given ids in the table, when checking an id, then the set is loaded lazily once`() {
+        assertThat(loadCount).isEqualTo(0)
+
+        assertThat(idSet.contains(10L)).isTrue
+        assertThat(idSet.contains(30L)).isTrue
+        assertThat(idSet.contains(40L)).isFalse
+        assertThat(loadCount).isEqualTo(1)
+    }
+
+    @Test
+    fun `when an id is added, then it is found without reloading`() {
+        idSet.add(25L)
+        idSet.add(5L)
+        idSet.add(25L)
+
+        assertThat(idSet.contains(25L)).isTrue
+        assertThat(idSet.contains(5L)).isTrue
+        assertThat(idSet.contains(20L)).isTrue
+        assertThat(loadCount).isEqualTo(1)
+    }
+
+    @Test
+    fun `when an id is removed, then it is no longer found`() {
+        idSet.remove(20L)
+        idSet.remove(99L)
+
+        assertThat(idSet.contains(20L)).isFalse
+        assertThat(idSet.contains(10L)).isTrue
+        assertThat(idSet.contains(30L)).isTrue
+    }
+
+    @Test
+    fun `when the set is invalidated, then it is reloaded on next access`() {
+        idSet.add(50L)
+        idSet.invalidate()
+
+        assertThat(idSet.contains(50L)).isFalse
+        assertThat(loadCount).isEqualTo(2)
+    }
+}
@@ -0,0 +1,185 @@
+package org.wordpress.android.datasets
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.datasets.ReaderDatabasePurger.BATCH_SIZE
+import org.wordpress.android.datasets.ReaderDatabasePurger.Batch
+import org.wordpress.android.datasets.ReaderDatabasePurger.MIN_VACUUM_BYTES
+import org.wordpress.android.datasets.ReaderDatabasePurger.PURGE_LEAST_RECENTLY_ACCESSED_POSTS
+import org.wordpress.android.datasets.ReaderDatabasePurger.PURGE_ORPHANED_POSTS
+import org.wordpress.android.datasets.ReaderDatabasePurger.TARGET_DB_SIZE_BYTES
+import org.wordpress.android.datasets.ReaderDatabasePurger.VACUUM_PAGES_PER_BATCH
+import org.wordpress.android.models.ReaderTagList
+import java.util.function.LongSupplier
+
+class ReaderDatabasePurgerTest {
+    private val database = FakeDatabase()
+
+    @Test
+    fun `runs a batch a batch size at a time until it deletes nothing`() {
+        database.rows[PURGE_ORPHANED_POSTS] = 2 * BATCH_SIZE + 100
+
+        val result = purge()
+
+        assertThat(database.limits(PURGE_ORPHANED_POSTS)).hasSize(4).containsOnly(BATCH_SIZE)
+        assertThat(database.rows[PURGE_ORPHANED_POSTS]).isEqualTo(0)
+        assertThat(result.numRowsDeleted).isEqualTo(2 * BATCH_SIZE + 100)
+        assertThat(result.isComplete).isTrue
+    }
+
+    @Test
+    fun `stops once out of time, leaving the rest for the next purge`() {
+        database.rows[PURGE_ORPHANED_POSTS] = 100 * BATCH_SIZE
+
+        val first = purge(budgetMillis = 10 * MILLIS_PER_BATCH)
+        val remaining = database.rows.getValue(PURGE_ORPHANED_POSTS)
+
+        assertThat(first.isComplete).isFalse
+        assertThat(first.numRowsDeleted).isEqualTo(100 * BATCH_SIZE - remaining)
+        assertThat(remaining).isGreaterThan(0)
+
+        val second = purge(budgetMillis = 10 * MILLIS_PER_BATCH)
+
+        assertThat(second.isComplete).isFalse
+        assertThat(database.rows.getValue(PURGE_ORPHANED_POSTS)).isLessThan(remaining)
+    }
+
+    @Test
+    fun `evicts the least recently viewed posts only until the database is under the target size`() {
+        database.pageCount = TARGET_PAGES + 2 * BATCH_SIZE + 100
+        database.rows[PURGE_LEAST_RECENTLY_ACCESSED_POSTS] = 10 * BATCH_SIZE
+
+        val result = purge()
+
+        assertThat(database.limits(PURGE_LEAST_RECENTLY_ACCESSED_POSTS)).hasSize(3)
+        assertThat(database.usedBytes).isLessThanOrEqualTo(TARGET_DB_SIZE_BYTES)
+        assertThat(database.rows[PURGE_LEAST_RECENTLY_ACCESSED_POSTS]).isEqualTo(7 * BATCH_SIZE)
+        assertThat(result.bytesReclaimed).isEqualTo(3L * BATCH_SIZE * PAGE_SIZE)
+        assertThat(result.isComplete).isTrue
+    }
+
+    @Test
+    fun `stops evicting when there are no more posts to evict`() {
+        database.pageCount = TARGET_PAGES + 2 * BATCH_SIZE
+        database.rows[PURGE_LEAST_RECENTLY_ACCESSED_POSTS] = 100
+
+        val result = purge()
+
+        assertThat(database.limits(PURGE_LEAST_RECENTLY_ACCESSED_POSTS)).hasSize(2)
+        assertThat(database.usedBytes).isGreaterThan(TARGET_DB_SIZE_BYTES)
+        assertThat(result.isComplete).isTrue
+    }
+
+    @Test
+    fun `does not evict posts while the database is under the target size`() {
+        database.pageCount = TARGET_PAGES
+        database.rows[PURGE_LEAST_RECENTLY_ACCESSED_POSTS] = 10 * BATCH_SIZE
+
+        purge()
+
+        assertThat(database.limits(PURGE_LEAST_RECENTLY_ACCESSED_POSTS)).isEmpty()
+    }
+
+    @Test
+    fun `runs a full vacuum only when it's allowed`() {
+        database.freePages = MIN_VACUUM_PAGES * 2
+
+        val notAllowed = purge(allowFullVacuum = false)
+
+        assertThat(database.fullVacuums).isEqualTo(0)
+        assertThat(notAllowed.bytesVacuumed).isEqualTo(0L)
+        assertThat(notAllowed.isComplete).isTrue
+
+        val allowed = purge(allowFullVacuum = true)
+
+        assertThat(database.fullVacuums).isEqualTo(1)
+        assertThat(allowed.bytesVacuumed).isEqualTo(MIN_VACUUM_PAGES * 2 * PAGE_SIZE)
+        assertThat(allowed.isComplete).isTrue
+    }
+
+    @Test
+    fun `vacuums incrementally in batches of pages once incremental vacuuming is enabled`() {
+        database.autoVacuumMode = ReaderDatabasePurger.AUTO_VACUUM_INCREMENTAL.toLong()
+        database.freePages = MIN_VACUUM_PAGES + 10
+
+        val result = purge(allowFullVacuum = true)
+
+        assertThat(database.fullVacuums).isEqualTo(0)
+        assertThat(database.vacuumedPages).allMatch { it == VACUUM_PAGES_PER_BATCH }
+        assertThat(database.freePages).isEqualTo(0L)
+        assertThat(result.bytesVacuumed).isEqualTo((MIN_VACUUM_PAGES + 10) * PAGE_SIZE)
+    }
+
+    @Test
+    fun `skips vacuuming when too little space is free`() {
+        database.freePages = MIN_VACUUM_PAGES - 1
+
+        purge(allowFullVacuum = true)
+
+        assertThat(database.fullVacuums).isEqualTo(0)
+        assertThat(database.vacuumedPages).isEmpty()
+    }
+
+    private fun purge(budgetMillis: Long = 1000 * MILLIS_PER_BATCH, allowFullVacuum: Boolean = false) =
+            ReaderDatabasePurger(database, LongSupplier { database.now }, budgetMillis).purge(allowFullVacuum)
+
+    /*
+     * a database where each deleted row frees a page, and each batch or vacuum takes the same amount of time
+     */
+    private class FakeDatabase : ReaderDatabasePurger.Database {
+        val rows = mutableMapOf<Batch, Int>()
+        val batches = mutableListOf<Pair<Batch, Int>>()
+        val vacuumedPages = mutableListOf<Int>()
+        var pageCount = INITIAL_PAGES
+        var freePages = 0L
+        var autoVacuumMode = 0L
+        var fullVacuums = 0
+        var now = 0L
+
+        val usedBytes get() = (pageCount - freePages) * PAGE_SIZE
+
+        fun limits(batch: Batch) = batches.filter { it.first === batch }.map { it.second }
+
+        override fun runBatch(batch: Batch, limit: Int): Int {
+            now += MILLIS_PER_BATCH
+            batches.add(batch to limit)
+            val deleted = minOf(limit, rows[batch] ?: 0)
+            rows[batch]?.let { rows[batch] = it - deleted }
+            freePages += deleted
+            return deleted
+        }
+
+        override fun runIncrementalVacuum(pages: Int) {
+            now += MILLIS_PER_BATCH
+            vacuumedPages.add(pages)
+            val vacuumed = minOf(pages.toLong(), freePages)
+            freePages -= vacuumed
+            pageCount -= vacuumed
+        }
+
+        override fun runFullVacuum() {
+            fullVacuums++
+            autoVacuumMode = ReaderDatabasePurger.AUTO_VACUUM_INCREMENTAL.toLong()
+            pageCount -= freePages
+            freePages = 0
+        }
+
+        override fun pragmaForLong(pragma: String) = when (pragma) {
+            "page_count" -> pageCount
+            "page_size" -> PAGE_SIZE
+            "freelist_count" -> freePages
+            "auto_vacuum" -> autoVacuumMode
+            else -> throw IllegalArgumentException(pragma)
+        }
+
+        override fun getAllTags() = ReaderTagList()
+    }
+
+    companion object {
+        private const val PAGE_SIZE = 4096L
+        private const val MILLIS_PER_BATCH = 10L
+        private const val INITIAL_PAGES = 1000L
+        private val TARGET_PAGES = TARGET_DB_SIZE_BYTES / PAGE_SIZE
+        private val MIN_VACUUM_PAGES = MIN_VACUUM_BYTES / PAGE_SIZE
+    }
+}
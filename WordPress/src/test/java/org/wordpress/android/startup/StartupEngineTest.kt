@@ -0,0 +1,159 @@
+package org.wordpress.android.startup
+
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.After
+import org.junit.Test
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+
+class StartupEngineTest {
+    private val backgroundExecutor = Executors.newFixedThreadPool(2)
+    private val mainQueue = LinkedBlockingQueue<Runnable>()
+    private val mainExecutor = Executor { mainQueue.put(it) }
+    private val ranSteps: MutableList<String> = Collections.synchronizedList(mutableListOf())
+
+    @After
+    fun tearDown() {
+        backgroundExecutor.shutdownNow()
+    }
+
+    @Test
+    fun `runs each step after the steps it depends on`() {
+        val engine = engine(
+            step("theme", dependencies = listOf("db")),
+            step("db", runsOnMainThread = false),
+            step("analytics", dependencies = listOf("db", "eventBus"), runsOnMainThread = false),
+            step("eventBus")
+        )
+
+        engine.run()
+
+        assertThat(ranSteps).containsExactlyInAnyOrder("db", "eventBus", "theme", "analytics")
+        assertThat(ranSteps.indexOf("theme")).isGreaterThan(ranSteps.indexOf("db"))
+        assertThat(ranSteps.indexOf("analytics")).isGreaterThan(ranSteps.indexOf("db"))
+        assertThat(ranSteps.indexOf("analytics")).isGreaterThan(ranSteps.indexOf("eventBus"))
+    }
+
+    @Test
+    fun `runs the steps needing the main thread on the calling thread`() {
+        val engine = engine(step("eventBus"), step("db", runsOnMainThread = false))
+
+        engine.run()
+
+        assertThat(engine.trace.getRecord("eventBus")?.threadName).isEqualTo(Thread.currentThread().name)
+        assertThat(engine.trace.getRecord("db")?.threadName).isNotEqualTo(Thread.currentThread().name)
+    }
+
+    @Test
+    fun `runs independent background steps in parallel`() {
+        // each step waits for the other to start, so they'd time out if run one after the other
+        val started = CountDownLatch(2)
+        val waitForEachOther = {
+            started.countDown()
+            check(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) { "The steps didn't run in parallel" }
+        }
+        val engine = engine(
+            StartupStep("db", runsOnMainThread = false, action = waitForEachOther),
+            StartupStep("zendesk", runsOnMainThread = false, action = waitForEachOther)
+        )
+
+        engine.run()
+
+        assertThat(started.count).isEqualTo(0)
+    }
+
+    @Test
+    fun `rethrows the exception thrown by a background step`() {
+        val engine = engine(
+            StartupStep("db", runsOnMainThread = false) { throw IllegalStateException("Invalid database") },
+            step("theme", dependencies = listOf("db"))
+        )
+
+        assertThatThrownBy { engine.run() }
+            .isInstanceOf(IllegalStateException::class.java)
+            .hasMessage("Invalid database")
+        assertThat(ranSteps).doesNotContain("theme")
+    }
+
+    @Test
+    fun `rejects steps depending on each other in a cycle`() {
+        assertThatThrownBy {
+            engine(
+                step("db", dependencies = listOf("analytics")),
+                step("analytics", dependencies = listOf("theme")),
+                step("theme", dependencies = listOf("db"))
+            )
+        }.isInstanceOf(IllegalArgumentException::class.java)
+    }
+
+    @Test
+    fun `rejects steps depending on unknown steps`() {
+        assertThatThrownBy { engine(step("theme", dependencies = listOf("db"))) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessageContaining("db")
+    }
+
+    @Test
+    fun `rejects steps which aren't deferred depending on deferred steps`() {
+        assertThatThrownBy {
+            engine(step("exPlat", isDeferred = true), step("theme", dependencies = listOf("exPlat")))
+        }.isInstanceOf(IllegalArgumentException::class.java)
+    }
+
+    @Test
+    fun `only runs deferred steps once asked to`() {
+        val engine = engine(
+            step("workManager"),
+            step("uploadWork", dependencies = listOf("workManager"), runsOnMainThread = false, isDeferred = true),
+            step("imageEditor", isDeferred = true)
+        )
+
+        engine.run()
+
+        assertThat(ranSteps).containsExactly("workManager")
+
+        val finished = CountDownLatch(1)
+        engine.runDeferred { finished.countDown() }
+        while (finished.count > 0) {
+            checkNotNull(mainQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)) { "The deferred steps didn't finish" }.run()
+        }
+
+        assertThat(ranSteps).containsExactlyInAnyOrder("workManager", "uploadWork", "imageEditor")
+        assertThat(engine.trace.getRecord("imageEditor")?.threadName).isEqualTo(Thread.currentThread().name)
+    }
+
+    @Test
+    fun `traces the chain of steps which finished last as the critical path`() {
+        var now = 0L
+        val trace = StartupTrace { now }
+        val steps = listOf(
+            StartupStep("db") { now += 30 },
+            StartupStep("eventBus") { now += 10 },
+            StartupStep("analytics", dependencies = listOf("db", "eventBus")) { now += 20 },
+            StartupStep("theme", dependencies = listOf("db")) { now += 5 }
+        )
+
+        StartupEngine(steps, mainExecutor, backgroundExecutor, trace).run()
+
+        assertThat(trace.getCriticalPath(steps).map { it.name }).containsExactly("eventBus", "analytics")
+        assertThat(trace.getRecord("analytics")?.durationNanos).isEqualTo(20)
+    }
+
+    private fun engine(vararg steps: StartupStep) = StartupEngine(steps.toList(), mainExecutor, backgroundExecutor)
+
+    private fun step(
+        name: String,
+        dependencies: List<String> = emptyList(),
+        runsOnMainThread: Boolean = true,
+        isDeferred: Boolean = false
+    ) = StartupStep(name, dependencies, runsOnMainThread, isDeferred) { ranSteps.add(name) }
+
+    companion object {
+        private const val TIMEOUT_SECONDS = 5L
+    }
+}
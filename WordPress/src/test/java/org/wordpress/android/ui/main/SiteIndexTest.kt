@@ -0,0 +1,70 @@
+package org.wordpress.android.ui.main
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.wordpress.android.ui.main.SitePickerAdapter.SiteList
+import org.wordpress.android.ui.main.SitePickerAdapter.SiteRecord
+
+class SiteIndexTest {
+    private val cooking = site(1, 11, "Cooking Notes", "cooking.blog")
+    private val travel = site(2, 12, "Travel Diary", "travel.wordpress.com")
+    private val photos = site(3, 0, "Photos", "example.org/photos")
+    private val cookbook = site(4, 14, "Old Cookbook", "recipes.example.org")
+    private val index = SiteIndex(SiteList().apply { addAll(listOf(cooking, travel, photos, cookbook)) })
+
+    @Test
+    fun `finds every site in order for an empty search`() {
+        assertThat(index.search("").allMatches).containsExactly(cooking, travel, photos, cookbook)
+    }
+
+    @Test
+    fun `finds sites by name or URL, ignoring case`() {
+        assertThat(index.search("COOK").allMatches).containsExactly(cooking, cookbook)
+        assertThat(index.search("example.ORG").allMatches).containsExactly(photos, cookbook)
+        assertThat(index.search("nowhere").allMatches).isEmpty()
+    }
+
+    @Test
+    fun `only looks for the matches asked for`() {
+        val search = index.search("o")
+
+        assertThat(search.getMatches(2)).containsExactly(cooking, travel)
+        assertThat(search.isComplete(2)).isFalse
+        assertThat(search.allMatches).containsExactly(cooking, travel, photos, cookbook)
+        assertThat(search.isComplete(4)).isTrue
+    }
+
+    @Test
+    fun `narrows a search down to the sites it matched`() {
+        index.search("co").getMatches(1)
+
+        assertThat(index.search("coo").allMatches).containsExactly(cooking, cookbook)
+        assertThat(index.search("cookb").allMatches).containsExactly(cookbook)
+    }
+
+    @Test
+    fun `goes back to the searches made before when the text is shortened`() {
+        val search = index.search("tra")
+        index.search("trav")
+
+        assertThat(index.search("tra")).isSameAs(search)
+        assertThat(index.search("t").allMatches).containsExactly(cooking, travel, photos)
+    }
+
+    @Test
+    fun `finds sites by local and remote id`() {
+        assertThat(index.indexOfLocalId(3)).isEqualTo(2)
+        assertThat(index.indexOfLocalId(99)).isEqualTo(-1)
+        assertThat(index.getBySiteId(14)).isSameAs(cookbook)
+        assertThat(index.getBySiteId(0)).isNull()
+    }
+
+    private fun site(localId: Int, siteId: Long, name: String, url: String): SiteRecord = mock {
+        on { this.localId } doReturn localId
+        on { this.siteId } doReturn siteId
+        on { blogNameOrHomeURL } doReturn name
+        on { homeURL } doReturn url
+    }
+}
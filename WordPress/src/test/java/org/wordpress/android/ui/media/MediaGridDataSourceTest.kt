@@ -0,0 +1,63 @@
+package org.wordpress.android.ui.media
+
+import com.wellsql.generated.MediaModelTable
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+
+class MediaGridDataSourceTest {
+    @Test
+    fun `selects only the site's media when there's no filter or search term`() {
+        val args = mutableListOf<String>()
+
+        val selection = MediaGridDataSource.buildSelection(SITE_ID, emptyList(), null, args)
+
+        assertThat(selection).isEqualTo("${MediaModelTable.LOCAL_SITE_ID}=?")
+        assertThat(args).containsExactly(SITE_ID.toString())
+    }
+
+    @Test
+    fun `selects media matching any of the mime type prefixes`() {
+        val args = mutableListOf<String>()
+
+        val selection = MediaGridDataSource.buildSelection(
+            SITE_ID,
+            listOf(MediaGridDataSource.MIME_TYPE_PREFIX_IMAGE, MediaGridDataSource.MIME_TYPE_PREFIX_VIDEO),
+            "",
+            args
+        )
+
+        assertThat(selection).isEqualTo(
+            "${MediaModelTable.LOCAL_SITE_ID}=? AND (${MediaModelTable.MIME_TYPE} LIKE ? ESCAPE '\\'" +
+                    " OR ${MediaModelTable.MIME_TYPE} LIKE ? ESCAPE '\\')"
+        )
+        assertThat(args).containsExactly(SITE_ID.toString(), "image/%", "video/%")
+    }
+
+    @Test
+    fun `searches every text column for the term`() {
+        val args = mutableListOf<String>()
+
+        val selection = MediaGridDataSource.buildSelection(SITE_ID, emptyList(), "beach", args)
+
+        listOf(
+            MediaModelTable.TITLE,
+            MediaModelTable.CAPTION,
+            MediaModelTable.DESCRIPTION,
+            MediaModelTable.FILE_NAME
+        ).forEach { assertThat(selection).contains("$it LIKE ? ESCAPE '\\'") }
+        assertThat(args.drop(1)).hasSize(4).allMatch { it == "%beach%" }
+    }
+
+    @Test
+    fun `escapes wildcards in the search term so they only match themselves`() {
+        val args = mutableListOf<String>()
+
+        MediaGridDataSource.buildSelection(SITE_ID, emptyList(), "100%_off\\", args)
+
+        assertThat(args[1]).isEqualTo("%100\\%\\_off\\\\%")
+    }
+
+    companion object {
+        private const val SITE_ID = 7
+    }
+}
@@ -0,0 +1,90 @@
+package org.wordpress.android.ui.notifications.adapters
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.fluxc.model.CommentStatus
+import org.wordpress.android.models.Note
+
+class NotesDiffCallbackTest {
+    private val now = System.currentTimeMillis() / 1000
+
+    @Test
+    fun `matches notes by id`() {
+        val callback = NotesDiffCallback(listOf(note("1"), note("2")), listOf(note("2"), note("3")))
+
+        assertThat(callback.areItemsTheSame(1, 0)).isTrue
+        assertThat(callback.areItemsTheSame(0, 1)).isFalse
+    }
+
+    @Test
+    fun `treats notes with the same hash and read state as unchanged`() {
+        val callback = NotesDiffCallback(listOf(note("1")), listOf(note("1")))
+
+        assertThat(callback.areContentsTheSame(0, 0)).isTrue
+    }
+
+    @Test
+    fun `detects notes changed on the server`() {
+        val callback = NotesDiffCallback(listOf(note("1")), listOf(note("1", hash = "changed")))
+
+        assertThat(callback.areContentsTheSame(0, 0)).isFalse
+    }
+
+    @Test
+    fun `detects notes which have been read`() {
+        val callback = NotesDiffCallback(listOf(note("1")), listOf(note("1", isUnread = false)))
+
+        assertThat(callback.areContentsTheSame(0, 0)).isFalse
+    }
+
+    @Test
+    fun `detects notes whose time group header appears or disappears`() {
+        val oldNotes = listOf(note("1"), note("2"))
+        val newNotes = listOf(note("2"))
+
+        val callback = NotesDiffCallback(oldNotes, newNotes)
+
+        // note 2 didn't show a header below note 1 from the same day, but shows one now it's first
+        assertThat(callback.areItemsTheSame(1, 0)).isTrue
+        assertThat(callback.areContentsTheSame(1, 0)).isFalse
+    }
+
+    @Test
+    fun `keeps notes after a note in another time group unchanged`() {
+        val oldNotes = listOf(note("1"), note("2", timestamp = now - MONTH_SECONDS))
+        val newNotes = listOf(note("3"), note("1"), note("2", timestamp = now - MONTH_SECONDS))
+
+        val callback = NotesDiffCallback(oldNotes, newNotes)
+
+        assertThat(callback.areContentsTheSame(1, 2)).isTrue
+    }
+
+    private fun note(
+        id: String,
+        hash: String = "hash$id",
+        isUnread: Boolean = true,
+        timestamp: Long = now
+    ) = Note(
+        id,
+        "{}",
+        Note.ListProjection(
+            Note.NOTE_COMMENT_TYPE,
+            timestamp,
+            timestamp.toString(),
+            isUnread,
+            null,
+            "",
+            "",
+            "",
+            "",
+            0,
+            0,
+            CommentStatus.ALL,
+            hash
+        )
+    )
+
+    companion object {
+        private const val MONTH_SECONDS = 40L * 24 * 60 * 60
+    }
+}
@@ -13,6 +13,7 @@ import org.wordpress.android.util.helpers.MediaFile
 @RunWith(MockitoJUnitRunner::class)
 class MediaUploadCompletionProcessorTest {
     private val mediaFile: MediaFile = mock()
+    private val mediaFile2: MediaFile = mock()
     private lateinit var processor: MediaUploadCompletionProcessor
 
     @Before
@@ -23,6 +24,11 @@ class MediaUploadCompletionProcessorTest {
         processor = MediaUploadCompletionProcessor(TestContent.localMediaId, mediaFile, TestContent.siteUrl)
     }
 
+    private fun stubSecondMediaFile() {
+        whenever(mediaFile2.mediaId).thenReturn(TestContent.remoteMediaId2)
+        whenever(mediaFile2.optimalFileURL).thenReturn(TestContent.remoteImageUrl2)
+    }
+
     @Test
     fun `processPost splices id and url for an image block`() {
         val blocks = processor.processContent(TestContent.oldPostImage)
@@ -113,4 +119,55 @@ class MediaUploadCompletionProcessorTest {
         val processedContent = processor.processContent(TestContent.oldPostWithMixedGalleriesRefactored)
         Assertions.assertThat(processedContent).isEqualTo(TestContent.newPostWithMixedGalleriesRefactored)
     }
+
+    @Test
+    fun `processPost replaces several media in one pass like processing each media in turn`() {
+        stubSecondMediaFile()
+        val content = TestContent.oldPostImage + TestContent.oldCoverBlockWithNestedCoverBlockOuter
+
+        val processedContent = MediaUploadCompletionProcessor(
+                linkedMapOf(TestContent.localMediaId to mediaFile, TestContent.localMediaId2 to mediaFile2),
+                TestContent.siteUrl
+        ).processContent(content)
+
+        Assertions.assertThat(processedContent).isEqualTo(processEachMediaInTurn(content))
+        Assertions.assertThat(processedContent).doesNotContain(TestContent.localImageUrl, TestContent.localImageUrl2)
+    }
+
+    @Test
+    fun `processPost replaces media in a post with hundreds of media blocks`() {
+        stubSecondMediaFile()
+        val content = (0 until SYNTHETIC_BLOCK_COUNT).joinToString(separator = TestContent.paragraphBlock) {
+            when (it % 4) {
+                0 -> TestContent.oldImageBlock
+                1 -> TestContent.imageBlockWithPrefixCollision
+                2 -> TestContent.oldCoverBlockWithNestedCoverBlockOuter
+                else -> TestContent.oldGalleryBlock
+            }
+        }
+
+        val processedContent = MediaUploadCompletionProcessor(
+                linkedMapOf(TestContent.localMediaId to mediaFile, TestContent.localMediaId2 to mediaFile2),
+                TestContent.siteUrl
+        ).processContent(content)
+
+        Assertions.assertThat(processedContent).isEqualTo(processEachMediaInTurn(content))
+    }
+
+    @Test
+    fun `processPost leaves content without media blocks unchanged`() {
+        val content = TestContent.paragraphBlock + TestContent.paragraphBlock
+
+        Assertions.assertThat(processor.processContent(content)).isSameAs(content)
+    }
+
+    private fun processEachMediaInTurn(content: String): String {
+        val first = MediaUploadCompletionProcessor(TestContent.localMediaId, mediaFile, TestContent.siteUrl)
+        val second = MediaUploadCompletionProcessor(TestContent.localMediaId2, mediaFile2, TestContent.siteUrl)
+        return second.processContent(first.processContent(content))
+    }
+
+    companion object {
+        private const val SYNTHETIC_BLOCK_COUNT = 400
+    }
 }
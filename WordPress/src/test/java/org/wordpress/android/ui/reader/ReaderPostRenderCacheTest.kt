@@ -0,0 +1,142 @@
+package org.wordpress.android.ui.reader
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.After
+import org.junit.Test
+import org.wordpress.android.models.ReaderPost
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class ReaderPostRenderCacheTest {
+    private val renders = AtomicInteger()
+
+    @After
+    fun tearDown() {
+        ReaderPostRenderCache.clear()
+    }
+
+    @Test
+    fun `returns a finished render without rendering again`() {
+        assertThat(render(KEY, HTML)).isEqualTo(HTML)
+
+        val cached = ReaderPostRenderCache.getOrRender(KEY) { countRender("other") }
+
+        assertThat(cached.isDone).isTrue
+        assertThat(cached.get()).isEqualTo(HTML)
+        assertThat(renders.get()).isEqualTo(1)
+    }
+
+    @Test
+    fun `shares a render which is already underway`() {
+        val release = CountDownLatch(1)
+        val first = ReaderPostRenderCache.getOrRender(KEY) {
+            release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            countRender(HTML)
+        }
+        val second = ReaderPostRenderCache.getOrRender(KEY) { countRender("other") }
+        release.countDown()
+
+        assertThat(second).isSameAs(first)
+        assertThat(second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(HTML)
+        assertThat(renders.get()).isEqualTo(1)
+    }
+
+    @Test
+    fun `renders again when the post content changes`() {
+        val post = post()
+        val key = cacheKey(post)
+
+        post.text = "<p>Edited content</p>"
+
+        assertThat(cacheKey(post)).isNotEqualTo(key)
+    }
+
+    @Test
+    fun `renders again when the excerpt is shown instead of the content`() {
+        val post = post()
+        val key = cacheKey(post)
+
+        post.isJetpack = true
+        post.useExcerpt = true
+
+        assertThat(cacheKey(post)).isNotEqualTo(key)
+    }
+
+    @Test
+    fun `renders again when the attachments or discover data change`() {
+        val post = post()
+        val key = cacheKey(post)
+
+        post.attachmentsJson = "{\"1\":{}}"
+        val attachmentsKey = cacheKey(post)
+        post.discoverJson = "{\"attribution\":{}}"
+
+        assertThat(attachmentsKey).isNotEqualTo(key)
+        assertThat(cacheKey(post)).isNotEqualTo(attachmentsKey)
+    }
+
+    @Test
+    fun `renders again when the display settings change`() {
+        val post = post()
+        val key = cacheKey(post)
+
+        assertThat(cacheKey(post, resourceVarsKey = "true,1080")).isNotEqualTo(key)
+        assertThat(cacheKey(post, useSansSerif = true)).isNotEqualTo(key)
+        assertThat(cacheKey(post, cssUrl = "$CSS_URL?1")).isNotEqualTo(key)
+        assertThat(cacheKey(post())).isEqualTo(key)
+    }
+
+    @Test
+    fun `renders a changed post rather than returning its old HTML`() {
+        val post = post()
+        render(cacheKey(post), HTML)
+
+        post.text = "<p>Edited content</p>"
+
+        assertThat(render(cacheKey(post), "edited")).isEqualTo("edited")
+        assertThat(renders.get()).isEqualTo(2)
+    }
+
+    @Test
+    fun `evicts the least recently used posts once the cached HTML exceeds the limit`() {
+        val largeHtml = "a".repeat(ReaderPostRenderCache.MAX_CACHED_CHARS / 2)
+        render("first", largeHtml)
+        render("second", largeHtml)
+        render("third", largeHtml)
+
+        render("second", "not rendered")
+        render("first", "rendered again")
+
+        assertThat(renders.get()).isEqualTo(4)
+    }
+
+    private fun render(key: String, html: String) =
+            ReaderPostRenderCache.getOrRender(key) { countRender(html) }.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+
+    private fun countRender(html: String): String {
+        renders.incrementAndGet()
+        return html
+    }
+
+    private fun cacheKey(
+        post: ReaderPost,
+        resourceVarsKey: String = RESOURCE_VARS_KEY,
+        useSansSerif: Boolean = false,
+        cssUrl: String = CSS_URL
+    ) = ReaderPostRenderCache.getCacheKey(post, resourceVarsKey, useSansSerif, cssUrl)
+
+    private fun post() = ReaderPost().apply {
+        pseudoId = "pseudo-id"
+        text = "<p>Content</p>"
+        excerpt = "Excerpt"
+    }
+
+    companion object {
+        private const val KEY = "key"
+        private const val HTML = "<html>post</html>"
+        private const val RESOURCE_VARS_KEY = "false,720"
+        private const val CSS_URL = "https://wordpress.com/calypso/reader-mobile.css"
+        private const val TIMEOUT_SECONDS = 5L
+    }
+}
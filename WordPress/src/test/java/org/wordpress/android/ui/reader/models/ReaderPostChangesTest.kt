@@ -0,0 +1,72 @@
+package org.wordpress.android.ui.reader.models
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.models.ReaderPost
+import org.wordpress.android.ui.reader.actions.ReaderActions.UpdateResult
+import org.wordpress.android.ui.reader.models.ReaderPostChanges.Status
+
+class ReaderPostChangesTest {
+    private val changes = ReaderPostChanges()
+
+    @Test
+    fun `given only unchanged posts in the stream, then the result is unchanged with overlap`() {
+        changes.setStatus(createPost(1), Status.UNCHANGED, true)
+        changes.setStatus(createPost(2), Status.UNCHANGED, true)
+
+        assertThat(changes.updateResult).isEqualTo(UpdateResult.UNCHANGED)
+        assertThat(changes.hasOverlap()).isTrue
+        assertThat(changes.isUnchanged(createPost(1))).isTrue
+    }
+
+    @Test
+    fun `given a changed post, then the result is changed`() {
+        changes.setStatus(createPost(1), Status.UNCHANGED, true)
+        changes.setStatus(createPost(2), Status.CHANGED, true)
+
+        assertThat(changes.updateResult).isEqualTo(UpdateResult.CHANGED)
+        assertThat(changes.getStatus(createPost(2))).isEqualTo(Status.CHANGED)
+    }
+
+    @Test
+    fun `given a stored post which isn't in the stream, then the result is new`() {
+        changes.setStatus(createPost(1), Status.UNCHANGED, false)
+
+        assertThat(changes.updateResult).isEqualTo(UpdateResult.HAS_NEW)
+        assertThat(changes.hasOverlap()).isFalse
+        assertThat(changes.isUnchanged(createPost(1))).isTrue
+    }
+
+    @Test
+    fun `given a post which wasn't compared, then its status is new`() {
+        assertThat(changes.getStatus(createPost(3))).isEqualTo(Status.NEW)
+    }
+
+    @Test
+    fun `when the like count changes, then the fingerprint changes`() {
+        val post = createPost(1)
+        val fingerprint = post.fingerprint
+
+        post.numLikes++
+
+        assertThat(post.fingerprint).isNotEqualTo(fingerprint)
+    }
+
+    @Test
+    fun `when the modified date changes, then the fingerprint changes`() {
+        val post = createPost(1)
+        val fingerprint = post.fingerprint
+
+        post.dateModified = "2023-01-02T00:00:00+00:00"
+
+        assertThat(post.fingerprint).isNotEqualTo(fingerprint)
+    }
+
+    private fun createPost(postId: Long) = ReaderPost().apply {
+        blogId = 100L
+        this.postId = postId
+        numLikes = 3
+        numReplies = 5
+        dateModified = "2023-01-01T00:00:00+00:00"
+    }
+}
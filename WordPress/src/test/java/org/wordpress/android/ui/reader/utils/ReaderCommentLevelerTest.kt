@@ -0,0 +1,143 @@
+package org.wordpress.android.ui.reader.utils
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.models.ReaderComment
+import org.wordpress.android.models.ReaderCommentList
+import kotlin.random.Random
+
+class ReaderCommentLevelerTest {
+    @Test
+    fun `places replies below their parents with levels applied`() {
+        val comments = commentList(
+                comment(id = 1, parentId = 0),
+                comment(id = 2, parentId = 0),
+                comment(id = 3, parentId = 1),
+                comment(id = 4, parentId = 3),
+                comment(id = 5, parentId = 1),
+                comment(id = 6, parentId = 2)
+        )
+
+        val levelList = ReaderCommentLeveler(comments).createLevelList()
+
+        assertThat(levelList.map { it.commentId }).containsExactly(1, 3, 4, 5, 2, 6)
+        assertThat(levelList.map { it.level }).containsExactly(0, 1, 2, 1, 0, 1)
+    }
+
+    @Test
+    fun `leaves out comments whose parent isn't in the list`() {
+        val comments = commentList(comment(id = 1, parentId = 0), comment(id = 2, parentId = 99))
+
+        val levelList = ReaderCommentLeveler(comments).createLevelList()
+
+        assertThat(levelList.map { it.commentId }).containsExactly(1)
+    }
+
+    @Test
+    fun `levels very deep threads`() {
+        val comments = commentList(*(1..DEEP_THREAD_DEPTH).map { comment(id = it.toLong(), parentId = it - 1L) }
+                .toTypedArray())
+
+        val levelList = ReaderCommentLeveler(comments).createLevelList()
+
+        assertThat(levelList).hasSize(DEEP_THREAD_DEPTH)
+        assertThat(levelList.last().level).isEqualTo(DEEP_THREAD_DEPTH - 1)
+    }
+
+    @Test
+    fun `matches leveling by repeated passes for random threads`() {
+        val random = Random(1)
+        repeat(RANDOM_THREADS) {
+            val comments = randomThread(random, size = random.nextInt(1, 200))
+
+            val expected = levelWithRepeatedPasses(comments).map { it.commentId to it.level }
+            val actual = ReaderCommentLeveler(comments).createLevelList().map { it.commentId to it.level }
+
+            assertThat(actual).isEqualTo(expected)
+        }
+    }
+
+    @Test
+    fun `adding a page matches leveling the whole thread`() {
+        val random = Random(2)
+        repeat(RANDOM_THREADS) {
+            val comments = randomThread(random, size = random.nextInt(2, 200))
+            val firstPage = commentList(*comments.take(comments.size / 2).toTypedArray())
+
+            val leveler = ReaderCommentLeveler(firstPage)
+            leveler.createLevelList()
+            assertThat(leveler.isExtendedBy(comments)).isTrue
+            val actual = leveler.addComments(comments).map { it.commentId to it.level }
+
+            val expected = ReaderCommentLeveler(comments).createLevelList().map { it.commentId to it.level }
+            assertThat(actual).isEqualTo(expected)
+        }
+    }
+
+    @Test
+    fun `adds replies which arrive before their parent`() {
+        val leveler = ReaderCommentLeveler(commentList(comment(id = 1, parentId = 0)))
+        leveler.createLevelList()
+
+        val levelList = leveler.addComments(commentList(comment(id = 3, parentId = 2), comment(id = 2, parentId = 1)))
+
+        assertThat(levelList.map { it.commentId }).containsExactly(1, 2, 3)
+        assertThat(levelList.map { it.level }).containsExactly(0, 1, 2)
+    }
+
+    @Test
+    fun `isn't extended by a list whose existing comments have changed`() {
+        val leveler = ReaderCommentLeveler(commentList(comment(id = 1, parentId = 0)))
+        val changed = comment(id = 1, parentId = 0).apply { numLikes = 1 }
+
+        assertThat(leveler.isExtendedBy(commentList(changed, comment(id = 2, parentId = 1)))).isFalse
+    }
+
+    private fun randomThread(random: Random, size: Int) = commentList(*(1..size).map { id ->
+        // mostly replies to earlier comments, with the odd reply to a comment which was never loaded
+        val parentId = when {
+            id == 1 || random.nextInt(4) == 0 -> 0L
+            random.nextInt(20) == 0 -> id + 1000L
+            else -> random.nextLong(1, id.toLong())
+        }
+        comment(id = id.toLong(), parentId = parentId)
+    }.toTypedArray())
+
+    /*
+     * the leveling previously done by ReaderCommentLeveler, which adds the replies for one level at a time
+     */
+    private fun levelWithRepeatedPasses(comments: ReaderCommentList): List<ReaderComment> {
+        comments.forEach { it.level = 0 }
+        val result = comments.filter { it.parentId == 0L }.toMutableList()
+        var level = 0
+        do {
+            var hasChanges = false
+            var index = 0
+            while (index < result.size) {
+                val parent = result[index]
+                val children = comments.filter { it.parentId == parent.commentId }
+                if (parent.level == level && children.isNotEmpty()) {
+                    children.forEach { it.level = level + 1 }
+                    result.addAll(index + 1, children)
+                    hasChanges = true
+                    index += children.size
+                }
+                index++
+            }
+            level++
+        } while (hasChanges)
+        return result
+    }
+
+    private fun commentList(vararg comments: ReaderComment) = ReaderCommentList().apply { addAll(comments) }
+
+    private fun comment(id: Long, parentId: Long) = ReaderComment().apply {
+        commentId = id
+        this.parentId = parentId
+    }
+
+    companion object {
+        private const val DEEP_THREAD_DEPTH = 10_000
+        private const val RANDOM_THREADS = 200
+    }
+}
@@ -0,0 +1,92 @@
+package org.wordpress.android.ui.reader.utils
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import java.util.regex.Pattern
+
+class ReaderHtmlTagsTest {
+    @Test
+    fun `finds images with the same tag and src as the image regex`() {
+        val content = "<p>intro</p><img class=\"size-full\" src=\"https://a.com/1.jpg\" width=\"600\">" +
+                "<IMG SRC=\"https://a.com/2.jpg\"/><img data-src=\"https://a.com/lazy.jpg\">" +
+                "<img alt=\"x\" src=\"https://a.com/3.jpg?w=300&h=200\" srcset=\"https://a.com/3.jpg 2x\">"
+
+        assertMatchesPattern(content, IMG_TAG_PATTERN, ReaderHtmlTags.scan(content).images)
+    }
+
+    @Test
+    fun `last src attribute wins like the greedy regex`() {
+        val content = "<img src=\"https://a.com/first.jpg\" src=\"https://a.com/second.jpg\">"
+
+        val images = ReaderHtmlTags.scan(content).images
+
+        assertThat(images).hasSize(1)
+        assertThat(images[0].src).isEqualTo("https://a.com/second.jpg")
+        assertMatchesPattern(content, IMG_TAG_PATTERN, images)
+    }
+
+    @Test
+    fun `finds single quoted iframes like the iframe regex`() {
+        val content = "<iframe width='640' height='360' src='https://www.youtube.com/embed/abc'></iframe>" +
+                "<iframe src=\"https://double.quoted\"></iframe><IFRAME src='https://b.com/v'>"
+
+        assertMatchesPattern(content, IFRAME_TAG_PATTERN, ReaderHtmlTags.scan(content).iframes)
+    }
+
+    @Test
+    fun `offsets point at the tags in the content`() {
+        val content = "<p>a</p><img src=\"https://a.com/1.jpg\"><p>b</p><iframe src='https://b.com'></iframe>"
+
+        val tags = ReaderHtmlTags.scan(content)
+
+        (tags.images + tags.iframes).forEach {
+            assertThat(content.substring(it.start, it.end)).isEqualTo(it.tag)
+        }
+    }
+
+    @Test
+    fun `detects embeds which need scripts`() {
+        val content = "<blockquote class=\"instagram-media\"></blockquote><fb:post href=\"x\"></fb:post>"
+
+        assertThat(ReaderHtmlTags.scan(content).embedScripts).containsExactly(
+                ReaderHtmlTags.INSTAGRAM_EMBED_SCRIPT,
+                ReaderHtmlTags.FACEBOOK_EMBED_SCRIPT
+        )
+    }
+
+    @Test
+    fun `ignores blockquotes which aren't instagram embeds`() {
+        val content = "<blockquote><p>class=\"instagram-media\"</p></blockquote>"
+
+        assertThat(ReaderHtmlTags.scan(content).embedScripts).isEmpty()
+    }
+
+    @Test
+    fun `detects tiled galleries`() {
+        assertThat(ReaderHtmlTags.scan("<div class=\"tiled-gallery type-rectangular\">").hasTiledGallery()).isTrue
+        assertThat(ReaderHtmlTags.scan("<div class=\"tiled-gallery\">").hasTiledGallery()).isTrue
+        assertThat(ReaderHtmlTags.scan("<div class=\"tiled-gallery-item\">").hasTiledGallery()).isFalse
+    }
+
+    @Test
+    fun `handles empty and unterminated content`() {
+        assertThat(ReaderHtmlTags.scan(null).hasImages()).isFalse
+        assertThat(ReaderHtmlTags.scan("").hasImages()).isFalse
+        assertThat(ReaderHtmlTags.scan("<img src=\"https://a.com/1.jpg\"").hasImages()).isFalse
+    }
+
+    private fun assertMatchesPattern(content: String, pattern: Pattern, tags: List<ReaderHtmlTags.Tag>) {
+        val matcher = pattern.matcher(content)
+        val expected = mutableListOf<Pair<String, String>>()
+        while (matcher.find()) {
+            expected.add(matcher.group(0) to matcher.group(1))
+        }
+        assertThat(tags.map { it.tag to it.src }).isEqualTo(expected)
+    }
+
+    companion object {
+        // the patterns the scanners used before ReaderHtmlTags
+        private val IMG_TAG_PATTERN = Pattern.compile("<img[^>]* src=\\\"([^\\\"]*)\\\"[^>]*>", Pattern.CASE_INSENSITIVE)
+        private val IFRAME_TAG_PATTERN = Pattern.compile("<iframe[^>]* src=\\'([^\\']*)\\'[^>]*>", Pattern.CASE_INSENSITIVE)
+    }
+}
@@ -0,0 +1,42 @@
+package org.wordpress.android.ui.reader.utils
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+
+class ReaderSearchUtilsTest {
+    @Test
+    fun `splits queries into distinct lowercase terms`() {
+        val terms = ReaderSearchUtils.getSearchTerms("  Kotlin, \"coroutines\" -kotlin flow*2 ")
+
+        assertThat(terms).containsExactly("kotlin", "coroutines", "flow", "2")
+    }
+
+    @Test
+    fun `returns no terms for queries without words`() {
+        assertThat(ReaderSearchUtils.getSearchTerms(null)).isEmpty()
+        assertThat(ReaderSearchUtils.getSearchTerms(" \"*\" - ")).isEmpty()
+    }
+
+    @Test
+    fun `matches whole words which start with a term`() {
+        val text = "Kotlin coroutines on Android, unlike Kotlinx"
+
+        val matches = ReaderSearchUtils.findMatches(text, listOf("kotlin", "and"))
+
+        assertThat(matches.map { text.substring(it.start, it.end) }).containsExactly("Kotlin", "Android", "Kotlinx")
+    }
+
+    @Test
+    fun `doesn't match terms in the middle of words`() {
+        val matches = ReaderSearchUtils.findMatches("Multiplatform", listOf("platform"))
+
+        assertThat(matches).isEmpty()
+    }
+
+    @Test
+    fun `doesn't match words shorter than a term`() {
+        val matches = ReaderSearchUtils.findMatches("an android", listOf("android"))
+
+        assertThat(matches.map { it.start }).containsExactly(3)
+    }
+}
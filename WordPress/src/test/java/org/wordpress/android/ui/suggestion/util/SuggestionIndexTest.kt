@@ -0,0 +1,83 @@
+package org.wordpress.android.ui.suggestion.util
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.ui.suggestion.Suggestion
+
+class SuggestionIndexTest {
+    private val suggestions = listOf(
+        suggestion("annie", "Annie Smith"),
+        suggestion("bob", "Robert Annan"),
+        suggestion("ann", "Ann Jones"),
+        suggestion("carol", "Carol Annabelle Lee"),
+        suggestion("dave", "Dave")
+    )
+
+    @Test
+    fun `returns all suggestions for an empty constraint`() {
+        val index = SuggestionIndex.build(suggestions)
+
+        assertThat(index.find("", SuggestionIndex.MAX_RESULTS)).isEqualTo(suggestions)
+        assertThat(index.find(null, SuggestionIndex.MAX_RESULTS)).isEqualTo(suggestions)
+    }
+
+    @Test
+    fun `ranks value prefixes first, then display value and word prefixes`() {
+        val index = SuggestionIndex.build(suggestions)
+
+        val results = index.find("Ann", SuggestionIndex.MAX_RESULTS)
+
+        assertThat(results.map { it.value }).containsExactly("ann", "annie", "carol", "bob")
+    }
+
+    @Test
+    fun `matches words after the first in display values only at their start`() {
+        val index = SuggestionIndex.build(suggestions)
+
+        assertThat(index.find("lee", SuggestionIndex.MAX_RESULTS).map { it.value }).containsExactly("carol")
+        assertThat(index.find("nnan", SuggestionIndex.MAX_RESULTS)).isEmpty()
+    }
+
+    @Test
+    fun `orders suggestions matching the same way alphabetically`() {
+        val index = SuggestionIndex.build(listOf(suggestion("zed", "Zed"), suggestion("zac", "Zac")))
+
+        assertThat(index.find("z", SuggestionIndex.MAX_RESULTS).map { it.value }).containsExactly("zac", "zed")
+    }
+
+    @Test
+    fun `returns each suggestion once`() {
+        val index = SuggestionIndex.build(listOf(suggestion("dave", "Dave Dave")))
+
+        assertThat(index.find("d", SuggestionIndex.MAX_RESULTS)).hasSize(1)
+    }
+
+    @Test
+    fun `caps the number of results`() {
+        val many = (1..200).map { suggestion("user$it", "User $it") }
+        val index = SuggestionIndex.build(many)
+
+        val results = index.find("user", 10)
+
+        assertThat(results).isEqualTo(many.sortedBy { it.value }.take(10))
+    }
+
+    @Test
+    fun `matches the same suggestions as filtering the whole list`() {
+        val many = (1..500).map { suggestion("user${it % 37}x$it", "Name ${it % 11} Last${it % 7}") }
+        val index = SuggestionIndex.build(many)
+
+        listOf("u", "user1", "user12x", "name 3", "last", "last6", "x", "Name 1 L").forEach { constraint ->
+            val lowerCaseConstraint = constraint.lowercase()
+            val expected = many.filter {
+                it.value.lowercase().startsWith(lowerCaseConstraint) ||
+                        it.displayValue.lowercase().startsWith(lowerCaseConstraint) ||
+                        it.displayValue.lowercase().contains(" $lowerCaseConstraint")
+            }
+
+            assertThat(index.find(constraint, Int.MAX_VALUE)).containsExactlyInAnyOrderElementsOf(expected)
+        }
+    }
+
+    private fun suggestion(value: String, displayValue: String) = Suggestion("", value, displayValue)
+}
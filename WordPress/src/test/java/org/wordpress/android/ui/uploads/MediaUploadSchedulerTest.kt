@@ -0,0 +1,119 @@
+package org.wordpress.android.ui.uploads
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.fluxc.model.MediaModel
+
+class MediaUploadSchedulerTest {
+    private val awaitingTranscode = mutableSetOf<Int>()
+    private val transcoding = mutableSetOf<Int>()
+
+    @Test
+    fun `returns null when nothing is pending`() {
+        val next = MediaUploadScheduler.pickNext(mutableListOf(), mutableListOf(), awaitingTranscode, transcoding, false)
+
+        assertThat(next).isNull()
+    }
+
+    @Test
+    fun `starts uploads in queue order up to the overall limit`() {
+        val pending = (1..5).map { media(id = it, siteId = it, postId = it) }.toMutableList()
+        val inProgress = mutableListOf<MediaModel>()
+
+        val started = startAll(pending, inProgress, throttled = false)
+
+        assertThat(started.map { it.id }).containsExactly(1, 2, 3)
+        assertThat(started).hasSize(MediaUploadScheduler.MAX_CONCURRENT_UPLOADS)
+    }
+
+    @Test
+    fun `limits the uploads for a single site`() {
+        val pending = mutableListOf(
+                media(id = 1, siteId = 1, postId = 1),
+                media(id = 2, siteId = 1, postId = 2),
+                media(id = 3, siteId = 1, postId = 3),
+                media(id = 4, siteId = 2, postId = 4)
+        )
+        val inProgress = mutableListOf<MediaModel>()
+
+        val started = startAll(pending, inProgress, throttled = false)
+
+        assertThat(started.map { it.id }).containsExactly(1, 2, 4)
+    }
+
+    @Test
+    fun `alternates between posts so one post doesn't hold up another`() {
+        val pending = mutableListOf(
+                media(id = 1, siteId = 1, postId = 1),
+                media(id = 2, siteId = 1, postId = 1),
+                media(id = 3, siteId = 1, postId = 1),
+                media(id = 4, siteId = 2, postId = 2)
+        )
+        val inProgress = mutableListOf(media(id = 5, siteId = 3, postId = 1))
+
+        val started = startAll(pending, inProgress, throttled = false)
+
+        assertThat(started.map { it.id }).containsExactly(4, 1)
+    }
+
+    @Test
+    fun `starts a single upload at a time when throttled`() {
+        val pending = (1..3).map { media(id = it, siteId = it, postId = it) }.toMutableList()
+        val inProgress = mutableListOf<MediaModel>()
+
+        assertThat(startAll(pending, inProgress, throttled = true).map { it.id }).containsExactly(1)
+
+        inProgress.clear()
+        assertThat(startAll(pending, inProgress, throttled = true).map { it.id }).containsExactly(2)
+    }
+
+    @Test
+    fun `transcodes videos one at a time without taking upload slots`() {
+        val pending = (1..5).map { media(id = it, siteId = it, postId = it) }.toMutableList()
+        val inProgress = mutableListOf<MediaModel>()
+        awaitingTranscode.addAll(listOf(1, 2))
+
+        val transcode = MediaUploadScheduler.pickNextTranscode(pending, awaitingTranscode, transcoding)!!
+        pending.remove(transcode)
+        awaitingTranscode.remove(transcode.id)
+        transcoding.add(transcode.id)
+        inProgress.add(transcode)
+
+        assertThat(transcode.id).isEqualTo(1)
+        assertThat(MediaUploadScheduler.pickNextTranscode(pending, awaitingTranscode, transcoding)).isNull()
+        assertThat(startAll(pending, inProgress, throttled = false).map { it.id }).containsExactly(3, 4, 5)
+    }
+
+    @Test
+    fun `uploads a transcoded video once a slot is free`() {
+        val pending = mutableListOf(media(id = 1, siteId = 1, postId = 1))
+        val inProgress = (2..4).map { media(id = it, siteId = it, postId = it) }.toMutableList()
+
+        assertThat(startAll(pending, inProgress, throttled = false)).isEmpty()
+
+        inProgress.removeAt(0)
+        assertThat(startAll(pending, inProgress, throttled = false).map { it.id }).containsExactly(1)
+        assertThat(MediaUploadScheduler.pickNextTranscode(pending, awaitingTranscode, transcoding)).isNull()
+    }
+
+    private fun startAll(
+        pending: MutableList<MediaModel>,
+        inProgress: MutableList<MediaModel>,
+        throttled: Boolean
+    ): List<MediaModel> {
+        val started = mutableListOf<MediaModel>()
+        var next = MediaUploadScheduler.pickNext(pending, inProgress, awaitingTranscode, transcoding, throttled)
+        while (next != null) {
+            pending.remove(next)
+            inProgress.add(next)
+            started.add(next)
+            next = MediaUploadScheduler.pickNext(pending, inProgress, awaitingTranscode, transcoding, throttled)
+        }
+        return started
+    }
+
+    private fun media(id: Int, siteId: Int, postId: Int) = MediaModel(siteId, 0).apply {
+        this.id = id
+        this.localPostId = postId
+    }
+}
@@ -0,0 +1,110 @@
+package org.wordpress.android.ui.uploads
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.fluxc.model.PostModel
+
+class PostUploadQueueTest {
+    private val queue = PostUploadQueue()
+
+    @Test
+    fun `starts queued posts in queue order up to the passed number`() {
+        (1..4).forEach { queue.add(post(it)) }
+
+        val started = queue.startNext(3)
+
+        assertThat(started.map { it.id }).containsExactly(1, 2, 3)
+        assertThat(queue.isQueued(post(4))).isTrue
+        assertThat(queue.isUploading(post(1))).isTrue
+    }
+
+    @Test
+    fun `replaces an older version of a post which is still queued`() {
+        val oldVersion = post(1)
+        val newVersion = post(1)
+        queue.add(oldVersion)
+        queue.add(newVersion)
+
+        assertThat(queue.startNext(3)).containsExactly(newVersion)
+    }
+
+    @Test
+    fun `keeps a newer version of a post queued until its upload finishes`() {
+        val uploading = post(1)
+        queue.add(uploading)
+        queue.startNext(3)
+        queue.add(post(1))
+
+        assertThat(queue.startNext(3)).isEmpty()
+
+        queue.finish(uploading)
+
+        assertThat(queue.startNext(3).map { it.id }).containsExactly(1)
+    }
+
+    @Test
+    fun `a cancelled post is no longer uploading`() {
+        val post = post(1)
+        queue.add(post)
+        queue.startNext(3)
+
+        queue.abandon(post)
+
+        assertThat(queue.isUploading(post)).isFalse
+        assertThat(queue.hasQueuedOrUploading()).isFalse
+    }
+
+    @Test
+    fun `a cancelled post is uploaded again when it's queued again`() {
+        val cancelled = post(1)
+        queue.add(cancelled)
+        queue.startNext(3)
+        queue.abandon(cancelled)
+
+        val requeued = post(1)
+        queue.add(requeued)
+
+        assertThat(queue.startNext(3)).containsExactly(requeued)
+    }
+
+    @Test
+    fun `abandoning a cancelled upload leaves the newer version which replaced it uploading`() {
+        val cancelled = post(1)
+        queue.add(cancelled)
+        queue.startNext(3)
+        queue.finish(cancelled)
+        val newer = post(1)
+        queue.add(newer)
+        queue.startNext(3)
+
+        queue.abandon(cancelled)
+
+        assertThat(queue.isUploading(newer)).isTrue
+    }
+
+    @Test
+    fun `drops the analytics properties of a post once its upload is over`() {
+        val post = post(1)
+        queue.add(post)
+        queue.startNext(3)
+        queue.setAnalyticsProperties(post, mutableMapOf("word_count" to 10))
+
+        queue.abandon(post)
+
+        assertThat(queue.getAnalyticsProperties(post)).isNull()
+    }
+
+    @Test
+    fun `marks a queued newer version of an uploaded post as no longer a local draft`() {
+        val uploaded = post(1).apply { setRemotePostId(100) }
+        val queued = post(1).apply { setIsLocalDraft(true) }
+        queue.add(queued)
+
+        queue.onUploaded(uploaded)
+
+        assertThat(queued.remotePostId).isEqualTo(100)
+        assertThat(queued.isLocalDraft).isFalse
+    }
+
+    private fun post(id: Int) = PostModel().apply { setId(id) }
+}
@@ -0,0 +1,135 @@
+package org.wordpress.android.util
+
+import android.graphics.Bitmap
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.mockito.kotlin.any
+import org.mockito.kotlin.anyOrNull
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+
+class BitmapCacheTest {
+    private val reusePool = BitmapReusePool(POOL_BYTES)
+    private val cache = BitmapCache(CACHE_BYTES, reusePool, null)
+
+    @Test
+    fun `sizes bitmaps by the bytes they hold, however small`() {
+        repeat(CACHE_BYTES / SMALL_BITMAP_BYTES) { cache.put("key$it", bitmap(SMALL_BITMAP_BYTES)) }
+
+        assertThat(cache.size).isEqualTo(CACHE_BYTES)
+        assertThat(cache.evictionCount).isEqualTo(0)
+
+        cache.put("one more", bitmap(SMALL_BITMAP_BYTES))
+
+        assertThat(cache.size).isEqualTo(CACHE_BYTES)
+        assertThat(cache.evictionCount).isEqualTo(1)
+        assertThat(cache.get("key0")).isNull()
+        assertThat(cache.get("one more")).isNotNull
+    }
+
+    @Test
+    fun `counts hits and misses`() {
+        cache.put(AVATAR_URL, bitmap(SMALL_BITMAP_BYTES))
+
+        cache.get(AVATAR_URL)
+        cache.getBitmap(AVATAR_URL)
+        cache.get("missing")
+
+        assertThat(cache.hitCount).isEqualTo(2)
+        assertThat(cache.missCount).isEqualTo(1)
+    }
+
+    @Test
+    fun `removes the bitmaps stored for a URL, including those Volley stored with a size prefix`() {
+        cache.put(AVATAR_URL, bitmap(SMALL_BITMAP_BYTES))
+        cache.putBitmap("#W96#H96#S3$AVATAR_URL?s=96", bitmap(SMALL_BITMAP_BYTES))
+        cache.putBitmap("#W0#H0#S7$AVATAR_URL", bitmap(SMALL_BITMAP_BYTES))
+        cache.put(OTHER_URL, bitmap(SMALL_BITMAP_BYTES))
+
+        cache.removeSimilar(AVATAR_URL)
+
+        assertThat(cache.get(AVATAR_URL)).isNull()
+        assertThat(cache.getBitmap("#W96#H96#S3$AVATAR_URL?s=96")).isNull()
+        assertThat(cache.getBitmap("#W0#H0#S7$AVATAR_URL")).isNull()
+        assertThat(cache.get(OTHER_URL)).isNotNull
+        assertThat(cache.size).isEqualTo(SMALL_BITMAP_BYTES)
+    }
+
+    @Test
+    fun `keeps removing bitmaps added again after being evicted`() {
+        cache.put(AVATAR_URL, bitmap(CACHE_BYTES))
+        cache.put(OTHER_URL, bitmap(CACHE_BYTES))
+        cache.put(AVATAR_URL, bitmap(CACHE_BYTES))
+
+        cache.removeSimilar(AVATAR_URL)
+
+        assertThat(cache.size).isEqualTo(0)
+    }
+
+    @Test
+    fun `finds the URL a Volley key was stored for`() {
+        assertThat(BitmapCache.getBaseKey("#W120#H80#S6$AVATAR_URL")).isEqualTo(AVATAR_URL)
+        assertThat(BitmapCache.getBaseKey(AVATAR_URL)).isEqualTo(AVATAR_URL)
+        assertThat(BitmapCache.getBaseKey("#Wide")).isEqualTo("#Wide")
+    }
+
+    @Test
+    fun `reuses copies which were evicted without being handed out`() {
+        val copy = bitmap(CACHE_BYTES)
+        cache.putCopy(AVATAR_URL, source(copy))
+
+        cache.put(OTHER_URL, bitmap(CACHE_BYTES))
+
+        assertThat(reusePool.size).isEqualTo(CACHE_BYTES)
+    }
+
+    @Test
+    fun `never reuses copies which were handed out`() {
+        cache.putCopy(AVATAR_URL, source(bitmap(CACHE_BYTES)))
+        cache.get(AVATAR_URL)
+
+        cache.put(OTHER_URL, bitmap(CACHE_BYTES))
+
+        assertThat(reusePool.size).isEqualTo(0)
+    }
+
+    @Test
+    fun `never reuses bitmaps the caller may still show`() {
+        cache.put(AVATAR_URL, bitmap(CACHE_BYTES))
+
+        cache.put(OTHER_URL, bitmap(CACHE_BYTES))
+
+        assertThat(reusePool.size).isEqualTo(0)
+    }
+
+    @Test
+    fun `empties the reuse pool when evicting everything`() {
+        cache.putCopy(AVATAR_URL, source(bitmap(SMALL_BITMAP_BYTES)))
+        cache.put(OTHER_URL, bitmap(CACHE_BYTES))
+
+        cache.evictAll()
+
+        assertThat(cache.size).isEqualTo(0)
+        assertThat(reusePool.size).isEqualTo(0)
+    }
+
+    private fun bitmap(bytes: Int): Bitmap = mock {
+        on { allocationByteCount } doReturn bytes
+        on { isMutable } doReturn true
+    }
+
+    /*
+     * a bitmap owned by someone else, which the cache copies
+     */
+    private fun source(copy: Bitmap): Bitmap = mock {
+        on { copy(anyOrNull(), any()) } doReturn copy
+    }
+
+    companion object {
+        private const val CACHE_BYTES = 1000
+        private const val POOL_BYTES = 2000
+        private const val SMALL_BITMAP_BYTES = 100
+        private const val AVATAR_URL = "https://gravatar.com/avatar/abc"
+        private const val OTHER_URL = "https://gravatar.com/avatar/def"
+    }
+}
@@ -0,0 +1,54 @@
+package org.wordpress.android.util
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+
+class DecodeMemoryGuardTest {
+    private val guard = DecodeMemoryGuard(BUDGET_BYTES)
+
+    @Test
+    fun `holds the bytes acquired until they're released`() {
+        val acquired = guard.acquire(300)
+
+        assertThat(acquired).isEqualTo(300)
+        assertThat(guard.acquiredBytes).isEqualTo(300)
+
+        guard.release(acquired)
+
+        assertThat(guard.acquiredBytes).isEqualTo(0)
+    }
+
+    @Test
+    fun `holds the whole budget for a decode larger than it`() {
+        val acquired = guard.acquire(BUDGET_BYTES * 3)
+
+        assertThat(acquired).isEqualTo(BUDGET_BYTES)
+    }
+
+    @Test
+    fun `makes a decode wait while the others hold too much of the budget`() {
+        val firstAcquired = guard.acquire(700)
+        val secondAcquired = CountDownLatch(1)
+        val waiting = thread {
+            guard.release(guard.acquire(400))
+            secondAcquired.countDown()
+        }
+
+        assertThat(secondAcquired.await(WAIT_MILLIS, TimeUnit.MILLISECONDS)).isFalse
+
+        guard.release(firstAcquired)
+
+        assertThat(secondAcquired.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue
+        waiting.join()
+        assertThat(guard.acquiredBytes).isEqualTo(0)
+    }
+
+    companion object {
+        private const val BUDGET_BYTES = 1000L
+        private const val WAIT_MILLIS = 100L
+        private const val TIMEOUT_SECONDS = 5L
+    }
+}
@@ -0,0 +1,72 @@
+package org.wordpress.android.util
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+
+class ImageOptimizerTest {
+    @Test
+    fun `subsamples large photos while keeping them at least the maximum size`() {
+        assertThat(ImageOptimizer.calculateInSampleSize(4000, 3000, 2000)).isEqualTo(2)
+        assertThat(ImageOptimizer.calculateInSampleSize(3000, 12000, 2000)).isEqualTo(4)
+        assertThat(ImageOptimizer.calculateInSampleSize(3999, 3000, 2000)).isEqualTo(1)
+    }
+
+    @Test
+    fun `never subsamples images which aren't resized`() {
+        assertThat(ImageOptimizer.calculateInSampleSize(1200, 800, 2000)).isEqualTo(1)
+        assertThat(ImageOptimizer.calculateInSampleSize(8000, 6000, Int.MAX_VALUE)).isEqualTo(1)
+    }
+
+    @Test
+    fun `estimates the bytes of the subsampled bitmap and its copy`() {
+        assertThat(ImageOptimizer.estimateDecodeBytes(4000, 3000, 2)).isEqualTo(2L * 2000 * 1500 * 4)
+        assertThat(ImageOptimizer.estimateDecodeBytes(4001, 3001, 2)).isEqualTo(2L * 2001 * 1501 * 4)
+    }
+
+    @Test
+    fun `detects animated WebP images from the extended header`() {
+        assertThat(ImageOptimizer.isAnimatedWebp(webpHeader("VP8X", flags = 0x02))).isTrue
+        assertThat(ImageOptimizer.isAnimatedWebp(webpHeader("VP8X", flags = 0x10))).isFalse
+        assertThat(ImageOptimizer.isAnimatedWebp(webpHeader("VP8 "))).isFalse
+    }
+
+    @Test
+    fun `detects transparent WebP images`() {
+        assertThat(ImageOptimizer.hasWebpAlpha(webpHeader("VP8X", flags = 0x10))).isTrue
+        assertThat(ImageOptimizer.hasWebpAlpha(webpHeader("VP8L", alphaIsUsed = true))).isTrue
+        assertThat(ImageOptimizer.hasWebpAlpha(webpHeader("VP8L", alphaIsUsed = false))).isFalse
+        assertThat(ImageOptimizer.hasWebpAlpha(webpHeader("VP8 "))).isFalse
+    }
+
+    @Test
+    fun `doesn't read other formats as WebP`() {
+        val header = webpHeader("VP8X", flags = 0x12).apply { "RIFX".toByteArray().copyInto(this) }
+
+        assertThat(ImageOptimizer.isAnimatedWebp(header)).isFalse
+        assertThat(ImageOptimizer.hasWebpAlpha(header)).isFalse
+    }
+
+    @Test
+    fun `sizes the worker pool to the cores the memory budget can keep busy`() {
+        val megabyte = 1024L * 1024
+
+        assertThat(ImageOptimizationPipeline.getPoolSize(8, 512 * megabyte)).isEqualTo(8)
+        assertThat(ImageOptimizationPipeline.getPoolSize(8, 96 * megabyte)).isEqualTo(3)
+        assertThat(ImageOptimizationPipeline.getPoolSize(8, 16 * megabyte)).isEqualTo(1)
+    }
+
+    /**
+     * Returns the first bytes of a WebP file whose first chunk is the passed one
+     */
+    private fun webpHeader(chunk: String, flags: Int = 0, alphaIsUsed: Boolean = false) = ByteArray(25).apply {
+        "RIFF".toByteArray().copyInto(this, 0)
+        "WEBP".toByteArray().copyInto(this, 8)
+        chunk.toByteArray().copyInto(this, 12)
+        if (chunk == "VP8X") {
+            this[20] = flags.toByte()
+        } else if (chunk == "VP8L") {
+            this[20] = 0x2f
+            this[24] = if (alphaIsUsed) 0x10 else 0
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.wordpress.android.analytics;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.wordpress.android.analytics.AnalyticsTracker.Stat;
+
+import java.util.Map;
+
+/**
+ * An entry in the asynchronous tracking queue: either an event to pass on to the trackers, or a call to make on them
+ * once the events queued before it have been passed on.
+ */
+final class AnalyticsEvent {
+    @Nullable private final Stat mStat;
+    @Nullable private final Map<String, ?> mProperties;
+    @Nullable private final Runnable mCommand;
+
+    AnalyticsEvent(@NonNull Stat stat, @Nullable Map<String, ?> properties) {
+        mStat = stat;
+        mProperties = properties;
+        mCommand = null;
+    }
+
+    AnalyticsEvent(@NonNull Runnable command) {
+        mStat = null;
+        mProperties = null;
+        mCommand = command;
+    }
+
+    @Nullable
+    Stat getStat() {
+        return mStat;
+    }
+
+    @Nullable
+    Map<String, ?> getProperties() {
+        return mProperties;
+    }
+
+    @Nullable
+    Runnable getCommand() {
+        return mCommand;
+    }
+}
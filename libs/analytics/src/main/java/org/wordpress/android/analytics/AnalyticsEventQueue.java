@@ -0,0 +1,148 @@
+package org.wordpress.android.analytics;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.wordpress.android.analytics.AnalyticsTracker.Stat;
+import org.wordpress.android.util.AppLog;
+import org.wordpress.android.util.AppLog.T;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Passes tracked events on to the trackers from a background thread, so tracking only costs the caller an allocation
+ * and a compare-and-set. Events wait in a bounded ring buffer and are handed to the trackers in batches of up to
+ * MAX_BATCH_SIZE. Calls such as flush() go through the same buffer, so they're made on the trackers after the events
+ * tracked before them.
+ * <p>
+ * When the buffer is full, newly tracked events are dropped rather than blocking the caller or growing the buffer.
+ * Events already queued are kept, and the number of dropped events is logged once the consumer catches up. Calls
+ * are never dropped: their caller waits for room instead, which only happens if events are tracked faster than the
+ * trackers accept them.
+ */
+final class AnalyticsEventQueue {
+    static final int DEFAULT_CAPACITY = 1024;
+    static final int MAX_BATCH_SIZE = 64;
+
+    private final List<Tracker> mTrackers;
+    private final EventRingBuffer<AnalyticsEvent> mBuffer;
+    private final AtomicInteger mDroppedEventCount = new AtomicInteger();
+    private final AtomicBoolean mIsConsumerParked = new AtomicBoolean();
+    private final Thread mConsumerThread;
+    private int mLoggedDroppedEventCount;
+
+    AnalyticsEventQueue(@NonNull List<Tracker> trackers, int capacity) {
+        mTrackers = trackers;
+        mBuffer = new EventRingBuffer<>(capacity);
+        mConsumerThread = new Thread(this::consume, "AnalyticsEventQueue");
+        mConsumerThread.setDaemon(true);
+        mConsumerThread.setPriority(Thread.MIN_PRIORITY);
+        mConsumerThread.start();
+    }
+
+    /**
+     * Queues the passed event, returning false if it was dropped because the queue is full. The properties are
+     * copied, so the caller may go on changing them.
+     */
+    boolean track(@NonNull Stat stat, @Nullable Map<String, ?> properties) {
+        Map<String, ?> propertiesCopy = properties != null && !properties.isEmpty() ? new HashMap<>(properties) : null;
+        if (!mBuffer.offer(new AnalyticsEvent(stat, propertiesCopy))) {
+            mDroppedEventCount.incrementAndGet();
+            return false;
+        }
+        wakeConsumer();
+        return true;
+    }
+
+    /**
+     * Queues the passed call, to be run on the consumer thread after the events already queued have been passed on.
+     */
+    void run(@NonNull Runnable command) {
+        AnalyticsEvent entry = new AnalyticsEvent(command);
+        while (!mBuffer.offer(entry)) {
+            wakeConsumer();
+            Thread.yield();
+        }
+        wakeConsumer();
+    }
+
+    int getDroppedEventCount() {
+        return mDroppedEventCount.get();
+    }
+
+    private void wakeConsumer() {
+        if (mIsConsumerParked.get()) {
+            LockSupport.unpark(mConsumerThread);
+        }
+    }
+
+    @SuppressWarnings("InfiniteLoopStatement")
+    private void consume() {
+        List<AnalyticsEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            AnalyticsEvent entry = mBuffer.poll();
+            if (entry == null) {
+                deliver(batch);
+                logDroppedEvents();
+                park();
+            } else if (entry.getCommand() != null) {
+                deliver(batch);
+                runSafely(entry.getCommand());
+            } else {
+                batch.add(entry);
+                if (batch.size() >= MAX_BATCH_SIZE) {
+                    deliver(batch);
+                }
+            }
+        }
+    }
+
+    /*
+     * waits for a producer to queue something. The parked flag is raised before checking the buffer again, so a
+     * producer either sees the flag and wakes this thread, or queued its entry before the check.
+     */
+    private void park() {
+        mIsConsumerParked.set(true);
+        if (mBuffer.isEmpty()) {
+            LockSupport.park(this);
+        }
+        mIsConsumerParked.set(false);
+    }
+
+    private void deliver(@NonNull List<AnalyticsEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (Tracker tracker : mTrackers) {
+            try {
+                tracker.track(batch);
+            } catch (RuntimeException e) {
+                AppLog.e(T.STATS, "Tracker " + tracker.getClass().getSimpleName() + " failed to track events", e);
+            }
+        }
+        batch.clear();
+    }
+
+    private void runSafely(@NonNull Runnable command) {
+        try {
+            command.run();
+        } catch (RuntimeException e) {
+            AppLog.e(T.STATS, "Queued analytics call failed", e);
+        }
+    }
+
+    private void logDroppedEvents() {
+        int droppedEventCount = mDroppedEventCount.get();
+        if (droppedEventCount > mLoggedDroppedEventCount) {
+            AppLog.w(T.STATS, "Dropped " + (droppedEventCount - mLoggedDroppedEventCount)
+                              + " analytics events tracked while the queue was full");
+            mLoggedDroppedEventCount = droppedEventCount;
+        }
+    }
+}
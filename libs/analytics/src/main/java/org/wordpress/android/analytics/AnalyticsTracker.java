@@ -6,10 +6,12 @@ import android.content.SharedPreferences;
 import androidx.annotation.Nullable;
 import androidx.preference.PreferenceManager;
 
-import java.util.ArrayList;
+import org.wordpress.android.annotation.TrackedEvent;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public final class AnalyticsTracker {
     private static boolean mHasUserOptedOut;
@@ -20,1090 +22,2173 @@ public final class AnalyticsTracker {
     public enum Stat {
         // This stat is part of a funnel that provides critical information.  Before
         // making ANY modification to this stat please refer to: p4qSXL-35X-p2
+        @TrackedEvent(name = "application_opened")
         APPLICATION_OPENED,
+        @TrackedEvent(name = "application_closed")
         APPLICATION_CLOSED,
+        @TrackedEvent(name = "application_installed")
         APPLICATION_INSTALLED,
+        @TrackedEvent(name = "application_upgraded")
         APPLICATION_UPGRADED,
+        @TrackedEvent(name = "reader_accessed")
         READER_ACCESSED,
+        @TrackedEvent(name = "reader_article_commented_on", properties = {"replying_to", "post"})
         READER_ARTICLE_COMMENTED_ON,
+        @TrackedEvent(name = "reader_article_commented_on", properties = {"replying_to", "comment"})
         READER_ARTICLE_COMMENT_REPLIED_TO,
+        @TrackedEvent(name = "reader_article_comments_opened")
         READER_ARTICLE_COMMENTS_OPENED,
+        @TrackedEvent(name = "reader_article_comment_liked")
         READER_ARTICLE_COMMENT_LIKED,
+        @TrackedEvent(name = "reader_article_comment_shared")
         READER_ARTICLE_COMMENT_SHARED,
+        @TrackedEvent(name = "reader_article_comment_unliked")
         READER_ARTICLE_COMMENT_UNLIKED,
+        @TrackedEvent(name = "reader_article_liked")
         READER_ARTICLE_LIKED,
+        @TrackedEvent(name = "reader_article_detail_liked")
         READER_ARTICLE_DETAIL_LIKED,
+        @TrackedEvent(name = "reader_article_reblogged")
         READER_ARTICLE_REBLOGGED,
+        @TrackedEvent(name = "reader_article_detail_reblogged")
         READER_ARTICLE_DETAIL_REBLOGGED,
+        @TrackedEvent(name = "reader_article_opened")
         READER_ARTICLE_OPENED,
+        @TrackedEvent(name = "reader_article_unliked")
         READER_ARTICLE_UNLIKED,
+        @TrackedEvent(name = "reader_article_detail_unliked")
         READER_ARTICLE_DETAIL_UNLIKED,
+        @TrackedEvent(name = "reader_article_rendered")
         READER_ARTICLE_RENDERED,
+        @TrackedEvent(name = "reader_article_visited")
         READER_ARTICLE_VISITED,
+        @TrackedEvent(name = "reader_user_blocked")
         READER_USER_BLOCKED,
+        @TrackedEvent(name = "reader_blog_blocked")
         READER_BLOG_BLOCKED,
+        @TrackedEvent(name = "reader_site_followed")
         READER_BLOG_FOLLOWED,
+        @TrackedEvent(name = "reader_blog_previewed")
         READER_BLOG_PREVIEWED,
+        @TrackedEvent(name = "reader_site_unfollowed")
         READER_BLOG_UNFOLLOWED,
+        @TrackedEvent(name = "reader_suggested_site_visited")
         READER_SUGGESTED_SITE_VISITED,
+        @TrackedEvent(name = "reader_suggested_site_toggle_follow")
         READER_SUGGESTED_SITE_TOGGLE_FOLLOW,
+        @TrackedEvent(name = "reader_discover_viewed")
         READER_DISCOVER_VIEWED,
+        @TrackedEvent(name = "reader_infinite_scroll_performed")
         READER_INFINITE_SCROLL,
+        @TrackedEvent(name = "reader_list_followed")
         READER_LIST_FOLLOWED,
+        @TrackedEvent(name = "reader_list_loaded")
         READER_LIST_LOADED,
+        @TrackedEvent(name = "reader_p2_shown")
         READER_P2_SHOWN,
+        @TrackedEvent(name = "reader_a8c_shown")
         READER_A8C_SHOWN,
+        @TrackedEvent(name = "reader_list_previewed")
         READER_LIST_PREVIEWED,
+        @TrackedEvent(name = "reader_list_unfollowed")
         READER_LIST_UNFOLLOWED,
+        @TrackedEvent(name = "reader_reader_tag_followed")
         READER_TAG_FOLLOWED,
+        @TrackedEvent(name = "reader_tag_loaded")
         READER_TAG_LOADED,
+        @TrackedEvent(name = "reader_tag_previewed")
         READER_TAG_PREVIEWED,
+        @TrackedEvent(name = "reader_reader_tag_unfollowed")
         READER_TAG_UNFOLLOWED,
+        @TrackedEvent(name = "reader_search_loaded")
         READER_SEARCH_LOADED,
+        @TrackedEvent(name = "reader_search_performed")
         READER_SEARCH_PERFORMED,
+        @TrackedEvent(name = "reader_searchcard_clicked")
         READER_SEARCH_RESULT_TAPPED,
+        @TrackedEvent(name = "reader_related_post_from_other_site_clicked")
         READER_GLOBAL_RELATED_POST_CLICKED,
+        @TrackedEvent(name = "reader_related_post_from_same_site_clicked")
         READER_LOCAL_RELATED_POST_CLICKED,
+        @TrackedEvent(name = "reader_viewpost_intercepted")
         READER_VIEWPOST_INTERCEPTED,
+        @TrackedEvent(name = "reader_blog_post_intercepted")
         READER_BLOG_POST_INTERCEPTED,
+        @TrackedEvent(name = "reader_feed_post_intercepted")
         READER_FEED_POST_INTERCEPTED,
+        @TrackedEvent(name = "reader_wpcom_blog_post_intercepted")
         READER_WPCOM_BLOG_POST_INTERCEPTED,
+        @TrackedEvent(name = "reader_sign_in_initiated")
         READER_SIGN_IN_INITIATED,
+        @TrackedEvent(name = "reader_wpcom_sign_in_needed")
         READER_WPCOM_SIGN_IN_NEEDED,
+        @TrackedEvent(name = "reader_user_unauthorized")
         READER_USER_UNAUTHORIZED,
+        @TrackedEvent(name = "reader_post_saved", properties = {"source", "other_post_list"})
         READER_POST_SAVED_FROM_OTHER_POST_LIST,
+        @TrackedEvent(name = "reader_post_saved", properties = {"source", "saved_post_list"})
         READER_POST_SAVED_FROM_SAVED_POST_LIST,
+        @TrackedEvent(name = "reader_post_saved", properties = {"source", "post_details"})
         READER_POST_SAVED_FROM_DETAILS,
+        @TrackedEvent(name = "reader_post_unsaved", properties = {"source", "other_post_list"})
         READER_POST_UNSAVED_FROM_OTHER_POST_LIST,
+        @TrackedEvent(name = "reader_post_unsaved", properties = {"source", "saved_post_list"})
         READER_POST_UNSAVED_FROM_SAVED_POST_LIST,
+        @TrackedEvent(name = "reader_post_unsaved", properties = {"source", "post_details"})
         READER_POST_UNSAVED_FROM_DETAILS,
+        @TrackedEvent(name = "reader_saved_post_opened", properties = {"source", "saved_post_list"})
         READER_SAVED_POST_OPENED_FROM_SAVED_POST_LIST,
+        @TrackedEvent(name = "reader_saved_post_opened", properties = {"source", "other_post_list"})
         READER_SAVED_POST_OPENED_FROM_OTHER_POST_LIST,
+        @TrackedEvent(name = "reader_site_shared")
         READER_SITE_SHARED,
+        @TrackedEvent(name = "stats_accessed")
         STATS_ACCESSED,
+        @TrackedEvent(name = "stats_access_error")
         STATS_ACCESS_ERROR,
+        @TrackedEvent(name = "stats_insights_accessed")
         STATS_INSIGHTS_ACCESSED,
+        @TrackedEvent(name = "stats_insights_management_hint_dismissed")
         STATS_INSIGHTS_MANAGEMENT_HINT_DISMISSED,
+        @TrackedEvent(name = "stats_insights_management_hint_clicked")
         STATS_INSIGHTS_MANAGEMENT_HINT_CLICKED,
+        @TrackedEvent(name = "stats_insights_management_accessed")
         STATS_INSIGHTS_MANAGEMENT_ACCESSED,
+        @TrackedEvent(name = "stats_insights_type_moved_up")
         STATS_INSIGHTS_TYPE_MOVED_UP,
+        @TrackedEvent(name = "stats_insights_type_moved_down")
         STATS_INSIGHTS_TYPE_MOVED_DOWN,
+        @TrackedEvent(name = "stats_insights_type_removed")
         STATS_INSIGHTS_TYPE_REMOVED,
+        @TrackedEvent(name = "stats_insights_management_saved")
         STATS_INSIGHTS_MANAGEMENT_SAVED,
+        @TrackedEvent(name = "stats_insights_management_dismissed")
         STATS_INSIGHTS_MANAGEMENT_DISMISSED,
+        @TrackedEvent(name = "stats_insights_management_type_added")
         STATS_INSIGHTS_MANAGEMENT_TYPE_ADDED,
+        @TrackedEvent(name = "stats_insights_management_type_removed")
         STATS_INSIGHTS_MANAGEMENT_TYPE_REMOVED,
+        @TrackedEvent(name = "stats_insights_management_type_reordered")
         STATS_INSIGHTS_MANAGEMENT_TYPE_REORDERED,
+        @TrackedEvent(name = "stats_period_accessed", properties = {"period", "days"})
         STATS_PERIOD_DAYS_ACCESSED,
+        @TrackedEvent(name = "stats_period_accessed", properties = {"period", "weeks"})
         STATS_PERIOD_WEEKS_ACCESSED,
+        @TrackedEvent(name = "stats_period_accessed", properties = {"period", "months"})
         STATS_PERIOD_MONTHS_ACCESSED,
+        @TrackedEvent(name = "stats_period_accessed", properties = {"period", "years"})
         STATS_PERIOD_YEARS_ACCESSED,
+        @TrackedEvent(name = "stats_view_all_accessed")
         STATS_VIEW_ALL_ACCESSED,
+        @TrackedEvent(name = "stats_previous_date_tapped")
         STATS_PREVIOUS_DATE_TAPPED,
+        @TrackedEvent(name = "stats_next_date_tapped")
         STATS_NEXT_DATE_TAPPED,
+        @TrackedEvent(name = "stats_insights_total_likes_guide_tapped")
         STATS_INSIGHTS_TOTAL_LIKES_GUIDE_TAPPED,
+        @TrackedEvent(name = "stats_insights_action_blogging_reminders_confirmed")
         STATS_INSIGHTS_ACTION_BLOGGING_REMINDERS_CONFIRMED,
+        @TrackedEvent(name = "stats_insights_action_blogging_reminders_dismissed")
         STATS_INSIGHTS_ACTION_BLOGGING_REMINDERS_DISMISSED,
+        @TrackedEvent(name = "stats_insights_action_grow_audience_confirmed")
         STATS_INSIGHTS_ACTION_GROW_AUDIENCE_CONFIRMED,
+        @TrackedEvent(name = "stats_insights_action_grow_audience_dismissed")
         STATS_INSIGHTS_ACTION_GROW_AUDIENCE_DISMISSED,
+        @TrackedEvent(name = "stats_insights_action_schedule_post_confirmed")
         STATS_INSIGHTS_ACTION_SCHEDULE_POST_CONFIRMED,
+        @TrackedEvent(name = "stats_insights_action_schedule_post_dismissed")
         STATS_INSIGHTS_ACTION_SCHEDULE_POST_DISMISSED,
+        @TrackedEvent(name = "stats_insights_view_more")
         STATS_INSIGHTS_VIEW_MORE,
+        @TrackedEvent(name = "stats_followers_view_more_tapped")
         STATS_FOLLOWERS_VIEW_MORE_TAPPED,
+        @TrackedEvent(name = "stats_total_likes_error")
         STATS_TOTAL_LIKES_ERROR,
+        @TrackedEvent(name = "stats_total_comments_error")
         STATS_TOTAL_COMMENTS_ERROR,
+        @TrackedEvent(name = "stats_tags_and_categories_view_more_tapped")
         STATS_TAGS_AND_CATEGORIES_VIEW_MORE_TAPPED,
+        @TrackedEvent(name = "stats_views_and_visitors_error")
         STATS_VIEWS_AND_VISITORS_ERROR,
+        @TrackedEvent(name = "stats_views_and_visitors_line_chart_tapped")
         STATS_VIEWS_AND_VISITORS_LINE_CHART_TAPPED,
+        @TrackedEvent(name = "stats_insights_views_visitors_toggled")
         STATS_INSIGHTS_VIEWS_VISITORS_TOGGLED,
+        @TrackedEvent(name = "stats_publicize_view_more_tapped")
         STATS_PUBLICIZE_VIEW_MORE_TAPPED,
+        @TrackedEvent(name = "stats_posts_and_pages_view_more_tapped")
         STATS_POSTS_AND_PAGES_VIEW_MORE_TAPPED,
+        @TrackedEvent(name = "stats_posts_and_pages_item_tapped")
         STATS_POSTS_AND_PAGES_ITEM_TAPPED,
+        @TrackedEvent(name = "stats_referrers_view_more_tapped")
         STATS_REFERRERS_VIEW_MORE_TAPPED,
+        @TrackedEvent(name = "stats_referrers_item_tapped")
         STATS_REFERRERS_ITEM_TAPPED,
+        @TrackedEvent(name = "stats_referrers_item_long_pressed")
         STATS_REFERRERS_ITEM_LONG_PRESSED,
+        @TrackedEvent(name = "stats_referrers_item_marked_as_spam")
         STATS_REFERRERS_ITEM_MARKED_AS_SPAM,
+        @TrackedEvent(name = "stats_referrers_item_marked_as_not_spam")
         STATS_REFERRERS_ITEM_MARKED_AS_NOT_SPAM,
+        @TrackedEvent(name = "stats_clicks_view_more_tapped")
         STATS_CLICKS_VIEW_MORE_TAPPED,
+        @TrackedEvent(name = "stats_countries_view_more_tapped")
         STATS_COUNTRIES_VIEW_MORE_TAPPED,
+        @TrackedEvent(name = "stats_overview_bar_chart_tapped")
         STATS_OVERVIEW_BAR_CHART_TAPPED,
+        @TrackedEvent(name = "stats_overview_error")
         STATS_OVERVIEW_ERROR,
+        @TrackedEvent(name = "stats_video_plays_view_more_tapped")
         STATS_VIDEO_PLAYS_VIEW_MORE_TAPPED,
+        @TrackedEvent(name = "stats_search_terms_view_more_tapped")
         STATS_SEARCH_TERMS_VIEW_MORE_TAPPED,
+        @TrackedEvent(name = "stats_authors_view_more_tapped")
         STATS_AUTHORS_VIEW_MORE_TAPPED,
+        @TrackedEvent(name = "stats_file_downloads_view_more_tapped")
         STATS_FILE_DOWNLOADS_VIEW_MORE_TAPPED,
+        @TrackedEvent(name = "stats_single_post_accessed")
         STATS_SINGLE_POST_ACCESSED,
+        @TrackedEvent(name = "stats_bar_chart_tapped")
         STATS_TAPPED_BAR_CHART,
+        @TrackedEvent(name = "stats_overview_type_tapped")
         STATS_OVERVIEW_TYPE_TAPPED,
+        @TrackedEvent(name = "stats_scrolled_to_bottom")
         STATS_SCROLLED_TO_BOTTOM,
+        @TrackedEvent(name = "stats_widget_added")
         STATS_WIDGET_ADDED,
+        @TrackedEvent(name = "stats_widget_removed")
         STATS_WIDGET_REMOVED,
+        @TrackedEvent(name = "stats_widget_tapped")
         STATS_WIDGET_TAPPED,
+        @TrackedEvent(name = "stats_latest_post_summary_add_new_post_tapped")
         STATS_LATEST_POST_SUMMARY_ADD_NEW_POST_TAPPED,
+        @TrackedEvent(name = "stats_latest_post_summary_share_post_tapped")
         STATS_LATEST_POST_SUMMARY_SHARE_POST_TAPPED,
+        @TrackedEvent(name = "stats_latest_post_summary_view_post_details_tapped")
         STATS_LATEST_POST_SUMMARY_VIEW_POST_DETAILS_TAPPED,
+        @TrackedEvent(name = "stats_latest_post_summary_post_item_tapped")
         STATS_LATEST_POST_SUMMARY_POST_ITEM_TAPPED,
+        @TrackedEvent(name = "stats_tags_and_categories_view_tag_tapped")
         STATS_TAGS_AND_CATEGORIES_VIEW_TAG_TAPPED,
+        @TrackedEvent(name = "stats_authors_view_post_tapped")
         STATS_AUTHORS_VIEW_POST_TAPPED,
+        @TrackedEvent(name = "stats_clicks_item_tapped")
         STATS_CLICKS_ITEM_TAPPED,
+        @TrackedEvent(name = "stats_video_plays_video_tapped")
         STATS_VIDEO_PLAYS_VIDEO_TAPPED,
+        @TrackedEvent(name = "stats_detail_post_tapped")
         STATS_DETAIL_POST_TAPPED,
+        @TrackedEvent(name = "editor_post_created")
         EDITOR_CREATED_POST,
+        @TrackedEvent(name = "editor_photo_added", properties = {"via", "device_library"})
         EDITOR_ADDED_PHOTO_VIA_DEVICE_LIBRARY,
+        @TrackedEvent(name = "editor_video_added", properties = {"via", "device_library"})
         EDITOR_ADDED_VIDEO_VIA_DEVICE_LIBRARY,
+        @TrackedEvent(name = "editor_photo_added", properties = {"via", "media_editor"})
         EDITOR_ADDED_PHOTO_VIA_MEDIA_EDITOR,
+        @TrackedEvent(name = "editor_photo_added", properties = {"via", "device_camera"})
         EDITOR_ADDED_PHOTO_NEW,
+        @TrackedEvent(name = "editor_video_added", properties = {"via", "device_camera"})
         EDITOR_ADDED_VIDEO_NEW,
+        @TrackedEvent(name = "editor_photo_added", properties = {"via", "media_library"})
         EDITOR_ADDED_PHOTO_VIA_WP_MEDIA_LIBRARY,
+        @TrackedEvent(name = "editor_video_added", properties = {"via", "media_library"})
         EDITOR_ADDED_VIDEO_VIA_WP_MEDIA_LIBRARY,
+        @TrackedEvent(name = "editor_photo_added", properties = {"via", "stock_photos"})
         EDITOR_ADDED_PHOTO_VIA_STOCK_MEDIA_LIBRARY,
+        @TrackedEvent(name = "media_photo_optimized")
         MEDIA_PHOTO_OPTIMIZED,
+        @TrackedEvent(name = "media_photo_optimize_error")
         MEDIA_PHOTO_OPTIMIZE_ERROR,
+        @TrackedEvent(name = "media_video_optimized")
         MEDIA_VIDEO_OPTIMIZED,
+        @TrackedEvent(name = "media_video_cant_optimize")
         MEDIA_VIDEO_CANT_OPTIMIZE,
+        @TrackedEvent(name = "media_video_optimize_error")
         MEDIA_VIDEO_OPTIMIZE_ERROR,
+        @TrackedEvent(name = "media_picker_capture_media_opened")
         MEDIA_PICKER_OPEN_CAPTURE_MEDIA,
+        @TrackedEvent(name = "media_picker_open_system_picker")
         MEDIA_PICKER_OPEN_SYSTEM_PICKER,
+        @TrackedEvent(name = "media_picker_device_library_opened")
         MEDIA_PICKER_OPEN_DEVICE_LIBRARY,
+        @TrackedEvent(name = "media_picker_wordpress_library_opened")
         MEDIA_PICKER_OPEN_WP_MEDIA,
+        @TrackedEvent(name = "media_picker_open_stock_library")
         MEDIA_PICKER_OPEN_STOCK_LIBRARY,
+        @TrackedEvent(name = "media_picker_open_gif_library")
         MEDIA_PICKER_OPEN_GIF_LIBRARY,
+        @TrackedEvent(name = "media_picker_stories_capture_opened")
         MEDIA_PICKER_OPEN_WP_STORIES_CAPTURE,
+        @TrackedEvent(name = "media_picker_open_for_stories")
         MEDIA_PICKER_OPEN_FOR_STORIES,
+        @TrackedEvent(name = "media_picker_recent_media_selected")
         MEDIA_PICKER_RECENT_MEDIA_SELECTED,
+        @TrackedEvent(name = "media_picker_preview_opened")
         MEDIA_PICKER_PREVIEW_OPENED,
+        @TrackedEvent(name = "media_picker_search_expanded")
         MEDIA_PICKER_SEARCH_EXPANDED,
+        @TrackedEvent(name = "media_picker_search_collapsed")
         MEDIA_PICKER_SEARCH_COLLAPSED,
+        @TrackedEvent(name = "media_picker_search_triggered")
         MEDIA_PICKER_SEARCH_TRIGGERED,
+        @TrackedEvent(name = "media_picker_show_permissions_screen")
         MEDIA_PICKER_SHOW_PERMISSIONS_SCREEN,
+        @TrackedEvent(name = "media_picker_item_selected")
         MEDIA_PICKER_ITEM_SELECTED,
+        @TrackedEvent(name = "media_picker_item_unselected")
         MEDIA_PICKER_ITEM_UNSELECTED,
+        @TrackedEvent(name = "media_picker_selection_cleared")
         MEDIA_PICKER_SELECTION_CLEARED,
+        @TrackedEvent(name = "media_picker_opened")
         MEDIA_PICKER_OPENED,
+        @TrackedEvent(name = "editor_post_updated")
         EDITOR_UPDATED_POST,
+        @TrackedEvent(name = "editor_post_scheduled")
         EDITOR_SCHEDULED_POST,
+        @TrackedEvent(name = "editor_opened")
         EDITOR_OPENED,
+        @TrackedEvent(name = "post_list_access_error")
         POST_LIST_ACCESS_ERROR,
+        @TrackedEvent(name = "post_list_button_pressed")
         POST_LIST_BUTTON_PRESSED,
+        @TrackedEvent(name = "post_list_item_selected")
         POST_LIST_ITEM_SELECTED,
+        @TrackedEvent(name = "post_list_author_filter_changed")
         POST_LIST_AUTHOR_FILTER_CHANGED,
+        @TrackedEvent(name = "post_list_tab_changed")
         POST_LIST_TAB_CHANGED,
+        @TrackedEvent(name = "post_list_view_layout_toggled")
         POST_LIST_VIEW_LAYOUT_TOGGLED,
+        @TrackedEvent(name = "post_list_search_accessed")
         POST_LIST_SEARCH_ACCESSED,
+        @TrackedEvent(name = "editor_closed")
         EDITOR_CLOSED,
+        @TrackedEvent(name = "editor_session_start")
         EDITOR_SESSION_START,
+        @TrackedEvent(name = "editor_session_switch_editor")
         EDITOR_SESSION_SWITCH_EDITOR,
+        @TrackedEvent(name = "editor_session_template_apply")
         EDITOR_SESSION_TEMPLATE_APPLY,
+        @TrackedEvent(name = "editor_session_end")
         EDITOR_SESSION_END,
+        @TrackedEvent(name = "editor_post_published")
         EDITOR_PUBLISHED_POST,
+        @TrackedEvent(name = "editor_post_publish_tapped")
         EDITOR_POST_PUBLISH_TAPPED,
+        @TrackedEvent(name = "editor_post_schedule_changed")
         EDITOR_POST_SCHEDULE_CHANGED,
+        @TrackedEvent(name = "editor_post_visibility_changed")
         EDITOR_POST_VISIBILITY_CHANGED,
+        @TrackedEvent(name = "editor_post_tags_changed")
         EDITOR_POST_TAGS_CHANGED,
+        @TrackedEvent(name = "editor_post_publish_now_tapped")
         EDITOR_POST_PUBLISH_NOW_TAPPED,
+        @TrackedEvent(name = "editor_post_password_changed")
         EDITOR_POST_PASSWORD_CHANGED,
+        @TrackedEvent(name = "editor_post_categories_added")
         EDITOR_POST_CATEGORIES_ADDED,
+        @TrackedEvent(name = "editor_post_format_changed")
         EDITOR_POST_FORMAT_CHANGED,
+        @TrackedEvent(name = "editor_post_slug_changed")
         EDITOR_POST_SLUG_CHANGED,
+        @TrackedEvent(name = "editor_post_excerpt_changed")
         EDITOR_POST_EXCERPT_CHANGED,
+        @TrackedEvent(name = "editor_draft_saved")
         EDITOR_SAVED_DRAFT,
+        @TrackedEvent(name = "editor_image_edited")
         EDITOR_EDITED_IMAGE, // Visual editor only
+        @TrackedEvent(name = "editor_upload_media_failed")
         EDITOR_UPLOAD_MEDIA_FAILED, // Visual editor only
+        @TrackedEvent(name = "editor_upload_media_retried")
         EDITOR_UPLOAD_MEDIA_RETRIED, // Visual editor only
+        @TrackedEvent(name = "editor_upload_media_paused")
         EDITOR_UPLOAD_MEDIA_PAUSED, // Visual editor only
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "blockquote"})
         EDITOR_TAPPED_BLOCKQUOTE,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "bold"})
         EDITOR_TAPPED_BOLD,
+        @TrackedEvent(name = "editor_button_tapped",
+                properties = {"button", "overflow_ellipsis", "action", "made_hidden"})
         EDITOR_TAPPED_ELLIPSIS_COLLAPSE,
+        @TrackedEvent(name = "editor_button_tapped",
+                properties = {"button", "overflow_ellipsis", "action", "made_visible"})
         EDITOR_TAPPED_ELLIPSIS_EXPAND,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "header"})
         EDITOR_TAPPED_HEADING,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "header_selection", "heading_style", "h1"})
         EDITOR_TAPPED_HEADING_1,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "header_selection", "heading_style", "h2"})
         EDITOR_TAPPED_HEADING_2,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "header_selection", "heading_style", "h3"})
         EDITOR_TAPPED_HEADING_3,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "header_selection", "heading_style", "h4"})
         EDITOR_TAPPED_HEADING_4,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "header_selection", "heading_style", "h5"})
         EDITOR_TAPPED_HEADING_5,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "header_selection", "heading_style", "h6"})
         EDITOR_TAPPED_HEADING_6,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "html"})
         EDITOR_TAPPED_HTML, // Visual editor only
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "horizontal_rule"})
         EDITOR_TAPPED_HORIZONTAL_RULE,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "image"})
         EDITOR_TAPPED_IMAGE,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "italic"})
         EDITOR_TAPPED_ITALIC,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "link"})
         EDITOR_TAPPED_LINK_ADDED,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "list"})
         EDITOR_TAPPED_LIST,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "ordered_list"})
         EDITOR_TAPPED_LIST_ORDERED, // Visual editor only
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "unordered_list"})
         EDITOR_TAPPED_LIST_UNORDERED, // Visual editor only
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "next_page"})
         EDITOR_TAPPED_NEXT_PAGE,
+        @TrackedEvent(name = "editor_button_tapped",
+                properties = {"button", "header_selection", "heading_style", "none"})
         EDITOR_TAPPED_PARAGRAPH,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "preformat"})
         EDITOR_TAPPED_PREFORMAT,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "more"})
         EDITOR_TAPPED_READ_MORE,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "strikethrough"})
         EDITOR_TAPPED_STRIKETHROUGH,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "underline"})
         EDITOR_TAPPED_UNDERLINE,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "align_left"})
         EDITOR_TAPPED_ALIGN_LEFT,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "align_center"})
         EDITOR_TAPPED_ALIGN_CENTER,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "align_right"})
         EDITOR_TAPPED_ALIGN_RIGHT,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "redo"})
         EDITOR_TAPPED_REDO,
+        @TrackedEvent(name = "editor_button_tapped", properties = {"button", "undo"})
         EDITOR_TAPPED_UNDO,
+        @TrackedEvent(name = "editor_aztec_toggled_off")
         EDITOR_AZTEC_TOGGLED_OFF, // Aztec editor only
+        @TrackedEvent(name = "editor_aztec_toggled_on")
         EDITOR_AZTEC_TOGGLED_ON, // Aztec editor only
+        @TrackedEvent(name = "editor_aztec_enabled")
         EDITOR_AZTEC_ENABLED, // Aztec editor only
+        @TrackedEvent(name = "gutenberg_enabled")
         EDITOR_GUTENBERG_ENABLED, // Gutenberg editor only
+        @TrackedEvent(name = "gutenberg_disabled")
         EDITOR_GUTENBERG_DISABLED, // Gutenberg editor only
+        @TrackedEvent(name = "editor_help_shown")
         EDITOR_HELP_SHOWN,
+        @TrackedEvent(name = "editor_settings_fetched")
         EDITOR_SETTINGS_FETCHED,
+        @TrackedEvent(name = "landing_editor_shown")
         LANDING_EDITOR_SHOWN,
+        @TrackedEvent(name = "revisions_list_viewed")
         REVISIONS_LIST_VIEWED,
+        @TrackedEvent(name = "revisions_detail_viewed", properties = {"source", "list"})
         REVISIONS_DETAIL_VIEWED_FROM_LIST,
+        @TrackedEvent(name = "revisions_detail_viewed", properties = {"source", "swipe"})
         REVISIONS_DETAIL_VIEWED_FROM_SWIPE,
+        @TrackedEvent(name = "revisions_detail_viewed", properties = {"source", "chevron"})
         REVISIONS_DETAIL_VIEWED_FROM_CHEVRON,
+        @TrackedEvent(name = "revisions_detail_cancelled")
         REVISIONS_DETAIL_CANCELLED,
+        @TrackedEvent(name = "revisions_revision_loaded")
         REVISIONS_REVISION_LOADED,
+        @TrackedEvent(name = "revisions_load_undone")
         REVISIONS_LOAD_UNDONE,
+        @TrackedEvent(name = "followed_blog_notifications_reader_enabled")
         FOLLOWED_BLOG_NOTIFICATIONS_READER_ENABLED,
+        @TrackedEvent(name = "followed_blog_notifications_reader_menu_off")
         FOLLOWED_BLOG_NOTIFICATIONS_READER_MENU_OFF,
+        @TrackedEvent(name = "followed_blog_notifications_reader_menu_on")
         FOLLOWED_BLOG_NOTIFICATIONS_READER_MENU_ON,
+        @TrackedEvent(name = "followed_blog_notifications_settings_off")
         FOLLOWED_BLOG_NOTIFICATIONS_SETTINGS_OFF,
+        @TrackedEvent(name = "followed_blog_notifications_settings_on")
         FOLLOWED_BLOG_NOTIFICATIONS_SETTINGS_ON,
+        @TrackedEvent(name = "followed_blog_notifications_settings_email_off")
         FOLLOWED_BLOG_NOTIFICATIONS_SETTINGS_EMAIL_OFF,
+        @TrackedEvent(name = "followed_blog_notifications_settings_email_on")
         FOLLOWED_BLOG_NOTIFICATIONS_SETTINGS_EMAIL_ON,
+        @TrackedEvent(name = "followed_blog_notifications_settings_email_instantly")
         FOLLOWED_BLOG_NOTIFICATIONS_SETTINGS_EMAIL_INSTANTLY,
+        @TrackedEvent(name = "followed_blog_notifications_settings_email_daily")
         FOLLOWED_BLOG_NOTIFICATIONS_SETTINGS_EMAIL_DAILY,
+        @TrackedEvent(name = "followed_blog_notifications_settings_email_weekly")
         FOLLOWED_BLOG_NOTIFICATIONS_SETTINGS_EMAIL_WEEKLY,
+        @TrackedEvent(name = "followed_blog_notifications_settings_comments_off")
         FOLLOWED_BLOG_NOTIFICATIONS_SETTINGS_COMMENTS_OFF,
+        @TrackedEvent(name = "followed_blog_notifications_settings_comments_on")
         FOLLOWED_BLOG_NOTIFICATIONS_SETTINGS_COMMENTS_ON,
+        @TrackedEvent(name = "me_tab_accessed")
         ME_ACCESSED,
+        @TrackedEvent(name = "me_gravatar_tapped")
         ME_GRAVATAR_TAPPED,
+        @TrackedEvent(name = "me_gravatar_shot_new")
         ME_GRAVATAR_SHOT_NEW,
+        @TrackedEvent(name = "me_gravatar_gallery_picked")
         ME_GRAVATAR_GALLERY_PICKED,
+        @TrackedEvent(name = "me_gravatar_cropped")
         ME_GRAVATAR_CROPPED,
+        @TrackedEvent(name = "me_gravatar_uploaded")
         ME_GRAVATAR_UPLOADED,
+        @TrackedEvent(name = "me_gravatar_upload_unsuccessful")
         ME_GRAVATAR_UPLOAD_UNSUCCESSFUL,
+        @TrackedEvent(name = "me_gravatar_upload_exception")
         ME_GRAVATAR_UPLOAD_EXCEPTION,
+        @TrackedEvent(name = "my_site_tab_accessed")
         MY_SITE_ACCESSED,
+        @TrackedEvent(name = "my_site_icon_tapped")
         MY_SITE_ICON_TAPPED,
+        @TrackedEvent(name = "my_site_icon_removed")
         MY_SITE_ICON_REMOVED,
+        @TrackedEvent(name = "my_site_icon_shot_new")
         MY_SITE_ICON_SHOT_NEW,
+        @TrackedEvent(name = "my_site_icon_gallery_picked")
         MY_SITE_ICON_GALLERY_PICKED,
+        @TrackedEvent(name = "my_site_icon_cropped")
         MY_SITE_ICON_CROPPED,
+        @TrackedEvent(name = "my_site_icon_uploaded")
         MY_SITE_ICON_UPLOADED,
+        @TrackedEvent(name = "my_site_icon_upload_unsuccessful")
         MY_SITE_ICON_UPLOAD_UNSUCCESSFUL,
+        @TrackedEvent(name = "my_site_create_sheet_answer_prompt_tapped")
         MY_SITE_CREATE_SHEET_ANSWER_PROMPT_TAPPED,
+        @TrackedEvent(name = "notifications_disabled")
         NOTIFICATIONS_DISABLED,
+        @TrackedEvent(name = "notifications_enabled")
         NOTIFICATIONS_ENABLED,
+        @TrackedEvent(name = "notifications_accessed")
         NOTIFICATIONS_ACCESSED,
+        @TrackedEvent(name = "notifications_notification_details_opened")
         NOTIFICATIONS_OPENED_NOTIFICATION_DETAILS,
+        @TrackedEvent(name = "notifications_missing_sync_warning")
         NOTIFICATIONS_MISSING_SYNC_WARNING,
+        @TrackedEvent(name = "notifications_replied_to")
         NOTIFICATION_REPLIED_TO,
+        @TrackedEvent(name = "notifications_replied_to", trueProperties = {"is_quick_action"})
         NOTIFICATION_QUICK_ACTIONS_REPLIED_TO,
+        @TrackedEvent(name = "notifications_approved")
         NOTIFICATION_APPROVED,
+        @TrackedEvent(name = "notifications_approved", trueProperties = {"is_quick_action"})
         NOTIFICATION_QUICK_ACTIONS_APPROVED,
+        @TrackedEvent(name = "notifications_unapproved")
         NOTIFICATION_UNAPPROVED,
+        @TrackedEvent(name = "notifications_comment_liked")
         NOTIFICATION_LIKED,
+        @TrackedEvent(name = "notifications_comment_liked", trueProperties = {"is_quick_action"})
         NOTIFICATION_QUICK_ACTIONS_LIKED,
+        @TrackedEvent(name = "quick_action_touched")
         NOTIFICATION_QUICK_ACTIONS_QUICKACTION_TOUCHED,
+        @TrackedEvent(name = "notifications_comment_unliked")
         NOTIFICATION_UNLIKED,
+        @TrackedEvent(name = "notifications_trashed")
         NOTIFICATION_TRASHED,
+        @TrackedEvent(name = "notifications_flagged_as_spam")
         NOTIFICATION_FLAGGED_AS_SPAM,
+        @TrackedEvent(name = "notifications_swipe_page_changed")
         NOTIFICATION_SWIPE_PAGE_CHANGED,
+        @TrackedEvent(name = "notifications_pending_drafts_tapped")
         NOTIFICATION_PENDING_DRAFTS_TAPPED,
+        @TrackedEvent(name = "notifications_pending_drafts_ignored")
         NOTIFICATION_PENDING_DRAFTS_IGNORED,
+        @TrackedEvent(name = "notifications_pending_drafts_dismissed")
         NOTIFICATION_PENDING_DRAFTS_DISMISSED,
+        @TrackedEvent(name = "notifications_pending_drafts_settings_enabled")
         NOTIFICATION_PENDING_DRAFTS_SETTINGS_ENABLED,
+        @TrackedEvent(name = "notifications_pending_drafts_settings_disabled")
         NOTIFICATION_PENDING_DRAFTS_SETTINGS_DISABLED,
+        @TrackedEvent(name = "notifications_upload_media_success_write_post")
         NOTIFICATION_UPLOAD_MEDIA_SUCCESS_WRITE_POST,
+        @TrackedEvent(name = "notifications_upload_post_error_retry")
         NOTIFICATION_UPLOAD_POST_ERROR_RETRY,
+        @TrackedEvent(name = "notifications_upload_media_error_retry")
         NOTIFICATION_UPLOAD_MEDIA_ERROR_RETRY,
+        @TrackedEvent(name = "notifications_received_processing_start")
         NOTIFICATION_RECEIVED_PROCESSING_START,
+        @TrackedEvent(name = "notifications_received_processing_end")
         NOTIFICATION_RECEIVED_PROCESSING_END,
+        @TrackedEvent(name = "notification_shown")
         NOTIFICATION_SHOWN,
+        @TrackedEvent(name = "notification_tapped")
         NOTIFICATION_TAPPED,
+        @TrackedEvent(name = "notification_dismissed")
         NOTIFICATION_DISMISSED,
+        @TrackedEvent(name = "site_menu_opened", properties = {"menu_item", "posts"})
         OPENED_POSTS,
+        @TrackedEvent(name = "site_menu_opened", properties = {"menu_item", "pages"})
         OPENED_PAGES,
+        @TrackedEvent(name = "page_parent_opened")
         OPENED_PAGE_PARENT,
+        @TrackedEvent(name = "site_menu_opened", properties = {"menu_item", "comments"})
         OPENED_COMMENTS,
+        @TrackedEvent(name = "site_menu_opened", properties = {"menu_item", "view_site"})
         OPENED_VIEW_SITE,
+        @TrackedEvent(name = "site_menu_opened", properties = {"menu_item", "view_site_from_header"})
         OPENED_VIEW_SITE_FROM_HEADER,
+        @TrackedEvent(name = "site_menu_opened", properties = {"menu_item", "view_admin"})
         OPENED_VIEW_ADMIN,
+        @TrackedEvent(name = "site_menu_opened", properties = {"menu_item", "media_library"})
         OPENED_MEDIA_LIBRARY,
+        @TrackedEvent(name = "site_menu_opened", properties = {"menu_item", "site_settings"})
         OPENED_BLOG_SETTINGS,
+        @TrackedEvent(name = "account_settings_opened")
         OPENED_ACCOUNT_SETTINGS,
+        @TrackedEvent(name = "account_settings_change_username_succeeded")
         ACCOUNT_SETTINGS_CHANGE_USERNAME_SUCCEEDED,
+        @TrackedEvent(name = "account_settings_change_username_failed")
         ACCOUNT_SETTINGS_CHANGE_USERNAME_FAILED,
+        @TrackedEvent(name = "account_settings_change_username_suggestions_failed")
         ACCOUNT_SETTINGS_CHANGE_USERNAME_SUGGESTIONS_FAILED,
+        @TrackedEvent(name = "app_settings_opened")
         OPENED_APP_SETTINGS,
+        @TrackedEvent(name = "my_profile_opened")
         OPENED_MY_PROFILE,
+        @TrackedEvent(name = "people_management_list_opened")
         OPENED_PEOPLE_MANAGEMENT,
+        @TrackedEvent(name = "people_management_details_opened")
         OPENED_PERSON,
+        @TrackedEvent(name = "plugin_directory_opened")
         OPENED_PLUGIN_DIRECTORY,
+        @TrackedEvent(name = "site_menu_opened", properties = {"menu_item", "plans"})
         OPENED_PLANS,
+        @TrackedEvent(name = "plans_compare")
         OPENED_PLANS_COMPARISON,
+        @TrackedEvent(name = "site_menu_opened", properties = {"menu_item", "sharing_management"})
         OPENED_SHARING_MANAGEMENT,
+        @TrackedEvent(name = "sharing_buttons_opened")
         OPENED_SHARING_BUTTON_MANAGEMENT,
+        @TrackedEvent(name = "activity_log_list_opened")
         ACTIVITY_LOG_LIST_OPENED,
+        @TrackedEvent(name = "activity_log_detail_opened")
         ACTIVITY_LOG_DETAIL_OPENED,
+        @TrackedEvent(name = "activity_log_rewind_started")
         ACTIVITY_LOG_REWIND_STARTED,
+        @TrackedEvent(name = "activitylog_filterbar_range_button_tapped")
         ACTIVITY_LOG_FILTER_BAR_DATE_RANGE_BUTTON_TAPPED,
+        @TrackedEvent(name = "activitylog_filterbar_type_button_tapped")
         ACTIVITY_LOG_FILTER_BAR_ACTIVITY_TYPE_BUTTON_TAPPED,
+        @TrackedEvent(name = "activitylog_filterbar_select_range")
         ACTIVITY_LOG_FILTER_BAR_DATE_RANGE_SELECTED,
+        @TrackedEvent(name = "activitylog_filterbar_select_type")
         ACTIVITY_LOG_FILTER_BAR_ACTIVITY_TYPE_SELECTED,
+        @TrackedEvent(name = "activitylog_filterbar_reset_range")
         ACTIVITY_LOG_FILTER_BAR_DATE_RANGE_RESET,
+        @TrackedEvent(name = "activitylog_filterbar_reset_type")
         ACTIVITY_LOG_FILTER_BAR_ACTIVITY_TYPE_RESET,
+        @TrackedEvent(name = "jetpack_backup_list_opened")
         JETPACK_BACKUP_LIST_OPENED,
+        @TrackedEvent(name = "jetpack_backup_rewind_started")
         JETPACK_BACKUP_REWIND_STARTED,
+        @TrackedEvent(name = "jetpack_backup_filterbar_range_button_tapped")
         JETPACK_BACKUP_FILTER_BAR_DATE_RANGE_BUTTON_TAPPED,
+        @TrackedEvent(name = "jetpack_backup_filterbar_select_range")
         JETPACK_BACKUP_FILTER_BAR_DATE_RANGE_SELECTED,
+        @TrackedEvent(name = "jetpack_backup_filterbar_reset_range")
         JETPACK_BACKUP_FILTER_BAR_DATE_RANGE_RESET,
+        @TrackedEvent(name = "jetpack_scan_accessed")
         JETPACK_SCAN_ACCESSED,
+        @TrackedEvent(name = "jetpack_scan_history_accessed")
         JETPACK_SCAN_HISTORY_ACCESSED,
+        @TrackedEvent(name = "jetpack_scan_history_filter")
         JETPACK_SCAN_HISTORY_FILTER,
+        @TrackedEvent(name = "jetpack_scan_threat_list_item_tapped")
         JETPACK_SCAN_THREAT_LIST_ITEM_TAPPED,
+        @TrackedEvent(name = "jetpack_scan_threat_codeable_estimate_tapped")
         JETPACK_SCAN_THREAT_CODEABLE_ESTIMATE_TAPPED,
+        @TrackedEvent(name = "jetpack_scan_run_tapped")
         JETPACK_SCAN_RUN_TAPPED,
+        @TrackedEvent(name = "jetpack_scan_ignorethreat_dialogopen")
         JETPACK_SCAN_IGNORE_THREAT_DIALOG_OPEN,
+        @TrackedEvent(name = "jetpack_scan_threat_ignore_tapped")
         JETPACK_SCAN_THREAT_IGNORE_TAPPED,
+        @TrackedEvent(name = "jetpack_scan_fixthreat_dialogopen")
         JETPACK_SCAN_FIX_THREAT_DIALOG_OPEN,
+        @TrackedEvent(name = "jetpack_scan_threat_fix_tapped")
         JETPACK_SCAN_THREAT_FIX_TAPPED,
+        @TrackedEvent(name = "jetpack_scan_allthreats_open")
         JETPACK_SCAN_ALL_THREATS_OPEN,
+        @TrackedEvent(name = "jetpack_scan_allthreats_fix_tapped")
         JETPACK_SCAN_ALL_THREATS_FIX_TAPPED,
+        @TrackedEvent(name = "jetpack_scan_error")
         JETPACK_SCAN_ERROR,
+        @TrackedEvent(name = "plugin_list_opened")
         OPENED_PLUGIN_LIST,
+        @TrackedEvent(name = "plugin_detail_opened")
         OPENED_PLUGIN_DETAIL,
+        @TrackedEvent(name = "account_create_initiated")
         CREATE_ACCOUNT_INITIATED,
+        @TrackedEvent(name = "account_create_email_exists")
         CREATE_ACCOUNT_EMAIL_EXISTS,
+        @TrackedEvent(name = "account_create_username_exists")
         CREATE_ACCOUNT_USERNAME_EXISTS,
+        @TrackedEvent(name = "account_create_failed")
         CREATE_ACCOUNT_FAILED,
         // This stat is part of a funnel that provides critical information.  Before
         // making ANY modification to this stat please refer to: p4qSXL-35X-p2
+        @TrackedEvent(name = "account_created")
         CREATED_ACCOUNT,
+        @TrackedEvent(name = "close_account_failed")
         CLOSE_ACCOUNT_FAILED,
+        @TrackedEvent(name = "closed_account")
         CLOSED_ACCOUNT,
+        @TrackedEvent(name = "account_logout")
         ACCOUNT_LOGOUT,
+        @TrackedEvent(name = "item_shared_reader")
         SHARED_ITEM_READER,
+        @TrackedEvent(name = "self_hosted_blog_added")
         ADDED_SELF_HOSTED_SITE,
+        @TrackedEvent(name = "signed_in")
         SIGNED_IN,
+        @TrackedEvent(name = "signed_into_jetpack")
         SIGNED_INTO_JETPACK,
+        @TrackedEvent(name = "install_jetpack_selected")
         INSTALL_JETPACK_SELECTED,
+        @TrackedEvent(name = "install_jetpack_canceled")
         INSTALL_JETPACK_CANCELLED,
+        @TrackedEvent(name = "install_jetpack_completed")
         INSTALL_JETPACK_COMPLETED,
+        @TrackedEvent(name = "install_jetpack_remote_start")
         INSTALL_JETPACK_REMOTE_START,
+        @TrackedEvent(name = "install_jetpack_remote_completed")
         INSTALL_JETPACK_REMOTE_COMPLETED,
+        @TrackedEvent(name = "install_jetpack_remote_failed")
         INSTALL_JETPACK_REMOTE_FAILED,
+        @TrackedEvent(name = "install_jetpack_remote_connect")
         INSTALL_JETPACK_REMOTE_CONNECT,
+        @TrackedEvent(name = "install_jetpack_remote_login")
         INSTALL_JETPACK_REMOTE_LOGIN,
+        @TrackedEvent(name = "install_jetpack_remote_restart")
         INSTALL_JETPACK_REMOTE_RESTART,
+        @TrackedEvent(name = "install_jetpack_remote_start_manual_flow")
         INSTALL_JETPACK_REMOTE_START_MANUAL_FLOW,
+        @TrackedEvent(name = "install_jetpack_remote_already_installed")
         INSTALL_JETPACK_REMOTE_ALREADY_INSTALLED,
+        @TrackedEvent(name = "connect_jetpack_selected")
         CONNECT_JETPACK_SELECTED,
+        @TrackedEvent(name = "connect_jetpack_failed")
         CONNECT_JETPACK_FAILED,
+        @TrackedEvent(name = "push_notification_received")
         PUSH_NOTIFICATION_RECEIVED,
+        @TrackedEvent(name = "push_notification_alert_tapped")
         PUSH_NOTIFICATION_TAPPED, // Same of opened
+        @TrackedEvent(name = "unified_login_step")
         UNIFIED_LOGIN_STEP,
+        @TrackedEvent(name = "unified_login_interaction")
         UNIFIED_LOGIN_INTERACTION,
+        @TrackedEvent(name = "unified_login_failure")
         UNIFIED_LOGIN_FAILURE,
+        @TrackedEvent(name = "login_accessed")
         LOGIN_ACCESSED,
+        @TrackedEvent(name = "login_magic_link_exited")
         LOGIN_MAGIC_LINK_EXITED,
+        @TrackedEvent(name = "login_magic_link_failed")
         LOGIN_MAGIC_LINK_FAILED,
+        @TrackedEvent(name = "login_magic_link_opened")
         LOGIN_MAGIC_LINK_OPENED,
+        @TrackedEvent(name = "login_magic_link_requested")
         LOGIN_MAGIC_LINK_REQUESTED,
+        @TrackedEvent(name = "login_magic_link_succeeded")
         LOGIN_MAGIC_LINK_SUCCEEDED,
+        @TrackedEvent(name = "login_failed_to_login")
         LOGIN_FAILED,
+        @TrackedEvent(name = "login_failed_to_guess_xmlrpc")
         LOGIN_FAILED_TO_GUESS_XMLRPC,
+        @TrackedEvent(name = "login_inserted_invalid_url")
         LOGIN_INSERTED_INVALID_URL,
+        @TrackedEvent(name = "login_autofill_credentials_filled")
         LOGIN_AUTOFILL_CREDENTIALS_FILLED,
+        @TrackedEvent(name = "login_autofill_credentials_updated")
         LOGIN_AUTOFILL_CREDENTIALS_UPDATED,
+        @TrackedEvent(name = "login_prologue_paged")
         LOGIN_PROLOGUE_PAGED,
+        @TrackedEvent(name = "login_prologue_paged_jetpack")
         LOGIN_PROLOGUE_PAGED_JETPACK,
+        @TrackedEvent(name = "login_prologue_paged_notifications")
         LOGIN_PROLOGUE_PAGED_NOTIFICATIONS,
+        @TrackedEvent(name = "login_prologue_paged_post")
         LOGIN_PROLOGUE_PAGED_POST,
+        @TrackedEvent(name = "login_prologue_paged_reader")
         LOGIN_PROLOGUE_PAGED_READER,
+        @TrackedEvent(name = "login_prologue_paged_stats")
         LOGIN_PROLOGUE_PAGED_STATS,
+        @TrackedEvent(name = "login_prologue_viewed")
         LOGIN_PROLOGUE_VIEWED,
+        @TrackedEvent(name = "login_email_form_viewed")
         LOGIN_EMAIL_FORM_VIEWED,
+        @TrackedEvent(name = "login_magic_link_open_email_client_viewed")
         LOGIN_MAGIC_LINK_OPEN_EMAIL_CLIENT_VIEWED,
+        @TrackedEvent(name = "login_magic_link_open_email_client_clicked")
         LOGIN_MAGIC_LINK_OPEN_EMAIL_CLIENT_CLICKED,
+        @TrackedEvent(name = "login_magic_link_request_form_viewed")
         LOGIN_MAGIC_LINK_REQUEST_FORM_VIEWED,
+        @TrackedEvent(name = "login_password_form_viewed")
         LOGIN_PASSWORD_FORM_VIEWED,
+        @TrackedEvent(name = "login_url_form_viewed")
         LOGIN_URL_FORM_VIEWED,
+        @TrackedEvent(name = "login_url_help_screen_viewed")
         LOGIN_URL_HELP_SCREEN_VIEWED,
+        @TrackedEvent(name = "login_connected_site_info_requested")
         LOGIN_CONNECTED_SITE_INFO_REQUESTED,
+        @TrackedEvent(name = "login_connected_site_info_failed")
         LOGIN_CONNECTED_SITE_INFO_FAILED,
+        @TrackedEvent(name = "login_connected_site_info_succeeded")
         LOGIN_CONNECTED_SITE_INFO_SUCCEEDED,
+        @TrackedEvent(name = "login_username_password_form_viewed")
         LOGIN_USERNAME_PASSWORD_FORM_VIEWED,
+        @TrackedEvent(name = "login_two_factor_form_viewed")
         LOGIN_TWO_FACTOR_FORM_VIEWED,
+        @TrackedEvent(name = "login_epilogue_viewed")
         LOGIN_EPILOGUE_VIEWED,
+        @TrackedEvent(name = "login_forgot_password_clicked")
         LOGIN_FORGOT_PASSWORD_CLICKED,
+        @TrackedEvent(name = "login_social_button_click")
         LOGIN_SOCIAL_BUTTON_CLICK,
+        @TrackedEvent(name = "login_social_button_failure")
         LOGIN_SOCIAL_BUTTON_FAILURE,
+        @TrackedEvent(name = "login_social_connect_success")
         LOGIN_SOCIAL_CONNECT_SUCCESS,
+        @TrackedEvent(name = "login_social_connect_failure")
         LOGIN_SOCIAL_CONNECT_FAILURE,
+        @TrackedEvent(name = "login_social_success")
         LOGIN_SOCIAL_SUCCESS,
+        @TrackedEvent(name = "login_social_failure")
         LOGIN_SOCIAL_FAILURE,
+        @TrackedEvent(name = "login_social_2fa_needed")
         LOGIN_SOCIAL_2FA_NEEDED,
+        @TrackedEvent(name = "login_social_accounts_need_connecting")
         LOGIN_SOCIAL_ACCOUNTS_NEED_CONNECTING,
+        @TrackedEvent(name = "login_social_error_unknown_user")
         LOGIN_SOCIAL_ERROR_UNKNOWN_USER,
+        @TrackedEvent(name = "login_wpcom_background_service_update")
         LOGIN_WPCOM_BACKGROUND_SERVICE_UPDATE,
+        @TrackedEvent(name = "site_pages_set_parent_changes_saved")
         PAGES_SET_PARENT_CHANGES_SAVED,
+        @TrackedEvent(name = "site_pages_add_page")
         PAGES_ADD_PAGE,
+        @TrackedEvent(name = "site_pages_tabs_pressed")
         PAGES_TAB_PRESSED,
+        @TrackedEvent(name = "site_pages_options_pressed")
         PAGES_OPTIONS_PRESSED,
+        @TrackedEvent(name = "site_pages_search_accessed")
         PAGES_SEARCH_ACCESSED,
+        @TrackedEvent(name = "site_pages_edit_homepage_info_pressed")
         PAGES_EDIT_HOMEPAGE_INFO_PRESSED,
+        @TrackedEvent(name = "site_pages_edit_homepage_item_pressed")
         PAGES_EDIT_HOMEPAGE_ITEM_PRESSED,
         // This stat is part of a funnel that provides critical information.  Before
         // making ANY modification to this stat please refer to: p4qSXL-35X-p2
+        @TrackedEvent(name = "signup_button_tapped")
         SIGNUP_BUTTON_TAPPED,
+        @TrackedEvent(name = "signup_email_button_tapped")
         SIGNUP_EMAIL_BUTTON_TAPPED,
+        @TrackedEvent(name = "signup_email_epilogue_gravatar_cropped")
         SIGNUP_EMAIL_EPILOGUE_GRAVATAR_CROPPED,
+        @TrackedEvent(name = "signup_email_epilogue_gallery_picked")
         SIGNUP_EMAIL_EPILOGUE_GRAVATAR_GALLERY_PICKED,
+        @TrackedEvent(name = "signup_email_epilogue_shot_new")
         SIGNUP_EMAIL_EPILOGUE_GRAVATAR_SHOT_NEW,
+        @TrackedEvent(name = "signup_epilogue_unchanged", properties = {"source", "email"})
         SIGNUP_EMAIL_EPILOGUE_UNCHANGED,
+        @TrackedEvent(name = "signup_epilogue_update_display_name_failed", properties = {"source", "email"})
         SIGNUP_EMAIL_EPILOGUE_UPDATE_DISPLAY_NAME_FAILED,
+        @TrackedEvent(name = "signup_epilogue_update_display_name_succeeded", properties = {"source", "email"})
         SIGNUP_EMAIL_EPILOGUE_UPDATE_DISPLAY_NAME_SUCCEEDED,
+        @TrackedEvent(name = "signup_epilogue_update_username_failed", properties = {"source", "email"})
         SIGNUP_EMAIL_EPILOGUE_UPDATE_USERNAME_FAILED,
+        @TrackedEvent(name = "signup_epilogue_update_username_succeeded", properties = {"source", "email"})
         SIGNUP_EMAIL_EPILOGUE_UPDATE_USERNAME_SUCCEEDED,
+        @TrackedEvent(name = "signup_epilogue_username_suggestions_failed", properties = {"source", "email"})
         SIGNUP_EMAIL_EPILOGUE_USERNAME_SUGGESTIONS_FAILED,
+        @TrackedEvent(name = "signup_epilogue_username_tapped", properties = {"source", "email"})
         SIGNUP_EMAIL_EPILOGUE_USERNAME_TAPPED,
+        @TrackedEvent(name = "signup_epilogue_viewed", properties = {"source", "email"})
         SIGNUP_EMAIL_EPILOGUE_VIEWED,
+        @TrackedEvent(name = "signup_social_button_tapped", properties = {"source", "google"})
         SIGNUP_SOCIAL_BUTTON_TAPPED,
+        @TrackedEvent(name = "signup_terms_of_service_tapped")
         SIGNUP_TERMS_OF_SERVICE_TAPPED,
+        @TrackedEvent(name = "signup_canceled")
         SIGNUP_CANCELED,
+        @TrackedEvent(name = "signup_email_to_login")
         SIGNUP_EMAIL_TO_LOGIN,
+        @TrackedEvent(name = "signup_magic_link_failed")
         SIGNUP_MAGIC_LINK_FAILED,
+        @TrackedEvent(name = "signup_magic_link_opened")
         SIGNUP_MAGIC_LINK_OPENED,
+        @TrackedEvent(name = "signup_magic_link_open_email_client_clicked")
         SIGNUP_MAGIC_LINK_OPEN_EMAIL_CLIENT_CLICKED,
+        @TrackedEvent(name = "signup_magic_link_sent")
         SIGNUP_MAGIC_LINK_SENT,
+        @TrackedEvent(name = "signup_magic_link_succeeded")
         SIGNUP_MAGIC_LINK_SUCCEEDED,
+        @TrackedEvent(name = "signup_social_accounts_need_connecting")
         SIGNUP_SOCIAL_ACCOUNTS_NEED_CONNECTING,
+        @TrackedEvent(name = "signup_social_button_failure", properties = {"source", "social"})
         SIGNUP_SOCIAL_BUTTON_FAILURE,
+        @TrackedEvent(name = "signup_epilogue_unchanged", properties = {"source", "social"})
         SIGNUP_SOCIAL_EPILOGUE_UNCHANGED,
+        @TrackedEvent(name = "signup_epilogue_update_display_name_failed", properties = {"source", "social"})
         SIGNUP_SOCIAL_EPILOGUE_UPDATE_DISPLAY_NAME_FAILED,
+        @TrackedEvent(name = "signup_epilogue_update_display_name_succeeded", properties = {"source", "social"})
         SIGNUP_SOCIAL_EPILOGUE_UPDATE_DISPLAY_NAME_SUCCEEDED,
+        @TrackedEvent(name = "signup_epilogue_update_username_failed", properties = {"source", "social"})
         SIGNUP_SOCIAL_EPILOGUE_UPDATE_USERNAME_FAILED,
+        @TrackedEvent(name = "signup_epilogue_update_username_succeeded", properties = {"source", "social"})
         SIGNUP_SOCIAL_EPILOGUE_UPDATE_USERNAME_SUCCEEDED,
+        @TrackedEvent(name = "signup_epilogue_username_suggestions_failed", properties = {"source", "social"})
         SIGNUP_SOCIAL_EPILOGUE_USERNAME_SUGGESTIONS_FAILED,
+        @TrackedEvent(name = "signup_epilogue_username_tapped", properties = {"source", "social"})
         SIGNUP_SOCIAL_EPILOGUE_USERNAME_TAPPED,
+        @TrackedEvent(name = "signup_epilogue_viewed", properties = {"source", "social"})
         SIGNUP_SOCIAL_EPILOGUE_VIEWED,
+        @TrackedEvent(name = "signup_social_success")
         SIGNUP_SOCIAL_SUCCESS,
+        @TrackedEvent(name = "signup_social_to_login")
         SIGNUP_SOCIAL_TO_LOGIN,
+        @TrackedEvent(name = "enhanced_site_creation_accessed")
         ENHANCED_SITE_CREATION_ACCESSED,
+        @TrackedEvent(name = "enhanced_site_creation_domains_accessed")
         ENHANCED_SITE_CREATION_DOMAINS_ACCESSED,
+        @TrackedEvent(name = "enhanced_site_creation_domains_selected")
         ENHANCED_SITE_CREATION_DOMAINS_SELECTED,
+        @TrackedEvent(name = "enhanced_site_creation_success_loading")
         ENHANCED_SITE_CREATION_SUCCESS_LOADING,
+        @TrackedEvent(name = "enhanced_site_creation_success_preview_viewed")
         ENHANCED_SITE_CREATION_SUCCESS_PREVIEW_VIEWED,
+        @TrackedEvent(name = "enhanced_site_creation_success_preview_loaded")
         ENHANCED_SITE_CREATION_SUCCESS_PREVIEW_LOADED,
+        @TrackedEvent(name = "enhanced_site_creation_preview_ok_button_tapped")
         ENHANCED_SITE_CREATION_PREVIEW_OK_BUTTON_TAPPED,
+        @TrackedEvent(name = "enhanced_site_creation_exited")
         ENHANCED_SITE_CREATION_EXITED,
+        @TrackedEvent(name = "enhanced_site_creation_error_shown")
         ENHANCED_SITE_CREATION_ERROR_SHOWN,
+        @TrackedEvent(name = "enhanced_site_creation_background_service_updated")
         ENHANCED_SITE_CREATION_BACKGROUND_SERVICE_UPDATED,
+        @TrackedEvent(name = "enhanced_site_creation_site_design_viewed")
         ENHANCED_SITE_CREATION_SITE_DESIGN_VIEWED,
+        @TrackedEvent(name = "enhanced_site_creation_site_design_selected")
         ENHANCED_SITE_CREATION_SITE_DESIGN_SELECTED,
+        @TrackedEvent(name = "enhanced_site_creation_site_design_skipped")
         ENHANCED_SITE_CREATION_SITE_DESIGN_SKIPPED,
+        @TrackedEvent(name = "enhanced_site_creation_site_design_preview_viewed")
         ENHANCED_SITE_CREATION_SITE_DESIGN_PREVIEW_VIEWED,
+        @TrackedEvent(name = "enhanced_site_creation_site_design_preview_mode_button_tapped")
         ENHANCED_SITE_CREATION_SITE_DESIGN_PREVIEW_MODE_BUTTON_TAPPED,
+        @TrackedEvent(name = "enhanced_site_creation_site_design_preview_mode_changed")
         ENHANCED_SITE_CREATION_SITE_DESIGN_PREVIEW_MODE_CHANGED,
+        @TrackedEvent(name = "enhanced_site_creation_site_design_preview_loading")
         ENHANCED_SITE_CREATION_SITE_DESIGN_PREVIEW_LOADING,
+        @TrackedEvent(name = "enhanced_site_creation_site_design_preview_loaded")
         ENHANCED_SITE_CREATION_SITE_DESIGN_PREVIEW_LOADED,
+        @TrackedEvent(name = "enhanced_site_creation_intent_question_viewed")
         ENHANCED_SITE_CREATION_INTENT_QUESTION_VIEWED,
+        @TrackedEvent(name = "enhanced_site_creation_intent_question_canceled")
         ENHANCED_SITE_CREATION_INTENT_QUESTION_CANCELED,
+        @TrackedEvent(name = "enhanced_site_creation_intent_question_skipped")
         ENHANCED_SITE_CREATION_INTENT_QUESTION_SKIPPED,
+        @TrackedEvent(name = "enhanced_site_creation_intent_question_custom_vertical_selected")
         ENHANCED_SITE_CREATION_INTENT_QUESTION_CUSTOM_VERTICAL_SELECTED,
+        @TrackedEvent(name = "enhanced_site_creation_intent_question_vertical_selected")
         ENHANCED_SITE_CREATION_INTENT_QUESTION_VERTICAL_SELECTED,
+        @TrackedEvent(name = "enhanced_site_creation_intent_question_search_focused")
         ENHANCED_SITE_CREATION_INTENT_QUESTION_SEARCH_FOCUSED,
+        @TrackedEvent(name = "enhanced_site_creation_intent_question_experiment")
         ENHANCED_SITE_CREATION_INTENT_QUESTION_EXPERIMENT,
+        @TrackedEvent(name = "enhanced_site_creation_site_name_viewed")
         ENHANCED_SITE_CREATION_SITE_NAME_VIEWED,
+        @TrackedEvent(name = "enhanced_site_creation_site_name_canceled")
         ENHANCED_SITE_CREATION_SITE_NAME_CANCELED,
+        @TrackedEvent(name = "enhanced_site_creation_site_name_skipped")
         ENHANCED_SITE_CREATION_SITE_NAME_SKIPPED,
+        @TrackedEvent(name = "enhanced_site_creation_site_name_entered")
         ENHANCED_SITE_CREATION_SITE_NAME_ENTERED,
+        @TrackedEvent(name = "layout_picker_preview_mode_changed")
         LAYOUT_PICKER_PREVIEW_MODE_CHANGED,
+        @TrackedEvent(name = "layout_picker_thumbnail_mode_button_tapped")
         LAYOUT_PICKER_THUMBNAIL_MODE_BUTTON_TAPPED,
+        @TrackedEvent(name = "layout_picker_preview_mode_button_tapped")
         LAYOUT_PICKER_PREVIEW_MODE_BUTTON_TAPPED,
+        @TrackedEvent(name = "layout_picker_preview_loading")
         LAYOUT_PICKER_PREVIEW_LOADING,
+        @TrackedEvent(name = "layout_picker_preview_loaded")
         LAYOUT_PICKER_PREVIEW_LOADED,
+        @TrackedEvent(name = "layout_picker_preview_viewed")
         LAYOUT_PICKER_PREVIEW_VIEWED,
+        @TrackedEvent(name = "layout_picker_error_shown")
         LAYOUT_PICKER_ERROR_SHOWN,
+        @TrackedEvent(name = "category_filter_selected")
         CATEGORY_FILTER_SELECTED,
+        @TrackedEvent(name = "category_filter_deselected")
         CATEGORY_FILTER_DESELECTED,
         // This stat is part of a funnel that provides critical information.  Before
         // making ANY modification to this stat please refer to: p4qSXL-35X-p2
+        @TrackedEvent(name = "site_created")
         SITE_CREATED,
+        @TrackedEvent(name = "media_library_photo_added")
         MEDIA_LIBRARY_ADDED_PHOTO,
+        @TrackedEvent(name = "media_library_video_added")
         MEDIA_LIBRARY_ADDED_VIDEO,
+        @TrackedEvent(name = "people_management_person_removed")
         PERSON_REMOVED,
+        @TrackedEvent(name = "people_management_person_updated")
         PERSON_UPDATED,
+        @TrackedEvent(name = "push_authentication_approved")
         PUSH_AUTHENTICATION_APPROVED,
+        @TrackedEvent(name = "push_authentication_expired")
         PUSH_AUTHENTICATION_EXPIRED,
+        @TrackedEvent(name = "push_authentication_failed")
         PUSH_AUTHENTICATION_FAILED,
+        @TrackedEvent(name = "push_authentication_ignored")
         PUSH_AUTHENTICATION_IGNORED,
+        @TrackedEvent(name = "notification_settings_list_opened")
         NOTIFICATION_SETTINGS_LIST_OPENED,
+        @TrackedEvent(name = "notification_settings_streams_opened")
         NOTIFICATION_SETTINGS_STREAMS_OPENED,
+        @TrackedEvent(name = "notification_settings_details_opened")
         NOTIFICATION_SETTINGS_DETAILS_OPENED,
+        @TrackedEvent(name = "notification_settings_app_notifications_disabled")
         NOTIFICATION_SETTINGS_APP_NOTIFICATIONS_DISABLED,
+        @TrackedEvent(name = "notification_settings_app_notifications_enabled")
         NOTIFICATION_SETTINGS_APP_NOTIFICATIONS_ENABLED,
+        @TrackedEvent(name = "notification_tapped_segmented_control")
         NOTIFICATION_TAPPED_SEGMENTED_CONTROL,
+        @TrackedEvent(name = "themes_theme_browser_accessed")
         THEMES_ACCESSED_THEMES_BROWSER,
+        @TrackedEvent(name = "themes_search_accessed")
         THEMES_ACCESSED_SEARCH,
+        @TrackedEvent(name = "themes_theme_changed")
         THEMES_CHANGED_THEME,
+        @TrackedEvent(name = "themes_theme_for_site_previewed")
         THEMES_PREVIEWED_SITE,
+        @TrackedEvent(name = "themes_demo_accessed")
         THEMES_DEMO_ACCESSED,
+        @TrackedEvent(name = "themes_customize_accessed")
         THEMES_CUSTOMIZE_ACCESSED,
+        @TrackedEvent(name = "themes_support_accessed")
         THEMES_SUPPORT_ACCESSED,
+        @TrackedEvent(name = "themes_details_accessed")
         THEMES_DETAILS_ACCESSED,
+        @TrackedEvent(name = "account_settings_language_changed")
         ACCOUNT_SETTINGS_LANGUAGE_CHANGED,
+        @TrackedEvent(name = "site_settings_accessed")
         SITE_SETTINGS_ACCESSED,
+        @TrackedEvent(name = "site_settings_more_settings_accessed")
         SITE_SETTINGS_ACCESSED_MORE_SETTINGS,
+        @TrackedEvent(name = "site_settings_learn_more_clicked")
         SITE_SETTINGS_LEARN_MORE_CLICKED,
+        @TrackedEvent(name = "site_settings_learn_more_loaded")
         SITE_SETTINGS_LEARN_MORE_LOADED,
+        @TrackedEvent(name = "site_settings_added_list_item")
         SITE_SETTINGS_ADDED_LIST_ITEM,
+        @TrackedEvent(name = "site_settings_deleted_list_items")
         SITE_SETTINGS_DELETED_LIST_ITEMS,
+        @TrackedEvent(name = "site_settings_saved_remotely")
         SITE_SETTINGS_SAVED_REMOTELY,
+        @TrackedEvent(name = "site_settings_hint_toast_shown")
         SITE_SETTINGS_HINT_TOAST_SHOWN,
+        @TrackedEvent(name = "site_settings_start_over_accessed")
         SITE_SETTINGS_START_OVER_ACCESSED,
+        @TrackedEvent(name = "site_settings_start_over_contact_support_clicked")
         SITE_SETTINGS_START_OVER_CONTACT_SUPPORT_CLICKED,
+        @TrackedEvent(name = "site_settings_export_site_accessed")
         SITE_SETTINGS_EXPORT_SITE_ACCESSED,
+        @TrackedEvent(name = "site_settings_export_site_requested")
         SITE_SETTINGS_EXPORT_SITE_REQUESTED,
+        @TrackedEvent(name = "site_settings_export_site_response_ok")
         SITE_SETTINGS_EXPORT_SITE_RESPONSE_OK,
+        @TrackedEvent(name = "site_settings_export_site_response_error")
         SITE_SETTINGS_EXPORT_SITE_RESPONSE_ERROR,
+        @TrackedEvent(name = "site_settings_delete_site_accessed")
         SITE_SETTINGS_DELETE_SITE_ACCESSED,
+        @TrackedEvent(name = "site_settings_delete_site_purchases_requested")
         SITE_SETTINGS_DELETE_SITE_PURCHASES_REQUESTED,
+        @TrackedEvent(name = "site_settings_delete_site_purchases_shown")
         SITE_SETTINGS_DELETE_SITE_PURCHASES_SHOWN,
+        @TrackedEvent(name = "site_settings_delete_site_purchases_show_clicked")
         SITE_SETTINGS_DELETE_SITE_PURCHASES_SHOW_CLICKED,
+        @TrackedEvent(name = "site_settings_delete_site_requested")
         SITE_SETTINGS_DELETE_SITE_REQUESTED,
+        @TrackedEvent(name = "site_settings_delete_site_response_ok")
         SITE_SETTINGS_DELETE_SITE_RESPONSE_OK,
+        @TrackedEvent(name = "site_settings_delete_site_response_error")
         SITE_SETTINGS_DELETE_SITE_RESPONSE_ERROR,
+        @TrackedEvent(name = "site_settings_optimize_images_changed")
         SITE_SETTINGS_OPTIMIZE_IMAGES_CHANGED,
+        @TrackedEvent(name = "jetpack_settings_viewed")
         SITE_SETTINGS_JETPACK_SECURITY_SETTINGS_VIEWED,
+        @TrackedEvent(name = "jetpack_allowlisted_ips_viewed")
         SITE_SETTINGS_JETPACK_ALLOWLISTED_IPS_VIEWED,
+        @TrackedEvent(name = "jetpack_allowlisted_ips_changed")
         SITE_SETTINGS_JETPACK_ALLOWLISTED_IPS_CHANGED,
+        @TrackedEvent(name = "abtest_start")
         ABTEST_START,
+        @TrackedEvent(name = "feature_flags_synced_state")
         FEATURE_FLAGS_SYNCED_STATE,
+        @TrackedEvent(name = "remote_field_config_synced_state")
         REMOTE_FIELD_CONFIG_SYNCED_STATE,
+        @TrackedEvent(name = "experiment_variant_set")
         EXPERIMENT_VARIANT_SET,
+        @TrackedEvent(name = "traintracks_render")
         TRAIN_TRACKS_RENDER,
+        @TrackedEvent(name = "traintracks_interact")
         TRAIN_TRACKS_INTERACT,
+        @TrackedEvent(name = "deep_linked")
         DEEP_LINKED,
+        @TrackedEvent(name = "deep_linked_fallback")
         DEEP_LINKED_FALLBACK,
+        @TrackedEvent(name = "deep_link_not_default_handler")
         DEEP_LINK_NOT_DEFAULT_HANDLER,
+        @TrackedEvent(name = "media_service_upload_started")
         MEDIA_UPLOAD_STARTED,
+        @TrackedEvent(name = "media_service_upload_response_error")
         MEDIA_UPLOAD_ERROR,
+        @TrackedEvent(name = "media_service_upload_response_ok")
         MEDIA_UPLOAD_SUCCESS,
+        @TrackedEvent(name = "media_service_upload_canceled")
         MEDIA_UPLOAD_CANCELED,
+        @TrackedEvent(name = "app_permission_granted")
         APP_PERMISSION_GRANTED,
+        @TrackedEvent(name = "app_permission_denied")
         APP_PERMISSION_DENIED,
+        @TrackedEvent(name = "share_to_wp_succeeded")
         SHARE_TO_WP_SUCCEEDED,
+        @TrackedEvent(name = "plugin_activated")
         PLUGIN_ACTIVATED,
+        @TrackedEvent(name = "plugin_autoupdate_enabled")
         PLUGIN_AUTOUPDATE_ENABLED,
+        @TrackedEvent(name = "plugin_autoupdate_disabled")
         PLUGIN_AUTOUPDATE_DISABLED,
+        @TrackedEvent(name = "plugin_deactivated")
         PLUGIN_DEACTIVATED,
+        @TrackedEvent(name = "plugin_installed")
         PLUGIN_INSTALLED,
+        @TrackedEvent(name = "plugin_removed")
         PLUGIN_REMOVED,
+        @TrackedEvent(name = "plugin_search_performed")
         PLUGIN_SEARCH_PERFORMED,
+        @TrackedEvent(name = "plugin_updated")
         PLUGIN_UPDATED,
+        @TrackedEvent(name = "stock_media_accessed")
         STOCK_MEDIA_ACCESSED,
+        @TrackedEvent(name = "stock_media_searched")
         STOCK_MEDIA_SEARCHED,
+        @TrackedEvent(name = "stock_media_uploaded")
         STOCK_MEDIA_UPLOADED,
+        @TrackedEvent(name = "gif_picker_searched")
         GIF_PICKER_SEARCHED,
+        @TrackedEvent(name = "gif_picker_accessed")
         GIF_PICKER_ACCESSED,
+        @TrackedEvent(name = "gif_picker_downloaded")
         GIF_PICKER_DOWNLOADED,
+        @TrackedEvent(name = "shortcut_stats_clicked")
         SHORTCUT_STATS_CLICKED,
+        @TrackedEvent(name = "shortcut_notifications_clicked")
         SHORTCUT_NOTIFICATIONS_CLICKED,
+        @TrackedEvent(name = "shortcut_new_post_clicked")
         SHORTCUT_NEW_POST_CLICKED,
+        @TrackedEvent(name = "automated_transfer_confirm_dialog_shown")
         AUTOMATED_TRANSFER_CONFIRM_DIALOG_SHOWN,
+        @TrackedEvent(name = "automated_transfer_confirm_dialog_cancelled")
         AUTOMATED_TRANSFER_CONFIRM_DIALOG_CANCELLED,
+        @TrackedEvent(name = "automated_transfer_check_eligibility")
         AUTOMATED_TRANSFER_CHECK_ELIGIBILITY,
+        @TrackedEvent(name = "automated_transfer_not_eligible")
         AUTOMATED_TRANSFER_NOT_ELIGIBLE,
+        @TrackedEvent(name = "automated_transfer_initiate")
         AUTOMATED_TRANSFER_INITIATE,
+        @TrackedEvent(name = "automated_transfer_initiated")
         AUTOMATED_TRANSFER_INITIATED,
+        @TrackedEvent(name = "automated_transfer_initiation_failed")
         AUTOMATED_TRANSFER_INITIATION_FAILED,
+        @TrackedEvent(name = "automated_transfer_status_complete")
         AUTOMATED_TRANSFER_STATUS_COMPLETE,
+        @TrackedEvent(name = "automated_transfer_status_failed")
         AUTOMATED_TRANSFER_STATUS_FAILED,
+        @TrackedEvent(name = "automated_transfer_flow_complete")
         AUTOMATED_TRANSFER_FLOW_COMPLETE,
+        @TrackedEvent(name = "automated_transfer_custom_domain_purchased")
         AUTOMATED_TRANSFER_CUSTOM_DOMAIN_PURCHASED,
+        @TrackedEvent(name = "automated_transfer_custom_domain_purchase_failed")
         AUTOMATED_TRANSFER_CUSTOM_DOMAIN_PURCHASE_FAILED,
+        @TrackedEvent(name = "publicize_service_connected")
         PUBLICIZE_SERVICE_CONNECTED,
+        @TrackedEvent(name = "publicize_service_disconnected")
         PUBLICIZE_SERVICE_DISCONNECTED,
+        @TrackedEvent(name = "support_opened")
         SUPPORT_OPENED,
+        @TrackedEvent(name = "support_help_center_viewed")
         SUPPORT_HELP_CENTER_VIEWED,
+        @TrackedEvent(name = "support_migration_faq_viewed")
         SUPPORT_MIGRATION_FAQ_VIEWED,
+        @TrackedEvent(name = "support_migration_faq_tapped")
         SUPPORT_MIGRATION_FAQ_TAPPED,
+        @TrackedEvent(name = "support_new_request_viewed")
         SUPPORT_NEW_REQUEST_VIEWED,
+        @TrackedEvent(name = "support_ticket_list_viewed")
         SUPPORT_TICKET_LIST_VIEWED,
+        @TrackedEvent(name = "support_identity_form_viewed")
         SUPPORT_IDENTITY_FORM_VIEWED,
+        @TrackedEvent(name = "support_identity_set")
         SUPPORT_IDENTITY_SET,
+        @TrackedEvent(name = "support_open_mobile_forum_tapped")
         SUPPORT_OPEN_MOBILE_FORUM_TAPPED,
+        @TrackedEvent(name = "support_chatbot_started")
         SUPPORT_CHATBOT_STARTED,
+        @TrackedEvent(name = "support_chatbot_user_submits_message")
         SUPPORT_CHATBOT_USER_SUBMITS_MESSAGE,
+        @TrackedEvent(name = "support_chatbot_topic")
         SUPPORT_CHATBOT_TOPIC,
+        @TrackedEvent(name = "support_chatbot_webview_error")
         SUPPORT_CHATBOT_WEBVIEW_ERROR,
+        @TrackedEvent(name = "support_chatbot_ticket_success")
         SUPPORT_CHATBOT_TICKET_SUCCESS,
+        @TrackedEvent(name = "support_chatbot_ticket_failure")
         SUPPORT_CHATBOT_TICKET_FAILURE,
+        @TrackedEvent(name = "support_chatbot_ended")
         SUPPORT_CHATBOT_ENDED,
+        @TrackedEvent(name = "quick_start_started")
         QUICK_START_STARTED,
+        @TrackedEvent(name = "quick_start_card_shown")
         QUICK_START_CARD_SHOWN,
+        @TrackedEvent(name = "quick_start_tapped")
         QUICK_START_TAPPED,
+        @TrackedEvent(name = "quick_start_task_dialog_viewed")
         QUICK_START_TASK_DIALOG_VIEWED,
+        @TrackedEvent(name = "quick_start_task_dialog_button_tapped", properties = {"type", "negative"})
         QUICK_START_TASK_DIALOG_NEGATIVE_TAPPED,
+        @TrackedEvent(name = "quick_start_task_dialog_button_tapped", properties = {"type", "positive"})
         QUICK_START_TASK_DIALOG_POSITIVE_TAPPED,
+        @TrackedEvent(name = "quick_start_remove_dialog_button_tapped", properties = {"type", "negative"})
         QUICK_START_REMOVE_DIALOG_NEGATIVE_TAPPED,
+        @TrackedEvent(name = "quick_start_remove_dialog_button_tapped", properties = {"type", "positive"})
         QUICK_START_REMOVE_DIALOG_POSITIVE_TAPPED,
+        @TrackedEvent(name = "quick_start_list_viewed", properties = {"type", "customize"})
         QUICK_START_TYPE_CUSTOMIZE_VIEWED,
+        @TrackedEvent(name = "quick_start_list_viewed", properties = {"type", "grow"})
         QUICK_START_TYPE_GROW_VIEWED,
+        @TrackedEvent(name = "quick_start_list_viewed", properties = {"type", "get_to_know_app"})
         QUICK_START_TYPE_GET_TO_KNOW_APP_VIEWED,
+        @TrackedEvent(name = "quick_start_type_dismissed", properties = {"type", "customize"})
         QUICK_START_TYPE_CUSTOMIZE_DISMISSED,
+        @TrackedEvent(name = "quick_start_type_dismissed", properties = {"type", "grow"})
         QUICK_START_TYPE_GROW_DISMISSED,
+        @TrackedEvent(name = "quick_start_type_dismissed", properties = {"type", "get_to_know_app"})
         QUICK_START_TYPE_GET_TO_KNOW_APP_DISMISSED,
+        @TrackedEvent(name = "quick_start_list_item_skipped", properties = {"task_name", "create_site"})
         QUICK_START_LIST_CREATE_SITE_SKIPPED,
+        @TrackedEvent(name = "quick_start_list_item_skipped", properties = {"task_name", "update_site_title"})
         QUICK_START_LIST_UPDATE_SITE_TITLE_SKIPPED,
+        @TrackedEvent(name = "quick_start_list_item_skipped", properties = {"task_name", "view_site"})
         QUICK_START_LIST_VIEW_SITE_SKIPPED,
+        @TrackedEvent(name = "quick_start_list_item_skipped", properties = {"task_name", "share_site"})
         QUICK_START_LIST_ADD_SOCIAL_SKIPPED,
+        @TrackedEvent(name = "quick_start_list_item_skipped", properties = {"task_name", "publish_post"})
         QUICK_START_LIST_PUBLISH_POST_SKIPPED,
+        @TrackedEvent(name = "quick_start_list_item_skipped", properties = {"task_name", "follow_site"})
         QUICK_START_LIST_FOLLOW_SITE_SKIPPED,
+        @TrackedEvent(name = "quick_start_list_item_skipped", properties = {"task_name", "upload_icon"})
         QUICK_START_LIST_UPLOAD_ICON_SKIPPED,
+        @TrackedEvent(name = "quick_start_list_item_skipped", properties = {"task_name", "check_stats"})
         QUICK_START_LIST_CHECK_STATS_SKIPPED,
+        @TrackedEvent(name = "quick_start_list_item_skipped", properties = {"task_name", "review_pages"})
         QUICK_START_LIST_REVIEW_PAGES_SKIPPED,
+        @TrackedEvent(name = "quick_start_list_item_skipped", properties = {"task_name", "check_notifications"})
         QUICK_START_LIST_CHECK_NOTIFICATIONS_SKIPPED,
+        @TrackedEvent(name = "quick_start_list_item_skipped", properties = {"task_name", "media_upload"})
         QUICK_START_LIST_UPLOAD_MEDIA_SKIPPED,
+        @TrackedEvent(name = "quick_start_list_item_tapped", properties = {"task_name", "create_site"})
         QUICK_START_LIST_CREATE_SITE_TAPPED,
+        @TrackedEvent(name = "quick_start_list_item_tapped", properties = {"task_name", "update_site_title"})
         QUICK_START_LIST_UPDATE_SITE_TITLE_TAPPED,
+        @TrackedEvent(name = "quick_start_list_item_tapped", properties = {"task_name", "view_site"})
         QUICK_START_LIST_VIEW_SITE_TAPPED,
+        @TrackedEvent(name = "quick_start_list_item_tapped", properties = {"task_name", "share_site"})
         QUICK_START_LIST_ADD_SOCIAL_TAPPED,
+        @TrackedEvent(name = "quick_start_list_item_tapped", properties = {"task_name", "publish_post"})
         QUICK_START_LIST_PUBLISH_POST_TAPPED,
+        @TrackedEvent(name = "quick_start_list_item_tapped", properties = {"task_name", "follow_site"})
         QUICK_START_LIST_FOLLOW_SITE_TAPPED,
+        @TrackedEvent(name = "quick_start_list_item_tapped", properties = {"task_name", "upload_icon"})
         QUICK_START_LIST_UPLOAD_ICON_TAPPED,
+        @TrackedEvent(name = "quick_start_list_item_tapped", properties = {"task_name", "check_stats"})
         QUICK_START_LIST_CHECK_STATS_TAPPED,
+        @TrackedEvent(name = "quick_start_list_item_tapped", properties = {"task_name", "review_pages"})
         QUICK_START_LIST_REVIEW_PAGES_TAPPED,
+        @TrackedEvent(name = "quick_start_list_item_tapped", properties = {"task_name", "check_notifications"})
         QUICK_START_LIST_CHECK_NOTIFICATIONS_TAPPED,
+        @TrackedEvent(name = "quick_start_list_item_tapped", properties = {"task_name", "media_upload"})
         QUICK_START_LIST_UPLOAD_MEDIA_TAPPED,
+        @TrackedEvent(name = "quick_start_task_completed", properties = {"task_name", "create_site"})
         QUICK_START_CREATE_SITE_TASK_COMPLETED,
+        @TrackedEvent(name = "quick_start_task_completed", properties = {"task_name", "update_site_title"})
         QUICK_START_UPDATE_SITE_TITLE_COMPLETED,
+        @TrackedEvent(name = "quick_start_task_completed", properties = {"task_name", "view_site"})
         QUICK_START_VIEW_SITE_TASK_COMPLETED,
+        @TrackedEvent(name = "quick_start_task_completed", properties = {"task_name", "share_site"})
         QUICK_START_SHARE_SITE_TASK_COMPLETED,
+        @TrackedEvent(name = "quick_start_task_completed", properties = {"task_name", "publish_post"})
         QUICK_START_PUBLISH_POST_TASK_COMPLETED,
+        @TrackedEvent(name = "quick_start_task_completed", properties = {"task_name", "follow_site"})
         QUICK_START_FOLLOW_SITE_TASK_COMPLETED,
+        @TrackedEvent(name = "quick_start_task_completed", properties = {"task_name", "upload_icon"})
         QUICK_START_UPLOAD_ICON_COMPLETED,
+        @TrackedEvent(name = "quick_start_task_completed", properties = {"task_name", "check_stats"})
         QUICK_START_CHECK_STATS_COMPLETED,
+        @TrackedEvent(name = "quick_start_task_completed", properties = {"task_name", "review_pages"})
         QUICK_START_REVIEW_PAGES_TASK_COMPLETED,
+        @TrackedEvent(name = "quick_start_task_completed", properties = {"task_name", "check_notifications"})
         QUICK_START_CHECK_NOTIFICATIONS_TASK_COMPLETED,
+        @TrackedEvent(name = "quick_start_task_completed", properties = {"task_name", "media_upload"})
         QUICK_START_UPLOAD_MEDIA_TASK_COMPLETED,
+        @TrackedEvent(name = "quick_start_all_tasks_completed")
         QUICK_START_ALL_TASKS_COMPLETED,
+        @TrackedEvent(name = "quick_start_request_dialog_viewed")
         QUICK_START_REQUEST_VIEWED,
+        @TrackedEvent(name = "quick_start_request_dialog_button_tapped", properties = {"type", "negative"})
         QUICK_START_REQUEST_DIALOG_NEGATIVE_TAPPED,
+        @TrackedEvent(name = "quick_start_request_dialog_button_tapped", properties = {"type", "positive"})
         QUICK_START_REQUEST_DIALOG_POSITIVE_TAPPED,
+        @TrackedEvent(name = "quick_start_notification_dismissed")
         QUICK_START_NOTIFICATION_DISMISSED,
+        @TrackedEvent(name = "quick_start_notification_sent")
         QUICK_START_NOTIFICATION_SENT,
+        @TrackedEvent(name = "quick_start_notification_tapped")
         QUICK_START_NOTIFICATION_TAPPED,
+        @TrackedEvent(name = "quick_start_hide_card_tapped")
         QUICK_START_HIDE_CARD_TAPPED,
+        @TrackedEvent(name = "quick_start_remove_card_tapped")
         QUICK_START_REMOVE_CARD_TAPPED,
+        @TrackedEvent(name = "installation_referrer_obtained")
         INSTALLATION_REFERRER_OBTAINED,
+        @TrackedEvent(name = "installation_referrer_failed")
         INSTALLATION_REFERRER_FAILED,
+        @TrackedEvent(name = "gutenberg_warning_confirm_dialog_shown")
         GUTENBERG_WARNING_CONFIRM_DIALOG_SHOWN,
+        @TrackedEvent(name = "gutenberg_warning_confirm_dialog_yes_tapped")
         GUTENBERG_WARNING_CONFIRM_DIALOG_YES_TAPPED,
+        @TrackedEvent(name = "gutenberg_warning_confirm_dialog_cancel_tapped")
         GUTENBERG_WARNING_CONFIRM_DIALOG_CANCEL_TAPPED,
+        @TrackedEvent(name = "gutenberg_warning_confirm_dialog_dont_show_again_checked")
         GUTENBERG_WARNING_CONFIRM_DIALOG_DONT_SHOW_AGAIN_CHECKED,
+        @TrackedEvent(name = "gutenberg_warning_confirm_dialog_dont_show_again_unchecked")
         GUTENBERG_WARNING_CONFIRM_DIALOG_DONT_SHOW_AGAIN_UNCHECKED,
+        @TrackedEvent(name = "gutenberg_warning_confirm_dialog_learn_more_tapped")
         GUTENBERG_WARNING_CONFIRM_DIALOG_LEARN_MORE_TAPPED,
+        @TrackedEvent(name = "app_reviews_saw_prompt")
         APP_REVIEWS_SAW_PROMPT,
+        @TrackedEvent(name = "app_reviews_cancelled_prompt")
         APP_REVIEWS_CANCELLED_PROMPT,
+        @TrackedEvent(name = "app_reviews_rated_app")
         APP_REVIEWS_RATED_APP,
+        @TrackedEvent(name = "app_reviews_declined_to_rate_apt")
         APP_REVIEWS_DECLINED_TO_RATE_APP,
+        @TrackedEvent(name = "app_reviews_decided_to_rate_later")
         APP_REVIEWS_DECIDED_TO_RATE_LATER,
+        @TrackedEvent(name = "app_reviews_significant_event_incremented", properties = {"source", "media_upload"})
         APP_REVIEWS_EVENT_INCREMENTED_BY_UPLOADING_MEDIA,
+        @TrackedEvent(name = "app_reviews_significant_event_incremented",
+                properties = {"source", "notification_details"})
         APP_REVIEWS_EVENT_INCREMENTED_BY_CHECKING_NOTIFICATION,
+        @TrackedEvent(name = "app_reviews_significant_event_incremented",
+                properties = {"source", "publishing_post_or_page"})
         APP_REVIEWS_EVENT_INCREMENTED_BY_PUBLISHING_POST_OR_PAGE,
+        @TrackedEvent(name = "app_reviews_significant_event_incremented",
+                properties = {"source", "opening_reader_post"})
         APP_REVIEWS_EVENT_INCREMENTED_BY_OPENING_READER_POST,
+        @TrackedEvent(name = "domain_credit_prompt_shown")
         DOMAIN_CREDIT_PROMPT_SHOWN,
+        @TrackedEvent(name = "domain_credit_redemption_tapped")
         DOMAIN_CREDIT_REDEMPTION_TAPPED,
+        @TrackedEvent(name = "domain_credit_redemption_success")
         DOMAIN_CREDIT_REDEMPTION_SUCCESS,
+        @TrackedEvent(name = "domain_credit_suggestion_queried")
         DOMAIN_CREDIT_SUGGESTION_QUERIED,
+        @TrackedEvent(name = "domain_credit_name_selected")
         DOMAIN_CREDIT_NAME_SELECTED,
+        @TrackedEvent(name = "domains_dashboard_viewed")
         DOMAINS_DASHBOARD_VIEWED,
+        @TrackedEvent(name = "domains_dashboard_get_domain_tapped")
         DOMAINS_DASHBOARD_GET_DOMAIN_TAPPED,
+        @TrackedEvent(name = "domains_dashboard_get_plan_tapped")
         DOMAINS_DASHBOARD_GET_PLAN_TAPPED,
+        @TrackedEvent(name = "domains_dashboard_add_domain_tapped")
         DOMAINS_DASHBOARD_ADD_DOMAIN_TAPPED,
+        @TrackedEvent(name = "domains_dashboard_select_domain_tapped")
         DOMAINS_SEARCH_SELECT_DOMAIN_TAPPED,
+        @TrackedEvent(name = "domains_registration_form_viewed")
         DOMAINS_REGISTRATION_FORM_VIEWED,
+        @TrackedEvent(name = "domains_registration_form_submitted")
         DOMAINS_REGISTRATION_FORM_SUBMITTED,
+        @TrackedEvent(name = "domains_purchase_webview_viewed")
         DOMAINS_PURCHASE_WEBVIEW_VIEWED,
+        @TrackedEvent(name = "domains_purchase_domain_success")
         DOMAINS_PURCHASE_DOMAIN_SUCCESS,
+        @TrackedEvent(name = "quick_action_ribbon_tapped", properties = {"button", "pages"})
         QUICK_LINK_RIBBON_PAGES_TAPPED,
+        @TrackedEvent(name = "quick_action_ribbon_tapped", properties = {"button", "posts"})
         QUICK_LINK_RIBBON_POSTS_TAPPED,
+        @TrackedEvent(name = "quick_action_ribbon_tapped", properties = {"button", "media"})
         QUICK_LINK_RIBBON_MEDIA_TAPPED,
+        @TrackedEvent(name = "quick_action_ribbon_tapped", properties = {"button", "stats"})
         QUICK_LINK_RIBBON_STATS_TAPPED,
+        @TrackedEvent(name = "quick_action_ribbon_tapped")
         QUICK_LINK_RIBBON_MORE_TAPPED,
+        @TrackedEvent(name = "site_menu_opened")
         OPENED_QUICK_LINK_RIBBON_MORE,
+        @TrackedEvent(name = "auto_upload_post_invoked")
         AUTO_UPLOAD_POST_INVOKED,
+        @TrackedEvent(name = "auto_upload_page_invoked")
         AUTO_UPLOAD_PAGE_INVOKED,
+        @TrackedEvent(name = "unpublished_revision_dialog_shown")
         UNPUBLISHED_REVISION_DIALOG_SHOWN,
+        @TrackedEvent(name = "unpublished_revision_dialog_load_local_version_clicked")
         UNPUBLISHED_REVISION_DIALOG_LOAD_LOCAL_VERSION_CLICKED,
+        @TrackedEvent(name = "unpublished_revision_dialog_load_unpublished_version_clicked")
         UNPUBLISHED_REVISION_DIALOG_LOAD_UNPUBLISHED_VERSION_CLICKED,
+        @TrackedEvent(name = "welcome_no_sites_interstitial_shown")
         WELCOME_NO_SITES_INTERSTITIAL_SHOWN,
+        @TrackedEvent(name = "welcome_no_sites_interstitial_button_tapped", properties = {"button", "create_new_site"})
         WELCOME_NO_SITES_INTERSTITIAL_CREATE_NEW_SITE_TAPPED,
+        @TrackedEvent(name = "welcome_no_sites_interstitial_button_tapped",
+                properties = {"button", "add_self_hosted_site"})
         WELCOME_NO_SITES_INTERSTITIAL_ADD_SELF_HOSTED_SITE_TAPPED,
+        @TrackedEvent(name = "welcome_no_sites_interstitial_dismissed")
         WELCOME_NO_SITES_INTERSTITIAL_DISMISSED,
+        @TrackedEvent(name = "featured_image_set_clicked_post_settings")
         FEATURED_IMAGE_SET_CLICKED_POST_SETTINGS,
+        @TrackedEvent(name = "featured_image_picked_post_settings")
         FEATURED_IMAGE_PICKED_POST_SETTINGS,
+        @TrackedEvent(name = "featured_image_picked_gutenberg_editor")
         FEATURED_IMAGE_PICKED_GUTENBERG_EDITOR,
+        @TrackedEvent(name = "featured_image_removed_gutenberg_editor")
         FEATURED_IMAGE_REMOVED_GUTENBERG_EDITOR,
+        @TrackedEvent(name = "featured_image_upload_canceled_post_settings")
         FEATURED_IMAGE_UPLOAD_CANCELED_POST_SETTINGS,
+        @TrackedEvent(name = "featured_image_upload_retry_clicked_post_settings")
         FEATURED_IMAGE_UPLOAD_RETRY_CLICKED_POST_SETTINGS,
+        @TrackedEvent(name = "featured_image_remove_clicked_post_settings")
         FEATURED_IMAGE_REMOVE_CLICKED_POST_SETTINGS,
+        @TrackedEvent(name = "media_editor_shown")
         MEDIA_EDITOR_SHOWN,
+        @TrackedEvent(name = "media_editor_used")
         MEDIA_EDITOR_USED,
+        @TrackedEvent(name = "story_save_successful")
         STORY_SAVE_SUCCESSFUL,
+        @TrackedEvent(name = "story_save_error")
         STORY_SAVE_ERROR,
+        @TrackedEvent(name = "story_post_save_locally")
         STORY_POST_SAVE_LOCALLY,
+        @TrackedEvent(name = "story_post_save_remotely")
         STORY_POST_SAVE_REMOTELY,
+        @TrackedEvent(name = "story_post_error_snackbar_manage_tapped")
         STORY_SAVE_ERROR_SNACKBAR_MANAGE_TAPPED,
+        @TrackedEvent(name = "story_post_publish_tapped")
         STORY_POST_PUBLISH_TAPPED,
+        @TrackedEvent(name = "story_text_changed")
         STORY_TEXT_CHANGED,
+        @TrackedEvent(name = "story_intro_shown")
         STORY_INTRO_SHOWN,
+        @TrackedEvent(name = "story_intro_dismissed")
         STORY_INTRO_DISMISSED,
+        @TrackedEvent(name = "story_intro_create_story_button_tapped")
         STORY_INTRO_CREATE_STORY_BUTTON_TAPPED,
+        @TrackedEvent(name = "story_block_add_media_tapped")
         STORY_BLOCK_ADD_MEDIA_TAPPED,
+        @TrackedEvent(name = "prepublishing_bottom_sheet_opened")
         PREPUBLISHING_BOTTOM_SHEET_OPENED,
+        @TrackedEvent(name = "prepublishing_bottom_sheet_dismissed")
         PREPUBLISHING_BOTTOM_SHEET_DISMISSED,
+        @TrackedEvent(name = "feature_announcement_shown", properties = {"source", "app_upgrade"})
         FEATURE_ANNOUNCEMENT_SHOWN_ON_APP_UPGRADE,
+        @TrackedEvent(name = "feature_announcement_shown", properties = {"source", "app_settings"})
         FEATURE_ANNOUNCEMENT_SHOWN_FROM_APP_SETTINGS,
+        @TrackedEvent(name = "feature_announcement_button_tapped", properties = {"button", "find_out_more"})
         FEATURE_ANNOUNCEMENT_FIND_OUT_MORE_TAPPED,
+        @TrackedEvent(name = "feature_announcement_button_tapped", properties = {"button", "close_dialog"})
         FEATURE_ANNOUNCEMENT_CLOSE_DIALOG_BUTTON_TAPPED,
+        @TrackedEvent(name = "pages_list_author_filter_changed")
         PAGES_LIST_AUTHOR_FILTER_CHANGED,
+        @TrackedEvent(name = "gutenberg_unsupported_block_webview_shown")
         EDITOR_GUTENBERG_UNSUPPORTED_BLOCK_WEBVIEW_SHOWN,
+        @TrackedEvent(name = "gutenberg_unsupported_block_webview_closed")
         EDITOR_GUTENBERG_UNSUPPORTED_BLOCK_WEBVIEW_CLOSED,
+        @TrackedEvent(name = "select_interests_shown")
         SELECT_INTERESTS_SHOWN,
+        @TrackedEvent(name = "select_interests_picked")
         SELECT_INTERESTS_PICKED,
+        @TrackedEvent(name = "reader_following_shown")
         READER_FOLLOWING_SHOWN,
+        @TrackedEvent(name = "reader_liked_shown")
         READER_LIKED_SHOWN,
+        @TrackedEvent(name = "reader_saved_list_shown")
         READER_SAVED_LIST_SHOWN,
+        @TrackedEvent(name = "reader_custom_tab_shown")
         READER_CUSTOM_TAB_SHOWN,
+        @TrackedEvent(name = "reader_discover_shown")
         READER_DISCOVER_SHOWN,
+        @TrackedEvent(name = "reader_discover_paginated")
         READER_DISCOVER_PAGINATED,
+        @TrackedEvent(name = "reader_discover_topic_tapped")
         READER_DISCOVER_TOPIC_TAPPED,
+        @TrackedEvent(name = "reader_post_card_tapped")
         READER_POST_CARD_TAPPED,
+        @TrackedEvent(name = "reader_pull_to_refresh")
         READER_PULL_TO_REFRESH,
+        @TrackedEvent(name = "post_card_more_tapped")
         POST_CARD_MORE_TAPPED,
+        @TrackedEvent(name = "reader_article_detail_more_tapped")
         READER_ARTICLE_DETAIL_MORE_TAPPED,
+        @TrackedEvent(name = "reader_chips_more_toggled")
         READER_CHIPS_MORE_TOGGLED,
+        @TrackedEvent(name = "encrypted_logging_upload_successful")
         ENCRYPTED_LOGGING_UPLOAD_SUCCESSFUL,
+        @TrackedEvent(name = "encrypted_logging_upload_failed")
         ENCRYPTED_LOGGING_UPLOAD_FAILED,
+        @TrackedEvent(name = "reader_post_reported")
         READER_POST_REPORTED,
+        @TrackedEvent(name = "reader_user_reported")
         READER_USER_REPORTED,
+        @TrackedEvent(name = "reader_mark_as_seen")
         READER_POST_MARKED_AS_SEEN,
+        @TrackedEvent(name = "reader_mark_as_unseen")
         READER_POST_MARKED_AS_UNSEEN,
+        @TrackedEvent(name = "suggestion_session_finished")
         SUGGESTION_SESSION_FINISHED,
+        @TrackedEvent(name = "comment_approved")
         COMMENT_APPROVED,
+        @TrackedEvent(name = "comment_unapproved")
         COMMENT_UNAPPROVED,
+        @TrackedEvent(name = "comment_spammed")
         COMMENT_SPAMMED,
+        @TrackedEvent(name = "comment_unspammed")
         COMMENT_UNSPAMMED,
+        @TrackedEvent(name = "comment_liked")
         COMMENT_LIKED,
+        @TrackedEvent(name = "comment_unliked")
         COMMENT_UNLIKED,
+        @TrackedEvent(name = "comment_trashed")
         COMMENT_TRASHED,
+        @TrackedEvent(name = "comment_untrashed")
         COMMENT_UNTRASHED,
+        @TrackedEvent(name = "comment_replied_to")
         COMMENT_REPLIED_TO,
+        @TrackedEvent(name = "comment_edited")
         COMMENT_EDITED,
+        @TrackedEvent(name = "comment_viewed")
         COMMENT_VIEWED,
+        @TrackedEvent(name = "comment_deleted")
         COMMENT_DELETED,
+        @TrackedEvent(name = "comment_moderation_undo")
         COMMENT_MODERATION_UNDO,
+        @TrackedEvent(name = "comment_approved", trueProperties = {"is_quick_action"})
         COMMENT_QUICK_ACTION_APPROVED,
+        @TrackedEvent(name = "comment_liked", trueProperties = {"is_quick_action"})
         COMMENT_QUICK_ACTION_LIKED,
+        @TrackedEvent(name = "comment_replied_to", trueProperties = {"is_quick_action"})
         COMMENT_QUICK_ACTION_REPLIED_TO,
+        @TrackedEvent(name = "comment_follow_conversation")
         COMMENT_FOLLOW_CONVERSATION,
+        @TrackedEvent(name = "comment_batch_approved")
         COMMENT_BATCH_APPROVED,
+        @TrackedEvent(name = "comment_batch_unapproved")
         COMMENT_BATCH_UNAPPROVED,
+        @TrackedEvent(name = "comment_batch_spammed")
         COMMENT_BATCH_SPAMMED,
+        @TrackedEvent(name = "comment_batch_trashed")
         COMMENT_BATCH_TRASHED,
+        @TrackedEvent(name = "comment_batch_deleted")
         COMMENT_BATCH_DELETED,
+        @TrackedEvent(name = "comment_editor_opened")
         COMMENT_EDITOR_OPENED,
+        @TrackedEvent(name = "comment_filter_changed")
         COMMENT_FILTER_CHANGED,
+        @TrackedEvent(name = "jetpack_restore_opened")
         JETPACK_RESTORE_OPENED,
+        @TrackedEvent(name = "jetpack_restore_confirmed")
         JETPACK_RESTORE_CONFIRMED,
+        @TrackedEvent(name = "jetpack_restore_error")
         JETPACK_RESTORE_ERROR,
+        @TrackedEvent(name = "jetpack_backup_download_opened")
         JETPACK_BACKUP_DOWNLOAD_OPENED,
+        @TrackedEvent(name = "jetpack_backup_download_confirmed")
         JETPACK_BACKUP_DOWNLOAD_CONFIRMED,
+        @TrackedEvent(name = "jetpack_backup_download_error")
         JETPACK_BACKUP_DOWNLOAD_ERROR,
+        @TrackedEvent(name = "jetpack_backup_download_file_download_tapped")
         JETPACK_BACKUP_DOWNLOAD_FILE_DOWNLOAD_TAPPED,
+        @TrackedEvent(name = "jetpack_backup_download_share_link_tapped")
         JETPACK_BACKUP_DOWNLOAD_SHARE_LINK_TAPPED,
+        @TrackedEvent(name = "my_site_create_sheet_shown")
         MY_SITE_CREATE_SHEET_SHOWN,
+        @TrackedEvent(name = "my_site_create_sheet_action_tapped")
         MY_SITE_CREATE_SHEET_ACTION_TAPPED,
+        @TrackedEvent(name = "my_site_create_sheet_prompt_help_tapped")
         MY_SITE_CREATE_SHEET_PROMPT_HELP_TAPPED,
+        @TrackedEvent(name = "blogging_prompts_create_sheet_card_viewed")
         BLOGGING_PROMPTS_CREATE_SHEET_CARD_VIEWED,
+        @TrackedEvent(name = "my_site_no_sites_view_displayed")
         MY_SITE_NO_SITES_VIEW_DISPLAYED,
+        @TrackedEvent(name = "my_site_no_sites_view_action_tapped")
         MY_SITE_NO_SITES_VIEW_ACTION_TAPPED,
+        @TrackedEvent(name = "my_site_no_sites_view_hidden")
         MY_SITE_NO_SITES_VIEW_HIDDEN,
+        @TrackedEvent(name = "post_list_create_sheet_shown")
         POST_LIST_CREATE_SHEET_SHOWN,
+        @TrackedEvent(name = "post_list_create_sheet_action_tapped")
         POST_LIST_CREATE_SHEET_ACTION_TAPPED,
+        @TrackedEvent(name = "invite_links_get_status")
         INVITE_LINKS_GET_STATUS,
+        @TrackedEvent(name = "invite_links_generate")
         INVITE_LINKS_GENERATE,
+        @TrackedEvent(name = "invite_links_disable")
         INVITE_LINKS_DISABLE,
+        @TrackedEvent(name = "invite_links_share")
         INVITE_LINKS_SHARE,
+        @TrackedEvent(name = "jetpack_backup_download_file_notice_download_tapped")
         JETPACK_BACKUP_DOWNLOAD_FILE_NOTICE_DOWNLOAD_TAPPED,
+        @TrackedEvent(name = "jetpack_backup_download_file_notice_dismissed_tapped")
         JETPACK_BACKUP_DOWNLOAD_FILE_NOTICE_DISMISSED_TAPPED,
+        @TrackedEvent(name = "activity_log_download_file_notice_download_tapped")
         ACTIVITY_LOG_DOWNLOAD_FILE_NOTICE_DOWNLOAD_TAPPED,
+        @TrackedEvent(name = "activity_log_download_file_notice_dismissed_tapped")
         ACTIVITY_LOG_DOWNLOAD_FILE_NOTICE_DISMISSED_TAPPED,
+        @TrackedEvent(name = "user_profile_sheet_shown")
         USER_PROFILE_SHEET_SHOWN,
+        @TrackedEvent(name = "user_profile_sheet_site_shown")
         USER_PROFILE_SHEET_SITE_SHOWN,
+        @TrackedEvent(name = "blog_url_previewed")
         BLOG_URL_PREVIEWED,
+        @TrackedEvent(name = "like_list_opened")
         LIKE_LIST_OPENED,
+        @TrackedEvent(name = "like_list_fetched_more")
         LIKE_LIST_FETCHED_MORE,
+        @TrackedEvent(name = "storage_warning_shown")
         STORAGE_WARNING_SHOWN,
+        @TrackedEvent(name = "storage_warning_acknowledged")
         STORAGE_WARNING_ACKNOWLEDGED,
+        @TrackedEvent(name = "storage_warning_canceled")
         STORAGE_WARNING_CANCELED,
+        @TrackedEvent(name = "storage_warning_dont_show_again")
         STORAGE_WARNING_DONT_SHOW_AGAIN,
+        @TrackedEvent(name = "blogging_reminders_screen_shown")
         BLOGGING_REMINDERS_SCREEN_SHOWN,
+        @TrackedEvent(name = "blogging_reminders_button_pressed")
         BLOGGING_REMINDERS_BUTTON_PRESSED,
+        @TrackedEvent(name = "blogging_reminders_flow_start")
         BLOGGING_REMINDERS_FLOW_START,
+        @TrackedEvent(name = "blogging_reminders_flow_dismissed")
         BLOGGING_REMINDERS_FLOW_DISMISSED,
+        @TrackedEvent(name = "blogging_reminders_flow_completed")
         BLOGGING_REMINDERS_FLOW_COMPLETED,
+        @TrackedEvent(name = "blogging_reminders_scheduled")
         BLOGGING_REMINDERS_SCHEDULED,
+        @TrackedEvent(name = "blogging_reminders_cancelled")
         BLOGGING_REMINDERS_CANCELLED,
+        @TrackedEvent(name = "blogging_reminders_notification_received")
         BLOGGING_REMINDERS_NOTIFICATION_RECEIVED,
+        @TrackedEvent(name = "blogging_reminders_include_prompt_tapped")
         BLOGGING_REMINDERS_INCLUDE_PROMPT_TAPPED,
+        @TrackedEvent(name = "blogging_reminders_include_prompt_help_tapped")
         BLOGGING_REMINDERS_INCLUDE_PROMPT_HELP_TAPPED,
+        @TrackedEvent(name = "login_epilogue_choose_site_tapped")
         LOGIN_EPILOGUE_CHOOSE_SITE_TAPPED,
+        @TrackedEvent(name = "login_epilogue_create_new_site_tapped")
         LOGIN_EPILOGUE_CREATE_NEW_SITE_TAPPED,
+        @TrackedEvent(name = "create_site_notification_scheduled")
         CREATE_SITE_NOTIFICATION_SCHEDULED,
+        @TrackedEvent(name = "recommend_app_engaged")
         RECOMMEND_APP_ENGAGED,
+        @TrackedEvent(name = "recommend_app_content_fetch_failed")
         RECOMMEND_APP_CONTENT_FETCH_FAILED,
+        @TrackedEvent(name = "editor_block_inserted")
         EDITOR_BLOCK_INSERTED,
+        @TrackedEvent(name = "editor_block_moved")
         EDITOR_BLOCK_MOVED,
+        @TrackedEvent(name = "about_screen_shown")
         ABOUT_SCREEN_SHOWN,
+        @TrackedEvent(name = "about_screen_dismissed")
         ABOUT_SCREEN_DISMISSED,
+        @TrackedEvent(name = "about_screen_button_tapped")
         ABOUT_SCREEN_BUTTON_TAPPED,
+        @TrackedEvent(name = "my_site_dashboard_card_footer_action_tapped")
         MY_SITE_DASHBOARD_CARD_FOOTER_ACTION_TAPPED,
+        @TrackedEvent(name = "my_site_pull_to_refresh")
         MY_SITE_PULL_TO_REFRESH,
+        @TrackedEvent(name = "my_site_menu_item_tapped")
         MY_SITE_MENU_ITEM_TAPPED,
+        @TrackedEvent(name = "my_site_dashboard_card_shown")
         MY_SITE_DASHBOARD_CARD_SHOWN,
+        @TrackedEvent(name = "my_site_dashboard_card_item_tapped")
         MY_SITE_DASHBOARD_CARD_ITEM_TAPPED,
+        @TrackedEvent(name = "my_site_tab_tapped")
         MY_SITE_TAB_TAPPED,
+        @TrackedEvent(name = "my_site_dashboard_shown")
         MY_SITE_DASHBOARD_SHOWN,
+        @TrackedEvent(name = "my_site_site_menu_shown")
         MY_SITE_SITE_MENU_SHOWN,
+        @TrackedEvent(name = "app_settings_initial_screen_changed")
         APP_SETTINGS_INITIAL_SCREEN_CHANGED,
+        @TrackedEvent(name = "change_username_displayed")
         CHANGE_USERNAME_DISPLAYED,
+        @TrackedEvent(name = "change_username_dismissed")
         CHANGE_USERNAME_DISMISSED,
+        @TrackedEvent(name = "change_username_search_performed")
         CHANGE_USERNAME_SEARCH_PERFORMED,
+        @TrackedEvent(name = "add_site_alert_displayed")
         ADD_SITE_ALERT_DISPLAYED,
+        @TrackedEvent(name = "my_site_site_switcher_tapped")
         MY_SITE_SITE_SWITCHER_TAPPED,
+        @TrackedEvent(name = "site_switcher_displayed")
         SITE_SWITCHER_DISPLAYED,
+        @TrackedEvent(name = "site_switcher_search_performed")
         SITE_SWITCHER_SEARCH_PERFORMED,
+        @TrackedEvent(name = "site_switcher_toggle_blog_visible")
         SITE_SWITCHER_TOGGLE_BLOG_VISIBLE,
+        @TrackedEvent(name = "site_switcher_toggled_edit_tapped")
         SITE_SWITCHER_TOGGLED_EDIT_TAPPED,
+        @TrackedEvent(name = "site_switcher_add_site_tapped")
         SITE_SWITCHER_ADD_SITE_TAPPED,
+        @TrackedEvent(name = "site_switcher_dismissed")
         SITE_SWITCHER_DISMISSED,
+        @TrackedEvent(name = "settings_did_change")
         SETTINGS_DID_CHANGE,
+        @TrackedEvent(name = "app_settings_appearance_changed")
         APP_SETTINGS_APPEARANCE_CHANGED,
+        @TrackedEvent(name = "app_settings_privacy_settings_tapped")
         APP_SETTINGS_PRIVACY_SETTINGS_TAPPED,
+        @TrackedEvent(name = "app_settings_open_device_settings_tapped")
         APP_SETTINGS_OPEN_DEVICE_SETTINGS_TAPPED,
+        @TrackedEvent(name = "app_settings_max_image_size_changed")
         APP_SETTINGS_MAX_IMAGE_SIZE_CHANGED,
+        @TrackedEvent(name = "app_settings_image_quality_changed")
         APP_SETTINGS_IMAGE_QUALITY_CHANGED,
+        @TrackedEvent(name = "app_settings_remove_location_from_media_changed")
         APP_SETTINGS_REMOVE_LOCATION_FROM_MEDIA_CHANGED,
+        @TrackedEvent(name = "app_settings_video_optimization_changed")
         APP_SETTINGS_VIDEO_OPTIMIZATION_CHANGED,
+        @TrackedEvent(name = "app_settings_max_video_size_changed")
         APP_SETTINGS_MAX_VIDEO_SIZE_CHANGED,
+        @TrackedEvent(name = "app_settings_video_quality_changed")
         APP_SETTINGS_VIDEO_QUALITY_CHANGED,
+        @TrackedEvent(name = "app_settings_optimize_images_popup_tapped")
         APP_SETTINGS_OPTIMIZE_IMAGES_POPUP_TAPPED,
+        @TrackedEvent(name = "privacy_settings_opened")
         PRIVACY_SETTINGS_OPENED,
+        @TrackedEvent(name = "privacy_settings_report_crashes_toggled")
         PRIVACY_SETTINGS_REPORT_CRASHES_TOGGLED,
+        @TrackedEvent(name = "sharing_buttons_edit_sharing_buttons_changed")
         SHARING_BUTTONS_EDIT_SHARING_BUTTONS_CHANGED,
+        @TrackedEvent(name = "sharing_buttons_edit_more_sharing_buttons_changed")
         SHARING_BUTTONS_EDIT_MORE_SHARING_BUTTONS_CHANGED,
+        @TrackedEvent(name = "people_management_user_invited")
         PEOPLE_MANAGEMENT_USER_INVITED,
+        @TrackedEvent(name = "people_management_filter_changed")
         PEOPLE_MANAGEMENT_FILTER_CHANGED,
+        @TrackedEvent(name = "reader_filter_sheet_cleared")
         READER_FILTER_SHEET_CLEARED,
+        @TrackedEvent(name = "reader_filter_sheet_dismissed")
         READER_FILTER_SHEET_DISMISSED,
+        @TrackedEvent(name = "reader_filter_sheet_displayed")
         READER_FILTER_SHEET_DISPLAYED,
+        @TrackedEvent(name = "reader_filter_sheet_item_selected")
         READER_FILTER_SHEET_ITEM_SELECTED,
+        @TrackedEvent(name = "reader_filter_sheet_tab_selected")
         READER_FILTER_SHEET_TAB_SELECTED,
+        @TrackedEvent(name = "reader_search_history_cleared")
         READER_SEARCH_HISTORY_CLEARED,
+        @TrackedEvent(name = "reader_manage_view_dismissed")
         READER_MANAGE_VIEW_DISMISSED,
+        @TrackedEvent(name = "reader_manage_view_displayed")
         READER_MANAGE_VIEW_DISPLAYED,
+        @TrackedEvent(name = "reader_article_image_tapped")
         READER_ARTICLE_IMAGE_TAPPED,
+        @TrackedEvent(name = "reader_article_link_tapped")
         READER_ARTICLE_LINK_TAPPED,
+        @TrackedEvent(name = "reader_article_file_download_tapped")
         READER_ARTICLE_FILE_DOWNLOAD_TAPPED,
+        @TrackedEvent(name = "reader_article_page_jump_tapped")
         READER_ARTICLE_PAGE_JUMP_TAPPED,
+        @TrackedEvent(name = "reader_article_featured_image_tapped")
         READER_ARTICLE_FEATURED_IMAGE_TAPPED,
+        @TrackedEvent(name = "reader_article_custom_view_shown")
         READER_ARTICLE_CUSTOM_VIEW_SHOWN,
+        @TrackedEvent(name = "reader_article_custom_view_hidden")
         READER_ARTICLE_CUSTOM_VIEW_HIDDEN,
+        @TrackedEvent(name = "webview_dismissed")
         WEBVIEW_DISMISSED,
+        @TrackedEvent(name = "webview_displayed")
         WEBVIEW_DISPLAYED,
+        @TrackedEvent(name = "webview_navigated_back")
         WEBVIEW_NAVIGATED_BACK,
+        @TrackedEvent(name = "webview_navigated_forward")
         WEBVIEW_NAVIGATED_FORWARD,
+        @TrackedEvent(name = "webview_open_in_browser_tapped")
         WEBVIEW_OPEN_IN_BROWSER_TAPPED,
+        @TrackedEvent(name = "webview_reload_tapped")
         WEBVIEW_RELOAD_TAPPED,
+        @TrackedEvent(name = "webview_share_tapped")
         WEBVIEW_SHARE_TAPPED,
+        @TrackedEvent(name = "webview_preview_device_changed")
         WEBVIEW_PREVIEW_DEVICE_CHANGED,
+        @TrackedEvent(name = "blogging_prompts_my_site_card_answer_prompt_tapped")
         BLOGGING_PROMPTS_MY_SITE_CARD_ANSWER_PROMPT_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_my_site_card_share_tapped")
         BLOGGING_PROMPTS_MY_SITE_CARD_SHARE_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_my_site_card_view_answers_tapped")
         BLOGGING_PROMPTS_MY_SITE_CARD_VIEW_ANSWERS_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_my_site_card_menu_tapped")
         BLOGGING_PROMPTS_MY_SITE_CARD_MENU_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_my_site_card_menu_view_more_prompts_tapped")
         BLOGGING_PROMPTS_MY_SITE_CARD_MENU_VIEW_MORE_PROMPTS_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_my_site_card_menu_skip_this_prompt_tapped")
         BLOGGING_PROMPTS_MY_SITE_CARD_MENU_SKIP_THIS_PROMPT_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_my_site_card_menu_remove_from_dashboard_tapped")
         BLOGGING_PROMPTS_MY_SITE_CARD_MENU_REMOVE_FROM_DASHBOARD_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_my_site_card_menu_skip_this_prompt_undo_tapped")
         BLOGGING_PROMPTS_MY_SITE_CARD_MENU_SKIP_THIS_PROMPT_UNDO_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_my_site_card_menu_remove_from_dashboard_undo_tapped")
         BLOGGING_PROMPTS_MY_SITE_CARD_MENU_REMOVE_FROM_DASHBOARD_UNDO_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_my_site_card_menu_learn_more_tapped")
         BLOGGING_PROMPTS_MY_SITE_CARD_MENU_LEARN_MORE_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_my_site_card_viewed")
         BLOGGING_PROMPTS_MY_SITE_CARD_VIEWED,
+        @TrackedEvent(name = "blogging_prompts_introduction_modal_viewed")
         BLOGGING_PROMPTS_INTRODUCTION_SCREEN_VIEWED,
+        @TrackedEvent(name = "blogging_prompts_introduction_modal_dismissed")
         BLOGGING_PROMPTS_INTRODUCTION_SCREEN_DISMISSED,
+        @TrackedEvent(name = "blogging_prompts_introduction_modal_try_it_now_tapped")
         BLOGGING_PROMPTS_INTRODUCTION_TRY_IT_NOW_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_introduction_modal_remind_me_tapped")
         BLOGGING_PROMPTS_INTRODUCTION_REMIND_ME_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_introduction_modal_got_it_tapped")
         BLOGGING_PROMPTS_INTRODUCTION_GOT_IT_CLICKED,
+        @TrackedEvent(name = "blogging_prompts_prompts_list_viewed")
         BLOGGING_PROMPTS_LIST_SCREEN_VIEWED,
+        @TrackedEvent(name = "blogging_prompts_list_item_tapped")
         BLOGGING_PROMPTS_LIST_ITEM_TAPPED,
+        @TrackedEvent(name = "blogging_prompts_settings_show_prompts_tapped")
         BLOGGING_PROMPTS_SETTINGS_SHOW_PROMPTS_TAPPED,
+        @TrackedEvent(name = "blogging_reminders_notification_prompt_answer_tapped")
         BLOGGING_REMINDERS_NOTIFICATION_PROMPT_ANSWER_TAPPED,
+        @TrackedEvent(name = "blogging_reminders_notification_prompt_dismiss_tapped")
         BLOGGING_REMINDERS_NOTIFICATION_PROMPT_DISMISS_TAPPED,
+        @TrackedEvent(name = "blogging_reminders_notification_prompt_tapped")
         BLOGGING_REMINDERS_NOTIFICATION_PROMPT_TAPPED,
+        @TrackedEvent(name = "blogging_reminders_notification_prompt_dismissed")
         BLOGGING_REMINDERS_NOTIFICATION_PROMPT_DISMISSED,
+        @TrackedEvent(name = "qrlogin_scanner_displayed")
         QRLOGIN_SCANNER_DISPLAYED,
+        @TrackedEvent(name = "qrlogin_scanner_dismissed")
         QRLOGIN_SCANNER_DISMISSED,
+        @TrackedEvent(name = "qrlogin_scanner_scanned_code")
         QRLOGIN_SCANNER_SCANNED_CODE,
+        @TrackedEvent(name = "qrlogin_verify_displayed")
         QRLOGIN_VERIFY_DISPLAYED,
+        @TrackedEvent(name = "qrlogin_verify_token_validated")
         QRLOGIN_VERIFY_TOKEN_VALIDATED,
+        @TrackedEvent(name = "qrlogin_verify_cancelled")
         QRLOGIN_VERIFY_CANCELLED,
+        @TrackedEvent(name = "qrlogin_verify_approved")
         QRLOGIN_VERIFY_APPROVED,
+        @TrackedEvent(name = "qrlogin_authenticated")
         QRLOGIN_AUTHENTICATED,
+        @TrackedEvent(name = "qrlogin_verify_dismiss")
         QRLOGIN_VERIFY_DISMISS,
+        @TrackedEvent(name = "qrlogin_verify_failed")
         QRLOGIN_VERIFY_FAILED,
+        @TrackedEvent(name = "qrlogin_verify_scan_again")
         QRLOGIN_VERIFY_SCAN_AGAIN,
+        @TrackedEvent(name = "jetpack_powered_banner_tapped")
         JETPACK_POWERED_BANNER_TAPPED,
+        @TrackedEvent(name = "jetpack_powered_badge_tapped")
         JETPACK_POWERED_BADGE_TAPPED,
+        @TrackedEvent(name = "remove_static_poster_displayed")
         REMOVE_STATIC_POSTER_DISPLAYED,
+        @TrackedEvent(name = "remove_static_poster_get_jetpack_tapped")
         REMOVE_STATIC_POSTER_GET_JETPACK_TAPPED,
+        @TrackedEvent(name = "remove_static_poster_link_tapped")
         REMOVE_STATIC_POSTER_LINK_TAPPED,
+        @TrackedEvent(name = "jetpack_powered_bottom_sheet_get_jetpack_app_tapped")
         JETPACK_POWERED_BOTTOM_SHEET_GET_JETPACK_APP_TAPPED,
+        @TrackedEvent(name = "jetpack_powered_bottom_sheet_continue_tapped")
         JETPACK_POWERED_BOTTOM_SHEET_CONTINUE_TAPPED,
+        @TrackedEvent(name = "shared_login_start")
         SHARED_LOGIN_START,
+        @TrackedEvent(name = "shared_login_success")
         SHARED_LOGIN_SUCCESS,
+        @TrackedEvent(name = "shared_login_failed")
         SHARED_LOGIN_FAILED,
+        @TrackedEvent(name = "migration_email_triggered")
         MIGRATION_EMAIL_TRIGGERED,
+        @TrackedEvent(name = "migration_email_failed")
         MIGRATION_EMAIL_FAILED,
+        @TrackedEvent(name = "content_migration_failed")
         CONTENT_MIGRATION_FAILED,
+        @TrackedEvent(name = "jpmigration_welcome_screen_shown")
         JPMIGRATION_WELCOME_SCREEN_SHOWN,
+        @TrackedEvent(name = "jpmigration_welcome_screen_continue_button_tapped")
         JPMIGRATION_WELCOME_SCREEN_CONTINUE_BUTTON_TAPPED,
+        @TrackedEvent(name = "jpmigration_welcome_screen_help_button_tapped")
         JPMIGRATION_WELCOME_SCREEN_HELP_BUTTON_TAPPED,
+        @TrackedEvent(name = "jpmigration_welcome_screen_avatar_tapped")
         JPMIGRATION_WELCOME_SCREEN_AVATAR_TAPPED,
+        @TrackedEvent(name = "jpmigration_notifications_screen_shown")
         JPMIGRATION_NOTIFICATIONS_SCREEN_SHOWN,
+        @TrackedEvent(name = "jpmigration_notifications_screen_continue_button_tapped")
         JPMIGRATION_NOTIFICATIONS_SCREEN_CONTINUE_BUTTON_TAPPED,
+        @TrackedEvent(name = "jpmigration_thanks_screen_shown")
         JPMIGRATION_THANKS_SCREEN_SHOWN,
+        @TrackedEvent(name = "jpmigration_thanks_screen_finish_button_tapped")
         JPMIGRATION_THANKS_SCREEN_FINISH_BUTTON_TAPPED,
+        @TrackedEvent(name = "jpmigration_please_delete_wordpress_card_tapped")
         JPMIGRATION_PLEASE_DELETE_WORDPRESS_CARD_TAPPED,
+        @TrackedEvent(name = "jpmigration_please_delete_wordpress_screen_shown")
         JPMIGRATION_PLEASE_DELETE_WORDPRESS_SCREEN_SHOWN,
+        @TrackedEvent(name = "jpmigration_please_delete_wordpress_gotit_tapped")
         JPMIGRATION_PLEASE_DELETE_WORDPRESS_GOTIT_TAPPED,
+        @TrackedEvent(name = "jpmigration_please_delete_wordpress_help_button_tapped")
         JPMIGRATION_PLEASE_DELETE_WORDPRESS_HELP_BUTTON_TAPPED,
+        @TrackedEvent(name = "jpmigration_error_screen_shown")
         JPMIGRATION_ERROR_SCREEN_SHOWN,
+        @TrackedEvent(name = "jpmigration_error_screen_help_button_tapped")
         JPMIGRATION_ERROR_SCREEN_HELP_BUTTON_TAPPED,
+        @TrackedEvent(name = "jpmigration_error_screen_retry_button_tapped")
         JPMIGRATION_ERROR_SCREEN_RETRY_BUTTON_TAPPED,
+        @TrackedEvent(name = "jpmigration_wordpressapp_detected")
         JPMIGRATION_WORDPRESSAPP_DETECTED,
+        @TrackedEvent(name = "user_flags_start")
         USER_FLAGS_START,
+        @TrackedEvent(name = "user_flags_success")
         USER_FLAGS_SUCCESS,
+        @TrackedEvent(name = "user_flags_failed")
         USER_FLAGS_FAILED,
+        @TrackedEvent(name = "blogging_reminders_sync_start")
         BLOGGING_REMINDERS_SYNC_START,
+        @TrackedEvent(name = "blogging_reminders_sync_success")
         BLOGGING_REMINDERS_SYNC_SUCCESS,
+        @TrackedEvent(name = "blogging_reminders_sync_failed")
         BLOGGING_REMINDERS_SYNC_FAILED,
+        @TrackedEvent(name = "reader_saved_posts_start")
         READER_SAVED_POSTS_START,
+        @TrackedEvent(name = "reader_saved_posts_success")
         READER_SAVED_POSTS_SUCCESS,
+        @TrackedEvent(name = "reader_saved_posts_failed")
         READER_SAVED_POSTS_FAILED,
+        @TrackedEvent(name = "deeplink_custom_intent_received")
         DEEPLINK_CUSTOM_INTENT_RECEIVED,
+        @TrackedEvent(name = "app_settings_open_web_links_with_jetpack_changed")
         APP_SETTINGS_OPEN_WEB_LINKS_WITH_JETPACK_CHANGED,
+        @TrackedEvent(name = "remove_feature_overlay_displayed")
         JETPACK_REMOVE_FEATURE_OVERLAY_DISPLAYED,
+        @TrackedEvent(name = "remove_feature_overlay_link_tapped")
         JETPACK_REMOVE_FEATURE_OVERLAY_LINK_TAPPED,
+        @TrackedEvent(name = "remove_feature_overlay_button_tapped")
         JETPACK_REMOVE_FEATURE_OVERLAY_BUTTON_GET_JETPACK_APP_TAPPED,
+        @TrackedEvent(name = "remove_feature_overlay_dismissed")
         JETPACK_REMOVE_FEATURE_OVERLAY_DISMISSED,
+        @TrackedEvent(name = "remove_feature_overlay_link_tapped")
         JETPACK_REMOVE_FEATURE_OVERLAY_LEARN_MORE_TAPPED,
+        @TrackedEvent(name = "remove_site_creation_overlay_displayed")
         JETPACK_REMOVE_SITE_CREATION_OVERLAY_DISPLAYED,
+        @TrackedEvent(name = "remove_site_creation_overlay_button_tapped")
         JETPACK_REMOVE_SITE_CREATION_OVERLAY_BUTTON_GET_JETPACK_APP_TAPPED,
+        @TrackedEvent(name = "remove_site_creation_overlay_dismissed")
         JETPACK_REMOVE_SITE_CREATION_OVERLAY_DISMISSED,
+        @TrackedEvent(name = "jetpack_deep_link_overlay_displayed")
         JETPACK_DEEP_LINK_OVERLAY_DISPLAYED,
+        @TrackedEvent(name = "jetpack_deep_link_overlay_button_open_in_jetpack_app_tapped")
         JETPACK_DEEP_LINK_OVERLAY_BUTTON_OPEN_IN_JETPACK_APP_TAPPED,
+        @TrackedEvent(name = "jetpack_deep_link_overlay_dismissed")
         JETPACK_DEEP_LINK_OVERLAY_DISMISSED,
+        @TrackedEvent(name = "remove_feature_card_displayed")
         REMOVE_FEATURE_CARD_DISPLAYED,
+        @TrackedEvent(name = "remove_feature_card_tapped")
         REMOVE_FEATURE_CARD_TAPPED,
+        @TrackedEvent(name = "remove_feature_card_link_tapped")
         REMOVE_FEATURE_CARD_LINK_TAPPED,
+        @TrackedEvent(name = "remove_feature_card_menu_accessed")
         REMOVE_FEATURE_CARD_MENU_ACCESSED,
+        @TrackedEvent(name = "remove_feature_card_hide_tapped")
         REMOVE_FEATURE_CARD_HIDE_TAPPED,
+        @TrackedEvent(name = "remove_feature_card_remind_later_tapped")
         REMOVE_FEATURE_CARD_REMIND_LATER_TAPPED,
+        @TrackedEvent(name = "jetpack_feature_incorrectly_accessed")
         JETPACK_FEATURE_INCORRECTLY_ACCESSED,
+        @TrackedEvent(name = "jp_install_full_plugin_card_viewed")
         JETPACK_INSTALL_FULL_PLUGIN_CARD_VIEWED,
+        @TrackedEvent(name = "jp_install_full_plugin_card_tapped")
         JETPACK_INSTALL_FULL_PLUGIN_CARD_TAPPED,
+        @TrackedEvent(name = "jp_install_full_plugin_card_dismissed")
         JETPACK_INSTALL_FULL_PLUGIN_CARD_DISMISSED,
+        @TrackedEvent(name = "jp_install_full_plugin_onboarding_modal_viewed")
         JETPACK_FULL_PLUGIN_INSTALL_ONBOARDING_SCREEN_SHOWN,
+        @TrackedEvent(name = "jp_install_full_plugin_onboarding_modal_dismissed")
         JETPACK_FULL_PLUGIN_INSTALL_ONBOARDING_SCREEN_DISMISSED,
+        @TrackedEvent(name = "jp_install_full_plugin_onboarding_modal_install_tapped")
         JETPACK_FULL_PLUGIN_INSTALL_ONBOARDING_INSTALL_TAPPED,
+        @TrackedEvent(name = "jp_install_full_plugin_flow_viewed")
         JETPACK_INSTALL_FULL_PLUGIN_FLOW_VIEWED,
+        @TrackedEvent(name = "jp_install_full_plugin_flow_cancel_tapped")
         JETPACK_INSTALL_FULL_PLUGIN_FLOW_CANCEL_TAPPED,
+        @TrackedEvent(name = "jp_install_full_plugin_flow_install_tapped")
         JETPACK_INSTALL_FULL_PLUGIN_FLOW_INSTALL_TAPPED,
+        @TrackedEvent(name = "jp_install_full_plugin_flow_retry_tapped")
         JETPACK_INSTALL_FULL_PLUGIN_FLOW_RETRY_TAPPED,
+        @TrackedEvent(name = "jp_install_full_plugin_flow_success")
         JETPACK_INSTALL_FULL_PLUGIN_FLOW_SUCCESS,
+        @TrackedEvent(name = "jp_install_full_plugin_flow_done_tapped")
         JETPACK_INSTALL_FULL_PLUGIN_FLOW_DONE_TAPPED,
+        @TrackedEvent(name = "blaze_entry_point_displayed")
         BLAZE_ENTRY_POINT_DISPLAYED,
+        @TrackedEvent(name = "blaze_entry_point_tapped")
         BLAZE_ENTRY_POINT_TAPPED,
+        @TrackedEvent(name = "blaze_entry_point_menu_accessed")
         BLAZE_ENTRY_POINT_MENU_ACCESSED,
+        @TrackedEvent(name = "blaze_entry_point_learn_more_tapped")
         BLAZE_ENTRY_POINT_LEARN_MORE_TAPPED,
+        @TrackedEvent(name = "blaze_entry_point_hide_tapped")
         BLAZE_ENTRY_POINT_HIDE_TAPPED,
+        @TrackedEvent(name = "blaze_overlay_displayed")
         BLAZE_FEATURE_OVERLAY_DISPLAYED,
+        @TrackedEvent(name = "blaze_overlay_button_tapped")
         BLAZE_FEATURE_OVERLAY_PROMOTE_CLICKED,
+        @TrackedEvent(name = "blaze_overlay_dismissed")
         BLAZE_FEATURE_OVERLAY_DISMISSED,
+        @TrackedEvent(name = "blaze_flow_started")
         BLAZE_FLOW_STARTED,
+        @TrackedEvent(name = "blaze_flow_completed")
         BLAZE_FLOW_COMPLETED,
+        @TrackedEvent(name = "blaze_flow_canceled")
         BLAZE_FLOW_CANCELED,
+        @TrackedEvent(name = "blaze_flow_error")
         BLAZE_FLOW_ERROR,
+        @TrackedEvent(name = "blaze_campaign_list_opened")
         BLAZE_CAMPAIGN_LISTING_PAGE_SHOWN,
+        @TrackedEvent(name = "blaze_campaign_details_opened")
         BLAZE_CAMPAIGN_DETAIL_PAGE_OPENED,
+        @TrackedEvent(name = "wp_individual_site_overlay_viewed")
         WP_JETPACK_INDIVIDUAL_PLUGIN_OVERLAY_SHOWN,
+        @TrackedEvent(name = "wp_individual_site_overlay_dismissed")
         WP_JETPACK_INDIVIDUAL_PLUGIN_OVERLAY_DISMISSED,
+        @TrackedEvent(name = "wp_individual_site_overlay_primary_tapped")
         WP_JETPACK_INDIVIDUAL_PLUGIN_OVERLAY_PRIMARY_TAPPED,
+        @TrackedEvent(name = "free_to_paid_plan_dashboard_card_shown")
         DASHBOARD_CARD_PLANS_SHOWN,
+        @TrackedEvent(name = "free_to_paid_plan_dashboard_card_tapped")
         DASHBOARD_CARD_PLANS_TAPPED,
+        @TrackedEvent(name = "free_to_paid_plan_dashboard_card_menu_tapped")
         DASHBOARD_CARD_PLANS_MORE_MENU_TAPPED,
+        @TrackedEvent(name = "free_to_paid_plan_dashboard_card_hidden")
         DASHBOARD_CARD_PLANS_HIDDEN,
+        @TrackedEvent(name = "twitter_notice_link_tapped")
         TWITTER_NOTICE_LINK_TAPPED,
+        @TrackedEvent(name = "privacy_choices_banner_presented")
         PRIVACY_CHOICES_BANNER_PRESENTED,
+        @TrackedEvent(name = "privacy_choices_banner_settings_button_tapped")
         PRIVACY_CHOICES_BANNER_SETTINGS_BUTTON_TAPPED,
+        @TrackedEvent(name = "privacy_choices_banner_save_button_tapped")
         PRIVACY_CHOICES_BANNER_SAVE_BUTTON_TAPPED,
+        @TrackedEvent(name = "jetpack_social_auto_sharing_connection_toggled")
         JETPACK_SOCIAL_AUTO_SHARING_CONNECTION_TOGGLED,
+        @TrackedEvent(name = "jetpack_social_share_limit_displayed")
         JETPACK_SOCIAL_SHARE_LIMIT_DISPLAYED,
+        @TrackedEvent(name = "jetpack_social_upgrade_link_tapped")
         JETPACK_SOCIAL_UPGRADE_LINK_TAPPED,
+        @TrackedEvent(name = "jetpack_social_add_connection_cta_displayed")
         JETPACK_SOCIAL_ADD_CONNECTION_CTA_DISPLAYED,
+        @TrackedEvent(name = "jetpack_social_add_connection_tapped")
         JETPACK_SOCIAL_ADD_CONNECTION_TAPPED,
+        @TrackedEvent(name = "jetpack_social_add_connection_dismissed")
         JETPACK_SOCIAL_ADD_CONNECTION_DISMISSED,
+        @TrackedEvent(name = "my_site_dashboard_card_menu_item_tapped")
         MY_SITE_DASHBOARD_CARD_MENU_ITEM_TAPPED,
+        @TrackedEvent(name = "my_site_dashboard_contextual_menu_accessed")
         MY_SITE_DASHBOARD_CONTEXTUAL_MENU_ACCESSED,
+        @TrackedEvent(name = "personalization_screen_card_hide_tapped")
         PERSONALIZATION_SCREEN_CARD_HIDE_TAPPED,
+        @TrackedEvent(name = "personalization_screen_card_show_tapped")
         PERSONALIZATION_SCREEN_CARD_SHOW_TAPPED,
+        @TrackedEvent(name = "personalization_screen_shortcut_show_quick_link_tapped")
         PERSONALIZATION_SCREEN_SHORTCUT_SHOW_QUICK_LINK_TAPPED,
+        @TrackedEvent(name = "personalization_screen_shortcut_hide_quick_link_tapped")
         PERSONALIZATION_SCREEN_SHORTCUT_HIDE_QUICK_LINK_TAPPED,
+        @TrackedEvent(name = "quick_link_item_tapped")
         QUICK_LINK_ITEM_TAPPED,
+        @TrackedEvent(name = "more_menu_item_tapped")
         MORE_MENU_ITEM_TAPPED,
+        @TrackedEvent(name = "post_list_create_post_tapped")
         POST_LIST_CREATE_POST_TAPPED,
+        @TrackedEvent(name = "domain_management_me_domains_tapped")
         DOMAIN_MANAGEMENT_ME_DOMAINS_TAPPED,
+        @TrackedEvent(name = "domain_management_domains_dashboard_all_domains_tapped")
         DOMAIN_MANAGEMENT_DOMAINS_DASHBOARD_ALL_DOMAINS_TAPPED,
+        @TrackedEvent(name = "domain_management_domains_list_shown")
         DOMAIN_MANAGEMENT_DOMAINS_LIST_SHOWN,
+        @TrackedEvent(name = "domain_management_domain_details_web_view_shown")
         DOMAIN_MANAGEMENT_DOMAIN_DETAILS_WEB_VIEW_SHOWN,
+        @TrackedEvent(name = "domain_management_add_domain_tapped")
         DOMAIN_MANAGEMENT_ADD_DOMAIN_TAPPED,
+        @TrackedEvent(name = "domain_management_purchase_domain_screen_shown")
         DOMAIN_MANAGEMENT_PURCHASE_DOMAIN_SCREEN_SHOWN,
+        @TrackedEvent(name = "domain_management_purchase_domain_get_domain_tapped")
         DOMAIN_MANAGEMENT_PURCHASE_DOMAIN_GET_DOMAIN_TAPPED,
+        @TrackedEvent(name = "domain_management_purchase_domain_choose_site_tapped")
         DOMAIN_MANAGEMENT_PURCHASE_DOMAIN_CHOOSE_SITE_TAPPED,
+        @TrackedEvent(name = "domain_management_purchase_domain_site_selected")
         DOMAIN_MANAGEMENT_PURCHASE_DOMAIN_SITE_SELECTED,
+        @TrackedEvent(name = "domain_management_domains_search_shown")
         DOMAIN_MANAGEMENT_DOMAINS_SEARCH_SHOWN,
+        @TrackedEvent(name = "domain_management_search_domain_tapped")
         DOMAIN_MANAGEMENT_SEARCH_DOMAIN_TAPPED,
+        @TrackedEvent(name = "domain_management_domains_search_transfer_domain_tapped")
         DOMAIN_MANAGEMENT_DOMAINS_SEARCH_TRANSFER_DOMAIN_TAPPED,
+        @TrackedEvent(name = "domain_management_purchase_domain_completed")
         DOMAIN_MANAGEMENT_PURCHASE_DOMAIN_COMPLETED,
+        @TrackedEvent(name = "login_security_key_failure")
         LOGIN_SECURITY_KEY_FAILURE,
+        @TrackedEvent(name = "login_2fa_needed")
         LOGIN_2FA_NEEDED,
+        @TrackedEvent(name = "login_security_key_success")
         LOGIN_SECURITY_KEY_SUCCESS,
+        @TrackedEvent(name = "login_security_key_clicked")
         LOGIN_SECURITY_KEY_CLICKED,
+        @TrackedEvent(name = "barcode_scanning_success")
         BARCODE_SCANNING_SUCCESS,
+        @TrackedEvent(name = "barcode_scanning_failure")
         BARCODE_SCANNING_FAILURE,
+        @TrackedEvent(name = "qrlogin_scanner_dismissed_camera_permission_denied")
         QRLOGIN_SCANNER_DISMISSED_CAMERA_PERMISSION_DENIED,
+        @TrackedEvent(name = "bloganuary_nudge_my_site_card_learn_more_tapped")
         BLOGANUARY_NUDGE_MY_SITE_CARD_LEARN_MORE_TAPPED,
+        @TrackedEvent(name = "bloganuary_nudge_learn_more_modal_shown")
         BLOGANUARY_NUDGE_LEARN_MORE_MODAL_SHOWN,
+        @TrackedEvent(name = "bloganuary_nudge_learn_more_modal_dismissed")
         BLOGANUARY_NUDGE_LEARN_MORE_MODAL_DISMISSED,
+        @TrackedEvent(name = "bloganuary_nudge_learn_more_modal_action_tapped")
         BLOGANUARY_NUDGE_LEARN_MORE_MODAL_ACTION_TAPPED,
+        @TrackedEvent(name = "sotw_2023_nudge_post_event_card_shown")
         SOTW_2023_NUDGE_POST_EVENT_CARD_SHOWN,
+        @TrackedEvent(name = "sotw_2023_nudge_post_event_card_hide_tapped")
         SOTW_2023_NUDGE_POST_EVENT_CARD_HIDE_TAPPED,
+        @TrackedEvent(name = "sotw_2023_nudge_post_event_card_cta_tapped")
         SOTW_2023_NUDGE_POST_EVENT_CARD_CTA_TAPPED,
+        @TrackedEvent(name = "dynamic_dashboard_card_shown")
         DYNAMIC_DASHBOARD_CARD_SHOWN,
+        @TrackedEvent(name = "dynamic_dashboard_card_tapped")
         DYNAMIC_DASHBOARD_CARD_TAPPED,
+        @TrackedEvent(name = "dynamic_dashboard_card_cta_tapped")
         DYNAMIC_DASHBOARD_CARD_CTA_TAPPED,
+        @TrackedEvent(name = "dynamic_dashboard_card_hide_tapped")
         DYNAMIC_DASHBOARD_CARD_HIDE_TAPPED,
+        @TrackedEvent(name = "deep_link_failed")
         DEEP_LINK_FAILED
     }
 
-    private static final List<Tracker> TRACKERS = new ArrayList<>();
+    private static final List<Tracker> TRACKERS = new CopyOnWriteArrayList<>();
+    private static volatile AnalyticsEventQueue sEventQueue;
 
     private AnalyticsTracker() {
     }
@@ -1126,6 +2211,17 @@ public final class AnalyticsTracker {
         }
     }
 
+    /**
+     * Switches to asynchronous tracking: from now on track() only queues events, and a background thread passes them
+     * on to the trackers together with calls to flush(), endSession(), clearAllData() and refreshMetadata(), in the
+     * order they were made. Events tracked while the queue is full are dropped, see AnalyticsEventQueue.
+     */
+    public static synchronized void enableAsyncTracking() {
+        if (sEventQueue == null) {
+            sEventQueue = new AnalyticsEventQueue(TRACKERS, AnalyticsEventQueue.DEFAULT_CAPACITY);
+        }
+    }
+
     public static void registerTracker(Tracker tracker) {
         if (tracker != null) {
             TRACKERS.add(tracker);
@@ -1137,6 +2233,11 @@ public final class AnalyticsTracker {
             return;
         }
 
+        AnalyticsEventQueue eventQueue = sEventQueue;
+        if (eventQueue != null && Tracker.isValidEvent(stat)) {
+            eventQueue.track(stat, null);
+            return;
+        }
         for (Tracker tracker : TRACKERS) {
             tracker.track(stat);
         }
@@ -1160,6 +2261,11 @@ public final class AnalyticsTracker {
             return;
         }
 
+        AnalyticsEventQueue eventQueue = sEventQueue;
+        if (eventQueue != null && Tracker.isValidEvent(stat)) {
+            eventQueue.track(stat, properties);
+            return;
+        }
         for (Tracker tracker : TRACKERS) {
             tracker.track(stat, properties);
         }
@@ -1184,29 +2290,49 @@ public final class AnalyticsTracker {
         if (mHasUserOptedOut) {
             return;
         }
-        for (Tracker tracker : TRACKERS) {
-            tracker.flush();
-        }
+        runOnTrackers(() -> {
+            for (Tracker tracker : TRACKERS) {
+                tracker.flush();
+            }
+        });
     }
 
     public static void endSession(boolean force) {
         if (mHasUserOptedOut && !force) {
             return;
         }
-        for (Tracker tracker : TRACKERS) {
-            tracker.endSession();
-        }
+        runOnTrackers(() -> {
+            for (Tracker tracker : TRACKERS) {
+                tracker.endSession();
+            }
+        });
     }
 
     public static void clearAllData() {
-        for (Tracker tracker : TRACKERS) {
-            tracker.clearAllData();
-        }
+        runOnTrackers(() -> {
+            for (Tracker tracker : TRACKERS) {
+                tracker.clearAllData();
+            }
+        });
     }
 
     public static void refreshMetadata(AnalyticsMetadata metadata) {
-        for (Tracker tracker : TRACKERS) {
-            tracker.refreshMetadata(metadata);
+        runOnTrackers(() -> {
+            for (Tracker tracker : TRACKERS) {
+                tracker.refreshMetadata(metadata);
+            }
+        });
+    }
+
+    /*
+     * makes the passed calls on the trackers after any queued events in asynchronous mode, or right away otherwise
+     */
+    private static void runOnTrackers(Runnable calls) {
+        AnalyticsEventQueue eventQueue = sEventQueue;
+        if (eventQueue != null) {
+            eventQueue.run(calls);
+        } else {
+            calls.run();
         }
     }
 }
@@ -0,0 +1,95 @@
+package org.wordpress.android.analytics;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue for any number of producer threads and a single consumer thread. Each slot of the ring
+ * has a sequence number which tells producers whether the slot is free for the position they've claimed and tells
+ * the consumer whether the element at its position has been published, so neither side ever blocks the other.
+ */
+final class EventRingBuffer<E> {
+    private final int mCapacity;
+    private final int mMask;
+    private final AtomicReferenceArray<E> mElements;
+    private final AtomicLongArray mSequences;
+    private final AtomicLong mTail = new AtomicLong();
+    private final AtomicLong mHead = new AtomicLong();
+
+    /**
+     * Creates a buffer holding at least the passed number of elements - the capacity is rounded up to a power of two.
+     */
+    EventRingBuffer(int minCapacity) {
+        if (minCapacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        mCapacity = Integer.highestOneBit(minCapacity) == minCapacity
+                ? minCapacity : Integer.highestOneBit(minCapacity) << 1;
+        mMask = mCapacity - 1;
+        mElements = new AtomicReferenceArray<>(mCapacity);
+        mSequences = new AtomicLongArray(mCapacity);
+        for (int i = 0; i < mCapacity; i++) {
+            mSequences.set(i, i);
+        }
+    }
+
+    int getCapacity() {
+        return mCapacity;
+    }
+
+    /**
+     * Adds the passed element to the end of the buffer, returning false without adding it if the buffer is full.
+     * May be called from any thread.
+     */
+    boolean offer(@NonNull E element) {
+        long position = mTail.get();
+        while (true) {
+            int index = (int) (position & mMask);
+            long difference = mSequences.get(index) - position;
+            if (difference == 0) {
+                if (mTail.compareAndSet(position, position + 1)) {
+                    mElements.set(index, element);
+                    mSequences.set(index, position + 1);
+                    return true;
+                }
+                position = mTail.get();
+            } else if (difference < 0) {
+                // the slot still holds the element from the previous lap, which hasn't been consumed
+                return false;
+            } else {
+                // another producer claimed this position first
+                position = mTail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the buffer, or returns null if there's no published element.
+     * Must only be called from the consumer thread.
+     */
+    @Nullable
+    E poll() {
+        long position = mHead.get();
+        int index = (int) (position & mMask);
+        if (mSequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = mElements.get(index);
+        mElements.set(index, null);
+        mSequences.set(index, position + mCapacity);
+        mHead.set(position + 1);
+        return element;
+    }
+
+    /**
+     * Returns true if there's no published element to poll. Must only be called from the consumer thread.
+     */
+    boolean isEmpty() {
+        long position = mHead.get();
+        return mSequences.get((int) (position & mMask)) != position + 1;
+    }
+}
@@ -8,6 +8,7 @@ import androidx.preference.PreferenceManager;
 import org.wordpress.android.analytics.AnalyticsTracker.Stat;
 import org.wordpress.android.util.AppLog;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -16,6 +17,15 @@ public abstract class Tracker {
 
     abstract void track(Stat stat, Map<String, ?> properties);
 
+    /**
+     * Tracks a batch of events queued by AnalyticsTracker in asynchronous mode, on its background thread
+     */
+    void track(List<AnalyticsEvent> events) {
+        for (AnalyticsEvent event : events) {
+            track(event.getStat(), event.getProperties());
+        }
+    }
+
     abstract void endSession();
 
     abstract void flush();
@@ -0,0 +1,14 @@
+package org.wordpress.android.annotation
+
+/**
+ * Gives the Tracks event name of an analytics stat, and the properties always tracked with it: [properties] holds
+ * alternating keys and string values, and [trueProperties] holds the keys of properties which are set to true.
+ */
+@Target(AnnotationTarget.FIELD)
+@Retention(AnnotationRetention.SOURCE)
+@MustBeDocumented
+annotation class TrackedEvent(
+    val name: String,
+    val properties: Array<String> = [],
+    val trueProperties: Array<String> = []
+)
@@ -3,6 +3,7 @@ package org.wordpress.android.networking;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.android.volley.RequestQueue;
 import com.wordpress.rest.RestClient;
 import com.wordpress.rest.RestRequest;
 
@@ -11,8 +12,10 @@ import com.wordpress.rest.RestRequest;
  * allows the request maker to disregard the authentication state when making requests.
  */
 public class AuthenticatorRequest {
-    @NonNull private final RestRequest mRequest;
-    @NonNull private final RestClient mRestClient;
+    @Nullable private final RestRequest mRequest;
+    @Nullable private final RestClient mRestClient;
+    @Nullable private final StreamingRestRequest<?> mStreamingRequest;
+    @Nullable private final RequestQueue mQueue;
     @Nullable private final Authenticator mAuthenticator;
 
     protected AuthenticatorRequest(
@@ -22,6 +25,20 @@ public class AuthenticatorRequest {
     ) {
         mRequest = request;
         mRestClient = restClient;
+        mStreamingRequest = null;
+        mQueue = null;
+        mAuthenticator = authenticator;
+    }
+
+    protected AuthenticatorRequest(
+            @NonNull StreamingRestRequest<?> request,
+            @NonNull RequestQueue queue,
+            @Nullable Authenticator authenticator
+    ) {
+        mRequest = null;
+        mRestClient = null;
+        mStreamingRequest = request;
+        mQueue = queue;
         mAuthenticator = authenticator;
     }
 
@@ -33,14 +50,26 @@ public class AuthenticatorRequest {
      */
     protected void send() {
         if (mAuthenticator == null) {
-            mRestClient.send(mRequest);
+            sendRequest();
         } else {
             mAuthenticator.authenticate(this);
         }
     }
 
     public void sendWithAccessToken(@NonNull String token) {
-        mRequest.setAccessToken(token);
-        mRestClient.send(mRequest);
+        if (mRequest != null) {
+            mRequest.setAccessToken(token);
+        } else if (mStreamingRequest != null) {
+            mStreamingRequest.setAccessToken(token);
+        }
+        sendRequest();
+    }
+
+    private void sendRequest() {
+        if (mRequest != null && mRestClient != null) {
+            mRestClient.send(mRequest);
+        } else if (mStreamingRequest != null && mQueue != null) {
+            mQueue.add(mStreamingRequest);
+        }
     }
 }
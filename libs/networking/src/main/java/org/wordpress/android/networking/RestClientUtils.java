@@ -11,6 +11,7 @@ import com.android.volley.DefaultRetryPolicy;
 import com.android.volley.Request;
 import com.android.volley.Request.Method;
 import com.android.volley.RequestQueue;
+import com.android.volley.Response;
 import com.android.volley.RetryPolicy;
 import com.android.volley.VolleyError;
 import com.wordpress.rest.JsonRestRequest;
@@ -33,11 +34,14 @@ import java.util.Map;
  */
 
 public class RestClientUtils {
-    public static final String NOTIFICATION_FIELDS = "id,type,unread,body,subject,timestamp,meta";
+    public static final String NOTIFICATION_FIELDS = "id,type,unread,body,subject,timestamp,meta,note_hash";
+    public static final String NOTIFICATION_HASH_FIELDS = "id,note_hash";
     private static String sUserAgent = "WordPress Networking Android";
 
     @NonNull private final RestClient mRestClient;
     @Nullable private final Authenticator mAuthenticator;
+    @Nullable private final RestRequest.OnAuthFailedListener mOnAuthFailedListener;
+    @Nullable private final RequestQueue mRequestQueue;
     private final Context mContext;
 
     /**
@@ -89,6 +93,8 @@ public class RestClientUtils {
         // load an existing access token from prefs if we have one
         mContext = context;
         mAuthenticator = authenticator;
+        mOnAuthFailedListener = onAuthFailedListener;
+        mRequestQueue = queue;
         mRestClient = RestClientFactory.instantiate(queue, version);
         if (onAuthFailedListener != null) {
             mRestClient.setOnAuthFailedListener(onAuthFailedListener);
@@ -107,7 +113,8 @@ public class RestClientUtils {
     }
 
     /**
-     * Get notifications with the provided params.
+     * Get notifications with the provided params. Passing NOTIFICATION_HASH_FIELDS as the fields returns just the id
+     * and hash of each note, and passing a comma separated list of note ids as the ids returns just those notes.
      * <p/>
      * <a href="https://developer.wordpress.com/docs/api/1/get/notifications/">api/1/get/notifications</a>
      */
@@ -282,6 +289,43 @@ public class RestClientUtils {
         return request;
     }
 
+    /**
+     * Make GET request whose response body is passed to the parser on the network thread instead of being
+     * turned into a JSONObject - use this for large responses which are read with a pull parser
+     */
+    @NonNull
+    public <T> Request<T> getStreaming(@NonNull String path,
+                                       @Nullable Map<String, String> params,
+                                       @NonNull StreamingRestRequest.ResponseParser<T> parser,
+                                       @NonNull Response.Listener<T> listener,
+                                       @Nullable Response.ErrorListener errorListener) {
+        HashMap<String, String> paramsWithLocale = getRestLocaleParams(mContext);
+        if (params != null) {
+            paramsWithLocale.putAll(params);
+        }
+
+        String realPath = getSanitizedPath(path);
+        if (TextUtils.isEmpty(realPath)) {
+            realPath = path;
+        }
+        paramsWithLocale.putAll(getSanitizedParameters(path));
+
+        StreamingRestRequest<T> request = new StreamingRestRequest<>(
+                mRestClient.getAbsoluteURL(realPath, paramsWithLocale), sUserAgent, parser, listener, errorListener,
+                mOnAuthFailedListener);
+        request.setRetryPolicy(new DefaultRetryPolicy(REST_TIMEOUT_MS, REST_MAX_RETRIES_GET, REST_BACKOFF_MULT));
+        // streaming requests go through the app's request queue, which the rest client sends its requests to
+        if (mRequestQueue == null) {
+            if (errorListener != null) {
+                errorListener.onErrorResponse(new VolleyError("Streaming requests need a request queue"));
+            }
+            return request;
+        }
+        AuthenticatorRequest authCheck = new AuthenticatorRequest(request, mRequestQueue, mAuthenticator);
+        authCheck.send();
+        return request;
+    }
+
     /**
      * Make POST request
      */
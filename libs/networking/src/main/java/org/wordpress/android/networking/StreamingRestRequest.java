@@ -0,0 +1,116 @@
+package org.wordpress.android.networking;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.android.volley.NetworkResponse;
+import com.android.volley.ParseError;
+import com.android.volley.Request;
+import com.android.volley.Response;
+import com.android.volley.VolleyError;
+import com.android.volley.toolbox.HttpHeaderParser;
+import com.wordpress.rest.RestRequest;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST GET request which hands the raw response body to a {@link ResponseParser} on the network
+ * thread rather than building a JSONObject from it - used for large responses (such as pages of
+ * reader posts) which are read with a pull parser so the whole document is never held as a tree.
+ * Volley still reads the whole body into memory before it's parsed, so only the tree is saved.
+ * Like RestRequest, it reports an invalid or expired token to the OnAuthFailedListener
+ */
+public class StreamingRestRequest<T> extends Request<T> {
+    public interface ResponseParser<T> {
+        @NonNull T parse(@NonNull InputStream stream) throws IOException;
+    }
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String USER_AGENT_HEADER = "User-Agent";
+    private static final String ERROR_AUTHORIZATION_REQUIRED = "authorization_required";
+    private static final String ERROR_INVALID_TOKEN = "invalid_token";
+
+    @NonNull private final ResponseParser<T> mParser;
+    @NonNull private final Response.Listener<T> mListener;
+    @NonNull private final String mUserAgent;
+    @Nullable private final RestRequest.OnAuthFailedListener mOnAuthFailedListener;
+    @Nullable private String mAccessToken;
+
+    StreamingRestRequest(
+            @NonNull String url,
+            @NonNull String userAgent,
+            @NonNull ResponseParser<T> parser,
+            @NonNull Response.Listener<T> listener,
+            @Nullable Response.ErrorListener errorListener,
+            @Nullable RestRequest.OnAuthFailedListener onAuthFailedListener
+    ) {
+        super(Method.GET, url, errorListener);
+        mUserAgent = userAgent;
+        mParser = parser;
+        mListener = listener;
+        mOnAuthFailedListener = onAuthFailedListener;
+    }
+
+    void setAccessToken(@Nullable String accessToken) {
+        mAccessToken = accessToken;
+    }
+
+    @NonNull
+    @Override
+    public Map<String, String> getHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(USER_AGENT_HEADER, mUserAgent);
+        if (mAccessToken != null) {
+            headers.put(AUTHORIZATION_HEADER, "Bearer " + mAccessToken);
+        }
+        return headers;
+    }
+
+    @NonNull
+    @Override
+    protected Response<T> parseNetworkResponse(@NonNull NetworkResponse response) {
+        try (InputStream stream = new ByteArrayInputStream(response.data)) {
+            return Response.success(mParser.parse(stream), HttpHeaderParser.parseCacheHeaders(response));
+        } catch (IOException | RuntimeException e) {
+            return Response.error(new ParseError(e));
+        }
+    }
+
+    @Override
+    protected void deliverResponse(@NonNull T response) {
+        mListener.onResponse(response);
+    }
+
+    @Override
+    public void deliverError(@NonNull VolleyError error) {
+        super.deliverError(error);
+        if (mOnAuthFailedListener != null && isAuthFailure(error.networkResponse)) {
+            mOnAuthFailedListener.onAuthFailed();
+        }
+    }
+
+    /*
+     * true if the response is an error saying the access token is missing, invalid or expired
+     */
+    static boolean isAuthFailure(@Nullable NetworkResponse response) {
+        if (response == null || (response.statusCode != 401 && response.statusCode != 403)
+            || response.data == null) {
+            return false;
+        }
+        try {
+            String body = new String(response.data, HttpHeaderParser.parseCharset(response.headers));
+            String error = new JSONObject(body).optString("error");
+            return ERROR_AUTHORIZATION_REQUIRED.equals(error) || ERROR_INVALID_TOKEN.equals(error);
+        } catch (UnsupportedEncodingException | JSONException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.wordpress.android.processor
+
+import com.squareup.kotlinpoet.ANY
+import com.squareup.kotlinpoet.ARRAY
+import com.squareup.kotlinpoet.ClassName
+import com.squareup.kotlinpoet.CodeBlock
+import com.squareup.kotlinpoet.FileSpec
+import com.squareup.kotlinpoet.FunSpec
+import com.squareup.kotlinpoet.KModifier
+import com.squareup.kotlinpoet.MAP
+import com.squareup.kotlinpoet.ParameterizedTypeName.Companion.parameterizedBy
+import com.squareup.kotlinpoet.PropertySpec
+import com.squareup.kotlinpoet.STRING
+import com.squareup.kotlinpoet.TypeName
+import com.squareup.kotlinpoet.TypeSpec
+
+private const val FILE_NAME = "AnalyticsEventTable"
+private const val EVENT_NAMES = "eventNames"
+private const val PREDEFINED_PROPERTIES = "predefinedProperties"
+
+/**
+ * A constant of the tracked enum, with the event name and predefined properties declared by its TrackedEvent
+ * annotation. The name is null for constants which aren't annotated.
+ */
+data class TrackedEventEntry(
+    val constant: String,
+    val name: String?,
+    val properties: List<Pair<String, Any>> = listOf()
+)
+
+/**
+ * Builds an object which looks up the event name and predefined properties of a constant of the tracked enum by its
+ * ordinal. The entries must be passed in the order the constants are declared in.
+ */
+class AnalyticsEventTableBuilder(
+    private val enumClassName: ClassName,
+    private val entries: List<TrackedEventEntry>
+) {
+    fun getContent(): FileSpec {
+        val properties = MAP.parameterizedBy(STRING, ANY)
+        val eventTable = TypeSpec.objectBuilder(FILE_NAME)
+            .addProperty(
+                PropertySpec.builder(EVENT_NAMES, ARRAY.parameterizedBy(STRING.copy(nullable = true)))
+                    .addModifiers(KModifier.PRIVATE)
+                    .initializer(buildEventNames())
+                    .build()
+            )
+            .addProperty(
+                PropertySpec.builder(PREDEFINED_PROPERTIES, ARRAY.parameterizedBy(properties.copy(nullable = true)))
+                    .addModifiers(KModifier.PRIVATE)
+                    .initializer(buildPredefinedProperties(properties))
+                    .build()
+            )
+            .addFunction(
+                FunSpec.builder("getEventName")
+                    .addAnnotation(JvmStatic::class)
+                    .addParameter("stat", enumClassName)
+                    .returns(STRING.copy(nullable = true))
+                    .addStatement("return $EVENT_NAMES[stat.ordinal]")
+                    .build()
+            )
+            .addFunction(
+                FunSpec.builder("getPredefinedProperties")
+                    .addAnnotation(JvmStatic::class)
+                    .addParameter("stat", enumClassName)
+                    .returns(properties.copy(nullable = true))
+                    .addStatement("return $PREDEFINED_PROPERTIES[stat.ordinal]")
+                    .build()
+            )
+            .build()
+        return FileSpec.builder(enumClassName.packageName, FILE_NAME)
+            .addType(eventTable)
+            .addComment("Automatically generated file. DO NOT MODIFY")
+            .indent("    ")
+            .build()
+    }
+
+    private fun buildEventNames(): CodeBlock {
+        val codeBlock = CodeBlock.builder().add("arrayOf(\n").indent()
+        entries.forEachIndexed { index, entry ->
+            val separator = if (index < entries.size - 1) "," else ""
+            if (entry.name != null) {
+                codeBlock.add("%S$separator\n", entry.name)
+            } else {
+                codeBlock.add("null$separator\n")
+            }
+        }
+        return codeBlock.unindent().add(")").build()
+    }
+
+    private fun buildPredefinedProperties(properties: TypeName): CodeBlock {
+        val codeBlock = CodeBlock.builder()
+            .add("arrayOfNulls<%T>(${entries.size}).also·{\n", properties)
+            .indent()
+        entries.filter { it.properties.isNotEmpty() }.forEach { entry ->
+            codeBlock.add("it[%T.%L.ordinal]·=·mapOf(", enumClassName, entry.constant)
+            entry.properties.forEachIndexed { index, (key, value) ->
+                val separator = if (index < entry.properties.size - 1) ",·" else ""
+                if (value is String) {
+                    codeBlock.add("%S·to·%S$separator", key, value)
+                } else {
+                    codeBlock.add("%S·to·%L$separator", key, value)
+                }
+            }
+            codeBlock.add(")\n")
+        }
+        return codeBlock.unindent().add("}").build()
+    }
+}
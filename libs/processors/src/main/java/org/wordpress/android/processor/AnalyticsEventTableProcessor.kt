@@ -0,0 +1,91 @@
+package org.wordpress.android.processor
+
+import com.google.auto.service.AutoService
+import com.squareup.kotlinpoet.asClassName
+import org.wordpress.android.annotation.TrackedEvent
+import java.io.File
+import javax.annotation.processing.AbstractProcessor
+import javax.annotation.processing.Processor
+import javax.annotation.processing.RoundEnvironment
+import javax.annotation.processing.SupportedAnnotationTypes
+import javax.annotation.processing.SupportedSourceVersion
+import javax.lang.model.SourceVersion
+import javax.lang.model.element.ElementKind
+import javax.lang.model.element.TypeElement
+import javax.tools.Diagnostic.Kind
+
+@AutoService(Processor::class) // For registering the service
+@SupportedSourceVersion(SourceVersion.RELEASE_8) // to support Java 8
+@SupportedAnnotationTypes("org.wordpress.android.annotation.TrackedEvent")
+class AnalyticsEventTableProcessor : AbstractProcessor() {
+    override fun process(p0: MutableSet<out TypeElement>?, roundEnvironment: RoundEnvironment?): Boolean {
+        val trackedEnums = roundEnvironment?.getElementsAnnotatedWith(TrackedEvent::class.java)
+            ?.filter { it.kind == ElementKind.ENUM_CONSTANT }
+            ?.map { it.enclosingElement as TypeElement }
+            ?.distinct() ?: listOf()
+        return when {
+            trackedEnums.isEmpty() -> false
+            trackedEnums.size > 1 -> {
+                processingEnv.messager.printMessage(
+                    Kind.ERROR,
+                    "TrackedEvent is only supported on the constants of a single enum, found it on $trackedEnums"
+                )
+                true
+            }
+            else -> {
+                generateAnalyticsEventTable(trackedEnums.single())
+                true
+            }
+        }
+    }
+
+    /*
+     * The table is indexed by ordinal, so it's built from all the constants of the enum in the order they're declared
+     * in, which is the order javac keeps enclosed elements in.
+     */
+    @Suppress("DEPRECATION", "TooGenericExceptionCaught")
+    private fun generateAnalyticsEventTable(trackedEnum: TypeElement) {
+        try {
+            val entries = trackedEnum.enclosedElements
+                .filter { it.kind == ElementKind.ENUM_CONSTANT }
+                .map { element ->
+                    val constant = element.simpleName.toString()
+                    val annotation = element.getAnnotation(TrackedEvent::class.java)
+                    if (annotation == null) {
+                        processingEnv.messager.printMessage(
+                            Kind.WARNING,
+                            "$constant has no TrackedEvent annotation and won't be tracked",
+                            element
+                        )
+                        TrackedEventEntry(constant, null)
+                    } else {
+                        TrackedEventEntry(constant, annotation.name, getProperties(constant, annotation))
+                    }
+                }
+            val fileContent = AnalyticsEventTableBuilder(trackedEnum.asClassName(), entries).getContent()
+
+            val kaptKotlinGeneratedDir = processingEnv.options[KAPT_KOTLIN_GENERATED_OPTION_NAME]
+            fileContent.writeTo(File(kaptKotlinGeneratedDir))
+        } catch (e: Exception) {
+            processingEnv.messager.printMessage(Kind.ERROR, "Failed to generate analytics event table: $e")
+        }
+    }
+
+    private fun getProperties(constant: String, annotation: TrackedEvent): List<Pair<String, Any>> {
+        if (annotation.properties.size % 2 != 0) {
+            processingEnv.messager.printMessage(
+                Kind.ERROR,
+                "The properties of $constant must be pairs of keys and values"
+            )
+        }
+        val properties = annotation.properties.toList()
+            .chunked(2)
+            .filter { it.size == 2 }
+            .map { (key, value) -> key to value as Any }
+        return properties + annotation.trueProperties.map { it to true }
+    }
+
+    companion object {
+        const val KAPT_KOTLIN_GENERATED_OPTION_NAME = "kapt.kotlin.generated"
+    }
+}
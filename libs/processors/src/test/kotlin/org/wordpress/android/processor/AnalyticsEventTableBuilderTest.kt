@@ -0,0 +1,60 @@
+package org.wordpress.android.processor
+
+import com.squareup.kotlinpoet.ClassName
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+
+class AnalyticsEventTableBuilderTest {
+    private val statClassName = ClassName("org.wordpress.android.analytics", "AnalyticsTracker", "Stat")
+
+    @Test
+    fun `build an event table file content`() {
+        val analyticsEventTableBuilder = AnalyticsEventTableBuilder(
+            statClassName,
+            listOf(
+                TrackedEventEntry("APPLICATION_OPENED", "application_opened"),
+                TrackedEventEntry("UNTRACKED", null),
+                TrackedEventEntry("EDITOR_ADDED_PHOTO_NEW", "editor_photo_added", listOf("via" to "device_camera")),
+                TrackedEventEntry(
+                    "NOTIFICATION_QUICK_ACTIONS_LIKED",
+                    "notifications_comment_liked",
+                    listOf("is_quick_action" to true)
+                )
+            )
+        )
+
+        val fileContent = analyticsEventTableBuilder.getContent().toString()
+
+        assertThat(fileContent).startsWith(
+            """
+            // Automatically generated file. DO NOT MODIFY
+            package org.wordpress.android.analytics
+            """.trimIndent()
+        )
+        assertThat(fileContent).contains("object AnalyticsEventTable {")
+        assertThat(fileContent).containsSubsequence(
+            "private val eventNames: Array<String?> = arrayOf(",
+            "\"application_opened\",",
+            "null,",
+            "\"editor_photo_added\",",
+            "\"notifications_comment_liked\"",
+            ")"
+        )
+        assertThat(fileContent).containsSubsequence(
+            "private val predefinedProperties: Array<Map<String, Any>?>",
+            "arrayOfNulls<Map<String, Any>>(4).also {",
+            "it[AnalyticsTracker.Stat.EDITOR_ADDED_PHOTO_NEW.ordinal] = mapOf(\"via\" to \"device_camera\")",
+            "it[AnalyticsTracker.Stat.NOTIFICATION_QUICK_ACTIONS_LIKED.ordinal] = mapOf(\"is_quick_action\" to true)",
+            "}"
+        )
+        assertThat(fileContent).doesNotContain("it[AnalyticsTracker.Stat.APPLICATION_OPENED.ordinal]")
+        assertThat(fileContent).containsSubsequence(
+            "@JvmStatic",
+            "fun getEventName(stat: AnalyticsTracker.Stat): String?",
+            "eventNames[stat.ordinal]",
+            "@JvmStatic",
+            "fun getPredefinedProperties(stat: AnalyticsTracker.Stat): Map<String, Any>?",
+            "predefinedProperties[stat.ordinal]"
+        )
+    }
+}